@@ -0,0 +1,52 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.grpc;
+
+import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.TokenValidationResultDTO;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.AuthServiceGrpc;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.TokenInfo;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.ValidateTokenRequest;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.ValidateTokensRequest;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Validation de tokens exposée en gRPC ({@link AuthenticationUseCase}).
+ * Un token invalide n'est pas une erreur d'appel : la réponse porte {@code valid = false}.
+ */
+@Component
+@Profile("grpc")
+@RequiredArgsConstructor
+public class AuthGrpcService extends AuthServiceGrpc.AuthServiceImplBase {
+
+    private final AuthenticationUseCase authenticationUseCase;
+
+    @Override
+    public void validateToken(ValidateTokenRequest request, StreamObserver<TokenInfo> responseObserver) {
+        TokenInfo tokenInfo;
+        try {
+            tokenInfo = GrpcUserMapper.toTokenInfo(authenticationUseCase.validateToken(request.getToken()));
+        } catch (InvalidTokenException e) {
+            tokenInfo = GrpcUserMapper.invalidToken();
+        }
+        responseObserver.onNext(tokenInfo);
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void validateTokens(ValidateTokensRequest request, StreamObserver<TokenInfo> responseObserver) {
+        if (request.getTokensCount() > AuthenticationUseCase.MAX_BATCH_SIZE) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("At most " + AuthenticationUseCase.MAX_BATCH_SIZE + " tokens per call")
+                    .asRuntimeException());
+            return;
+        }
+        for (TokenValidationResultDTO result : authenticationUseCase.validateTokens(request.getTokensList())) {
+            responseObserver.onNext(GrpcUserMapper.toTokenInfo(result));
+        }
+        responseObserver.onCompleted();
+    }
+}
@@ -0,0 +1,83 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.grpc;
+
+import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.AuthenticationResultDTO;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.AuthServiceGrpc;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.security.ServiceClientCredentials;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authentification des appels gRPC, équivalente à {@code JwtAuthenticationFilter}.
+ * <p>
+ * Le résultat de la validation est placé dans le {@link Context} gRPC de l'appel ({@link #AUTHENTICATION}).
+ * Le service {@code AuthService} est réservé aux services internes, comme {@code /api/v1/auth/validate/batch} :
+ * il exige les identifiants {@code security.introspection.client-id} en HTTP Basic dans la metadata
+ * {@code authorization}, et reste fermé sans identifiants configurés.
+ */
+@Component
+@Profile("grpc")
+@Slf4j
+public class GrpcAuthenticationInterceptor implements ServerInterceptor {
+
+    static final Context.Key<AuthenticationResultDTO> AUTHENTICATION = Context.key("authentication");
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthenticationUseCase authenticationUseCase;
+    private final ServiceClientCredentials credentials;
+
+    public GrpcAuthenticationInterceptor(
+            AuthenticationUseCase authenticationUseCase,
+            @Value("${security.introspection.client-id:}") String clientId,
+            @Value("${security.introspection.client-secret:}") String clientSecret) {
+        this.authenticationUseCase = authenticationUseCase;
+        this.credentials = new ServiceClientCredentials(clientId, clientSecret);
+        if (!credentials.isConfigured()) {
+            log.warn("No service client credentials configured: gRPC AuthService calls will be rejected");
+        }
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                       ServerCallHandler<Q, R> next) {
+        String authorization = headers.get(AUTHORIZATION);
+
+        if (AuthServiceGrpc.SERVICE_NAME.equals(call.getMethodDescriptor().getServiceName())) {
+            if (!credentials.matches(authorization)) {
+                log.warn("Rejected gRPC call {}: invalid client credentials", call.getMethodDescriptor().getFullMethodName());
+                call.close(Status.UNAUTHENTICATED.withDescription("Invalid client credentials"), new Metadata());
+                return new ServerCall.Listener<>() {};
+            }
+            return next.startCall(call, headers);
+        }
+
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Missing bearer token"), new Metadata());
+            return new ServerCall.Listener<>() {};
+        }
+
+        try {
+            AuthenticationResultDTO authentication =
+                    authenticationUseCase.validateToken(authorization.substring(BEARER_PREFIX.length()));
+            Context context = Context.current().withValue(AUTHENTICATION, authentication);
+            return Contexts.interceptCall(context, call, headers, next);
+        } catch (InvalidTokenException e) {
+            log.warn("Invalid JWT token on gRPC call {}: {}", call.getMethodDescriptor().getFullMethodName(), e.getMessage());
+            call.close(Status.UNAUTHENTICATED.withDescription("Invalid or expired token"), new Metadata());
+            return new ServerCall.Listener<>() {};
+        }
+    }
+}
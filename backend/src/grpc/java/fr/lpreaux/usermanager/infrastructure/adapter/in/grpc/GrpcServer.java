@@ -0,0 +1,112 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serveur gRPC (HTTP/2, Netty) pour les appels internes, actif avec le profil Spring {@code grpc}.
+ * Les classes sont compilées par le profil Maven {@code grpc} (sources {@code src/grpc}).
+ * <p>
+ * TLS est activé dès que {@code grpc.server.tls.cert-chain} et {@code grpc.server.tls.private-key} (fichiers PEM)
+ * sont renseignés ; {@code grpc.server.address} restreint l'écoute à une interface (toutes par défaut).
+ */
+@Component
+@Profile("grpc")
+@Slf4j
+public class GrpcServer implements SmartLifecycle {
+
+    private final List<BindableService> services;
+    private final GrpcAuthenticationInterceptor authenticationInterceptor;
+    private final String address;
+    private final int port;
+    private final String certChain;
+    private final String privateKey;
+    private final int maxConcurrentCallsPerConnection;
+    private final Duration shutdownTimeout;
+
+    private volatile Server server;
+
+    public GrpcServer(
+            List<BindableService> services,
+            GrpcAuthenticationInterceptor authenticationInterceptor,
+            @Value("${grpc.server.address:}") String address,
+            @Value("${grpc.server.port:9090}") int port,
+            @Value("${grpc.server.tls.cert-chain:}") String certChain,
+            @Value("${grpc.server.tls.private-key:}") String privateKey,
+            @Value("${grpc.server.max-concurrent-calls-per-connection:256}") int maxConcurrentCallsPerConnection,
+            @Value("${grpc.server.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.services = services;
+        this.authenticationInterceptor = authenticationInterceptor;
+        this.address = address;
+        this.port = port;
+        this.certChain = certChain;
+        this.privateKey = privateKey;
+        this.maxConcurrentCallsPerConnection = maxConcurrentCallsPerConnection;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public void start() {
+        NettyServerBuilder builder = (address.isBlank()
+                ? NettyServerBuilder.forPort(port)
+                : NettyServerBuilder.forAddress(new InetSocketAddress(address, port)))
+                .maxConcurrentCallsPerConnection(maxConcurrentCallsPerConnection)
+                .addService(new HealthStatusManager().getHealthService());
+        boolean tls = !certChain.isBlank() && !privateKey.isBlank();
+        if (tls) {
+            builder.useTransportSecurity(new File(certChain), new File(privateKey));
+        } else {
+            log.warn("gRPC server started without TLS: set grpc.server.tls.cert-chain and grpc.server.tls.private-key");
+        }
+        for (BindableService service : services) {
+            builder.addService(ServerInterceptors.intercept(service, authenticationInterceptor));
+        }
+
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start gRPC server on port " + port, e);
+        }
+        log.info("gRPC server listening on port {} ({} services, TLS {})", server.getPort(), services.size(),
+                tls ? "enabled" : "disabled");
+    }
+
+    @Override
+    public void stop() {
+        Server current = server;
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
@@ -0,0 +1,61 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.grpc;
+
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.AuthenticationResultDTO;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.TokenValidationResultDTO;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserDetailsDTO;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.TokenInfo;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.User;
+
+/**
+ * Conversion des DTO applicatifs en messages protobuf.
+ */
+public final class GrpcUserMapper {
+
+    private static final TokenInfo INVALID_TOKEN = TokenInfo.newBuilder().setValid(false).build();
+
+    private GrpcUserMapper() {
+    }
+
+    public static User toUser(UserDetailsDTO userDetails) {
+        return User.newBuilder()
+                .setId(userDetails.id())
+                .setLogin(userDetails.login())
+                .setLastName(userDetails.lastName())
+                .setFirstName(userDetails.firstName())
+                .setBirthDate(userDetails.birthDate())
+                .setAge(userDetails.age())
+                .setAdult(userDetails.isAdult())
+                .addAllEmails(userDetails.emails())
+                .addAllPhoneNumbers(userDetails.phoneNumbers())
+                .build();
+    }
+
+    public static TokenInfo toTokenInfo(AuthenticationResultDTO result) {
+        return TokenInfo.newBuilder()
+                .setValid(true)
+                .setUserId(result.userId())
+                .setLogin(result.login())
+                .addAllRoles(result.roles())
+                .addAllPermissions(result.permissions())
+                .setExpiresAt(result.expiresAt())
+                .build();
+    }
+
+    public static TokenInfo toTokenInfo(TokenValidationResultDTO result) {
+        if (!result.valid()) {
+            return INVALID_TOKEN;
+        }
+        return TokenInfo.newBuilder()
+                .setValid(true)
+                .setUserId(result.userId())
+                .setLogin(result.login())
+                .addAllRoles(result.roles())
+                .addAllPermissions(result.permissions())
+                .setExpiresAt(result.expiresAt())
+                .build();
+    }
+
+    static TokenInfo invalidToken() {
+        return INVALID_TOKEN;
+    }
+}
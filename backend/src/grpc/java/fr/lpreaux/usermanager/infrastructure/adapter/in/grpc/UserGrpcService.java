@@ -0,0 +1,242 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.grpc;
+
+import fr.lpreaux.usermanager.application.exception.UserNotFoundException;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.AuthenticationResultDTO;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserDetailsDTO;
+import fr.lpreaux.usermanager.application.port.in.UserRoleUseCase;
+import fr.lpreaux.usermanager.domain.model.valueobject.UserId;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.GetUserPermissionsRequest;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.GetUserRequest;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.GetUsersRequest;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.ListUsersRequest;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.User;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.UserPermissions;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.UserServiceGrpc;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Lectures d'utilisateurs exposées en gRPC ({@link UserQueryUseCase}, {@link UserRoleUseCase}).
+ * <p>
+ * Mêmes règles d'accès que les contrôleurs MVC. Les réponses en flux respectent le contrôle de flux
+ * HTTP/2 : un message n'est envoyé que lorsque le client est prêt à le recevoir. Elles sont lues par pages
+ * de {@value #PAGE_SIZE} utilisateurs, la suivante seulement quand la précédente a été envoyée.
+ */
+@Component
+@Profile("grpc")
+@RequiredArgsConstructor
+@Slf4j
+public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
+
+    private static final String USER_READ = "USER_READ";
+    static final int PAGE_SIZE = UserQueryUseCase.MAX_SEARCH_LIMIT;
+
+    private final UserQueryUseCase userQueryUseCase;
+    private final UserRoleUseCase userRoleUseCase;
+
+    @Override
+    public void getUser(GetUserRequest request, StreamObserver<User> responseObserver) {
+        if (!canRead(request.getUserId())) {
+            responseObserver.onError(permissionDenied());
+            return;
+        }
+        if (!isUserId(request.getUserId())) {
+            responseObserver.onError(invalidUserId(request.getUserId()));
+            return;
+        }
+
+        Optional<User> user = userQueryUseCase.findUserById(request.getUserId()).map(GrpcUserMapper::toUser);
+        if (user.isEmpty()) {
+            responseObserver.onError(userNotFound(request.getUserId()));
+            return;
+        }
+        responseObserver.onNext(user.get());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void getUsers(GetUsersRequest request, StreamObserver<User> responseObserver) {
+        if (!hasUserRead()) {
+            responseObserver.onError(permissionDenied());
+            return;
+        }
+        // Identifiants mal formés rejetés avant le premier message, plutôt qu'en cours de flux
+        for (String userId : request.getUserIdsList()) {
+            if (!isUserId(userId)) {
+                responseObserver.onError(invalidUserId(userId));
+                return;
+            }
+        }
+        // Une lecture par tranche d'identifiants ; identifiants inconnus ignorés : le client compare
+        // les identifiants reçus à ceux demandés
+        List<String> userIds = request.getUserIdsList();
+        Iterator<List<String>> chunks = IntStream.iterate(0, from -> from < userIds.size(), from -> from + PAGE_SIZE)
+                .mapToObj(from -> userIds.subList(from, Math.min(from + PAGE_SIZE, userIds.size())))
+                .iterator();
+        stream(pages(() -> chunks.hasNext() ? userQueryUseCase.findUsersByIds(chunks.next()) : null),
+                GrpcUserMapper::toUser, responseObserver);
+    }
+
+    @Override
+    public void listUsers(ListUsersRequest request, StreamObserver<User> responseObserver) {
+        if (!hasUserRead()) {
+            responseObserver.onError(permissionDenied());
+            return;
+        }
+        // Parcours par clé : la page suivante commence après le dernier utilisateur envoyé
+        Supplier<List<UserDetailsDTO>> nextPage = new Supplier<>() {
+            private String afterUserId;
+            private boolean last;
+
+            @Override
+            public List<UserDetailsDTO> get() {
+                if (last) {
+                    return null;
+                }
+                List<UserDetailsDTO> page = userQueryUseCase.listUsers(afterUserId, PAGE_SIZE);
+                last = page.size() < PAGE_SIZE;
+                if (!page.isEmpty()) {
+                    afterUserId = page.getLast().id();
+                }
+                return page;
+            }
+        };
+        stream(pages(nextPage), GrpcUserMapper::toUser, responseObserver);
+    }
+
+    @Override
+    public void getUserPermissions(GetUserPermissionsRequest request, StreamObserver<UserPermissions> responseObserver) {
+        if (!canRead(request.getUserId())) {
+            responseObserver.onError(permissionDenied());
+            return;
+        }
+        if (!isUserId(request.getUserId())) {
+            responseObserver.onError(invalidUserId(request.getUserId()));
+            return;
+        }
+
+        try {
+            responseObserver.onNext(UserPermissions.newBuilder()
+                    .setUserId(request.getUserId())
+                    .addAllPermissions(userRoleUseCase.getUserPermissions(request.getUserId()))
+                    .build());
+            responseObserver.onCompleted();
+        } catch (UserNotFoundException e) {
+            responseObserver.onError(userNotFound(request.getUserId()));
+        }
+    }
+
+    /**
+     * Itérateur paresseux sur des pages : {@code nextPage} n'est appelé qu'une fois la page précédente
+     * consommée, et renvoie {@code null} après la dernière. Les pages vides sont sautées.
+     */
+    private static <T> Iterator<T> pages(Supplier<List<T>> nextPage) {
+        return new Iterator<>() {
+            private Iterator<T> current = Collections.emptyIterator();
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && !exhausted) {
+                    List<T> page = nextPage.get();
+                    if (page == null) {
+                        exhausted = true;
+                    } else {
+                        current = page.iterator();
+                    }
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    /**
+     * Envoie les éléments au rythme du client ; un élément converti en {@code null} est ignoré.
+     */
+    private static <T> void stream(Iterator<T> source, Function<T, User> mapper, StreamObserver<User> responseObserver) {
+        ServerCallStreamObserver<User> observer = (ServerCallStreamObserver<User>) responseObserver;
+        // gRPC sérialise les callbacks d'un même appel : pas de synchronisation nécessaire
+        Runnable drain = new Runnable() {
+            private boolean completed;
+
+            @Override
+            public void run() {
+                while (!completed && observer.isReady() && source.hasNext()) {
+                    User user = mapper.apply(source.next());
+                    if (user != null) {
+                        observer.onNext(user);
+                    }
+                }
+                if (!completed && !source.hasNext()) {
+                    completed = true;
+                    observer.onCompleted();
+                }
+            }
+        };
+        observer.setOnCancelHandler(() -> log.debug("gRPC stream cancelled by client"));
+        observer.setOnReadyHandler(drain);
+        drain.run();
+    }
+
+    private static boolean hasUserRead() {
+        return GrpcAuthenticationInterceptor.AUTHENTICATION.get().permissions().contains(USER_READ);
+    }
+
+    /**
+     * Équivalent de {@code hasAuthority('USER_READ') or #userId == authentication.principal}.
+     */
+    private static boolean canRead(String userId) {
+        AuthenticationResultDTO authentication = GrpcAuthenticationInterceptor.AUTHENTICATION.get();
+        return authentication.permissions().contains(USER_READ) || userId.equals(authentication.userId());
+    }
+
+    /**
+     * Les cas d'utilisation convertissent l'identifiant par {@link UserId#of(String)}, qui lève
+     * {@link IllegalArgumentException} : vérifié ici pour répondre INVALID_ARGUMENT plutôt qu'UNKNOWN.
+     */
+    private static boolean isUserId(String userId) {
+        try {
+            UserId.of(userId);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static RuntimeException permissionDenied() {
+        return Status.PERMISSION_DENIED
+                .withDescription("You do not have permission to access this resource")
+                .asRuntimeException();
+    }
+
+    private static RuntimeException invalidUserId(String userId) {
+        return Status.INVALID_ARGUMENT.withDescription("Invalid user ID: " + userId).asRuntimeException();
+    }
+
+    private static RuntimeException userNotFound(String userId) {
+        return Status.NOT_FOUND.withDescription("User not found with ID: " + userId).asRuntimeException();
+    }
+}
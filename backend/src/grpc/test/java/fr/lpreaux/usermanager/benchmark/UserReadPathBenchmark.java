@@ -0,0 +1,143 @@
+package fr.lpreaux.usermanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserDetailsDTO;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.GrpcUserMapper;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.User;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.UserController;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.response.UserResponse;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.mapper.UserWebMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.HalConfiguration;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Coût de production d'une réponse utilisateur : chemin REST (EntityModel, liens HATEOAS, HAL/Jackson)
+ * contre chemin gRPC (message protobuf), pour un utilisateur et pour un lot de {@code batchSize} utilisateurs.
+ * <p>
+ * Ne mesure que la construction et l'encodage du corps, sans le transport ; comparer aussi
+ * {@code gc.alloc.rate.norm}.
+ * <pre>
+ * mvn -Pgrpc,benchmark verify -Djmh.include=UserReadPathBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserReadPathBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final UserWebMapper userWebMapper = new UserWebMapper();
+
+    private ObjectMapper halMapper;
+    private UserDetailsDTO user;
+    private List<UserDetailsDTO> users;
+
+    @Setup
+    public void setUp() {
+        halMapper = new ObjectMapper();
+        halMapper.registerModule(new Jackson2HalModule());
+        halMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new EvoInflectorLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY,
+                new HalConfiguration(), null));
+
+        // linkTo() lit la requête courante pour construire l'URL absolue, comme dans le contrôleur
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.setServerName("api.example.com");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        users = IntStream.range(0, BATCH_SIZE).mapToObj(UserReadPathBenchmark::user).toList();
+        user = users.getFirst();
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public byte[] restSingle() throws IOException {
+        EntityModel<UserResponse> resource = EntityModel.of(userWebMapper.toUserResponse(user));
+        resource.add(linkTo(methodOn(UserController.class).getUserById(user.id())).withSelfRel());
+        resource.add(linkTo(methodOn(UserController.class).getAllUsers()).withRel("all-users"));
+        return halMapper.writeValueAsBytes(resource);
+    }
+
+    @Benchmark
+    public byte[] grpcSingle() {
+        return GrpcUserMapper.toUser(user).toByteArray();
+    }
+
+    @Benchmark
+    public byte[] restBatch() throws IOException {
+        List<EntityModel<UserResponse>> resources = users.stream()
+                .map(userWebMapper::toUserResponse)
+                .map(response -> EntityModel.of(response,
+                        linkTo(methodOn(UserController.class).getUserById(response.id())).withSelfRel()))
+                .toList();
+        CollectionModel<EntityModel<UserResponse>> collection = CollectionModel.of(resources);
+        collection.add(linkTo(methodOn(UserController.class).getAllUsers()).withSelfRel());
+        return halMapper.writeValueAsBytes(collection);
+    }
+
+    /**
+     * Équivalent du flux {@code ListUsers} : un message délimité par utilisateur.
+     */
+    @Benchmark
+    public byte[] grpcBatch() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(BATCH_SIZE * 160);
+        for (UserDetailsDTO details : users) {
+            User message = GrpcUserMapper.toUser(details);
+            message.writeDelimitedTo(output);
+        }
+        return output.toByteArray();
+    }
+
+    private static UserDetailsDTO user(int index) {
+        return new UserDetailsDTO(
+                UUID.nameUUIDFromBytes(("user-" + index).getBytes()).toString(),
+                "user" + index,
+                "Doe",
+                "John",
+                "1990-05-15",
+                35,
+                true,
+                List.of("user" + index + "@example.com"),
+                List.of("+33612345678")
+        );
+    }
+}
@@ -0,0 +1,329 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.grpc;
+
+import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.AuthenticationResultDTO;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.TokenValidationResultDTO;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserDetailsDTO;
+import fr.lpreaux.usermanager.application.port.in.UserRoleUseCase;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.AuthServiceGrpc;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.GetUserPermissionsRequest;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.GetUserRequest;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.GetUsersRequest;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.ListUsersRequest;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.TokenInfo;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.User;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.UserServiceGrpc;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.grpc.proto.ValidateTokensRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests des services gRPC sur un serveur en mémoire, avec l'intercepteur d'authentification du serveur réel.
+ */
+@ExtendWith(MockitoExtension.class)
+class GrpcServicesTest {
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final String READER_TOKEN = "reader-token";
+    private static final String SELF_TOKEN = "self-token";
+    private static final String SELF_ID = UUID.randomUUID().toString();
+    private static final String CLIENT_ID = "gateway";
+    private static final String CLIENT_SECRET = "gateway-secret";
+
+    @Mock
+    private AuthenticationUseCase authenticationUseCase;
+    @Mock
+    private UserQueryUseCase userQueryUseCase;
+    @Mock
+    private UserRoleUseCase userRoleUseCase;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        GrpcAuthenticationInterceptor interceptor = new GrpcAuthenticationInterceptor(authenticationUseCase, CLIENT_ID, CLIENT_SECRET);
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(new UserGrpcService(userQueryUseCase, userRoleUseCase), interceptor))
+                .addService(ServerInterceptors.intercept(new AuthGrpcService(authenticationUseCase), interceptor))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should reject user calls without a bearer token")
+    void shouldRejectCallsWithoutBearerToken() {
+        // When / Then
+        assertThatThrownBy(() -> UserServiceGrpc.newBlockingStub(channel)
+                .getUser(GetUserRequest.newBuilder().setUserId(SELF_ID).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+        verifyNoInteractions(userQueryUseCase);
+    }
+
+    @Test
+    @DisplayName("Should reject user calls with an invalid token")
+    void shouldRejectInvalidToken() {
+        // Given
+        when(authenticationUseCase.validateToken("expired")).thenThrow(new InvalidTokenException("Invalid or expired token"));
+
+        // When / Then
+        assertThatThrownBy(() -> users("expired").getUser(GetUserRequest.newBuilder().setUserId(SELF_ID).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+        verifyNoInteractions(userQueryUseCase);
+    }
+
+    @Test
+    @DisplayName("Should let users read themselves without USER_READ")
+    void shouldLetUsersReadThemselves() {
+        // Given
+        authenticate(SELF_TOKEN, SELF_ID, Set.of());
+        when(userQueryUseCase.findUserById(SELF_ID)).thenReturn(Optional.of(details(SELF_ID)));
+
+        // When
+        User user = users(SELF_TOKEN).getUser(GetUserRequest.newBuilder().setUserId(SELF_ID).build());
+
+        // Then
+        assertThat(user.getId()).isEqualTo(SELF_ID);
+    }
+
+    @Test
+    @DisplayName("Should deny reading other users or listing without USER_READ")
+    void shouldDenyOtherUsersWithoutUserRead() {
+        // Given
+        authenticate(SELF_TOKEN, SELF_ID, Set.of());
+        String otherId = UUID.randomUUID().toString();
+
+        // When / Then
+        assertThatThrownBy(() -> users(SELF_TOKEN).getUser(GetUserRequest.newBuilder().setUserId(otherId).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.PERMISSION_DENIED));
+        assertThatThrownBy(() -> users(SELF_TOKEN).getUserPermissions(
+                GetUserPermissionsRequest.newBuilder().setUserId(otherId).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.PERMISSION_DENIED));
+        assertThatThrownBy(() -> users(SELF_TOKEN).listUsers(ListUsersRequest.getDefaultInstance()).hasNext())
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.PERMISSION_DENIED));
+        verifyNoInteractions(userQueryUseCase, userRoleUseCase);
+    }
+
+    @Test
+    @DisplayName("Should answer INVALID_ARGUMENT for malformed user ids")
+    void shouldRejectMalformedUserIds() {
+        // Given
+        authenticate(READER_TOKEN, UUID.randomUUID().toString(), Set.of("USER_READ"));
+
+        // When / Then
+        assertThatThrownBy(() -> users(READER_TOKEN).getUser(GetUserRequest.newBuilder().setUserId("not-a-uuid").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        assertThatThrownBy(() -> users(READER_TOKEN).getUserPermissions(
+                GetUserPermissionsRequest.newBuilder().setUserId("not-a-uuid").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        assertThatThrownBy(() -> users(READER_TOKEN).getUsers(GetUsersRequest.newBuilder()
+                .addUserIds(SELF_ID).addUserIds("not-a-uuid").build()).hasNext())
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        verify(userQueryUseCase, never()).findUserById(anyString());
+        verify(userQueryUseCase, never()).findUsersByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should stream requested users in request order with one read per chunk of ids")
+    void shouldStreamUsersInRequestOrder() {
+        // Given - deux tranches ; le cas d'utilisation omet les identifiants inconnus
+        authenticate(READER_TOKEN, UUID.randomUUID().toString(), Set.of("USER_READ"));
+        List<String> ids = IntStream.range(0, UserGrpcService.PAGE_SIZE + 5)
+                .mapToObj(i -> UUID.randomUUID().toString()).toList();
+        List<String> firstChunk = ids.subList(0, UserGrpcService.PAGE_SIZE);
+        List<String> secondChunk = ids.subList(UserGrpcService.PAGE_SIZE, ids.size());
+        when(userQueryUseCase.findUsersByIds(firstChunk))
+                .thenReturn(firstChunk.stream().map(GrpcServicesTest::details).toList());
+        when(userQueryUseCase.findUsersByIds(secondChunk))
+                .thenReturn(List.of(details(secondChunk.get(0)), details(secondChunk.get(3))));
+
+        // When
+        List<String> received = ids(users(READER_TOKEN).getUsers(GetUsersRequest.newBuilder().addAllUserIds(ids).build()));
+
+        // Then
+        List<String> expected = new ArrayList<>(firstChunk);
+        expected.add(secondChunk.get(0));
+        expected.add(secondChunk.get(3));
+        assertThat(received).containsExactlyElementsOf(expected);
+        verify(userQueryUseCase, never()).findUserById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should stream every user page by page, each page starting after the last user sent")
+    void shouldListAllUsersInOrder() {
+        // Given - deux pages pleines et une dernière page partielle
+        authenticate(READER_TOKEN, UUID.randomUUID().toString(), Set.of("USER_READ"));
+        int pageSize = UserGrpcService.PAGE_SIZE;
+        List<UserDetailsDTO> all = IntStream.range(0, 2 * pageSize + 7)
+                .mapToObj(i -> details(UUID.randomUUID().toString())).toList();
+        when(userQueryUseCase.listUsers(null, pageSize)).thenReturn(all.subList(0, pageSize));
+        when(userQueryUseCase.listUsers(all.get(pageSize - 1).id(), pageSize))
+                .thenReturn(all.subList(pageSize, 2 * pageSize));
+        when(userQueryUseCase.listUsers(all.get(2 * pageSize - 1).id(), pageSize))
+                .thenReturn(all.subList(2 * pageSize, all.size()));
+
+        // When
+        List<String> received = ids(users(READER_TOKEN).listUsers(ListUsersRequest.getDefaultInstance()));
+
+        // Then
+        assertThat(received).containsExactlyElementsOf(all.stream().map(UserDetailsDTO::id).toList());
+        verify(userQueryUseCase, never()).getAllUsers();
+    }
+
+    @Test
+    @DisplayName("Should reject token validation without valid client credentials")
+    void shouldRejectTokenValidationWithoutClientCredentials() {
+        // Given
+        ValidateTokensRequest request = ValidateTokensRequest.newBuilder().addTokens("valid").build();
+
+        // When / Then - sans metadata, avec un Bearer ou avec un mauvais secret
+        assertThatThrownBy(() -> AuthServiceGrpc.newBlockingStub(channel).validateTokens(request).hasNext())
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+        assertThatThrownBy(() -> auth("Bearer " + READER_TOKEN).validateTokens(request).hasNext())
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+        assertThatThrownBy(() -> auth(basic(CLIENT_ID, "wrong")).validateTokens(request).hasNext())
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+        verifyNoInteractions(authenticationUseCase);
+    }
+
+    @Test
+    @DisplayName("Should reject token validation when no client credentials are configured")
+    void shouldRejectTokenValidationWhenCredentialsNotConfigured() throws Exception {
+        // Given - serveur sans identifiants de service
+        String name = InProcessServerBuilder.generateName();
+        Server closed = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(new AuthGrpcService(authenticationUseCase),
+                        new GrpcAuthenticationInterceptor(authenticationUseCase, "", "")))
+                .build()
+                .start();
+        ManagedChannel closedChannel = InProcessChannelBuilder.forName(name).directExecutor().build();
+
+        try {
+            // When / Then
+            Metadata headers = new Metadata();
+            headers.put(AUTHORIZATION, basic("", ""));
+            assertThatThrownBy(() -> AuthServiceGrpc.newBlockingStub(closedChannel)
+                    .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers))
+                    .validateTokens(ValidateTokensRequest.newBuilder().addTokens("valid").build()).hasNext())
+                    .isInstanceOfSatisfying(StatusRuntimeException.class,
+                            e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+            verifyNoInteractions(authenticationUseCase);
+        } finally {
+            closedChannel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            closed.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Should validate tokens for authenticated clients, one result per token in order")
+    void shouldValidateTokensForAuthenticatedClients() {
+        // Given
+        List<String> tokens = List.of("valid", "invalid");
+        when(authenticationUseCase.validateTokens(tokens)).thenReturn(List.of(
+                new TokenValidationResultDTO(true, SELF_ID, "john.doe", Set.of("USER"), Set.of(), 4_102_444_800_000L),
+                TokenValidationResultDTO.invalid()));
+
+        // When
+        Iterator<TokenInfo> results = auth(basic(CLIENT_ID, CLIENT_SECRET))
+                .validateTokens(ValidateTokensRequest.newBuilder().addAllTokens(tokens).build());
+
+        // Then
+        List<Boolean> valid = new ArrayList<>();
+        results.forEachRemaining(info -> valid.add(info.getValid()));
+        assertThat(valid).containsExactly(true, false);
+    }
+
+    private UserServiceGrpc.UserServiceBlockingStub users(String token) {
+        Metadata headers = new Metadata();
+        headers.put(AUTHORIZATION, "Bearer " + token);
+        return UserServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private AuthServiceGrpc.AuthServiceBlockingStub auth(String authorization) {
+        Metadata headers = new Metadata();
+        headers.put(AUTHORIZATION, authorization);
+        return AuthServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private static String basic(String clientId, String clientSecret) {
+        return "Basic " + Base64.getEncoder().encodeToString(
+                (clientId + ":" + clientSecret).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void authenticate(String token, String userId, Set<String> permissions) {
+        when(authenticationUseCase.validateToken(token)).thenReturn(new AuthenticationResultDTO(
+                userId, "john.doe", token, null, Set.of("USER"), permissions, 4_102_444_800_000L));
+    }
+
+    private static List<String> ids(Iterator<User> users) {
+        List<String> ids = new ArrayList<>();
+        users.forEachRemaining(user -> ids.add(user.getId()));
+        return ids;
+    }
+
+    private static UserDetailsDTO details(String id) {
+        return new UserDetailsDTO(id, "user-" + id.substring(0, 8), "Doe", "John", "1990-05-15", 35, true,
+                List.of(id.substring(0, 8) + "@example.com"), List.of());
+    }
+}
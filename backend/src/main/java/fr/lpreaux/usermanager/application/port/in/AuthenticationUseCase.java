@@ -1,5 +1,6 @@
 package fr.lpreaux.usermanager.application.port.in;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -7,6 +8,11 @@ import java.util.Set;
  */
 public interface AuthenticationUseCase {
 
+    /**
+     * Nombre maximal de tokens acceptés par {@link #validateTokens(List)}.
+     */
+    int MAX_BATCH_SIZE = 100;
+
     /**
      * Command pour l'authentification d'un utilisateur.
      */
@@ -22,6 +28,7 @@ public interface AuthenticationUseCase {
             String userId,
             String login,
             String token,
+            String refreshToken,
             Set<String> roles,
             Set<String> permissions,
             long expiresAt
@@ -46,11 +53,57 @@ public interface AuthenticationUseCase {
     AuthenticationResultDTO validateToken(String token);
 
     /**
-     * Rafraîchit un token JWT existant.
+     * Valide un token JWT sans consulter la liste noire : signature, expiration et époque de révocation.
+     * Réservé aux appelants qui ont déjà interrogé la liste noire eux-mêmes (lecture non bloquante ou groupée).
      *
-     * @param token Le token JWT à rafraîchir
-     * @return Un nouveau token JWT
-     * @throws fr.lpreaux.usermanager.application.exception.InvalidTokenException Si le token est invalide ou expiré
+     * @param token Le token JWT à valider
+     * @return Les informations de l'utilisateur si le token est valide
+     * @throws fr.lpreaux.usermanager.application.exception.InvalidTokenException Si le token est invalide, expiré
+     *         ou révoqué par époque
+     */
+    AuthenticationResultDTO validateTokenClaims(String token);
+
+    /**
+     * Résultat de la validation d'un token au sein d'un lot.
+     */
+    record TokenValidationResultDTO(
+            boolean valid,
+            String userId,
+            String login,
+            Set<String> roles,
+            Set<String> permissions,
+            long expiresAt
+    ) {
+        private static final TokenValidationResultDTO INVALID =
+                new TokenValidationResultDTO(false, null, null, Set.of(), Set.of(), 0);
+
+        public static TokenValidationResultDTO invalid() {
+            return INVALID;
+        }
+
+        public static TokenValidationResultDTO valid(AuthenticationResultDTO result) {
+            return new TokenValidationResultDTO(true, result.userId(), result.login(),
+                    result.roles(), result.permissions(), result.expiresAt());
+        }
+    }
+
+    /**
+     * Valide un lot de tokens : la liste noire est interrogée en un seul aller-retour,
+     * puis les signatures sont vérifiées en parallèle.
+     *
+     * @param tokens Les tokens à valider, au plus {@link #MAX_BATCH_SIZE}
+     * @return Un résultat par token, dans l'ordre de la liste reçue
+     * @throws IllegalArgumentException Si le lot dépasse {@link #MAX_BATCH_SIZE}
+     */
+    List<TokenValidationResultDTO> validateTokens(List<String> tokens);
+
+    /**
+     * Échange un refresh token contre un nouveau token d'accès et un nouveau refresh token.
+     *
+     * @param refreshToken Le refresh token opaque obtenu à la connexion ou au précédent rafraîchissement
+     * @return Un nouveau token JWT et son refresh token
+     * @throws fr.lpreaux.usermanager.application.exception.InvalidTokenException Si le refresh token est inconnu,
+     *         expiré, révoqué ou déjà utilisé
      */
-    AuthenticationResultDTO refreshToken(String token);
+    AuthenticationResultDTO refreshToken(String refreshToken);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package fr.lpreaux.usermanager.application.port.in;
 
 import fr.lpreaux.usermanager.application.exception.UserAlreadyExistsException;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserDetailsDTO;
 import fr.lpreaux.usermanager.domain.model.valueobject.UserId;
 
 import java.time.LocalDate;
@@ -32,4 +33,13 @@ public interface RegisterUserUseCase {
      * @throws UserAlreadyExistsException If a user with the same login or email already exists
      */
     UserId registerUser(RegisterUserCommand command) throws UserAlreadyExistsException;
+
+    /**
+     * Registers a new user and returns its details as created, without reading it back.
+     *
+     * @param command The registration command with user details
+     * @return The details of the newly created user
+     * @throws UserAlreadyExistsException If a user with the same login or email already exists
+     */
+    UserDetailsDTO registerUserAndGetDetails(RegisterUserCommand command) throws UserAlreadyExistsException;
 }
\ No newline at end of file
@@ -23,6 +23,79 @@ public interface UserQueryUseCase {
             List<String> phoneNumbers
     ) {}
 
+    /**
+     * Maximum number of users returned by a single search page.
+     */
+    int MAX_SEARCH_LIMIT = 100;
+
+    /**
+     * How text criteria are matched.
+     * PREFIX matches the beginning of the value, CONTAINS matches words starting with the term
+     * anywhere in the value (terms of at least 3 characters).
+     */
+    enum MatchMode { PREFIX, CONTAINS }
+
+    /**
+     * Sort orders supported by the search. LAST_NAME sorts by last name then first name.
+     */
+    enum SortField { LOGIN, LAST_NAME, BIRTH_DATE }
+
+    /**
+     * Criteria for a user search. Null criteria are ignored.
+     *
+     * @param login Login term
+     * @param name Term matched against last name or first name
+     * @param email Email term
+     * @param matchMode How text terms are matched
+     * @param minAge Minimum age, inclusive
+     * @param maxAge Maximum age, inclusive
+     * @param role Role name the user must have
+     * @param sortBy Sort order
+     * @param descending Whether the sort is descending
+     * @param cursor Opaque cursor returned by the previous page, null for the first page
+     * @param limit Page size, between 1 and {@link #MAX_SEARCH_LIMIT}
+     */
+    record UserSearchCriteria(
+            String login,
+            String name,
+            String email,
+            MatchMode matchMode,
+            Integer minAge,
+            Integer maxAge,
+            String role,
+            SortField sortBy,
+            boolean descending,
+            String cursor,
+            int limit
+    ) {}
+
+    /**
+     * A page of search results.
+     *
+     * @param users The users of the page, in sort order
+     * @param nextCursor Cursor of the next page, null when this is the last page
+     */
+    record UserSearchPageDTO(
+            List<UserDetailsDTO> users,
+            String nextCursor
+    ) {}
+
+    /**
+     * Maximum number of typeahead suggestions.
+     */
+    int MAX_SUGGESTIONS = 20;
+
+    /**
+     * A typeahead suggestion.
+     */
+    record UserSuggestionDTO(
+            String id,
+            String login,
+            String lastName,
+            String firstName,
+            String email
+    ) {}
+
     /**
      * Finds a user by their ID.
      *
@@ -53,4 +126,43 @@ public interface UserQueryUseCase {
      * @return List of user details
      */
     List<UserDetailsDTO> getAllUsers();
+
+    /**
+     * Finds several users by their IDs in one read.
+     *
+     * @param userIds The user IDs to search for
+     * @return Details of the users found, in the order of the given IDs; unknown IDs are skipped
+     * @throws IllegalArgumentException If an ID is malformed
+     */
+    List<UserDetailsDTO> findUsersByIds(List<String> userIds);
+
+    /**
+     * Lists users in ID order with keyset pagination.
+     *
+     * @param afterUserId ID of the last user of the previous page, null for the first page
+     * @param limit Page size, between 1 and {@link #MAX_SEARCH_LIMIT}
+     * @return The users following {@code afterUserId}; fewer than {@code limit} on the last page
+     * @throws IllegalArgumentException If the ID is malformed or the limit is out of range
+     */
+    List<UserDetailsDTO> listUsers(String afterUserId, int limit);
+
+    /**
+     * Searches users with keyset pagination.
+     *
+     * @param criteria The search criteria
+     * @return The requested page
+     * @throws IllegalArgumentException If the criteria or the cursor are invalid
+     */
+    UserSearchPageDTO searchUsers(UserSearchCriteria criteria);
+
+    /**
+     * Suggests users whose login, names or emails start with the given prefix,
+     * exact matches first, then logins, last names, first names and emails.
+     *
+     * @param prefix The typed prefix
+     * @param limit The maximum number of suggestions, at most {@link #MAX_SUGGESTIONS}
+     * @return The suggestions
+     * @throws IllegalArgumentException If the limit is out of range
+     */
+    List<UserSuggestionDTO> suggestUsers(String prefix, int limit);
 }
\ No newline at end of file
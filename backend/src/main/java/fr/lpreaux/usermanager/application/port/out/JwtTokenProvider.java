@@ -8,6 +8,16 @@ import java.util.Set;
  */
 public interface JwtTokenProvider {
 
+    /**
+     * Claim contenant l'époque de révocation de l'utilisateur au moment de l'émission.
+     */
+    String TOKEN_EPOCH_CLAIM = "tep";
+
+    /**
+     * Claim contenant l'identifiant de session (famille de refresh tokens).
+     */
+    String SESSION_ID_CLAIM = "sid";
+
     /**
      * Information extraite d'un token JWT.
      */
@@ -16,6 +26,16 @@ public interface JwtTokenProvider {
             String login,
             Set<String> roles,
             Set<String> permissions,
+            long expiresAt,
+            long tokenEpoch,
+            String sessionId
+    ) {}
+
+    /**
+     * Token généré et sa date d'expiration, pour éviter de le relire après émission.
+     */
+    record IssuedToken(
+            String token,
             long expiresAt
     ) {}
 
@@ -27,10 +47,10 @@ public interface JwtTokenProvider {
      * @param roles Les rôles de l'utilisateur
      * @param permissions Les permissions de l'utilisateur
      * @param customClaims Claims supplémentaires à inclure dans le token
-     * @return Le token JWT généré
+     * @return Le token JWT généré et sa date d'expiration
      */
-    String generateToken(String userId, String login, Set<String> roles,
-                         Set<String> permissions, Map<String, Object> customClaims);
+    IssuedToken generateToken(String userId, String login, Set<String> roles,
+                              Set<String> permissions, Map<String, Object> customClaims);
 
     /**
      * Valide un token JWT et extrait ses informations.
@@ -40,13 +60,4 @@ public interface JwtTokenProvider {
      * @throws fr.lpreaux.usermanager.application.exception.InvalidTokenException Si le token est invalide ou expiré
      */
     JwtTokenInfo validateToken(String token);
-
-    /**
-     * Rafraîchit un token JWT.
-     *
-     * @param token Le token JWT à rafraîchir
-     * @return Un nouveau token JWT
-     * @throws fr.lpreaux.usermanager.application.exception.InvalidTokenException Si le token est invalide ou expiré
-     */
-    String refreshToken(String token);
 }
\ No newline at end of file
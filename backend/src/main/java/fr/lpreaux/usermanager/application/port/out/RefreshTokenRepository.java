@@ -0,0 +1,60 @@
+package fr.lpreaux.usermanager.application.port.out;
+
+/**
+ * Port de sortie pour les refresh tokens opaques.
+ * <p>
+ * Chaque connexion ouvre une famille de refresh tokens. Un refresh token n'est utilisable qu'une
+ * fois : sa rotation en émet un nouveau dans la même famille. La présentation d'un token déjà
+ * utilisé signale un vol probable et révoque toute la famille. Une famille expire au plus tard
+ * à la fin de la durée maximale de session, même si elle est renouvelée sans interruption.
+ */
+public interface RefreshTokenRepository {
+
+    /**
+     * Refresh token émis, avec la session (famille) à laquelle il appartient et l'époque
+     * de révocation de l'utilisateur à l'ouverture de la session.
+     */
+    record RefreshTokenGrant(
+            String refreshToken,
+            String familyId,
+            String userId,
+            long tokenEpoch,
+            long expiresAt
+    ) {}
+
+    /**
+     * Ouvre une nouvelle famille et émet son premier refresh token.
+     *
+     * @param userId L'ID de l'utilisateur
+     * @param tokenEpoch L'époque de révocation de l'utilisateur
+     * @return Le refresh token émis
+     */
+    RefreshTokenGrant issue(String userId, long tokenEpoch);
+
+    /**
+     * Consomme un refresh token et émet son successeur dans la même famille.
+     *
+     * @param refreshToken Le refresh token présenté
+     * @return Le nouveau refresh token
+     * @throws fr.lpreaux.usermanager.application.exception.InvalidTokenException Si le token est inconnu,
+     *         expiré, révoqué, déjà utilisé (la famille est alors révoquée), si la session a été ouverte
+     *         avant la dernière déconnexion globale de l'utilisateur ou si la durée maximale de session
+     *         est atteinte
+     */
+    RefreshTokenGrant rotate(String refreshToken);
+
+    /**
+     * Révoque une famille de refresh tokens (déconnexion d'une session).
+     *
+     * @param userId L'ID de l'utilisateur propriétaire de la famille
+     * @param familyId L'identifiant de la famille
+     */
+    void revokeFamily(String userId, String familyId);
+
+    /**
+     * Révoque toutes les familles d'un utilisateur.
+     *
+     * @param userId L'ID de l'utilisateur
+     */
+    void revokeAllForUser(String userId);
+}
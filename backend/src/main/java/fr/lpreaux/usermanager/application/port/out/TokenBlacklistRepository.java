@@ -1,5 +1,9 @@
 package fr.lpreaux.usermanager.application.port.out;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Port de sortie pour la gestion de la liste noire des tokens JWT.
  */
@@ -20,9 +24,26 @@ public interface TokenBlacklistRepository {
      */
     boolean isBlacklisted(String token);
 
+    /**
+     * Vérifie un lot de tokens. L'implémentation par défaut interroge chaque token séparément ;
+     * les implémentations distantes le font en un seul aller-retour.
+     *
+     * @param tokens Les tokens JWT à vérifier
+     * @return Les tokens du lot présents dans la liste noire
+     */
+    default Set<String> findBlacklisted(Collection<String> tokens) {
+        Set<String> blacklisted = new HashSet<>();
+        for (String token : tokens) {
+            if (isBlacklisted(token)) {
+                blacklisted.add(token);
+            }
+        }
+        return blacklisted;
+    }
+
     /**
      * Supprime manuellement les tokens expirés de la liste noire.
-     * Typiquement utilisé par un job de nettoyage périodique.
+     * Planifié par les implémentations qui ne les expirent pas d'elles-mêmes ; sans effet sinon.
      */
     void removeExpiredTokens();
 
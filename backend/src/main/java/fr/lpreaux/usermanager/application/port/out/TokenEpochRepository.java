@@ -0,0 +1,36 @@
+package fr.lpreaux.usermanager.application.port.out;
+
+/**
+ * Port de sortie pour la révocation des tokens par époque utilisateur.
+ * <p>
+ * Chaque utilisateur possède une époque monotone croissante, embarquée dans ses tokens
+ * à l'émission. Incrémenter l'époque révoque d'un coup tous les tokens émis auparavant,
+ * sans stocker les tokens eux-mêmes.
+ */
+public interface TokenEpochRepository {
+
+    /**
+     * Récupère l'époque à embarquer dans un nouveau token.
+     *
+     * @param userId L'identifiant de l'utilisateur
+     * @return L'époque courante de l'utilisateur (0 si aucune révocation récente)
+     */
+    long getEpochForNewToken(String userId);
+
+    /**
+     * Vérifie si un token a été révoqué par une incrémentation d'époque postérieure à son émission.
+     *
+     * @param userId L'identifiant de l'utilisateur
+     * @param tokenEpoch L'époque embarquée dans le token
+     * @return true si le token est révoqué
+     */
+    boolean isRevoked(String userId, long tokenEpoch);
+
+    /**
+     * Incrémente l'époque d'un utilisateur, révoquant tous ses tokens existants.
+     *
+     * @param userId L'identifiant de l'utilisateur
+     * @return La nouvelle époque
+     */
+    long incrementEpoch(String userId);
+}
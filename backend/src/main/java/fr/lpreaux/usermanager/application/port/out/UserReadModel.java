@@ -0,0 +1,37 @@
+package fr.lpreaux.usermanager.application.port.out;
+
+import fr.lpreaux.usermanager.domain.model.valueobject.RoleId;
+import fr.lpreaux.usermanager.domain.model.valueobject.UserId;
+
+/**
+ * Output port maintaining the denormalized user read model served by {@link UserRepository#findViewById}.
+ * Views are recomputed from the stored users and roles: call these methods after the write they reflect.
+ * A single user's view is recomputed within the calling transaction; the views of a role's holders are
+ * recomputed in bounded batches once the calling transaction commits, so they lag the role change briefly.
+ */
+public interface UserReadModel {
+
+    /**
+     * Recomputes the view of a user. Deleted users lose their view with them.
+     *
+     * @param userId The identifier of the user
+     */
+    void refresh(UserId userId);
+
+    /**
+     * Recomputes the views of all users holding a role, after its name or permissions changed,
+     * once the calling transaction commits.
+     *
+     * @param roleId The identifier of the role
+     */
+    void refreshUsersWithRole(RoleId roleId);
+
+    /**
+     * Recomputes the views of all users holding a role as if it had been removed from them,
+     * once the calling transaction commits.
+     * Must be called before the role is deleted, while its holders can still be found.
+     *
+     * @param roleId The identifier of the role about to be deleted
+     */
+    void refreshUsersWithoutRole(RoleId roleId);
+}
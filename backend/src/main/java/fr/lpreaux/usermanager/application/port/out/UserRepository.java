@@ -1,13 +1,20 @@
 package fr.lpreaux.usermanager.application.port.out;
 
+import fr.lpreaux.usermanager.application.exception.UserAlreadyExistsException;
 import fr.lpreaux.usermanager.domain.model.User;
 import fr.lpreaux.usermanager.domain.model.valueobject.Email;
 import fr.lpreaux.usermanager.domain.model.valueobject.Login;
+import fr.lpreaux.usermanager.domain.model.valueobject.Password;
 import fr.lpreaux.usermanager.domain.model.valueobject.RoleId;
 import fr.lpreaux.usermanager.domain.model.valueobject.UserId;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Output port for user persistence operations.
@@ -16,6 +23,85 @@ import java.util.Optional;
  */
 public interface UserRepository {
 
+    /**
+     * Sort keys of a search, each made of one or more columns, the user id breaking ties.
+     */
+    enum SearchSort { LOGIN, LAST_NAME, BIRTH_DATE }
+
+    /**
+     * Search query. Null criteria are ignored.
+     *
+     * @param login Login term
+     * @param name Term matched against last name or first name
+     * @param email Email term
+     * @param contains true to match words starting with the terms, false to match value prefixes
+     * @param bornAfter Exclusive lower bound of the birth date
+     * @param bornOnOrBefore Inclusive upper bound of the birth date
+     * @param role Role name
+     * @param sort Sort key
+     * @param descending Whether the sort is descending
+     * @param afterValues Sort key values of the last user of the previous page, null for the first page
+     * @param afterId Id of the last user of the previous page, null for the first page
+     * @param limit Maximum number of users to return
+     */
+    record SearchQuery(
+            String login,
+            String name,
+            String email,
+            boolean contains,
+            LocalDate bornAfter,
+            LocalDate bornOnOrBefore,
+            String role,
+            SearchSort sort,
+            boolean descending,
+            List<String> afterValues,
+            UUID afterId,
+            int limit
+    ) {}
+
+    /**
+     * Credentials checked at login, read without the rest of the aggregate.
+     *
+     * @param userId The user id
+     * @param login The login
+     * @param password The hashed password
+     */
+    record Credentials(UserId userId, Login login, Password password) {}
+
+    /**
+     * Role names and permissions granted to a user.
+     */
+    record Authorities(Set<String> roles, Set<String> permissions) {}
+
+    /**
+     * Fields of a user read by the typeahead index.
+     */
+    record SearchableUser(
+            UUID id,
+            String login,
+            String lastName,
+            String firstName,
+            List<String> emails
+    ) {}
+
+    /**
+     * Read-side projection of a user, without password, kept up to date by {@link UserReadModel}.
+     *
+     * @param roles Names of the user's roles
+     * @param permissions Effective permissions granted by those roles
+     */
+    record UserView(
+            UUID id,
+            String login,
+            String lastName,
+            String firstName,
+            LocalDate birthDate,
+            List<String> emails,
+            List<String> phoneNumbers,
+            List<String> roles,
+            List<String> permissions
+    ) {}
+
     /**
      * Saves a user.
      * @param user The user to save
@@ -23,6 +109,16 @@ public interface UserRepository {
      */
     User save(User user);
 
+    /**
+     * Inserts a new user with its emails, phone numbers and roles, and its read-side projection,
+     * without reading it back.
+     * Login and email uniqueness is enforced by the store, not checked beforehand.
+     * @param user The new user
+     * @return The inserted user
+     * @throws UserAlreadyExistsException If the login or one of the emails is already used
+     */
+    User insert(User user) throws UserAlreadyExistsException;
+
     /**
      * Finds a user by their identifier.
      * @param userId The user identifier
@@ -37,6 +133,62 @@ public interface UserRepository {
      */
     Optional<User> findByLogin(Login login);
 
+    /**
+     * Finds the read-side projection of a user by their identifier.
+     * @param userId The user identifier
+     * @return An Optional containing the projection if the user exists, empty otherwise
+     */
+    Optional<UserView> findViewById(UserId userId);
+
+    /**
+     * Finds the read-side projection of a user by their login.
+     * @param login The user's login
+     * @return An Optional containing the projection if the user exists, empty otherwise
+     */
+    Optional<UserView> findViewByLogin(Login login);
+
+    /**
+     * Finds the read-side projection of a user by one of their email addresses.
+     * @param email The user's email address
+     * @return An Optional containing the projection if the user exists, empty otherwise
+     */
+    Optional<UserView> findViewByEmail(Email email);
+
+    /**
+     * Retrieves the read-side projections of all users.
+     * @return The list of projections
+     */
+    List<UserView> findAllViews();
+
+    /**
+     * Finds the read-side projections of several users by their identifiers.
+     * @param userIds The user identifiers
+     * @return The projections of the users that exist, in no particular order
+     */
+    List<UserView> findViewsByIds(Collection<UserId> userIds);
+
+    /**
+     * Retrieves a page of read-side projections in identifier order (keyset pagination).
+     * @param afterUserId The identifier of the last user of the previous page, null for the first page
+     * @param limit The maximum number of projections
+     * @return The projections following {@code afterUserId}
+     */
+    List<UserView> findViewsAfter(UserId afterUserId, int limit);
+
+    /**
+     * Finds the credentials of a user by their login, from the login index only.
+     * @param login The user's login
+     * @return An Optional containing the credentials if the user exists, empty otherwise
+     */
+    Optional<Credentials> findCredentialsByLogin(Login login);
+
+    /**
+     * Finds the role names and permissions of a user.
+     * @param userId The user's id
+     * @return The authorities, empty if the user has no role or does not exist
+     */
+    Authorities findAuthorities(UserId userId);
+
     /**
      * Finds a user by their email address.
      * @param email The user's email address
@@ -86,4 +238,21 @@ public interface UserRepository {
      * @return true si l'utilisateur a ce rôle, sinon false
      */
     boolean hasRole(UserId userId, RoleId roleId);
+
+    /**
+     * Recherche des utilisateurs, triés selon la clé demandée, à partir de la position donnée.
+     *
+     * @param query La requête de recherche
+     * @return Les projections des utilisateurs trouvés, au plus {@code query.limit()}
+     */
+    List<UserView> search(SearchQuery query);
+
+    /**
+     * Parcourt tous les utilisateurs par lots, dans l'ordre de leur identifiant,
+     * sans charger les agrégats complets.
+     *
+     * @param batchSize La taille des lots
+     * @param consumer Le traitement appliqué à chaque lot
+     */
+    void scanSearchableUsers(int batchSize, Consumer<List<SearchableUser>> consumer);
 }
\ No newline at end of file
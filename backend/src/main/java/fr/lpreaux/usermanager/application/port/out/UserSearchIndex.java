@@ -0,0 +1,47 @@
+package fr.lpreaux.usermanager.application.port.out;
+
+import fr.lpreaux.usermanager.domain.model.User;
+import fr.lpreaux.usermanager.domain.model.valueobject.UserId;
+
+import java.util.List;
+
+/**
+ * Output port for the typeahead index over users.
+ * Updates are applied once the surrounding transaction commits.
+ */
+public interface UserSearchIndex {
+
+    /**
+     * A suggested user.
+     */
+    record Suggestion(
+            String userId,
+            String login,
+            String lastName,
+            String firstName,
+            String email
+    ) {}
+
+    /**
+     * Suggests users whose login, names or emails start with the given prefix.
+     *
+     * @param prefix The typed prefix
+     * @param limit The maximum number of suggestions
+     * @return The suggestions, best matches first
+     */
+    List<Suggestion> suggest(String prefix, int limit);
+
+    /**
+     * Adds or replaces a user in the index.
+     *
+     * @param user The user to index
+     */
+    void index(User user);
+
+    /**
+     * Removes a user from the index.
+     *
+     * @param userId The identifier of the user to remove
+     */
+    void remove(UserId userId);
+}
@@ -3,27 +3,32 @@ package fr.lpreaux.usermanager.application.service;
 import fr.lpreaux.usermanager.application.exception.InvalidCredentialsException;
 import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
 import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase;
-import fr.lpreaux.usermanager.application.port.in.UserRoleUseCase;
 import fr.lpreaux.usermanager.application.port.out.JwtTokenProvider;
+import fr.lpreaux.usermanager.application.port.out.RefreshTokenRepository;
 import fr.lpreaux.usermanager.application.port.out.SecurityAuditLogger;
 import fr.lpreaux.usermanager.application.port.out.TokenBlacklistRepository;
+import fr.lpreaux.usermanager.application.port.out.TokenEpochRepository;
 import fr.lpreaux.usermanager.application.port.out.UserRepository;
-import fr.lpreaux.usermanager.domain.model.Role;
-import fr.lpreaux.usermanager.domain.model.User;
 import fr.lpreaux.usermanager.domain.model.valueobject.Login;
+import fr.lpreaux.usermanager.domain.model.valueobject.UserId;
 import fr.lpreaux.usermanager.infrastructure.monitorig.SecurityMetrics;
 import fr.lpreaux.usermanager.infrastructure.persistence.adapter.RedisTokenBlacklistAdapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Service d'authentification des utilisateurs.
@@ -37,17 +42,22 @@ public class AuthenticationService implements AuthenticationUseCase {
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRoleUseCase userRoleUseCase;
     private final SecurityAuditLogger securityAuditLogger;
     private final SecurityMetrics securityMetrics;
     private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final TokenEpochRepository tokenEpochRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
 
     // Compteur d'échecs d'authentification par utilisateur (en mémoire pour l'exemple)
-    private final Map<String, AtomicInteger> failedLoginAttempts = new HashMap<>();
+    // ConcurrentHashMap : le service est appelé en parallèle par les threads de requête
+    private final Map<String, AtomicInteger> failedLoginAttempts = new ConcurrentHashMap<>();
 
     // Seuil de tentatives échouées avant verrouillage temporaire
     private static final int MAX_FAILED_ATTEMPTS = 5;
 
+    // En dessous de ce nombre de tokens, le coût de répartition dépasse le gain du parallélisme
+    private static final int PARALLEL_VALIDATION_THRESHOLD = 8;
+
     @Override
     public AuthenticationResultDTO authenticate(AuthenticateCommand command) {
         log.info("Authenticating user with login: {}", command.login());
@@ -68,7 +78,8 @@ public class AuthenticationService implements AuthenticationUseCase {
                 throw new InvalidCredentialsException("Account is temporarily locked due to multiple failed attempts");
             }
 
-            User user = userRepository.findByLogin(Login.of(command.login()))
+            // Identifiant, login et mot de passe seulement : l'agrégat complet n'est pas nécessaire ici
+            UserRepository.Credentials user = userRepository.findCredentialsByLogin(Login.of(command.login()))
                     .orElseThrow(() -> {
                         log.warn("Authentication failed: User not found with login: {}", command.login());
                         recordFailedLogin(command.login());
@@ -82,12 +93,12 @@ public class AuthenticationService implements AuthenticationUseCase {
                         return new InvalidCredentialsException("Invalid credentials");
                     });
 
-            if (!user.getPassword().matches(command.password())) {
+            if (!user.password().matches(command.password())) {
                 log.warn("Authentication failed: Invalid password for user: {}", command.login());
                 recordFailedLogin(command.login());
                 securityAuditLogger.logSecurityEvent(
                         "login_failed",
-                        user.getId().getValue().toString(),
+                        user.userId().getValue().toString(),
                         clientInfo,
                         false,
                         Map.of("login", command.login(), "reason", "invalid_password")
@@ -99,55 +110,64 @@ public class AuthenticationService implements AuthenticationUseCase {
             // Réinitialiser le compteur d'échecs en cas de succès
             resetFailedLoginCounter(command.login());
 
-            // Récupérer les rôles et permissions de l'utilisateur
-            Set<String> roles = extractRoleNames(user);
-            Set<String> permissions = userRoleUseCase.getUserPermissions(user.getId().getValue().toString());
+            String userId = user.userId().getValue().toString();
+
+            // Récupérer les rôles et permissions de l'utilisateur, en une requête
+            UserRepository.Authorities authorities = userRepository.findAuthorities(user.userId());
+            Set<String> roles = authorities.roles();
+            Set<String> permissions = authorities.permissions();
+
+            long tokenEpoch = tokenEpochRepository.getEpochForNewToken(userId);
+
+            // Ouvrir une session : famille de refresh tokens dont l'identifiant est repris dans le token d'accès
+            RefreshTokenRepository.RefreshTokenGrant refreshGrant = refreshTokenRepository.issue(userId, tokenEpoch);
 
             // Métadonnées supplémentaires pour le token
             Map<String, Object> additionalClaims = new HashMap<>();
             additionalClaims.put("client_info", clientInfo);
             additionalClaims.put("auth_time", System.currentTimeMillis());
+            additionalClaims.put(JwtTokenProvider.TOKEN_EPOCH_CLAIM, tokenEpoch);
+            additionalClaims.put(JwtTokenProvider.SESSION_ID_CLAIM, refreshGrant.familyId());
 
             // Générer le token JWT
-            String token = jwtTokenProvider.generateToken(
-                    user.getId().getValue().toString(),
-                    user.getLogin().getValue(),
+            JwtTokenProvider.IssuedToken issuedToken = jwtTokenProvider.generateToken(
+                    userId,
+                    user.login().getValue(),
                     roles,
                     permissions,
                     additionalClaims
             );
 
-            JwtTokenProvider.JwtTokenInfo tokenInfo = jwtTokenProvider.validateToken(token);
-
             // Si l'implémentation de TokenBlacklistRepository est RedisTokenBlacklistAdapter,
             // on peut enregistrer le token pour la gestion des sessions
             if (tokenBlacklistRepository instanceof RedisTokenBlacklistAdapter redisAdapter) {
-                redisAdapter.registerUserToken(user.getId().getValue().toString(), token, clientInfo);
+                redisAdapter.registerUserToken(userId, issuedToken.token(), clientInfo);
             }
 
             // Enregistrer l'événement d'authentification réussie
             securityAuditLogger.logSecurityEvent(
                     "login_success",
-                    user.getId().getValue().toString(),
+                    userId,
                     clientInfo,
                     true,
                     Map.of(
-                            "login", user.getLogin().getValue(),
+                            "login", user.login().getValue(),
                             "roles", roles.toString(),
-                            "token_exp", tokenInfo.expiresAt()
+                            "token_exp", issuedToken.expiresAt()
                     )
             );
 
             securityMetrics.incrementLoginSuccess();
-            log.info("User authenticated successfully: {}", user.getLogin().getValue());
+            log.info("User authenticated successfully: {}", user.login().getValue());
 
             return new AuthenticationResultDTO(
-                    user.getId().getValue().toString(),
-                    user.getLogin().getValue(),
-                    token,
+                    userId,
+                    user.login().getValue(),
+                    issuedToken.token(),
+                    refreshGrant.refreshToken(),
                     roles,
                     permissions,
-                    tokenInfo.expiresAt()
+                    issuedToken.expiresAt()
             );
         } catch (InvalidCredentialsException e) {
             // Déjà géré plus haut
@@ -177,72 +197,163 @@ public class AuthenticationService implements AuthenticationUseCase {
                 throw new InvalidTokenException("Token has been revoked");
             }
 
-            JwtTokenProvider.JwtTokenInfo tokenInfo = jwtTokenProvider.validateToken(token);
-            securityMetrics.incrementTokenValidation();
+            return toValidationResult(token);
+        } catch (Exception e) {
+            log.warn("Token validation failed: {}", e.getMessage());
+            throw new InvalidTokenException("Invalid or expired token");
+        }
+    }
 
-            return new AuthenticationResultDTO(
-                    tokenInfo.userId(),
-                    tokenInfo.login(),
-                    token,
-                    tokenInfo.roles(),
-                    tokenInfo.permissions(),
-                    tokenInfo.expiresAt()
-            );
+    /**
+     * Redis et cryptographie uniquement : aucune transaction, donc aucune connexion du pool JDBC empruntée
+     * par le chemin réactif et les introspections.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AuthenticationResultDTO validateTokenClaims(String token) {
+        try {
+            return toValidationResult(token);
         } catch (Exception e) {
             log.warn("Token validation failed: {}", e.getMessage());
             throw new InvalidTokenException("Invalid or expired token");
         }
     }
 
+    /**
+     * Sans transaction, comme {@link #validateTokenClaims} : aucune connexion JDBC retenue pendant le MGET
+     * et les vérifications de signature en parallèle.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TokenValidationResultDTO> validateTokens(List<String> tokens) {
+        if (tokens.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " tokens can be validated at once");
+        }
+        log.debug("Validating a batch of {} JWT tokens", tokens.size());
+
+        // Un seul aller-retour vers la liste noire pour tout le lot ; un token absent est simplement invalide
+        List<String> presentTokens = tokens.stream().filter(Objects::nonNull).toList();
+        Set<String> blacklisted = presentTokens.isEmpty()
+                ? Set.of()
+                : tokenBlacklistRepository.findBlacklisted(presentTokens);
+
+        // Vérification des signatures sur plusieurs cœurs ; le flux ordonné conserve l'ordre d'entrée
+        IntStream indexes = IntStream.range(0, tokens.size());
+        if (tokens.size() >= PARALLEL_VALIDATION_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        return indexes
+                .mapToObj(i -> validateInBatch(tokens.get(i), blacklisted))
+                .toList();
+    }
+
     @Override
-    public AuthenticationResultDTO refreshToken(String token) {
+    public AuthenticationResultDTO refreshToken(String refreshToken) {
         log.debug("Refreshing JWT token");
 
+        RefreshTokenRepository.RefreshTokenGrant grant;
         try {
-            // Vérifier si le token est dans la liste noire
-            if (tokenBlacklistRepository.isBlacklisted(token)) {
-                log.warn("Token refresh failed: Token is blacklisted");
-                throw new InvalidTokenException("Token has been revoked");
-            }
+            grant = refreshTokenRepository.rotate(refreshToken);
+        } catch (InvalidTokenException e) {
+            throw refreshFailed("unknown", e.getMessage());
+        }
 
-            JwtTokenProvider.JwtTokenInfo oldTokenInfo = jwtTokenProvider.validateToken(token);
-            String newToken = jwtTokenProvider.refreshToken(token);
-            JwtTokenProvider.JwtTokenInfo newTokenInfo = jwtTokenProvider.validateToken(newToken);
+        // La rotation vérifie la session et sa révocation par époque (déconnexion globale) ; la suppression
+        // de l'utilisateur et ses rôles actuels sont lus ici, en une lecture de user_view, avant de signer
+        String userId = grant.userId();
+        UserRepository.UserView user = userRepository.findViewById(UserId.of(userId)).orElse(null);
+        if (user == null) {
+            refreshTokenRepository.revokeFamily(userId, grant.familyId());
+            throw refreshFailed(userId, "User no longer exists");
+        }
+        Set<String> roles = new LinkedHashSet<>(user.roles());
+        Set<String> permissions = new LinkedHashSet<>(user.permissions());
+
+        Map<String, Object> additionalClaims = new HashMap<>();
+        additionalClaims.put(JwtTokenProvider.TOKEN_EPOCH_CLAIM, grant.tokenEpoch());
+        additionalClaims.put(JwtTokenProvider.SESSION_ID_CLAIM, grant.familyId());
+
+        JwtTokenProvider.IssuedToken issuedToken = jwtTokenProvider.generateToken(
+                userId,
+                user.login(),
+                roles,
+                permissions,
+                additionalClaims
+        );
+
+        securityMetrics.incrementTokenRefresh();
+
+        // Journaliser l'événement de rafraîchissement
+        securityAuditLogger.logSecurityEvent(
+                "token_refresh",
+                userId,
+                "token_refresh",
+                true,
+                Map.of(
+                        "session_id", grant.familyId(),
+                        "new_token_exp", issuedToken.expiresAt()
+                )
+        );
+
+        return new AuthenticationResultDTO(
+                userId,
+                user.login(),
+                issuedToken.token(),
+                grant.refreshToken(),
+                roles,
+                permissions,
+                issuedToken.expiresAt()
+        );
+    }
 
-            securityMetrics.incrementTokenRefresh();
+    // Méthodes privées
 
-            // Journaliser l'événement de rafraîchissement
-            securityAuditLogger.logSecurityEvent(
-                    "token_refresh",
-                    oldTokenInfo.userId(),
-                    "token_refresh",
-                    true,
-                    Map.of(
-                            "old_token_exp", oldTokenInfo.expiresAt(),
-                            "new_token_exp", newTokenInfo.expiresAt()
-                    )
-            );
+    private InvalidTokenException refreshFailed(String userId, String reason) {
+        log.warn("Token refresh failed: {}", reason);
+        securityAuditLogger.logSecurityEvent(
+                "token_refresh_failed",
+                userId,
+                "token_refresh",
+                false,
+                Map.of("reason", reason)
+        );
+        return new InvalidTokenException(reason);
+    }
 
-            return new AuthenticationResultDTO(
-                    newTokenInfo.userId(),
-                    newTokenInfo.login(),
-                    newToken,
-                    newTokenInfo.roles(),
-                    newTokenInfo.permissions(),
-                    newTokenInfo.expiresAt()
-            );
+    private TokenValidationResultDTO validateInBatch(String token, Set<String> blacklisted) {
+        if (token == null || token.isBlank() || blacklisted.contains(token)) {
+            return TokenValidationResultDTO.invalid();
+        }
+        try {
+            return TokenValidationResultDTO.valid(toValidationResult(token));
         } catch (Exception e) {
-            log.warn("Token refresh failed: {}", e.getMessage());
-            throw new InvalidTokenException("Invalid or expired token");
+            log.debug("Token validation failed in batch: {}", e.getMessage());
+            return TokenValidationResultDTO.invalid();
         }
     }
 
-    // Méthodes privées
+    private AuthenticationResultDTO toValidationResult(String token) {
+        JwtTokenProvider.JwtTokenInfo tokenInfo = jwtTokenProvider.validateToken(token);
+        ensureNotRevokedByEpoch(tokenInfo);
+        securityMetrics.incrementTokenValidation();
+
+        return new AuthenticationResultDTO(
+                tokenInfo.userId(),
+                tokenInfo.login(),
+                token,
+                null,
+                tokenInfo.roles(),
+                tokenInfo.permissions(),
+                tokenInfo.expiresAt()
+        );
+    }
 
-    private Set<String> extractRoleNames(User user) {
-        return user.getRoles().stream()
-                .map(Role::getName)
-                .collect(Collectors.toSet());
+    private void ensureNotRevokedByEpoch(JwtTokenProvider.JwtTokenInfo tokenInfo) {
+        if (tokenEpochRepository.isRevoked(tokenInfo.userId(), tokenInfo.tokenEpoch())) {
+            log.warn("Token validation failed: Token issued before the last revocation of user {}", tokenInfo.userId());
+            securityMetrics.incrementRejectedTokens();
+            throw new InvalidTokenException("Token has been revoked");
+        }
     }
 
     private void recordFailedLogin(String login) {
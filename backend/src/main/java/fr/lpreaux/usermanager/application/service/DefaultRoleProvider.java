@@ -0,0 +1,56 @@
+package fr.lpreaux.usermanager.application.service;
+
+import fr.lpreaux.usermanager.application.exception.RoleNotFoundException;
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.domain.model.Role;
+import fr.lpreaux.usermanager.domain.model.valueobject.RoleId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+/**
+ * Default role assigned at registration.
+ * Only its id is cached, since it is the only part persisted with a user; the cache is evicted
+ * whenever a role is updated or deleted, and after a failed registration in case another instance did so.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DefaultRoleProvider {
+
+    static final String DEFAULT_USER_ROLE = "USER";
+
+    private final RoleRepository roleRepository;
+
+    private volatile RoleId defaultRoleId;
+
+    /**
+     * Returns a reference to the default role, loading its id on first use.
+     */
+    public Role defaultRole() {
+        RoleId roleId = defaultRoleId;
+        if (roleId == null) {
+            roleId = roleRepository.findByName(DEFAULT_USER_ROLE)
+                    .orElseThrow(() -> {
+                        log.error("Default role '{}' not found. Make sure roles are properly initialized.", DEFAULT_USER_ROLE);
+                        return new RoleNotFoundException("Default role '" + DEFAULT_USER_ROLE + "' not found");
+                    })
+                    .getId();
+            defaultRoleId = roleId;
+        }
+        return Role.builder()
+                .id(roleId)
+                .name(DEFAULT_USER_ROLE)
+                .permissions(Set.of())
+                .build();
+    }
+
+    /**
+     * Forgets the cached id: the next registration reloads it.
+     */
+    public void evict() {
+        defaultRoleId = null;
+    }
+}
@@ -3,11 +3,14 @@ package fr.lpreaux.usermanager.application.service;
 import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
 import fr.lpreaux.usermanager.application.port.in.LogoutUseCase;
 import fr.lpreaux.usermanager.application.port.out.JwtTokenProvider;
+import fr.lpreaux.usermanager.application.port.out.RefreshTokenRepository;
 import fr.lpreaux.usermanager.application.port.out.SecurityAuditLogger;
 import fr.lpreaux.usermanager.application.port.out.TokenBlacklistRepository;
+import fr.lpreaux.usermanager.application.port.out.TokenEpochRepository;
 import fr.lpreaux.usermanager.infrastructure.monitorig.SecurityMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
@@ -21,10 +24,19 @@ import java.util.Map;
 public class LogoutService implements LogoutUseCase {
 
     private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final TokenEpochRepository tokenEpochRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final SecurityAuditLogger securityAuditLogger;
     private final SecurityMetrics securityMetrics;
 
+    /**
+     * blacklist : chaque token déconnecté est stocké jusqu'à son expiration.
+     * epoch : la déconnexion incrémente l'époque de l'utilisateur, ce qui révoque toutes ses sessions.
+     */
+    @Value("${security.jwt.revocation.mode:blacklist}")
+    private String revocationMode;
+
     @Override
     public void logout(LogoutCommand command) {
         try {
@@ -39,8 +51,19 @@ public class LogoutService implements LogoutUseCase {
                 throw new InvalidTokenException("Token does not belong to the specified user");
             }
 
-            // Ajouter le token à la liste noire
-            tokenBlacklistRepository.addToBlacklist(command.token(), tokenInfo.expiresAt());
+            if ("epoch".equalsIgnoreCase(revocationMode)) {
+                // Un seul compteur par utilisateur au lieu d'une entrée par token
+                tokenEpochRepository.incrementEpoch(command.userId());
+                refreshTokenRepository.revokeAllForUser(command.userId());
+            } else {
+                // Ajouter le token à la liste noire
+                tokenBlacklistRepository.addToBlacklist(command.token(), tokenInfo.expiresAt());
+
+                // Fermer la session : son refresh token ne pourra plus être utilisé
+                if (tokenInfo.sessionId() != null) {
+                    refreshTokenRepository.revokeFamily(tokenInfo.userId(), tokenInfo.sessionId());
+                }
+            }
 
             // Journaliser l'événement
             securityAuditLogger.logSecurityEvent(
@@ -89,7 +112,11 @@ public class LogoutService implements LogoutUseCase {
     public void logoutFromAllSessions(String userId) {
         log.info("Logging out user from all sessions: {}", userId);
 
-        // Blacklister tous les tokens de l'utilisateur
+        // Révoquer tous les tokens émis jusqu'ici : une simple incrémentation d'époque
+        tokenEpochRepository.incrementEpoch(userId);
+        refreshTokenRepository.revokeAllForUser(userId);
+
+        // Conserver la trace de la révocation (audit)
         tokenBlacklistRepository.blacklistAllUserTokens(userId, "user_initiated_logout_all");
 
         // Journaliser l'événement
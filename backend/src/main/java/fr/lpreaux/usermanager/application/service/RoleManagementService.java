@@ -4,6 +4,7 @@ import fr.lpreaux.usermanager.application.exception.RoleAlreadyExistsException;
 import fr.lpreaux.usermanager.application.exception.RoleNotFoundException;
 import fr.lpreaux.usermanager.application.port.in.RoleManagementUseCase;
 import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.application.port.out.UserReadModel;
 import fr.lpreaux.usermanager.domain.model.Permission;
 import fr.lpreaux.usermanager.domain.model.Role;
 import fr.lpreaux.usermanager.domain.model.valueobject.RoleId;
@@ -27,6 +28,8 @@ import java.util.stream.Collectors;
 public class RoleManagementService implements RoleManagementUseCase {
 
     private final RoleRepository roleRepository;
+    private final UserReadModel userReadModel;
+    private final DefaultRoleProvider defaultRoleProvider;
 
     @Override
     public RoleId createRole(CreateRoleCommand command) {
@@ -72,6 +75,9 @@ public class RoleManagementService implements RoleManagementUseCase {
 
         // Sauvegarder le rôle
         roleRepository.save(updatedRole);
+        userReadModel.refreshUsersWithRole(updatedRole.getId());
+        // Le rôle par défaut est retrouvé par son nom, qui a pu changer
+        defaultRoleProvider.evict();
         log.info("Role updated successfully with ID: {}", command.roleId());
     }
 
@@ -88,6 +94,7 @@ public class RoleManagementService implements RoleManagementUseCase {
 
         // Sauvegarder le rôle
         roleRepository.save(updatedRole);
+        userReadModel.refreshUsersWithRole(updatedRole.getId());
         log.info("Permission added successfully to role with ID: {}", command.roleId());
     }
 
@@ -104,6 +111,7 @@ public class RoleManagementService implements RoleManagementUseCase {
 
         // Sauvegarder le rôle
         roleRepository.save(updatedRole);
+        userReadModel.refreshUsersWithRole(updatedRole.getId());
         log.info("Permission removed successfully from role with ID: {}", command.roleId());
     }
 
@@ -145,8 +153,12 @@ public class RoleManagementService implements RoleManagementUseCase {
             throw new RoleNotFoundException("Role not found with ID: " + roleId);
         }
 
+        // Retirer le rôle des vues tant que ses détenteurs sont connus : user_roles est purgé en cascade
+        userReadModel.refreshUsersWithoutRole(RoleId.of(roleId));
+
         // Supprimer le rôle
         roleRepository.delete(RoleId.of(roleId));
+        defaultRoleProvider.evict();
         log.info("Role deleted successfully with ID: {}", roleId);
     }
 
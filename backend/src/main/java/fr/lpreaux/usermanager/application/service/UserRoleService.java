@@ -5,6 +5,7 @@ import fr.lpreaux.usermanager.application.exception.UserNotFoundException;
 import fr.lpreaux.usermanager.application.port.in.RoleManagementUseCase;
 import fr.lpreaux.usermanager.application.port.in.UserRoleUseCase;
 import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.application.port.out.UserReadModel;
 import fr.lpreaux.usermanager.application.port.out.UserRepository;
 import fr.lpreaux.usermanager.domain.model.Role;
 import fr.lpreaux.usermanager.domain.model.User;
@@ -32,6 +33,7 @@ public class UserRoleService implements UserRoleUseCase {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final RoleManagementUseCase roleManagementUseCase;
+    private final UserReadModel userReadModel;
 
     @Override
     public void assignRole(AssignRoleCommand command) {
@@ -48,6 +50,7 @@ public class UserRoleService implements UserRoleUseCase {
 
         // Sauvegarder l'utilisateur
         userRepository.save(updatedUser);
+        userReadModel.refresh(updatedUser.getId());
         log.info("Role assigned successfully to user {}", command.userId());
     }
 
@@ -66,6 +69,7 @@ public class UserRoleService implements UserRoleUseCase {
 
         // Sauvegarder l'utilisateur
         userRepository.save(updatedUser);
+        userReadModel.refresh(updatedUser.getId());
         log.info("Role removed successfully from user {}", command.userId());
     }
 
@@ -90,18 +94,13 @@ public class UserRoleService implements UserRoleUseCase {
     public Set<String> getUserPermissions(String userId) {
         log.debug("Getting permissions for user {}", userId);
 
-        // Récupérer l'utilisateur
-        User user = findUserOrThrow(userId);
-
-        // Récupérer et combiner les permissions de tous les rôles
-        Set<String> permissions = new HashSet<>();
-        user.getRoles().forEach(role -> {
-            role.getPermissions().forEach(permission -> {
-                permissions.add(permission.getName());
-            });
-        });
-
-        return permissions;
+        // Permissions effectives déjà combinées dans le modèle de lecture : une ligne lue par clé primaire
+        return userRepository.findViewById(UserId.of(userId))
+                .map(view -> new HashSet<>(view.permissions()))
+                .orElseThrow(() -> {
+                    log.warn("User not found with ID: {}", userId);
+                    return new UserNotFoundException("User not found with ID: " + userId);
+                });
     }
 
     private User findUserOrThrow(String userId) {
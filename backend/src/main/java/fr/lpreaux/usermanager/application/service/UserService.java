@@ -5,18 +5,28 @@ import fr.lpreaux.usermanager.application.port.in.DeleteUserUseCase;
 import fr.lpreaux.usermanager.application.port.in.RegisterUserUseCase;
 import fr.lpreaux.usermanager.application.port.in.UpdateUserUseCase;
 import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase;
-import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.application.port.out.UserReadModel;
 import fr.lpreaux.usermanager.application.port.out.UserRepository;
-import fr.lpreaux.usermanager.domain.model.Role;
+import fr.lpreaux.usermanager.application.port.out.UserSearchIndex;
 import fr.lpreaux.usermanager.domain.model.User;
 import fr.lpreaux.usermanager.domain.model.valueobject.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -30,34 +40,35 @@ import java.util.stream.Collectors;
 public class UserService implements RegisterUserUseCase, UserQueryUseCase, UpdateUserUseCase, DeleteUserUseCase {
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final DefaultRoleProvider defaultRoleProvider;
+    private final UserSearchIndex userSearchIndex;
+    private final UserReadModel userReadModel;
 
-    private static final String DEFAULT_USER_ROLE = "USER";
+    private static final int MIN_CONTAINS_TERM_LENGTH = 3;
+    private static final String CURSOR_SEPARATOR = "\u001F";
 
     /**
      * Registers a new user with the provided information.
      */
     @Override
     public UserId registerUser(RegisterUserCommand command) throws UserAlreadyExistsException {
-        log.info("Registering new user with login: {}", command.login());
-
-        // Validate login uniqueness
-        if (userRepository.existsByLogin(Login.of(command.login()))) {
-            log.warn("Registration failed: Login already exists: {}", command.login());
-            throw new UserAlreadyExistsException("Login already exists: " + command.login());
-        }
+        return register(command).getId();
+    }
 
-        // Convert and validate email uniqueness
-        List<Email> emails = convertEmails(command.emails());
-        for (Email email : emails) {
-            if (userRepository.existsByEmail(email)) {
-                log.warn("Registration failed: Email already exists: {}", email.getValue());
-                throw new UserAlreadyExistsException("Email already exists: " + email.getValue());
-            }
-        }
+    /**
+     * Registers a new user and maps the inserted aggregate, without a second read.
+     */
+    @Override
+    public UserDetailsDTO registerUserAndGetDetails(RegisterUserCommand command) throws UserAlreadyExistsException {
+        return mapToUserDetailsDTO(register(command));
+    }
 
-        // Convert phone numbers
-        List<PhoneNumber> phoneNumbers = convertPhoneNumbers(command.phoneNumbers());
+    /**
+     * Login and email uniqueness is left to the database constraints: no check-then-insert race,
+     * and no existence query on the success path.
+     */
+    private User register(RegisterUserCommand command) {
+        log.info("Registering new user with login: {}", command.login());
 
         // Create user
         User user = User.create(
@@ -66,25 +77,27 @@ public class UserService implements RegisterUserUseCase, UserQueryUseCase, Updat
                 Name.of(command.lastName()),
                 FirstName.of(command.firstName()),
                 BirthDate.of(command.birthDate()),
-                emails,
-                phoneNumbers,
+                convertEmails(command.emails()),
+                convertPhoneNumbers(command.phoneNumbers()),
                 null
-        );
-
-        // Attribuer le rôle par défaut
-        Role defaultRole = roleRepository.findByName(DEFAULT_USER_ROLE)
-                .orElseThrow(() -> {
-                    log.error("Default role '{}' not found. Make sure roles are properly initialized.", DEFAULT_USER_ROLE);
-                    return new RoleNotFoundException("Default role '" + DEFAULT_USER_ROLE + "' not found");
-                });
-
-        user = user.addRole(defaultRole);
-
-        // Save user
-        User savedUser = userRepository.save(user);
+        ).addRole(defaultRoleProvider.defaultRole());
+
+        // Insert user, along with its read-side projection
+        User savedUser;
+        try {
+            savedUser = userRepository.insert(user);
+        } catch (UserAlreadyExistsException e) {
+            log.warn("Registration failed: {}", e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            // The default role may have been deleted or recreated by another instance
+            defaultRoleProvider.evict();
+            throw e;
+        }
+        userSearchIndex.index(savedUser);
         log.info("User successfully registered with ID: {}", savedUser.getId().getValue());
 
-        return savedUser.getId();
+        return savedUser;
     }
 
     /**
@@ -95,8 +108,8 @@ public class UserService implements RegisterUserUseCase, UserQueryUseCase, Updat
     public Optional<UserDetailsDTO> findUserById(String userId) {
         log.debug("Finding user by ID: {}", userId);
 
-        return userRepository.findById(UserId.of(userId))
-                .map(this::mapToUserDetailsDTO);
+        return userRepository.findViewById(UserId.of(userId))
+                .map(UserService::mapToUserDetailsDTO);
     }
 
     /**
@@ -107,8 +120,8 @@ public class UserService implements RegisterUserUseCase, UserQueryUseCase, Updat
     public Optional<UserDetailsDTO> findUserByLogin(String login) {
         log.debug("Finding user by login: {}", login);
 
-        return userRepository.findByLogin(Login.of(login))
-                .map(this::mapToUserDetailsDTO);
+        return userRepository.findViewByLogin(Login.of(login))
+                .map(UserService::mapToUserDetailsDTO);
     }
 
     /**
@@ -119,8 +132,8 @@ public class UserService implements RegisterUserUseCase, UserQueryUseCase, Updat
     public Optional<UserDetailsDTO> findUserByEmail(String email) {
         log.debug("Finding user by email: {}", email);
 
-        return userRepository.findByEmail(Email.of(email))
-                .map(this::mapToUserDetailsDTO);
+        return userRepository.findViewByEmail(Email.of(email))
+                .map(UserService::mapToUserDetailsDTO);
     }
 
     /**
@@ -131,8 +144,116 @@ public class UserService implements RegisterUserUseCase, UserQueryUseCase, Updat
     public List<UserDetailsDTO> getAllUsers() {
         log.debug("Getting all users");
 
-        return userRepository.findAll().stream()
-                .map(this::mapToUserDetailsDTO)
+        return userRepository.findAllViews().stream()
+                .map(UserService::mapToUserDetailsDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds several users with one read of the projections, then restores the requested order.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDetailsDTO> findUsersByIds(List<String> userIds) {
+        log.debug("Finding {} users by ID", userIds.size());
+
+        List<UserId> ids = userIds.stream().map(UserId::of).toList();
+        Map<UUID, UserRepository.UserView> views = userRepository.findViewsByIds(ids).stream()
+                .collect(Collectors.toMap(UserRepository.UserView::id, Function.identity()));
+        return ids.stream()
+                .map(id -> views.get(id.getValue()))
+                .filter(Objects::nonNull)
+                .map(UserService::mapToUserDetailsDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Lists users page by page in ID order, without loading them all.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDetailsDTO> listUsers(String afterUserId, int limit) {
+        log.debug("Listing users after: {}", afterUserId);
+
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        return userRepository.findViewsAfter(afterUserId != null ? UserId.of(afterUserId) : null, limit).stream()
+                .map(UserService::mapToUserDetailsDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Searches users with keyset pagination: the cursor carries the sort key of the last user returned.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserSearchPageDTO searchUsers(UserSearchCriteria criteria) {
+        log.debug("Searching users with criteria: {}", criteria);
+
+        if (criteria.limit() < 1 || criteria.limit() > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        if ((criteria.minAge() != null && criteria.minAge() < 0) || (criteria.maxAge() != null && criteria.maxAge() < 0)) {
+            throw new IllegalArgumentException("Age bounds cannot be negative");
+        }
+        if (criteria.minAge() != null && criteria.maxAge() != null && criteria.minAge() > criteria.maxAge()) {
+            throw new IllegalArgumentException("Minimum age cannot be greater than maximum age");
+        }
+
+        boolean contains = criteria.matchMode() == MatchMode.CONTAINS;
+        String login = searchTerm(criteria.login(), contains);
+        String name = searchTerm(criteria.name(), contains);
+        String email = searchTerm(criteria.email(), contains);
+        SortField sortBy = criteria.sortBy() != null ? criteria.sortBy() : SortField.LOGIN;
+
+        // Âge exprimé en bornes sur la date de naissance, pour rester indexable
+        LocalDate today = LocalDate.now();
+        LocalDate bornOnOrBefore = criteria.minAge() != null ? today.minusYears(criteria.minAge()) : null;
+        LocalDate bornAfter = criteria.maxAge() != null ? today.minusYears(criteria.maxAge() + 1L) : null;
+
+        List<String> afterValues = null;
+        UUID afterId = null;
+        if (criteria.cursor() != null && !criteria.cursor().isBlank()) {
+            List<String> cursor = decodeCursor(criteria.cursor(), sortBy, criteria.descending());
+            afterValues = cursor.subList(0, cursor.size() - 1);
+            afterId = UUID.fromString(cursor.getLast());
+        }
+
+        // Un élément de plus que demandé pour savoir s'il existe une page suivante
+        List<UserRepository.UserView> users = userRepository.search(new UserRepository.SearchQuery(
+                login, name, email, contains, bornAfter, bornOnOrBefore,
+                criteria.role() != null && !criteria.role().isBlank() ? criteria.role().strip() : null,
+                UserRepository.SearchSort.valueOf(sortBy.name()), criteria.descending(),
+                afterValues, afterId, criteria.limit() + 1));
+
+        String nextCursor = null;
+        if (users.size() > criteria.limit()) {
+            users = users.subList(0, criteria.limit());
+            nextCursor = encodeCursor(users.getLast(), sortBy, criteria.descending());
+        }
+
+        return new UserSearchPageDTO(
+                users.stream().map(UserService::mapToUserDetailsDTO).collect(Collectors.toList()),
+                nextCursor);
+    }
+
+    /**
+     * Suggests users from the in-memory typeahead index, without touching the database.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<UserSuggestionDTO> suggestUsers(String prefix, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+
+        return userSearchIndex.suggest(prefix, limit).stream()
+                .map(suggestion -> new UserSuggestionDTO(suggestion.userId(), suggestion.login(),
+                        suggestion.lastName(), suggestion.firstName(), suggestion.email()))
                 .collect(Collectors.toList());
     }
 
@@ -152,6 +273,8 @@ public class UserService implements RegisterUserUseCase, UserQueryUseCase, Updat
         );
 
         userRepository.save(updatedUser);
+        userReadModel.refresh(updatedUser.getId());
+        userSearchIndex.index(updatedUser);
         log.info("Personal information updated for user ID: {}", command.userId());
     }
 
@@ -195,6 +318,8 @@ public class UserService implements RegisterUserUseCase, UserQueryUseCase, Updat
         User updatedUser = user.addEmail(email);
 
         userRepository.save(updatedUser);
+        userReadModel.refresh(updatedUser.getId());
+        userSearchIndex.index(updatedUser);
         log.info("Email added successfully for user ID: {}", command.userId());
     }
 
@@ -215,6 +340,8 @@ public class UserService implements RegisterUserUseCase, UserQueryUseCase, Updat
 
         User updatedUser = user.removeEmail(Email.of(command.email()));
         userRepository.save(updatedUser);
+        userReadModel.refresh(updatedUser.getId());
+        userSearchIndex.index(updatedUser);
 
         log.info("Email removed successfully for user ID: {}", command.userId());
     }
@@ -230,6 +357,7 @@ public class UserService implements RegisterUserUseCase, UserQueryUseCase, Updat
         User updatedUser = user.addPhoneNumber(PhoneNumber.of(command.phoneNumber()));
 
         userRepository.save(updatedUser);
+        userReadModel.refresh(updatedUser.getId());
         log.info("Phone number added successfully for user ID: {}", command.userId());
     }
 
@@ -244,6 +372,7 @@ public class UserService implements RegisterUserUseCase, UserQueryUseCase, Updat
         User updatedUser = user.removePhoneNumber(PhoneNumber.of(command.phoneNumber()));
 
         userRepository.save(updatedUser);
+        userReadModel.refresh(updatedUser.getId());
         log.info("Phone number removed successfully for user ID: {}", command.userId());
     }
 
@@ -255,7 +384,9 @@ public class UserService implements RegisterUserUseCase, UserQueryUseCase, Updat
         log.info("Deleting user with ID: {}", userId);
 
         User user = findUserOrThrow(userId);
+        // Sa vue du modèle de lecture est supprimée en cascade
         userRepository.delete(user.getId());
+        userSearchIndex.remove(user.getId());
 
         log.info("User deleted successfully with ID: {}", userId);
     }
@@ -288,6 +419,86 @@ public class UserService implements RegisterUserUseCase, UserQueryUseCase, Updat
         );
     }
 
+    /**
+     * Maps a read-side projection to a UserDetailsDTO, age and adulthood computed by the domain.
+     */
+    private static UserDetailsDTO mapToUserDetailsDTO(UserRepository.UserView view) {
+        BirthDate birthDate = BirthDate.of(view.birthDate());
+        return new UserDetailsDTO(
+                view.id().toString(),
+                view.login(),
+                view.lastName(),
+                view.firstName(),
+                view.birthDate().toString(),
+                birthDate.getAge(),
+                birthDate.isAdult(),
+                view.emails(),
+                view.phoneNumbers()
+        );
+    }
+
+    /**
+     * Normalizes a search term, null when blank. Shorter words are not indexed for CONTAINS matching.
+     */
+    private static String searchTerm(String term, boolean contains) {
+        if (term == null || term.isBlank()) {
+            return null;
+        }
+        String stripped = term.strip();
+        if (contains && Arrays.stream(stripped.split("[^\\p{L}\\p{N}_]+"))
+                .noneMatch(word -> word.length() >= MIN_CONTAINS_TERM_LENGTH)) {
+            throw new IllegalArgumentException(
+                    "Contains search terms must have a word of at least " + MIN_CONTAINS_TERM_LENGTH + " characters");
+        }
+        return stripped;
+    }
+
+    /**
+     * Encodes the sort key and id of a user as an opaque cursor, bound to the sort order.
+     */
+    private static String encodeCursor(UserRepository.UserView user, SortField sortBy, boolean descending) {
+        List<String> parts = new ArrayList<>();
+        parts.add(sortBy.name() + (descending ? "-" : "+"));
+        switch (sortBy) {
+            case LOGIN -> parts.add(user.login());
+            case LAST_NAME -> {
+                parts.add(user.lastName());
+                parts.add(user.firstName());
+            }
+            case BIRTH_DATE -> parts.add(user.birthDate().toString());
+        }
+        parts.add(user.id().toString());
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(CURSOR_SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into the sort key values followed by the user id.
+     */
+    private static List<String> decodeCursor(String cursor, SortField sortBy, boolean descending) {
+        List<String> parts;
+        try {
+            parts = Arrays.asList(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(CURSOR_SEPARATOR, -1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid search cursor");
+        }
+        int keySize = sortBy == SortField.LAST_NAME ? 2 : 1;
+        if (parts.size() != keySize + 2 || !parts.getFirst().equals(sortBy.name() + (descending ? "-" : "+"))) {
+            throw new IllegalArgumentException("Search cursor does not match the requested sort");
+        }
+        List<String> values = parts.subList(1, parts.size());
+        try {
+            UUID.fromString(values.getLast());
+            if (sortBy == SortField.BIRTH_DATE) {
+                LocalDate.parse(values.getFirst());
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid search cursor");
+        }
+        return values;
+    }
+
     /**
      * Helper method to convert string emails to Email objects.
      */
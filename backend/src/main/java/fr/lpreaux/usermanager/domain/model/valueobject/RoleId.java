@@ -26,6 +26,6 @@ public class RoleId {
     }
 
     public static RoleId generate() {
-        return new RoleId(UUID.randomUUID());
+        return new RoleId(TimeOrderedUuid.generate());
     }
 }
\ No newline at end of file
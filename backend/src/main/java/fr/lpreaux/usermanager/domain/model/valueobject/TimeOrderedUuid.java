@@ -0,0 +1,45 @@
+package fr.lpreaux.usermanager.domain.model.valueobject;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator of time-ordered version 7 UUIDs (RFC 9562).
+ * <p>
+ * Layout: 48-bit Unix timestamp in milliseconds, version, 12-bit counter, variant, 62 random bits.
+ * Ids generated by one JVM are strictly increasing, even within a millisecond or if the clock goes back;
+ * ids from several instances only interleave within the same millisecond. Stored big-endian in a
+ * {@code BINARY(16)} key, new rows are appended at the end of the clustered index instead of at random pages.
+ * Existing version 4 ids remain valid: both versions share the same column and are only compared for equality.
+ */
+public final class TimeOrderedUuid {
+
+    private static final TimeOrderedUuid INSTANCE = new TimeOrderedUuid();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final long TIMESTAMP_MASK = 0xFFFF_FFFF_FFFFL;
+    private static final int COUNTER_BITS = 12;
+
+    // Last issued timestamp followed by its counter: incrementing it yields the next id
+    private final AtomicLong last = new AtomicLong();
+
+    TimeOrderedUuid() {
+    }
+
+    public static UUID generate() {
+        return INSTANCE.next(System.currentTimeMillis());
+    }
+
+    UUID next(long epochMillis) {
+        long candidate = (epochMillis & TIMESTAMP_MASK) << COUNTER_BITS;
+        // Counter overflow carries into the timestamp, which runs at most a few milliseconds ahead
+        long sequence = last.accumulateAndGet(candidate, (previous, now) -> now > previous ? now : previous + 1);
+
+        long mostSigBits = (sequence >>> COUNTER_BITS) << 16
+                | 0x7000L
+                | (sequence & 0xFFFL);
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -28,7 +28,10 @@ public class UserId {
         return new UserId(UUID.fromString(value));
     }
 
+    /**
+     * Generates a time-ordered (version 7) id; see {@link TimeOrderedUuid}.
+     */
     public static UserId generate() {
-        return new UserId(UUID.randomUUID());
+        return new UserId(TimeOrderedUuid.generate());
     }
 }
\ No newline at end of file
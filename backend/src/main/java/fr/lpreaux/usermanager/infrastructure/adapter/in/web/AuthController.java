@@ -3,7 +3,9 @@ package fr.lpreaux.usermanager.infrastructure.adapter.in.web;
 import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase;
 import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.request.LoginRequest;
 import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.request.RefreshTokenRequest;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.request.ValidateTokensRequest;
 import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.response.AuthenticationResponse;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.response.TokenValidationResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,6 +20,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * Contrôleur REST pour l'authentification.
  */
@@ -60,7 +64,7 @@ public class AuthController {
     @PostMapping("/refresh")
     @Operation(
             summary = "Rafraîchir le token",
-            description = "Génère un nouveau token JWT à partir d'un token valide"
+            description = "Échange un refresh token contre un nouveau token JWT et un nouveau refresh token (usage unique)"
     )
     @ApiResponse(
             responseCode = "200",
@@ -69,19 +73,56 @@ public class AuthController {
     )
     @ApiResponse(
             responseCode = "401",
-            description = "Token invalide ou expiré"
+            description = "Refresh token invalide, expiré, révoqué ou déjà utilisé"
     )
     public ResponseEntity<AuthenticationResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
         log.info("Token refresh request");
 
-        AuthenticationUseCase.AuthenticationResultDTO result = authenticationUseCase.refreshToken(request.token());
+        AuthenticationUseCase.AuthenticationResultDTO result = authenticationUseCase.refreshToken(request.refreshToken());
 
         return ResponseEntity.ok(mapToResponse(result));
     }
 
+    @PostMapping("/validate/batch")
+    @Operation(
+            summary = "Valider un lot de tokens",
+            description = "Valide jusqu'à " + AuthenticationUseCase.MAX_BATCH_SIZE + " tokens en un appel ; "
+                    + "un résultat par token, dans l'ordre de la requête. Réservé aux services : "
+                    + "authentification HTTP Basic avec l'identifiant client d'introspection"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Résultats de validation"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Lot vide, trop volumineux ou contenant un token vide"
+    )
+    @ApiResponse(
+            responseCode = "401",
+            description = "Identifiants client absents ou invalides"
+    )
+    public ResponseEntity<List<TokenValidationResponse>> validateTokens(@Valid @RequestBody ValidateTokensRequest request) {
+        log.debug("Batch validation of {} tokens", request.tokens().size());
+
+        List<TokenValidationResponse> results = authenticationUseCase.validateTokens(request.tokens()).stream()
+                .map(result -> new TokenValidationResponse(
+                        result.valid(),
+                        result.userId(),
+                        result.login(),
+                        result.roles(),
+                        result.permissions(),
+                        result.expiresAt()
+                ))
+                .toList();
+
+        return ResponseEntity.ok(results);
+    }
+
     private AuthenticationResponse mapToResponse(AuthenticationUseCase.AuthenticationResultDTO dto) {
         return new AuthenticationResponse(
                 dto.token(),
+                dto.refreshToken(),
                 dto.userId(),
                 dto.login(),
                 dto.roles(),
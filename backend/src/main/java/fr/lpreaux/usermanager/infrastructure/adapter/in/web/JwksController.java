@@ -0,0 +1,93 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web;
+
+import fr.lpreaux.usermanager.infrastructure.adapter.out.security.JwtSigningKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Publication des clés publiques de signature (JWKS).
+ * Le document est pré-sérialisé par {@link JwtSigningKeyRing} : aucune sérialisation par requête.
+ */
+@RestController
+@Tag(name = "Authentication", description = "API d'authentification")
+public class JwksController {
+
+    private static final MediaType JWK_SET = MediaType.parseMediaType("application/jwk-set+json");
+
+    // Étiquette d'entité, éventuellement faible : le groupe 1 est la partie opaque, guillemets compris
+    private static final Pattern ENTITY_TAG = Pattern.compile("(?:W/)?(\"[^\"]*\")");
+
+    private final JwtSigningKeyRing keyRing;
+    private final CacheControl cacheControl;
+
+    public JwksController(
+            JwtSigningKeyRing keyRing,
+            @Value("${security.jwt.signing.jwks-max-age:5m}") Duration maxAge) {
+        this.keyRing = keyRing;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(
+            summary = "Clés publiques de signature",
+            description = "Retourne le JWKS permettant aux autres services de vérifier les tokens localement"
+    )
+    @ApiResponse(responseCode = "200", description = "JWKS courant")
+    @ApiResponse(responseCode = "304", description = "JWKS inchangé depuis l'ETag fourni")
+    public ResponseEntity<byte[]> jwks(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        JwtSigningKeyRing.Jwks jwks = keyRing.jwks();
+
+        if (matches(ifNoneMatch, jwks.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(jwks.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(jwks.etag())
+                .cacheControl(cacheControl)
+                .contentType(JWK_SET)
+                .body(jwks.body());
+    }
+
+    /**
+     * Évaluation de {@code If-None-Match} (RFC 9110, section 13.1.2) : liste d'ETags séparés par des virgules
+     * ou {@code *}, comparés faiblement. Un client qui a reçu l'ETag via un cache ou une passerelle
+     * l'affaiblissant ({@code W/"..."}) obtient donc aussi un 304.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        if (ifNoneMatch.trim().equals("*")) {
+            return true;
+        }
+        String opaqueTag = opaqueTag(etag);
+        Matcher matcher = ENTITY_TAG.matcher(ifNoneMatch);
+        while (matcher.find()) {
+            if (matcher.group(1).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
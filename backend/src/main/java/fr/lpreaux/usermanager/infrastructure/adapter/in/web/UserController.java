@@ -3,6 +3,8 @@ package fr.lpreaux.usermanager.infrastructure.adapter.in.web;
 import fr.lpreaux.usermanager.application.port.in.*;
 import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.request.*;
 import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.response.UserResponse;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.response.UserSuggestionResponse;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.hateoas.UserLinks;
 import fr.lpreaux.usermanager.infrastructure.adapter.in.web.mapper.UserWebMapper;
 import fr.lpreaux.usermanager.infrastructure.adapter.out.analytics.AnalyticsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,12 +17,16 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import jakarta.validation.Valid;
 
@@ -29,12 +35,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 /**
  * REST controller for user management.
  * Implements the adapter layer in the hexagonal architecture pattern.
+ * Links are built from precomputed templates ({@link UserLinks}) and omitted when the client
+ * sends {@code Prefer: return=minimal}.
  */
 @RestController
 @RequestMapping("/api/v1/users")
@@ -50,6 +55,7 @@ public class UserController {
     private final DeleteUserUseCase deleteUserUseCase;
     private final UserWebMapper userWebMapper;
     private final AnalyticsService analyticsService;
+    private final UserLinks userLinks;
 
     /**
      * Register a new user.
@@ -66,28 +72,29 @@ public class UserController {
         log.info("Registering new user with login: {}", request.login());
 
         RegisterUserUseCase.RegisterUserCommand command = userWebMapper.toRegisterCommand(request);
-        var userId = registerUserUseCase.registerUser(command);
-
-        var userDetails = userQueryUseCase.findUserById(userId.getValue().toString())
-                .orElseThrow(() -> new IllegalStateException("User not found after creation"));
+        // Réponse construite à partir de l'agrégat inséré, sans relecture
+        var userDetails = registerUserUseCase.registerUserAndGetDetails(command);
+        String userId = userDetails.id();
 
         UserResponse response = userWebMapper.toUserResponse(userDetails);
         EntityModel<UserResponse> resource = EntityModel.of(response);
-        resource.add(linkTo(methodOn(UserController.class).getUserById(userId.getValue().toString())).withSelfRel());
+        if (userLinks.requested()) {
+            resource.add(userLinks.userById(userLinks.baseUri(), userId));
+        }
 
         // Tracking de l'événement d'inscription
         Map<String, Object> properties = new HashMap<>();
         properties.put("login", request.login());
         properties.put("has_phone", request.phoneNumbers() != null && !request.phoneNumbers().isEmpty());
         properties.put("email_count", request.emails().size());
-        analyticsService.trackEvent(userId.getValue().toString(), "user_registered", properties);
+        analyticsService.trackEvent(userId, "user_registered", properties);
 
         // Identification de l'utilisateur pour PostHog
         Map<String, Object> userProperties = new HashMap<>();
         userProperties.put("login", request.login());
         userProperties.put("name", request.firstName() + " " + request.lastName());
         userProperties.put("email", request.emails().getFirst());
-        analyticsService.identifyUser(userId.getValue().toString(), userProperties);
+        analyticsService.identifyUser(userId, userProperties);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(resource);
     }
@@ -111,8 +118,11 @@ public class UserController {
                 .map(userWebMapper::toUserResponse)
                 .map(response -> {
                     EntityModel<UserResponse> resource = EntityModel.of(response);
-                    resource.add(linkTo(methodOn(UserController.class).getUserById(userId)).withSelfRel());
-                    resource.add(linkTo(methodOn(UserController.class).getAllUsers()).withRel("all-users"));
+                    if (userLinks.requested()) {
+                        String baseUri = userLinks.baseUri();
+                        resource.add(userLinks.userById(baseUri, userId));
+                        resource.add(userLinks.allUsers(baseUri).withRel("all-users"));
+                    }
                     return ResponseEntity.ok(resource);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -128,17 +138,21 @@ public class UserController {
     public ResponseEntity<CollectionModel<EntityModel<UserResponse>>> getAllUsers() {
         log.info("Getting all users");
 
+        // Origine résolue une seule fois pour toute la collection
+        boolean withLinks = userLinks.requested();
+        String baseUri = withLinks ? userLinks.baseUri() : null;
+
         List<EntityModel<UserResponse>> users = userQueryUseCase.getAllUsers().stream()
                 .map(userWebMapper::toUserResponse)
-                .map(response -> {
-                    EntityModel<UserResponse> resource = EntityModel.of(response);
-                    resource.add(linkTo(methodOn(UserController.class).getUserById(response.id())).withSelfRel());
-                    return resource;
-                })
+                .map(response -> withLinks
+                        ? EntityModel.of(response, userLinks.userById(baseUri, response.id()))
+                        : EntityModel.of(response))
                 .collect(Collectors.toList());
 
         CollectionModel<EntityModel<UserResponse>> resources = CollectionModel.of(users);
-        resources.add(linkTo(methodOn(UserController.class).getAllUsers()).withSelfRel());
+        if (withLinks) {
+            resources.add(userLinks.allUsers(baseUri));
+        }
 
         return ResponseEntity.ok(resources);
     }
@@ -166,7 +180,9 @@ public class UserController {
                 .map(userWebMapper::toUserResponse)
                 .map(response -> {
                     EntityModel<UserResponse> resource = EntityModel.of(response);
-                    resource.add(linkTo(methodOn(UserController.class).getUserById(userId)).withSelfRel());
+                    if (userLinks.requested()) {
+                        resource.add(userLinks.userById(userLinks.baseUri(), userId));
+                    }
                     return ResponseEntity.ok(resource);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -313,6 +329,66 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Search users by login, name, email, age range and role, with keyset pagination.
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Rechercher des utilisateurs", description = "Recherche multi-critères paginée par curseur ; la page suivante est donnée par le lien 'next'")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page de résultats"),
+            @ApiResponse(responseCode = "400", description = "Critères ou curseur invalides")
+    })
+    @PreAuthorize("hasAuthority('USER_READ')")
+    public ResponseEntity<CollectionModel<EntityModel<UserResponse>>> searchUsers(
+            @Valid @ParameterObject SearchUsersRequest request) {
+        log.info("Searching users: {}", request);
+
+        UserQueryUseCase.UserSearchPageDTO page = userQueryUseCase.searchUsers(userWebMapper.toSearchCriteria(request));
+
+        boolean withLinks = userLinks.requested();
+        String baseUri = withLinks ? userLinks.baseUri() : null;
+
+        List<EntityModel<UserResponse>> users = page.users().stream()
+                .map(userWebMapper::toUserResponse)
+                .map(response -> withLinks
+                        ? EntityModel.of(response, userLinks.userById(baseUri, response.id()))
+                        : EntityModel.of(response))
+                .collect(Collectors.toList());
+
+        CollectionModel<EntityModel<UserResponse>> resources = CollectionModel.of(users);
+        if (withLinks) {
+            resources.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()));
+        }
+        // Le lien 'next' porte le curseur : toujours présent, même en représentation minimale
+        if (page.nextCursor() != null) {
+            resources.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .toUriString(), IanaLinkRelations.NEXT));
+        }
+
+        return ResponseEntity.ok(resources);
+    }
+
+    /**
+     * Typeahead suggestions served from the in-memory index.
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggérer des utilisateurs", description = "Autocomplétion sur le début du login, du nom, du prénom ou de l'email, sans accès à la base")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions, les plus pertinentes d'abord"),
+            @ApiResponse(responseCode = "400", description = "Limite invalide")
+    })
+    @PreAuthorize("hasAuthority('USER_READ')")
+    public ResponseEntity<List<UserSuggestionResponse>> suggestUsers(
+            @Parameter(description = "Début saisi") @RequestParam("q") String prefix,
+            @Parameter(description = "Nombre maximum de suggestions") @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Suggesting users for prefix: {}", prefix);
+
+        return ResponseEntity.ok(userQueryUseCase.suggestUsers(prefix, limit).stream()
+                .map(userWebMapper::toUserSuggestionResponse)
+                .collect(Collectors.toList()));
+    }
+
     /**
      * Search for a user by email.
      */
@@ -331,8 +407,11 @@ public class UserController {
                 .map(userWebMapper::toUserResponse)
                 .map(response -> {
                     EntityModel<UserResponse> resource = EntityModel.of(response);
-                    resource.add(linkTo(methodOn(UserController.class).getUserById(response.id())).withSelfRel());
-                    resource.add(linkTo(methodOn(UserController.class).getUserByEmail(email)).withRel("search-by-email"));
+                    if (userLinks.requested()) {
+                        String baseUri = userLinks.baseUri();
+                        resource.add(userLinks.userById(baseUri, response.id()));
+                        resource.add(userLinks.searchByEmail(baseUri, email));
+                    }
                     return ResponseEntity.ok(resource);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -356,8 +435,11 @@ public class UserController {
                 .map(userWebMapper::toUserResponse)
                 .map(response -> {
                     EntityModel<UserResponse> resource = EntityModel.of(response);
-                    resource.add(linkTo(methodOn(UserController.class).getUserById(response.id())).withSelfRel());
-                    resource.add(linkTo(methodOn(UserController.class).getUserByLogin(login)).withRel("search-by-login"));
+                    if (userLinks.requested()) {
+                        String baseUri = userLinks.baseUri();
+                        resource.add(userLinks.userById(baseUri, response.id()));
+                        resource.add(userLinks.searchByLogin(baseUri, login));
+                    }
                     return ResponseEntity.ok(resource);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -4,7 +4,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 
 public record RefreshTokenRequest(
-        @NotBlank(message = "Token is required")
-        @Schema(description = "Token JWT à rafraîchir")
-        String token
+        @NotBlank(message = "Refresh token is required")
+        @Schema(description = "Refresh token obtenu à la connexion ou au précédent rafraîchissement")
+        String refreshToken
 ) {}
\ No newline at end of file
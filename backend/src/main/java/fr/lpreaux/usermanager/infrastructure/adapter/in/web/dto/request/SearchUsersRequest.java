@@ -0,0 +1,49 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.request;
+
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+
+public record SearchUsersRequest(
+        @Schema(description = "Login recherché")
+        String login,
+
+        @Schema(description = "Nom ou prénom recherché")
+        String name,
+
+        @Schema(description = "Email recherché")
+        String email,
+
+        @Pattern(regexp = "prefix|contains", message = "Match must be 'prefix' or 'contains'")
+        @Schema(description = "'prefix' (début de la valeur, par défaut) ou 'contains' (mots commençant par le terme, 3 caractères minimum)")
+        String match,
+
+        @Min(value = 0, message = "Minimum age cannot be negative")
+        @Schema(description = "Âge minimum, inclus")
+        Integer minAge,
+
+        @Min(value = 0, message = "Maximum age cannot be negative")
+        @Schema(description = "Âge maximum, inclus")
+        Integer maxAge,
+
+        @Schema(description = "Nom du rôle")
+        String role,
+
+        @Pattern(regexp = "login|lastName|birthDate", message = "Sort must be 'login', 'lastName' or 'birthDate'")
+        @Schema(description = "'login' (par défaut), 'lastName' ou 'birthDate'")
+        String sort,
+
+        @Pattern(regexp = "asc|desc", message = "Direction must be 'asc' or 'desc'")
+        @Schema(description = "'asc' (par défaut) ou 'desc'")
+        String direction,
+
+        @Schema(description = "Curseur renvoyé dans le lien 'next' de la page précédente")
+        String cursor,
+
+        @Min(value = 1, message = "Limit must be at least 1")
+        @Max(value = UserQueryUseCase.MAX_SEARCH_LIMIT, message = "Limit is too large")
+        @Schema(description = "Taille de page, 20 par défaut")
+        Integer limit
+) {}
@@ -0,0 +1,16 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.request;
+
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ValidateTokensRequest(
+        @NotEmpty(message = "At least one token is required")
+        @Size(max = AuthenticationUseCase.MAX_BATCH_SIZE, message = "Too many tokens in a single batch")
+        @Schema(description = "Tokens JWT à valider ; les résultats sont renvoyés dans le même ordre")
+        List<@NotBlank(message = "Tokens must not be blank") String> tokens
+) {}
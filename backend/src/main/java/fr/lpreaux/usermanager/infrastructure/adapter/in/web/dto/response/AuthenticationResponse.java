@@ -8,6 +8,9 @@ public record AuthenticationResponse(
         @Schema(description = "Token JWT d'authentification")
         String token,
 
+        @Schema(description = "Refresh token opaque, à usage unique")
+        String refreshToken,
+
         @Schema(description = "ID de l'utilisateur authentifié")
         String userId,
 
@@ -0,0 +1,25 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Set;
+
+public record TokenValidationResponse(
+        @Schema(description = "Vrai si le token est valide, non expiré et non révoqué")
+        boolean valid,
+
+        @Schema(description = "ID de l'utilisateur, absent si le token est invalide")
+        String userId,
+
+        @Schema(description = "Login de l'utilisateur, absent si le token est invalide")
+        String login,
+
+        @Schema(description = "Rôles de l'utilisateur")
+        Set<String> roles,
+
+        @Schema(description = "Permissions de l'utilisateur")
+        Set<String> permissions,
+
+        @Schema(description = "Date d'expiration du token (timestamp Unix)")
+        long expiresAt
+) {}
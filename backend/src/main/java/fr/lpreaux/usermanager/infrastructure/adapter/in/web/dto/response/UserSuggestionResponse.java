@@ -0,0 +1,26 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Response DTO for a typeahead suggestion.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Suggestion d'utilisateur pour l'autocomplétion")
+public record UserSuggestionResponse(
+        @Schema(description = "Identifiant unique de l'utilisateur", example = "550e8400-e29b-41d4-a716-446655440000")
+        String id,
+
+        @Schema(description = "Login de l'utilisateur", example = "jean.dupont")
+        String login,
+
+        @Schema(description = "Nom de famille de l'utilisateur", example = "Dupont")
+        String lastName,
+
+        @Schema(description = "Prénom de l'utilisateur", example = "Jean")
+        String firstName,
+
+        @Schema(description = "Adresse email principale", example = "jean.dupont@example.com")
+        String email
+) {}
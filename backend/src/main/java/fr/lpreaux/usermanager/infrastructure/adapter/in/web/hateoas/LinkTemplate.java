@@ -0,0 +1,124 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.hateoas;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.util.UriUtils;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Modèle de lien calculé une fois à partir des annotations de mapping d'une méthode de contrôleur.
+ * <p>
+ * Équivalent de {@code linkTo(methodOn(...))} sans proxy ni réflexion par appel : l'expansion se limite
+ * à concaténer les fragments littéraux et les valeurs encodées. Les variables de chemin sont prises
+ * dans l'ordre du mapping, puis les paramètres {@link RequestParam} dans l'ordre de la signature.
+ */
+public final class LinkTemplate {
+
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{([^}/:]+)(:[^}]*)?}");
+
+    private final String[] literals;
+    private final boolean[] queryValues;
+
+    private LinkTemplate(List<String> literals, List<Boolean> queryValues) {
+        this.literals = literals.toArray(String[]::new);
+        this.queryValues = new boolean[queryValues.size()];
+        for (int i = 0; i < this.queryValues.length; i++) {
+            this.queryValues[i] = queryValues.get(i);
+        }
+    }
+
+    /**
+     * Construit le modèle d'une méthode de contrôleur.
+     *
+     * @param controller La classe du contrôleur
+     * @param methodName Le nom de la méthode
+     * @param parameterTypes Les types de ses paramètres
+     * @return Le modèle de lien
+     * @throws IllegalArgumentException Si la méthode n'existe pas
+     */
+    public static LinkTemplate of(Class<?> controller, String methodName, Class<?>... parameterTypes) {
+        Method method = ReflectionUtils.findMethod(controller, methodName, parameterTypes);
+        if (method == null) {
+            throw new IllegalArgumentException("No method " + methodName + " on " + controller.getName());
+        }
+
+        String path = mappingPath(AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class))
+                + mappingPath(AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class));
+
+        List<String> literals = new ArrayList<>();
+        List<Boolean> queryValues = new ArrayList<>();
+        Matcher matcher = PATH_VARIABLE.matcher(path);
+        int start = 0;
+        while (matcher.find()) {
+            literals.add(path.substring(start, matcher.start()));
+            queryValues.add(false);
+            start = matcher.end();
+        }
+        StringBuilder tail = new StringBuilder(path.substring(start));
+
+        char separator = '?';
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            MethodParameter parameter = new MethodParameter(method, i);
+            RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+            if (requestParam == null) {
+                continue;
+            }
+            String name = !requestParam.name().isEmpty() ? requestParam.name()
+                    : !requestParam.value().isEmpty() ? requestParam.value()
+                    : method.getParameters()[i].getName();
+            tail.append(separator).append(name).append('=');
+            literals.add(tail.toString());
+            queryValues.add(true);
+            tail.setLength(0);
+            separator = '&';
+        }
+        literals.add(tail.toString());
+
+        return new LinkTemplate(literals, queryValues);
+    }
+
+    /**
+     * Nombre de valeurs attendues par {@link #expand(String, Object...)}.
+     */
+    public int variableCount() {
+        return queryValues.length;
+    }
+
+    /**
+     * Produit l'URL absolue du lien.
+     *
+     * @param baseUri Origine et chemin de contexte de la requête courante, sans barre finale
+     * @param values Les valeurs des variables, dans l'ordre du modèle
+     * @return L'URL encodée
+     */
+    public String expand(String baseUri, Object... values) {
+        if (values.length != queryValues.length) {
+            throw new IllegalArgumentException("Expected " + queryValues.length + " values, got " + values.length);
+        }
+        StringBuilder href = new StringBuilder(baseUri.length() + 64).append(baseUri).append(literals[0]);
+        for (int i = 0; i < values.length; i++) {
+            String value = String.valueOf(values[i]);
+            href.append(queryValues[i]
+                    ? UriUtils.encodeQueryParam(value, StandardCharsets.UTF_8)
+                    : UriUtils.encodePathSegment(value, StandardCharsets.UTF_8));
+            href.append(literals[i + 1]);
+        }
+        return href.toString();
+    }
+
+    private static String mappingPath(RequestMapping mapping) {
+        if (mapping == null || mapping.path().length == 0) {
+            return "";
+        }
+        return mapping.path()[0];
+    }
+}
@@ -0,0 +1,82 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.hateoas;
+
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.UserController;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Liens HATEOAS des réponses de {@link UserController}, à partir de modèles calculés au démarrage.
+ * <p>
+ * L'origine de la requête n'est résolue qu'une fois par réponse ({@link #baseUri()}), y compris pour
+ * une collection. Un client peut se passer des liens avec l'en-tête {@code Prefer: return=minimal} (RFC 7240).
+ * La réponse porte alors {@code Preference-Applied}, et toujours {@code Vary: Prefer} pour les caches partagés.
+ */
+@Component
+public class UserLinks {
+
+    public static final String PREFER_HEADER = "Prefer";
+    public static final String RETURN_MINIMAL = "return=minimal";
+    public static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+
+    private final LinkTemplate userById = LinkTemplate.of(UserController.class, "getUserById", String.class);
+    private final LinkTemplate allUsers = LinkTemplate.of(UserController.class, "getAllUsers");
+    private final LinkTemplate byEmail = LinkTemplate.of(UserController.class, "getUserByEmail", String.class);
+    private final LinkTemplate byLogin = LinkTemplate.of(UserController.class, "getUserByLogin", String.class);
+
+    /**
+     * Indique si la requête courante accepte des liens dans la réponse, et signale sur la réponse
+     * que la représentation dépend de {@code Prefer}.
+     */
+    public boolean requested() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return true;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        String prefer = request.getHeader(PREFER_HEADER);
+        boolean minimal = prefer != null && prefer.contains(RETURN_MINIMAL);
+
+        HttpServletResponse response = servletAttributes.getResponse();
+        if (response != null) {
+            // Appelée une fois par ressource d'une collection : en-têtes posés une seule fois
+            if (!response.getHeaders(HttpHeaders.VARY).contains(PREFER_HEADER)) {
+                response.addHeader(HttpHeaders.VARY, PREFER_HEADER);
+            }
+            if (minimal) {
+                response.setHeader(PREFERENCE_APPLIED_HEADER, RETURN_MINIMAL);
+            }
+        }
+        return !minimal;
+    }
+
+    /**
+     * Origine et chemin de contexte de la requête courante, comme les calcule {@code linkTo}.
+     */
+    public String baseUri() {
+        return ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+    }
+
+    public Link userById(String baseUri, String userId) {
+        return Link.of(userById.expand(baseUri, userId), IanaLinkRelations.SELF);
+    }
+
+    public Link allUsers(String baseUri) {
+        return Link.of(allUsers.expand(baseUri), IanaLinkRelations.SELF);
+    }
+
+    public Link searchByEmail(String baseUri, String email) {
+        return Link.of(byEmail.expand(baseUri, email), "search-by-email");
+    }
+
+    public Link searchByLogin(String baseUri, String login) {
+        return Link.of(byLogin.expand(baseUri, login), "search-by-login");
+    }
+}
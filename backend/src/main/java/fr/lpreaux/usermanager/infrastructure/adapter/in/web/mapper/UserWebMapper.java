@@ -2,9 +2,14 @@ package fr.lpreaux.usermanager.infrastructure.adapter.in.web.mapper;
 
 import fr.lpreaux.usermanager.application.port.in.RegisterUserUseCase.RegisterUserCommand;
 import fr.lpreaux.usermanager.application.port.in.UpdateUserUseCase.*;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.MatchMode;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.SortField;
 import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserDetailsDTO;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserSearchCriteria;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserSuggestionDTO;
 import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.request.*;
 import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.response.UserResponse;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.response.UserSuggestionResponse;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -15,6 +20,8 @@ import java.util.List;
 @Component
 public class UserWebMapper {
 
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+
     /**
      * Converts a RegisterUserRequest to RegisterUserCommand.
      */
@@ -30,6 +37,31 @@ public class UserWebMapper {
         );
     }
 
+    /**
+     * Converts a SearchUsersRequest to UserSearchCriteria.
+     */
+    public UserSearchCriteria toSearchCriteria(SearchUsersRequest request) {
+        SortField sortBy = request.sort() == null ? SortField.LOGIN : switch (request.sort()) {
+            case "lastName" -> SortField.LAST_NAME;
+            case "birthDate" -> SortField.BIRTH_DATE;
+            case "login" -> SortField.LOGIN;
+            default -> throw new IllegalArgumentException("Unsupported sort: " + request.sort());
+        };
+        return new UserSearchCriteria(
+                request.login(),
+                request.name(),
+                request.email(),
+                "contains".equals(request.match()) ? MatchMode.CONTAINS : MatchMode.PREFIX,
+                request.minAge(),
+                request.maxAge(),
+                request.role(),
+                sortBy,
+                "desc".equals(request.direction()),
+                request.cursor(),
+                request.limit() != null ? request.limit() : DEFAULT_SEARCH_LIMIT
+        );
+    }
+
     /**
      * Converts UserDetailsDTO to UserResponse.
      */
@@ -47,6 +79,19 @@ public class UserWebMapper {
         );
     }
 
+    /**
+     * Converts UserSuggestionDTO to UserSuggestionResponse.
+     */
+    public UserSuggestionResponse toUserSuggestionResponse(UserSuggestionDTO suggestion) {
+        return new UserSuggestionResponse(
+                suggestion.id(),
+                suggestion.login(),
+                suggestion.lastName(),
+                suggestion.firstName(),
+                suggestion.email()
+        );
+    }
+
     /**
      * Creates UpdatePersonalInfoCommand from request and user ID.
      */
@@ -0,0 +1,67 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Réserve la validation groupée de tokens aux services authentifiés.
+ * <p>
+ * Comme l'introspection, l'appelant s'authentifie en HTTP Basic avec l'identifiant client
+ * {@code security.introspection.client-id} : sans identifiants configurés, l'endpoint est fermé.
+ * La vérification a lieu avant la lecture du corps, qui peut contenir jusqu'à
+ * {@link fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase#MAX_BATCH_SIZE} tokens.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@Slf4j
+public class BatchValidationClientFilter extends OncePerRequestFilter {
+
+    public static final String BATCH_VALIDATION_PATH = "/api/v1/auth/validate/batch";
+
+    private static final byte[] INVALID_CLIENT_BODY = "{\"error\":\"invalid_client\"}".getBytes(StandardCharsets.US_ASCII);
+
+    private final ServiceClientCredentials credentials;
+
+    public BatchValidationClientFilter(
+            @Value("${security.introspection.client-id:}") String clientId,
+            @Value("${security.introspection.client-secret:}") String clientSecret) {
+        this.credentials = new ServiceClientCredentials(clientId, clientSecret);
+        if (!credentials.isConfigured()) {
+            log.info("Batch token validation disabled: no service client credentials configured");
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !BATCH_VALIDATION_PATH.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!credentials.matches(request.getHeader(HttpHeaders.AUTHORIZATION))) {
+            log.warn("Batch token validation rejected: invalid client credentials from {}", request.getRemoteAddr());
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"token-validation\"");
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(INVALID_CLIENT_BODY.length);
+            response.getOutputStream().write(INVALID_CLIENT_BODY);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
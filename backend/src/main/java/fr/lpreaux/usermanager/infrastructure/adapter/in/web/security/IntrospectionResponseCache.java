@@ -0,0 +1,156 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cache borné des réponses d'introspection pré-sérialisées, indexé par l'empreinte SHA-256 du token.
+ * <p>
+ * Les tokens eux-mêmes ne sont jamais conservés. Une entrée expire au plus tôt entre la fin de sa
+ * durée de vie et l'expiration du token. À saturation, une seule entrée est évincée, celle qui expire
+ * le plus tôt dans un échantillon borné ; les entrées expirées sont purgées hors du chemin des requêtes
+ * ({@link #removeExpired}).
+ */
+final class IntrospectionResponseCache {
+
+    /**
+     * Réponse active pré-sérialisée.
+     *
+     * @param body Corps JSON
+     * @param etag ETag fort, entre guillemets
+     * @param expiresAtMs Fin de validité de l'entrée
+     */
+    record Entry(byte[] body, String etag, long expiresAtMs) {
+
+        boolean isExpired(long nowMs) {
+            return nowMs >= expiresAtMs;
+        }
+
+        /**
+         * Durée restante, en secondes, à annoncer dans {@code Cache-Control: max-age}.
+         */
+        long maxAgeSeconds(long nowMs) {
+            return Math.max(0, (expiresAtMs - nowMs) / 1000);
+        }
+    }
+
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlMs;
+
+    IntrospectionResponseCache(int maxEntries, long ttlMs) {
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Empreinte utilisée comme clé : SHA-256 encodé en Base64URL (43 caractères).
+     */
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    Entry get(String key, long nowMs) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(nowMs)) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Met en cache une réponse active pour un token expirant à {@code tokenExpiresAtMs}.
+     */
+    Entry put(String key, byte[] body, long tokenExpiresAtMs, long nowMs) {
+        Entry entry = new Entry(body, etag(body), Math.min(nowMs + ttlMs, tokenExpiresAtMs));
+        if (entry.isExpired(nowMs)) {
+            return entry;
+        }
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            evictOne();
+        }
+        entries.put(key, entry);
+        return entry;
+    }
+
+    /**
+     * Purge les entrées expirées ; appelé périodiquement, jamais lors d'une requête.
+     */
+    void removeExpired(long nowMs) {
+        entries.values().removeIf(entry -> entry.isExpired(nowMs));
+    }
+
+    /**
+     * Évince l'entrée expirant le plus tôt d'un échantillon pris à un endroit aléatoire de la table,
+     * comme {@code RedisKeyPresenceCache} : coût borné, sans chute du taux de succès.
+     */
+    private void evictOne() {
+        // Découpage aléatoire du parcours : l'échantillon ne commence pas toujours au début de la table
+        Spliterator<Map.Entry<String, Entry>> spliterator = entries.entrySet().spliterator();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (spliterator.estimateSize() > 4L * EVICTION_SAMPLE_SIZE) {
+            Spliterator<Map.Entry<String, Entry>> prefix = spliterator.trySplit();
+            if (prefix == null) {
+                break;
+            }
+            if (random.nextBoolean()) {
+                spliterator = prefix;
+            }
+        }
+
+        List<Map.Entry<String, Entry>> sample = new ArrayList<>(EVICTION_SAMPLE_SIZE);
+        while (sample.size() < EVICTION_SAMPLE_SIZE && spliterator.tryAdvance(sample::add)) {
+            // l'échantillon est rempli par tryAdvance
+        }
+
+        Map.Entry<String, Entry> victim = null;
+        for (Map.Entry<String, Entry> candidate : sample) {
+            if (victim == null || candidate.getValue().expiresAtMs() < victim.getValue().expiresAtMs()) {
+                victim = candidate;
+            }
+        }
+        if (victim != null) {
+            entries.remove(victim.getKey(), victim.getValue());
+            return;
+        }
+        // Portion tirée vide : première entrée de la table
+        for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+            if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                return;
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 8) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package fr.lpreaux.usermanager.infrastructure.adapter.in.web.security;
 import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
 import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase;
 import fr.lpreaux.usermanager.application.port.out.TokenBlacklistRepository;
+import fr.lpreaux.usermanager.infrastructure.security.AuthorityCatalog;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,7 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -19,8 +20,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Filtre d'authentification JWT qui traite les tokens dans les headers HTTP.
@@ -32,6 +31,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final AuthenticationUseCase authenticationUseCase;
     private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final AuthorityCatalog authorityCatalog;
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
@@ -63,11 +63,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Valider le token JWT
             AuthenticationUseCase.AuthenticationResultDTO authResult = authenticationUseCase.validateToken(jwt);
 
-            // Créer une collection d'autorités à partir des rôles et permissions
-            Collection<SimpleGrantedAuthority> authorities = Stream.concat(
-                    authResult.roles().stream().map(role -> new SimpleGrantedAuthority("ROLE_" + role)),
-                    authResult.permissions().stream().map(SimpleGrantedAuthority::new)
-            ).collect(Collectors.toList());
+            // Collection d'autorités partagée par toutes les requêtes ayant la même combinaison de droits
+            Collection<GrantedAuthority> authorities = authorityCatalog.authoritiesFor(
+                    authResult.roles(),
+                    authResult.permissions()
+            );
 
             // Créer l'authentification Spring Security
             UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
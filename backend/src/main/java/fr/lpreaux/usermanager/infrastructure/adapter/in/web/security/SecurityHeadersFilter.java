@@ -65,6 +65,14 @@ public class SecurityHeadersFilter extends OncePerRequestFilter {
             "/management"
     ));
 
+    /**
+     * L'introspection est réservée aux appels machine à machine authentifiés : ni analyse XSS, ni en-têtes navigateur.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return TokenIntrospectionFilter.INTROSPECTION_PATH.equals(request.getServletPath());
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
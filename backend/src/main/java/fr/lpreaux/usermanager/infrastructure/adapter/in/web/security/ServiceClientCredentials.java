@@ -0,0 +1,37 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Identifiants HTTP Basic des services appelant les endpoints machine à machine
+ * (introspection, validation groupée, {@code AuthService} gRPC), comparés en temps constant.
+ */
+public final class ServiceClientCredentials {
+
+    private final byte[] expectedAuthorization;
+
+    public ServiceClientCredentials(String clientId, String clientSecret) {
+        this.expectedAuthorization = clientId.isBlank() || clientSecret.isBlank()
+                ? null
+                : ("Basic " + Base64.getEncoder().encodeToString(
+                        (clientId + ":" + clientSecret).getBytes(StandardCharsets.UTF_8))).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Indique si un identifiant et un secret sont configurés.
+     */
+    public boolean isConfigured() {
+        return expectedAuthorization != null;
+    }
+
+    /**
+     * Vérifie l'en-tête {@code Authorization} présenté ; toujours faux sans identifiants configurés.
+     */
+    public boolean matches(String authorization) {
+        return expectedAuthorization != null
+                && authorization != null
+                && MessageDigest.isEqual(expectedAuthorization, authorization.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,180 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.AuthenticationResultDTO;
+import fr.lpreaux.usermanager.application.port.out.TokenBlacklistRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint d'introspection de token (RFC 7662) destiné à la passerelle et aux sidecars.
+ * <p>
+ * Traité directement par ce filtre, placé avant la chaîne Spring Security et le {@code DispatcherServlet} :
+ * ni analyse XSS de {@link SecurityHeadersFilter}, ni intercepteur d'analytics, ni HATEOAS.
+ * L'appelant s'authentifie en HTTP Basic avec l'identifiant client configuré.
+ * <p>
+ * La liste noire est consultée à chaque appel ; la validation du token et la sérialisation de la
+ * réponse sont mises en cache ({@code security.introspection.cache.ttl}). Une révocation par époque
+ * est donc prise en compte au plus tard à l'expiration de l'entrée.
+ * <p>
+ * L'introspection étant un POST, ni {@code If-None-Match} ni le cache des intermédiaires ne s'appliquent
+ * (RFC 9110 §13.1.2) : la réponse est toujours un 200 avec son corps. L'ETag et {@code max-age} sont
+ * informatifs, pour un appelant qui conserve lui-même les réponses.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(name = "security.introspection.enabled", havingValue = "true")
+@Slf4j
+public class TokenIntrospectionFilter extends OncePerRequestFilter {
+
+    public static final String INTROSPECTION_PATH = "/api/v1/auth/introspect";
+
+    private static final byte[] INACTIVE_BODY = "{\"active\":false}".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] INVALID_REQUEST_BODY = "{\"error\":\"invalid_request\"}".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] INVALID_CLIENT_BODY = "{\"error\":\"invalid_client\"}".getBytes(StandardCharsets.US_ASCII);
+
+    private final AuthenticationUseCase authenticationUseCase;
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final ObjectMapper objectMapper;
+    private final ServiceClientCredentials credentials;
+    private final IntrospectionResponseCache cache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TokenIntrospectionFilter(
+            AuthenticationUseCase authenticationUseCase,
+            TokenBlacklistRepository tokenBlacklistRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${security.introspection.client-id}") String clientId,
+            @Value("${security.introspection.client-secret}") String clientSecret,
+            @Value("${security.introspection.cache.max-entries:50000}") int maxEntries,
+            @Value("${security.introspection.cache.ttl:5s}") Duration ttl) {
+        this.credentials = new ServiceClientCredentials(clientId, clientSecret);
+        if (!credentials.isConfigured()) {
+            throw new IllegalStateException("Token introspection requires a client id and secret");
+        }
+        this.authenticationUseCase = authenticationUseCase;
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+        this.objectMapper = objectMapper;
+        this.cache = new IntrospectionResponseCache(maxEntries, ttl.toMillis());
+
+        this.hitCounter = Counter.builder("app.security.introspection.cache.hits")
+                .description("Introspection responses served from the local cache")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("app.security.introspection.cache.misses")
+                .description("Introspection requests requiring token validation")
+                .register(meterRegistry);
+        Gauge.builder("app.security.introspection.cache.size", cache, IntrospectionResponseCache::size)
+                .description("Number of introspection responses held in the local cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !INTROSPECTION_PATH.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws IOException {
+        if (!"POST".equals(request.getMethod())) {
+            response.setHeader(HttpHeaders.ALLOW, "POST");
+            response.setStatus(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        if (!credentials.matches(request.getHeader(HttpHeaders.AUTHORIZATION))) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"introspection\"");
+            write(response, HttpServletResponse.SC_UNAUTHORIZED, INVALID_CLIENT_BODY, "no-store");
+            return;
+        }
+
+        String token = request.getParameter("token");
+        if (token == null || token.isBlank()) {
+            write(response, HttpServletResponse.SC_BAD_REQUEST, INVALID_REQUEST_BODY, "no-store");
+            return;
+        }
+
+        if (tokenBlacklistRepository.isBlacklisted(token)) {
+            write(response, HttpServletResponse.SC_OK, INACTIVE_BODY, "no-store");
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        String key = IntrospectionResponseCache.digest(token);
+        IntrospectionResponseCache.Entry entry = cache.get(key, now);
+        if (entry != null) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+            AuthenticationResultDTO result;
+            try {
+                result = authenticationUseCase.validateTokenClaims(token);
+            } catch (InvalidTokenException e) {
+                write(response, HttpServletResponse.SC_OK, INACTIVE_BODY, "no-store");
+                return;
+            }
+            entry = cache.put(key, objectMapper.writeValueAsBytes(activeResponse(result)), result.expiresAt(), now);
+        }
+
+        response.setHeader(HttpHeaders.ETAG, entry.etag());
+        write(response, HttpServletResponse.SC_OK, entry.body(), "private, max-age=" + entry.maxAgeSeconds(now));
+    }
+
+    /**
+     * Purge des réponses expirées, hors du chemin des requêtes.
+     */
+    @Scheduled(fixedRateString = "${security.introspection.cache.sweep-interval-ms:30000}",
+            initialDelayString = "${security.introspection.cache.sweep-interval-ms:30000}")
+    public void removeExpiredResponses() {
+        cache.removeExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * Réponse RFC 7662 : {@code exp} en secondes, rôles et permissions en extension.
+     */
+    private static Map<String, Object> activeResponse(AuthenticationResultDTO result) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("active", true);
+        body.put("token_type", "Bearer");
+        body.put("sub", result.userId());
+        body.put("username", result.login());
+        body.put("exp", result.expiresAt() / 1000);
+        body.put("roles", result.roles());
+        body.put("permissions", result.permissions());
+        return body;
+    }
+
+    private static void write(HttpServletResponse response, int status, byte[] body, String cacheControl)
+            throws IOException {
+        response.setStatus(status);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,261 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.out.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.lpreaux.usermanager.application.port.out.UserRepository;
+import fr.lpreaux.usermanager.application.port.out.UserRepository.SearchableUser;
+import fr.lpreaux.usermanager.application.port.out.UserSearchIndex;
+import fr.lpreaux.usermanager.domain.model.User;
+import fr.lpreaux.usermanager.domain.model.valueobject.Email;
+import fr.lpreaux.usermanager.domain.model.valueobject.UserId;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Index d'autocomplétion en mémoire ({@link TypeaheadIndex}), une copie par instance.
+ * <p>
+ * Reconstruit au démarrage par un parcours de {@link UserRepository} dont les lots sont découpés en
+ * parallèle, puis tenu à jour par {@code UserService} après la validation de chaque transaction.
+ * Les compactions du delta s'exécutent sur un thread dédié.
+ * <p>
+ * Chaque modification est diffusée aux autres instances par pub/sub Redis, comme les époques de
+ * tokens ; une instance ignore ses propres messages, déjà appliqués localement. Une notification
+ * perdue pendant une coupure du pub/sub n'est rattrapée qu'à la reconstruction suivante (redémarrage).
+ * Avec {@code search.typeahead.broadcast=false}, l'index ne reflète que les écritures reçues par
+ * l'instance : réservé aux déploiements mono-instance.
+ */
+@Component
+@Slf4j
+public class InMemoryUserSearchIndexAdapter implements UserSearchIndex, MessageListener {
+
+    static final String CHANNEL = "typeahead_index_updates";
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean broadcast;
+    private final int scanBatchSize;
+    private final int compactionThreshold;
+
+    private final TypeaheadIndex typeahead = new TypeaheadIndex();
+    private final ExecutorService maintenance = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("typeahead-index").daemon().factory());
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+
+    // Identifie les messages émis par cette instance
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public InMemoryUserSearchIndexAdapter(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${search.typeahead.enabled:true}") boolean enabled,
+            @Value("${search.typeahead.broadcast:true}") boolean broadcast,
+            @Value("${search.typeahead.scan-batch-size:5000}") int scanBatchSize,
+            @Value("${search.typeahead.compaction-threshold:50000}") int compactionThreshold) {
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.broadcast = broadcast;
+        this.scanBatchSize = scanBatchSize;
+        this.compactionThreshold = compactionThreshold;
+
+        Gauge.builder("app.search.typeahead.documents", typeahead, TypeaheadIndex::size)
+                .description("Number of users held in the typeahead index")
+                .register(meterRegistry);
+        Gauge.builder("app.search.typeahead.pending_changes", typeahead, TypeaheadIndex::pendingChanges)
+                .description("Changes not yet merged into the typeahead base segment")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        if (broadcast) {
+            // Abonnement avant la reconstruction : les modifications reçues pendant le parcours sont conservées
+            try {
+                listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+            } catch (RuntimeException e) {
+                log.warn("Unable to subscribe to typeahead index updates: {}", e.getMessage());
+            }
+        }
+        maintenance.execute(this::rebuild);
+    }
+
+    /**
+     * Reconstruit l'index depuis la base ; les écritures reçues pendant le parcours sont conservées.
+     */
+    public void rebuild() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        TypeaheadIndex.Rebuild rebuild = typeahead.startRebuild(ForkJoinPool.commonPool());
+        try {
+            userRepository.scanSearchableUsers(scanBatchSize,
+                    batch -> rebuild.add(batch.stream().map(InMemoryUserSearchIndexAdapter::toDocument).toList()));
+            rebuild.publish();
+            long elapsed = sample.stop(Timer.builder("app.search.typeahead.rebuild")
+                    .description("Duration of full typeahead index rebuilds")
+                    .register(meterRegistry));
+            log.info("Typeahead index rebuilt with {} users in {} ms",
+                    typeahead.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        } catch (RuntimeException e) {
+            rebuild.abort();
+            log.error("Typeahead index rebuild failed, suggestions are limited to recent changes", e);
+        }
+    }
+
+    @Override
+    public List<Suggestion> suggest(String prefix, int limit) {
+        if (!enabled) {
+            return List.of();
+        }
+        return typeahead.search(prefix, limit).stream()
+                .map(match -> new Suggestion(match.id().toString(), match.login(), match.lastName(),
+                        match.firstName(), match.email()))
+                .toList();
+    }
+
+    @Override
+    public void index(User user) {
+        if (!enabled) {
+            return;
+        }
+        TypeaheadIndex.Document document = new TypeaheadIndex.Document(
+                user.getId().getValue(),
+                user.getLogin().getValue(),
+                user.getLastName().getValue(),
+                user.getFirstName().getValue(),
+                user.getEmails().stream().map(Email::getValue).toList());
+        afterCommit(() -> {
+            typeahead.put(document);
+            publish(new IndexChange(instanceId, document.id(), document));
+        });
+    }
+
+    @Override
+    public void remove(UserId userId) {
+        if (enabled) {
+            afterCommit(() -> {
+                typeahead.remove(userId.getValue());
+                publish(new IndexChange(instanceId, userId.getValue(), null));
+            });
+        }
+    }
+
+    /**
+     * Applique une modification diffusée par une autre instance.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        IndexChange change;
+        try {
+            change = objectMapper.readValue(message.getBody(), IndexChange.class);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed typeahead index update: {}", e.getMessage());
+            return;
+        }
+        if (!enabled || instanceId.equals(change.origin()) || change.id() == null) {
+            return;
+        }
+        if (change.document() != null) {
+            typeahead.put(change.document());
+        } else {
+            typeahead.remove(change.id());
+        }
+        scheduleCompactionIfNeeded();
+    }
+
+    @PreDestroy
+    public void stop() {
+        maintenance.shutdownNow();
+    }
+
+    /**
+     * Applique la modification à la validation de la transaction courante, immédiatement hors transaction.
+     * Une transaction annulée ne laisse donc aucune trace dans l'index.
+     */
+    private void afterCommit(Runnable change) {
+        Runnable apply = () -> {
+            change.run();
+            scheduleCompactionIfNeeded();
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    private void publish(IndexChange change) {
+        if (!broadcast) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(change));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // L'écriture est validée : les autres instances la verront à leur prochaine reconstruction
+            log.warn("Unable to broadcast typeahead index update for user {}: {}", change.id(), e.getMessage());
+        }
+    }
+
+    private void scheduleCompactionIfNeeded() {
+        if (typeahead.pendingChanges() < compactionThreshold || !compactionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        maintenance.execute(() -> {
+            try {
+                typeahead.compact(ForkJoinPool.commonPool());
+                log.debug("Typeahead index compacted ({} users)", typeahead.size());
+            } finally {
+                compactionScheduled.set(false);
+            }
+        });
+    }
+
+    private static TypeaheadIndex.Document toDocument(SearchableUser user) {
+        return new TypeaheadIndex.Document(user.id(), user.login(), user.lastName(), user.firstName(), user.emails());
+    }
+
+    /**
+     * Modification diffusée : document à indexer, ou {@code null} pour une suppression.
+     */
+    record IndexChange(String origin, UUID id, TypeaheadIndex.Document document) {
+    }
+}
@@ -0,0 +1,602 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.out.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+/**
+ * Index de préfixes en mémoire pour l'autocomplétion sur les logins, noms, prénoms et emails.
+ * <p>
+ * Les termes (valeur complète et chacun de ses mots, sans accents, en minuscules) sont rangés dans un
+ * segment de base immuable : UTF-8 concaténé et trié, ce qui ramène une recherche à une recherche
+ * dichotomique suivie d'un parcours contigu. Les écritures depuis la dernière compaction vont dans un
+ * delta trié concurrent ; les documents remplacés ou supprimés du segment sont marqués par leur ordinal.
+ * Les lectures ne prennent aucun verrou ; écritures, compaction et publication d'une reconstruction
+ * sont sérialisées.
+ * <p>
+ * Classement : correspondance exacte avant préfixe, puis login, nom, prénom, email, puis terme le plus
+ * court. Pour un préfixe très court, le classement porte sur les {@value #MAX_SCANNED_TERMS} premiers
+ * termes correspondants dans l'ordre lexicographique.
+ */
+public final class TypeaheadIndex {
+
+    /**
+     * Champs indexés, par priorité de classement décroissante.
+     */
+    public enum Field { LOGIN, LAST_NAME, FIRST_NAME, EMAIL }
+
+    public record Document(UUID id, String login, String lastName, String firstName, List<String> emails) {
+    }
+
+    public record Match(UUID id, String login, String lastName, String firstName, String email, Field field) {
+    }
+
+    static final int MAX_SCANNED_TERMS = 4_096;
+
+    private static final Field[] FIELDS = Field.values();
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[\\s._'-]+");
+    private static final Comparator<Document> BY_ID =
+            (left, right) -> compareIds(left.id().getMostSignificantBits(), left.id().getLeastSignificantBits(),
+                    right.id().getMostSignificantBits(), right.id().getLeastSignificantBits());
+
+    private final Object writeLock = new Object();
+    private volatile State state = new State(Segment.EMPTY);
+    private Rebuild activeRebuild;
+
+    /**
+     * Suggestions pour un préfixe saisi.
+     *
+     * @param prefix Le début saisi, sans contrainte de casse ni d'accents
+     * @param limit Le nombre maximum de suggestions
+     * @return Les utilisateurs correspondants, les plus pertinents d'abord
+     */
+    public List<Match> search(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        byte[] key = normalized.getBytes(StandardCharsets.UTF_8);
+        State current = state;
+        Segment base = current.base;
+        Map<Integer, Candidate> best = new HashMap<>();
+
+        int scanned = 0;
+        for (int i = base.lowerBound(key); i < base.termCount() && scanned < MAX_SCANNED_TERMS
+                && base.startsWith(i, key); i++, scanned++) {
+            int doc = base.docs[i];
+            if (!current.deleted.contains(doc)) {
+                consider(best, new Candidate(doc, rank(FIELDS[base.fields[i]], base.termLength(i) == key.length),
+                        base.termLength(i)));
+            }
+        }
+        for (Term term : current.deltaTerms.tailSet(new Term(key, (byte) 0, Integer.MIN_VALUE))) {
+            if (scanned++ >= MAX_SCANNED_TERMS || !term.startsWith(key)) {
+                break;
+            }
+            consider(best, new Candidate(term.doc, rank(FIELDS[term.field], term.bytes.length == key.length),
+                    term.bytes.length));
+        }
+
+        return best.values().stream()
+                .sorted()
+                .limit(limit)
+                .map(candidate -> toMatch(current, candidate))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Ajoute ou remplace un document.
+     */
+    public void put(Document document) {
+        synchronized (writeLock) {
+            putLocked(state, document);
+            if (activeRebuild != null) {
+                activeRebuild.journal.add(document);
+            }
+        }
+    }
+
+    /**
+     * Retire un document ; sans effet s'il n'est pas indexé.
+     */
+    public void remove(UUID id) {
+        synchronized (writeLock) {
+            removeLocked(state, id);
+            if (activeRebuild != null) {
+                activeRebuild.journal.add(id);
+            }
+        }
+    }
+
+    /**
+     * Nombre de documents indexés.
+     */
+    public int size() {
+        State current = state;
+        return current.base.docCount() - current.deleted.size() + current.deltaDocs.size();
+    }
+
+    /**
+     * Taille du delta (termes ajoutés et documents du segment retirés) depuis la dernière compaction.
+     */
+    public int pendingChanges() {
+        State current = state;
+        return current.deltaTermCount + current.deleted.size();
+    }
+
+    /**
+     * Fusionne le delta dans un nouveau segment de base. Les écritures attendent la fin de la compaction,
+     * les lectures continuent sur l'état courant. Sans effet pendant une reconstruction.
+     *
+     * @param executor L'exécuteur des tâches de découpage en termes
+     */
+    public void compact(Executor executor) {
+        synchronized (writeLock) {
+            if (activeRebuild != null) {
+                return;
+            }
+            State current = state;
+            Rebuild rebuild = new Rebuild(executor);
+            List<Document> batch = new ArrayList<>();
+            for (int doc = 0; doc < current.base.docCount(); doc++) {
+                if (!current.deleted.contains(doc)) {
+                    batch.add(decode(current.base.documents[doc]));
+                    batch = rebuild.addIfFull(batch);
+                }
+            }
+            for (byte[] encoded : current.deltaDocs.values()) {
+                batch.add(decode(encoded));
+                batch = rebuild.addIfFull(batch);
+            }
+            rebuild.add(batch);
+            state = new State(rebuild.build());
+        }
+    }
+
+    /**
+     * Démarre une reconstruction complète. Les lots sont découpés en termes en parallèle pendant le
+     * parcours ; les écritures reçues d'ici la publication sont rejouées sur le nouvel index.
+     *
+     * @param executor L'exécuteur des tâches de découpage en termes
+     * @return La reconstruction, à alimenter puis publier
+     */
+    public Rebuild startRebuild(Executor executor) {
+        synchronized (writeLock) {
+            if (activeRebuild != null) {
+                throw new IllegalStateException("A rebuild is already in progress");
+            }
+            activeRebuild = new Rebuild(executor);
+            return activeRebuild;
+        }
+    }
+
+    /**
+     * Reconstruction en cours : lots de documents découpés en termes au fil de l'eau.
+     */
+    public final class Rebuild {
+
+        private static final int BATCH_SIZE = 10_000;
+
+        private final Executor executor;
+        private final List<CompletableFuture<Batch>> batches = new ArrayList<>();
+        private final Queue<Object> journal = new ConcurrentLinkedQueue<>();
+
+        private Rebuild(Executor executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * Ajoute un lot de documents ; le découpage en termes est lancé immédiatement.
+         */
+        public void add(List<Document> documents) {
+            if (!documents.isEmpty()) {
+                List<Document> copy = List.copyOf(documents);
+                batches.add(CompletableFuture.supplyAsync(() -> Batch.of(copy), executor));
+            }
+        }
+
+        /**
+         * Remplace l'index par le résultat de la reconstruction, puis rejoue les écritures reçues entre-temps.
+         */
+        public void publish() {
+            Segment segment = build();
+            synchronized (writeLock) {
+                State next = new State(segment);
+                for (Object operation : journal) {
+                    if (operation instanceof Document document) {
+                        putLocked(next, document);
+                    } else {
+                        removeLocked(next, (UUID) operation);
+                    }
+                }
+                state = next;
+                activeRebuild = null;
+            }
+        }
+
+        /**
+         * Abandonne la reconstruction ; l'index courant est conservé.
+         */
+        public void abort() {
+            synchronized (writeLock) {
+                if (activeRebuild == this) {
+                    activeRebuild = null;
+                }
+            }
+        }
+
+        private List<Document> addIfFull(List<Document> batch) {
+            if (batch.size() < BATCH_SIZE) {
+                return batch;
+            }
+            add(batch);
+            return new ArrayList<>();
+        }
+
+        private Segment build() {
+            List<Batch> parts = batches.stream().map(CompletableFuture::join).toList();
+            return Segment.of(parts);
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = value.strip();
+        if (stripped.chars().allMatch(c -> c < 0x80)) {
+            // Cas le plus fréquent (logins, emails) : pas de décomposition nécessaire
+            return stripped.toLowerCase(Locale.ROOT);
+        }
+        return MARKS.matcher(Normalizer.normalize(stripped, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private void putLocked(State target, Document document) {
+        removeLocked(target, document.id());
+        int ordinal = target.nextOrdinal++;
+        // Document visible avant ses termes : un terme trouvé a toujours son document
+        target.deltaDocs.put(ordinal, encode(document));
+        target.deltaIds.put(document.id(), ordinal);
+        for (Map.Entry<String, Field> term : terms(document).entrySet()) {
+            target.deltaTerms.add(new Term(term.getKey().getBytes(StandardCharsets.UTF_8),
+                    (byte) term.getValue().ordinal(), ordinal));
+            target.deltaTermCount++;
+        }
+    }
+
+    private void removeLocked(State target, UUID id) {
+        Integer deltaOrdinal = target.deltaIds.remove(id);
+        if (deltaOrdinal != null) {
+            byte[] encoded = target.deltaDocs.get(deltaOrdinal);
+            for (Map.Entry<String, Field> term : terms(decode(encoded)).entrySet()) {
+                target.deltaTerms.remove(new Term(term.getKey().getBytes(StandardCharsets.UTF_8),
+                        (byte) term.getValue().ordinal(), deltaOrdinal));
+                target.deltaTermCount--;
+            }
+            target.deltaDocs.remove(deltaOrdinal);
+        }
+        int baseOrdinal = target.base.ordinalOf(id);
+        if (baseOrdinal >= 0) {
+            target.deleted.add(baseOrdinal);
+        }
+    }
+
+    private static void consider(Map<Integer, Candidate> best, Candidate candidate) {
+        best.merge(candidate.doc, candidate, (existing, replacement) ->
+                replacement.compareTo(existing) < 0 ? replacement : existing);
+    }
+
+    private static int rank(Field field, boolean exact) {
+        return (exact ? 0 : FIELDS.length) + field.ordinal();
+    }
+
+    private static Match toMatch(State current, Candidate candidate) {
+        byte[] encoded = candidate.doc < current.base.docCount()
+                ? current.base.documents[candidate.doc]
+                : current.deltaDocs.get(candidate.doc);
+        if (encoded == null) {
+            // Retiré pendant la recherche
+            return null;
+        }
+        Document document = decode(encoded);
+        return new Match(document.id(), document.login(), document.lastName(), document.firstName(),
+                document.emails().isEmpty() ? null : document.emails().getFirst(),
+                FIELDS[candidate.rank % FIELDS.length]);
+    }
+
+    /**
+     * Termes d'un document, chacun associé à son champ le plus prioritaire.
+     */
+    static Map<String, Field> terms(Document document) {
+        Map<Field, List<String>> values = new EnumMap<>(Field.class);
+        values.put(Field.LOGIN, List.of(document.login()));
+        values.put(Field.LAST_NAME, List.of(document.lastName()));
+        values.put(Field.FIRST_NAME, List.of(document.firstName()));
+        values.put(Field.EMAIL, document.emails());
+
+        Map<String, Field> terms = new HashMap<>();
+        values.forEach((field, fieldValues) -> {
+            for (String value : fieldValues) {
+                String normalized = normalize(value);
+                if (normalized.isEmpty()) {
+                    continue;
+                }
+                terms.putIfAbsent(normalized, field);
+                // Les emails ne sont cherchés que par leur début
+                if (field != Field.EMAIL) {
+                    for (String word : WORD_SEPARATOR.split(normalized)) {
+                        if (!word.isEmpty()) {
+                            terms.putIfAbsent(word, field);
+                        }
+                    }
+                }
+            }
+        });
+        return terms;
+    }
+
+    static byte[] encode(Document document) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeLong(document.id().getMostSignificantBits());
+            output.writeLong(document.id().getLeastSignificantBits());
+            output.writeUTF(document.login());
+            output.writeUTF(document.lastName());
+            output.writeUTF(document.firstName());
+            output.writeByte(document.emails().size());
+            for (String email : document.emails()) {
+                output.writeUTF(email);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Document decode(byte[] encoded) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(encoded))) {
+            UUID id = new UUID(input.readLong(), input.readLong());
+            String login = input.readUTF();
+            String lastName = input.readUTF();
+            String firstName = input.readUTF();
+            int emailCount = input.readUnsignedByte();
+            List<String> emails = new ArrayList<>(emailCount);
+            for (int i = 0; i < emailCount; i++) {
+                emails.add(input.readUTF());
+            }
+            return new Document(id, login, lastName, firstName, emails);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ordre de {@code BINARY(16)} : octets non signés, poids fort d'abord.
+     */
+    private static int compareIds(long leftMsb, long leftLsb, long rightMsb, long rightLsb) {
+        int result = Long.compareUnsigned(leftMsb, rightMsb);
+        return result != 0 ? result : Long.compareUnsigned(leftLsb, rightLsb);
+    }
+
+    /**
+     * État publié : segment de base et modifications depuis sa construction.
+     */
+    private static final class State {
+
+        private final Segment base;
+        private final ConcurrentSkipListSet<Term> deltaTerms = new ConcurrentSkipListSet<>();
+        private final Map<Integer, byte[]> deltaDocs = new ConcurrentHashMap<>();
+        private final Map<UUID, Integer> deltaIds = new ConcurrentHashMap<>();
+        private final Set<Integer> deleted = ConcurrentHashMap.newKeySet();
+        // Protégés par writeLock
+        private int nextOrdinal;
+        private volatile int deltaTermCount;
+
+        private State(Segment base) {
+            this.base = base;
+            this.nextOrdinal = base.docCount();
+        }
+    }
+
+    private record Term(byte[] bytes, byte field, int doc) implements Comparable<Term> {
+
+        boolean startsWith(byte[] prefix) {
+            return bytes.length >= prefix.length && Arrays.equals(bytes, 0, prefix.length, prefix, 0, prefix.length);
+        }
+
+        @Override
+        public int compareTo(Term other) {
+            int result = Arrays.compareUnsigned(bytes, other.bytes);
+            if (result != 0) {
+                return result;
+            }
+            result = Integer.compare(doc, other.doc);
+            return result != 0 ? result : Byte.compare(field, other.field);
+        }
+    }
+
+    private record Candidate(int doc, int rank, int termLength) implements Comparable<Candidate> {
+
+        @Override
+        public int compareTo(Candidate other) {
+            int result = Integer.compare(rank, other.rank);
+            if (result != 0) {
+                return result;
+            }
+            result = Integer.compare(termLength, other.termLength);
+            return result != 0 ? result : Integer.compare(doc, other.doc);
+        }
+    }
+
+    /**
+     * Lot découpé en termes ; les ordinaux sont locaux au lot.
+     */
+    private record Batch(Document[] documents, byte[][] encoded, Term[] terms) {
+
+        static Batch of(List<Document> documents) {
+            Document[] sorted = documents.toArray(Document[]::new);
+            byte[][] encoded = new byte[sorted.length][];
+            List<Term> terms = new ArrayList<>(sorted.length * 6);
+            for (int doc = 0; doc < sorted.length; doc++) {
+                encoded[doc] = encode(sorted[doc]);
+                for (Map.Entry<String, Field> term : TypeaheadIndex.terms(sorted[doc]).entrySet()) {
+                    terms.add(new Term(term.getKey().getBytes(StandardCharsets.UTF_8),
+                            (byte) term.getValue().ordinal(), doc));
+                }
+            }
+            return new Batch(sorted, encoded, terms.toArray(Term[]::new));
+        }
+    }
+
+    /**
+     * Segment immuable : documents triés par identifiant, termes triés et concaténés.
+     */
+    private record Segment(byte[] data, int[] offsets, int[] docs, byte[] fields,
+                           long[] idMsb, long[] idLsb, byte[][] documents) {
+
+        static final Segment EMPTY = new Segment(new byte[0], new int[]{0}, new int[0], new byte[0],
+                new long[0], new long[0], new byte[0][]);
+
+        static Segment of(List<Batch> batches) {
+            int docCount = batches.stream().mapToInt(batch -> batch.documents.length).sum();
+            Document[] documents = new Document[docCount];
+            byte[][] encoded = new byte[docCount][];
+            int[] firstOrdinal = new int[batches.size()];
+            int termCount = 0;
+            int next = 0;
+            for (int b = 0; b < batches.size(); b++) {
+                Batch batch = batches.get(b);
+                firstOrdinal[b] = next;
+                System.arraycopy(batch.documents, 0, documents, next, batch.documents.length);
+                System.arraycopy(batch.encoded, 0, encoded, next, batch.encoded.length);
+                next += batch.documents.length;
+                termCount += batch.terms.length;
+            }
+
+            // Ordinaux définitifs dans l'ordre des identifiants (déjà l'ordre d'un parcours par clé primaire)
+            Integer[] byId = new Integer[docCount];
+            Arrays.setAll(byId, i -> i);
+            Arrays.parallelSort(byId, Comparator.comparing((Integer i) -> documents[i], BY_ID));
+            int[] ordinalOf = new int[docCount];
+            long[] idMsb = new long[docCount];
+            long[] idLsb = new long[docCount];
+            byte[][] sortedDocuments = new byte[docCount][];
+            for (int ordinal = 0; ordinal < docCount; ordinal++) {
+                int previous = byId[ordinal];
+                ordinalOf[previous] = ordinal;
+                idMsb[ordinal] = documents[previous].id().getMostSignificantBits();
+                idLsb[ordinal] = documents[previous].id().getLeastSignificantBits();
+                sortedDocuments[ordinal] = encoded[previous];
+            }
+
+            Term[] terms = new Term[termCount];
+            int position = 0;
+            long dataSize = 0;
+            for (int b = 0; b < batches.size(); b++) {
+                for (Term term : batches.get(b).terms) {
+                    terms[position++] = new Term(term.bytes, term.field, ordinalOf[firstOrdinal[b] + term.doc]);
+                    dataSize += term.bytes.length;
+                }
+            }
+            Arrays.parallelSort(terms);
+
+            byte[] data = new byte[Math.toIntExact(dataSize)];
+            int[] offsets = new int[termCount + 1];
+            int[] docs = new int[termCount];
+            byte[] fields = new byte[termCount];
+            int offset = 0;
+            for (int i = 0; i < termCount; i++) {
+                Term term = terms[i];
+                offsets[i] = offset;
+                System.arraycopy(term.bytes, 0, data, offset, term.bytes.length);
+                offset += term.bytes.length;
+                docs[i] = term.doc;
+                fields[i] = term.field;
+            }
+            offsets[termCount] = offset;
+
+            return new Segment(data, offsets, docs, fields, idMsb, idLsb, sortedDocuments);
+        }
+
+        int termCount() {
+            return docs.length;
+        }
+
+        int docCount() {
+            return documents.length;
+        }
+
+        int termLength(int index) {
+            return offsets[index + 1] - offsets[index];
+        }
+
+        boolean startsWith(int index, byte[] prefix) {
+            int start = offsets[index];
+            return termLength(index) >= prefix.length
+                    && Arrays.equals(data, start, start + prefix.length, prefix, 0, prefix.length);
+        }
+
+        /**
+         * Premier terme supérieur ou égal à la clé.
+         */
+        int lowerBound(byte[] key) {
+            int low = 0;
+            int high = termCount();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (Arrays.compareUnsigned(data, offsets[middle], offsets[middle + 1], key, 0, key.length) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        int ordinalOf(UUID id) {
+            long msb = id.getMostSignificantBits();
+            long lsb = id.getLeastSignificantBits();
+            int low = 0;
+            int high = docCount() - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int result = compareIds(idMsb[middle], idLsb[middle], msb, lsb);
+                if (result < 0) {
+                    low = middle + 1;
+                } else if (result > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -1;
+        }
+    }
+}
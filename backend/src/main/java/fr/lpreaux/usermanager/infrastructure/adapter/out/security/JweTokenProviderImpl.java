@@ -3,6 +3,7 @@ package fr.lpreaux.usermanager.infrastructure.adapter.out.security;
 import com.nimbusds.jose.*;
 import com.nimbusds.jose.crypto.DirectDecrypter;
 import com.nimbusds.jose.crypto.DirectEncrypter;
+import com.nimbusds.jose.util.Base64URL;
 import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
 import fr.lpreaux.usermanager.application.port.out.JwtTokenProvider;
 import fr.lpreaux.usermanager.infrastructure.monitorig.SecurityMetrics;
@@ -21,51 +22,79 @@ import java.util.function.Function;
 /**
  * Implémentation avancée de JwtTokenProvider utilisant JWE (JWT Encrypted).
  * Cette implémentation ajoute une couche de chiffrement aux tokens JWT pour plus de sécurité.
+ * Le parser jjwt et les chiffreurs nimbus sont construits une fois et partagés entre les threads.
  */
 @Component
 @Slf4j
 public class JweTokenProviderImpl implements JwtTokenProvider {
 
+    /**
+     * En-tête JWE pré-sérialisé : relu depuis sa forme Base64URL, il la conserve et n'est plus
+     * resérialisé en JSON à chaque chiffrement (ni pour le calcul de l'AAD).
+     */
+    private static final JWEHeader JWE_HEADER;
+    private static final String JWE_HEADER_PREFIX;
+
+    static {
+        try {
+            JWEHeader header = new JWEHeader.Builder(JWEAlgorithm.DIR, EncryptionMethod.A256GCM)
+                    .contentType("JWT") // Indiquer que le contenu est un JWT
+                    .build();
+            JWE_HEADER = JWEHeader.parse(header.toBase64URL());
+            JWE_HEADER_PREFIX = JWE_HEADER.toBase64URL() + ".";
+        } catch (ParseException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final SecretKey jwtKey;
-    private final byte[] encryptionKey;
     private final long tokenValidityMs;
-    private final long refreshTokenValidityMs;
     private final SecurityMetrics securityMetrics;
+    private final TokenClaimsCodec claimsCodec;
+
+    // Instances immuables et thread-safe, construites une seule fois
+    private final JwtParser jwtParser;
+    private final DirectEncrypter encrypter;
+    private final DirectDecrypter decrypter;
 
     public JweTokenProviderImpl(
             @Value("${security.jwt.token.secret-key}") String secretKey,
             @Value("${security.jwt.token.encryption-key:${security.jwt.token.secret-key}}") String encryptionKey,
             @Value("${security.jwt.token.expire-length-ms:3600000}") long tokenValidityMs,
-            @Value("${security.jwt.token.refresh-expire-length-ms:604800000}") long refreshTokenValidityMs,
-            SecurityMetrics securityMetrics) {
+            SecurityMetrics securityMetrics,
+            TokenClaimsCodec claimsCodec) {
 
         this.jwtKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-        this.encryptionKey = encryptionKey.getBytes(StandardCharsets.UTF_8);
         this.tokenValidityMs = tokenValidityMs;
-        this.refreshTokenValidityMs = refreshTokenValidityMs;
         this.securityMetrics = securityMetrics;
+        this.claimsCodec = claimsCodec;
+
+        this.jwtParser = Jwts.parser().verifyWith(jwtKey).build();
+        try {
+            byte[] key = encryptionKey.getBytes(StandardCharsets.UTF_8);
+            this.encrypter = new DirectEncrypter(key);
+            this.decrypter = new DirectDecrypter(key);
+        } catch (KeyLengthException e) {
+            throw new IllegalStateException("Invalid JWE encryption key length", e);
+        }
     }
 
     @Override
-    public String generateToken(String userId, String login, Set<String> roles,
-                                Set<String> permissions, Map<String, Object> customClaims) {
+    public IssuedToken generateToken(String userId, String login, Set<String> roles,
+                                     Set<String> permissions, Map<String, Object> customClaims) {
         try {
             Date now = new Date();
             Date validity = new Date(now.getTime() + tokenValidityMs);
 
-            Claims claims = Jwts.claims()
+            ClaimsBuilder claimsBuilder = Jwts.claims()
                     .subject(userId)
                     .add("login", login)
-                    .add("roles", roles)
-                    .add("permissions", permissions)
                     .issuedAt(now)
-                    .expiration(validity)
-                    .build();
+                    .expiration(validity);
 
-            // Ajouter les custom claims
-            if (customClaims != null) {
-                claims.putAll(customClaims);
-            }
+            // Rôles, permissions et custom claims selon le format configuré
+            claimsCodec.write(claimsBuilder, roles, permissions, customClaims);
+            Claims claims = claimsBuilder.build();
 
             // Générer le JWT signé
             String jwt = Jwts.builder()
@@ -74,7 +103,7 @@ public class JweTokenProviderImpl implements JwtTokenProvider {
                     .compact();
 
             // Chiffrer le JWT pour créer un JWE
-            return encryptToken(jwt);
+            return new IssuedToken(encryptToken(jwt), validity.getTime());
         } catch (Exception e) {
             log.error("Error while generating token", e);
             throw new SecurityException("Token generation error", e);
@@ -88,26 +117,23 @@ public class JweTokenProviderImpl implements JwtTokenProvider {
             String jwt = decryptToken(token);
 
             // Valider le JWT
-            Jws<Claims> parsedToken = Jwts.parser()
-                    .verifyWith(jwtKey)
-                    .build()
-                    .parseSignedClaims(jwt);
+            Jws<Claims> parsedToken = jwtParser.parseSignedClaims(jwt);
 
             Claims claims = parsedToken.getPayload();
 
             String userId = claims.getSubject();
             String login = claims.get("login", String.class);
 
-            @SuppressWarnings("unchecked")
-            Set<String> roles = new HashSet<>(claims.get("roles", List.class));
-
-            @SuppressWarnings("unchecked")
-            Set<String> permissions = new HashSet<>(claims.get("permissions", List.class));
+            TokenClaimsCodec.Authorities authorities = claimsCodec.read(claims);
 
             long expiresAt = claims.getExpiration().getTime();
 
+            Number epochClaim = claims.get(TOKEN_EPOCH_CLAIM, Number.class);
+            long tokenEpoch = epochClaim != null ? epochClaim.longValue() : 0;
+            String sessionId = claims.get(SESSION_ID_CLAIM, String.class);
+
             securityMetrics.incrementTokenValidation();
-            return new JwtTokenInfo(userId, login, roles, permissions, expiresAt);
+            return new JwtTokenInfo(userId, login, authorities.roles(), authorities.permissions(), expiresAt, tokenEpoch, sessionId);
 
         } catch (ExpiredJwtException e) {
             log.warn("JWT token expired: {}", e.getMessage());
@@ -118,26 +144,6 @@ public class JweTokenProviderImpl implements JwtTokenProvider {
         }
     }
 
-    @Override
-    public String refreshToken(String token) {
-        try {
-            JwtTokenInfo tokenInfo = validateToken(token);
-
-            // Créer un nouveau token avec les mêmes informations mais une nouvelle date d'expiration
-            return generateToken(
-                    tokenInfo.userId(),
-                    tokenInfo.login(),
-                    tokenInfo.roles(),
-                    tokenInfo.permissions(),
-                    null
-            );
-
-        } catch (InvalidTokenException e) {
-            log.warn("Cannot refresh invalid token: {}", e.getMessage());
-            throw e;
-        }
-    }
-
     /**
      * Chiffre un token JWT en utilisant JWE (JWT Encrypted)
      *
@@ -146,21 +152,8 @@ public class JweTokenProviderImpl implements JwtTokenProvider {
      * @throws JOSEException En cas d'erreur de chiffrement
      */
     private String encryptToken(String jwt) throws JOSEException {
-        // Préparer l'entête JWE
-        JWEHeader header = new JWEHeader.Builder(JWEAlgorithm.DIR, EncryptionMethod.A256GCM)
-                .contentType("JWT") // Indiquer que le contenu est un JWT
-                .build();
-
-        // Créer la charge utile du JWE
-        Payload payload = new Payload(jwt);
-
-        // Créer le JWE
-        JWEObject jweObject = new JWEObject(header, payload);
-
-        // Chiffrer avec la clé de chiffrement
-        jweObject.encrypt(new DirectEncrypter(encryptionKey));
-
-        // Sérialiser le JWE
+        JWEObject jweObject = new JWEObject(JWE_HEADER, new Payload(jwt));
+        jweObject.encrypt(encrypter);
         return jweObject.serialize();
     }
 
@@ -173,14 +166,31 @@ public class JweTokenProviderImpl implements JwtTokenProvider {
      * @throws ParseException En cas d'erreur de parsing du JWE
      */
     private String decryptToken(String token) throws JOSEException, ParseException {
-        // Parser le JWE
-        JWEObject jweObject = JWEObject.parse(token);
+        if (!token.startsWith(JWE_HEADER_PREFIX)) {
+            // En-tête différent de celui que nous émettons : parsing générique
+            JWEObject jweObject = JWEObject.parse(token);
+            jweObject.decrypt(decrypter);
+            return jweObject.getPayload().toString();
+        }
 
-        // Déchiffrer avec la clé de chiffrement
-        jweObject.decrypt(new DirectDecrypter(encryptionKey));
+        // En-tête connu : découpage direct, sans reparser le JSON de l'en-tête
+        int keyEnd = token.indexOf('.', JWE_HEADER_PREFIX.length());
+        int ivEnd = keyEnd < 0 ? -1 : token.indexOf('.', keyEnd + 1);
+        int cipherEnd = ivEnd < 0 ? -1 : token.indexOf('.', ivEnd + 1);
+        if (cipherEnd < 0 || token.indexOf('.', cipherEnd + 1) >= 0) {
+            throw new ParseException("Invalid serialized JWE object", 0);
+        }
 
-        // Récupérer le JWT d'origine
-        return jweObject.getPayload().toString();
+        Base64URL encryptedKey = keyEnd == JWE_HEADER_PREFIX.length()
+                ? null
+                : new Base64URL(token.substring(JWE_HEADER_PREFIX.length(), keyEnd));
+        byte[] clearText = decrypter.decrypt(
+                JWE_HEADER,
+                encryptedKey,
+                new Base64URL(token.substring(keyEnd + 1, ivEnd)),
+                new Base64URL(token.substring(ivEnd + 1, cipherEnd)),
+                new Base64URL(token.substring(cipherEnd + 1)));
+        return new String(clearText, StandardCharsets.UTF_8);
     }
 
     /**
@@ -200,11 +210,7 @@ public class JweTokenProviderImpl implements JwtTokenProvider {
             String jwt = decryptToken(token);
 
             // Extraire les claims
-            return Jwts.parser()
-                    .verifyWith(jwtKey)
-                    .build()
-                    .parseSignedClaims(jwt)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(jwt).getPayload();
         } catch (Exception e) {
             throw new InvalidTokenException("Invalid JWT token");
         }
@@ -0,0 +1,272 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.out.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.util.Base64URL;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Trousseau des clés de signature des tokens JWT.
+ * <p>
+ * En mode {@code HS256} (défaut), le secret partagé historique est utilisé. En mode {@code ES256}
+ * ou {@code EdDSA}, les tokens sont signés par une clé privée identifiée par son {@code kid} et les
+ * clés publiques sont publiées en JWKS : les services consommateurs vérifient les tokens localement.
+ * <p>
+ * Les clés sont lues dans {@code security.jwt.signing.key-dir} sous forme de paires
+ * {@code <kid>.key} (PKCS#8 PEM) / {@code <kid>.pub} (X.509 PEM). Rotation : déposer une nouvelle
+ * paire avec un {@code kid} supérieur ; elle est publiée au rechargement suivant et ne devient active
+ * qu'après {@code publish-delay}, le temps que les consommateurs rafraîchissent leur cache JWKS.
+ * Les anciennes clés restent publiées tant que leurs fichiers sont présents.
+ * Sans répertoire configuré, une clé éphémère est générée au démarrage (mono-instance uniquement).
+ */
+@Component
+@Slf4j
+public class JwtSigningKeyRing {
+
+    private static final byte[] ED25519_X509_PREFIX = Base64.getDecoder().decode("MCowBQYDK2VwAyEA");
+
+    /**
+     * Clé de signature asymétrique.
+     */
+    public record SigningKey(String kid, PrivateKey privateKey, PublicKey publicKey, Instant publishedAt) {}
+
+    /**
+     * Document JWKS pré-sérialisé et son ETag fort.
+     */
+    public record Jwks(byte[] body, String etag) {}
+
+    private final String algorithm;
+    private final SecretKey hmacKey;
+    private final String keyDir;
+    private final Duration publishDelay;
+
+    private volatile Map<String, SigningKey> keys = Map.of();
+    private volatile SigningKey activeKey;
+    private volatile Jwks jwks;
+
+    public JwtSigningKeyRing(
+            @Value("${security.jwt.signing.algorithm:HS256}") String algorithm,
+            @Value("${security.jwt.token.secret-key}") String secretKey,
+            @Value("${security.jwt.signing.key-dir:}") String keyDir,
+            @Value("${security.jwt.signing.publish-delay:10m}") Duration publishDelay) {
+        this.algorithm = algorithm;
+        this.hmacKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.keyDir = keyDir;
+        this.publishDelay = publishDelay;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!isAsymmetric()) {
+            jwks = serialize(List.of());
+            return;
+        }
+        if (keyDir.isBlank()) {
+            KeyPair pair = generateKeyPair();
+            String kid = "ephemeral-" + UUID.randomUUID();
+            install(Map.of(kid, new SigningKey(kid, pair.getPrivate(), pair.getPublic(), Instant.EPOCH)));
+            log.warn("No signing key directory configured, generated ephemeral {} key {}", algorithm, kid);
+        } else {
+            reload();
+        }
+    }
+
+    /**
+     * Relit le répertoire des clés pour prendre en compte les rotations.
+     */
+    @Scheduled(fixedRateString = "${security.jwt.signing.reload-interval-ms:60000}",
+            initialDelayString = "${security.jwt.signing.reload-interval-ms:60000}")
+    public void reload() {
+        if (!isAsymmetric() || keyDir.isBlank()) {
+            return;
+        }
+        try {
+            Map<String, SigningKey> loaded = loadKeys(Path.of(keyDir));
+            if (loaded.isEmpty()) {
+                throw new IllegalStateException("No signing key found in " + keyDir);
+            }
+            if (!loaded.keySet().equals(keys.keySet())) {
+                install(loaded);
+                log.info("Signing keys loaded: {} (active: {})", loaded.keySet(), activeKey.kid());
+            } else {
+                // Même jeu de clés : seule l'activation d'une clé récemment publiée peut changer
+                activeKey = selectActive(keys);
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            if (activeKey == null) {
+                throw new IllegalStateException("Unable to load signing keys from " + keyDir, e);
+            }
+            log.error("Unable to reload signing keys, keeping current ones: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAsymmetric() {
+        return !"HS256".equalsIgnoreCase(algorithm);
+    }
+
+    public SecretKey hmacKey() {
+        return hmacKey;
+    }
+
+    public SigningKey activeKey() {
+        return activeKey;
+    }
+
+    public SignatureAlgorithm signatureAlgorithm() {
+        return "EdDSA".equalsIgnoreCase(algorithm) ? Jwts.SIG.EdDSA : Jwts.SIG.ES256;
+    }
+
+    /**
+     * Clé de vérification pour un {@code kid} donné, ou le secret HMAC en mode symétrique.
+     *
+     * @param kid L'identifiant de clé de l'en-tête du token (peut être null)
+     * @return La clé de vérification, ou null si le {@code kid} est inconnu
+     */
+    public Key verificationKey(String kid) {
+        if (!isAsymmetric()) {
+            return hmacKey;
+        }
+        SigningKey key = kid != null ? keys.get(kid) : null;
+        return key != null ? key.publicKey() : null;
+    }
+
+    public Jwks jwks() {
+        return jwks;
+    }
+
+    private void install(Map<String, SigningKey> loaded) {
+        List<JWK> publicJwks = new ArrayList<>();
+        for (SigningKey key : loaded.values()) {
+            publicJwks.add(toJwk(key));
+        }
+        keys = Map.copyOf(loaded);
+        activeKey = selectActive(loaded);
+        jwks = serialize(publicJwks);
+    }
+
+    /**
+     * Clé publiée depuis au moins {@code publishDelay} ayant le plus grand {@code kid},
+     * ou à défaut la plus ancienne publiée.
+     */
+    private SigningKey selectActive(Map<String, SigningKey> candidates) {
+        Instant threshold = Instant.now().minus(publishDelay);
+        return candidates.values().stream()
+                .filter(key -> !key.publishedAt().isAfter(threshold))
+                .max(Comparator.comparing(SigningKey::kid))
+                .orElseGet(() -> candidates.values().stream()
+                        .min(Comparator.comparing(SigningKey::publishedAt))
+                        .orElseThrow());
+    }
+
+    private Map<String, SigningKey> loadKeys(Path dir) throws IOException, GeneralSecurityException {
+        Map<String, SigningKey> loaded = new TreeMap<>();
+        KeyFactory keyFactory = KeyFactory.getInstance("EdDSA".equalsIgnoreCase(algorithm) ? "Ed25519" : "EC");
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path privateFile : files.filter(p -> p.getFileName().toString().endsWith(".key")).toList()) {
+                String fileName = privateFile.getFileName().toString();
+                String kid = fileName.substring(0, fileName.length() - ".key".length());
+                Path publicFile = dir.resolve(kid + ".pub");
+                if (!Files.exists(publicFile)) {
+                    log.warn("Ignoring signing key {} without public key file", kid);
+                    continue;
+                }
+                PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(readPem(privateFile)));
+                PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(readPem(publicFile)));
+                Instant publishedAt = Files.getLastModifiedTime(publicFile).toInstant();
+                loaded.put(kid, new SigningKey(kid, privateKey, publicKey, publishedAt));
+            }
+        }
+        return loaded;
+    }
+
+    private KeyPair generateKeyPair() {
+        try {
+            if ("EdDSA".equalsIgnoreCase(algorithm)) {
+                return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            }
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to generate " + algorithm + " key pair", e);
+        }
+    }
+
+    private JWK toJwk(SigningKey key) {
+        if (key.publicKey() instanceof ECPublicKey ecPublicKey) {
+            return new ECKey.Builder(Curve.P_256, ecPublicKey)
+                    .keyID(key.kid())
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.ES256)
+                    .build();
+        }
+        // Ed25519 : la clé brute correspond aux 32 derniers octets de l'encodage X.509
+        byte[] encoded = key.publicKey().getEncoded();
+        byte[] raw = Arrays.copyOfRange(encoded, ED25519_X509_PREFIX.length, encoded.length);
+        return new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(raw))
+                .keyID(key.kid())
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.EdDSA)
+                .build();
+    }
+
+    private static Jwks serialize(List<JWK> publicJwks) {
+        byte[] body = new JWKSet(publicJwks).toString(true).getBytes(StandardCharsets.UTF_8);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+            return new Jwks(body, etag);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] readPem(Path file) throws IOException {
+        String base64 = Files.readAllLines(file, StandardCharsets.US_ASCII).stream()
+                .filter(line -> !line.startsWith("-----"))
+                .map(String::trim)
+                .reduce("", String::concat);
+        return Base64.getDecoder().decode(base64);
+    }
+}
@@ -3,118 +3,113 @@ package fr.lpreaux.usermanager.infrastructure.adapter.out.security;
 import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
 import fr.lpreaux.usermanager.application.port.out.JwtTokenProvider;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.*;
 import java.util.function.Function;
 
 /**
  * Implémentation de JwtTokenProvider utilisant la bibliothèque jjwt.
+ * La signature (HS256, ES256 ou EdDSA) et les clés sont fournies par {@link JwtSigningKeyRing}.
  */
 @Component
 @Primary
 @Slf4j
 public class JwtTokenProviderImpl implements JwtTokenProvider {
 
-    private final SecretKey secretKey;
+    private final JwtSigningKeyRing keyRing;
+    private final TokenClaimsCodec claimsCodec;
     private final long tokenValidityMs;
-    private final long refreshTokenValidityMs;
+    private final JwtParser jwtParser;
+
+    /**
+     * Sélectionne la clé de vérification d'après le {@code kid} de l'en-tête.
+     */
+    private final Locator<Key> keyLocator = new LocatorAdapter<>() {
+        @Override
+        protected Key locate(JwsHeader header) {
+            Key key = keyRing.verificationKey(header.getKeyId());
+            if (key == null) {
+                throw new UnsupportedJwtException("Unknown signing key id: " + header.getKeyId());
+            }
+            return key;
+        }
+    };
 
     public JwtTokenProviderImpl(
-            @Value("${security.jwt.token.secret-key}") String secretKey,
-            @Value("${security.jwt.token.expire-length-ms:3600000}") long tokenValidityMs,
-            @Value("${security.jwt.token.refresh-expire-length-ms:604800000}") long refreshTokenValidityMs) {
+            JwtSigningKeyRing keyRing,
+            TokenClaimsCodec claimsCodec,
+            @Value("${security.jwt.token.expire-length-ms:3600000}") long tokenValidityMs) {
 
-        this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.keyRing = keyRing;
+        this.claimsCodec = claimsCodec;
         this.tokenValidityMs = tokenValidityMs;
-        this.refreshTokenValidityMs = refreshTokenValidityMs;
+        // Le parser est immuable et thread-safe : la clé est résolue à chaque token par le locator
+        this.jwtParser = Jwts.parser().keyLocator(keyLocator).build();
     }
 
     @Override
-    public String generateToken(String userId, String login, Set<String> roles,
-                                Set<String> permissions, Map<String, Object> customClaims) {
+    public IssuedToken generateToken(String userId, String login, Set<String> roles,
+                                     Set<String> permissions, Map<String, Object> customClaims) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + tokenValidityMs);
 
-        Claims claims = Jwts.claims()
+        ClaimsBuilder claimsBuilder = Jwts.claims()
                 .subject(userId)
                 .add("login", login)
-                .add("roles", roles)
-                .add("permissions", permissions)
                 .issuedAt(now)
-                .expiration(validity)
-                .build();
-
-        // Ajouter les custom claims
-        if (customClaims != null) {
-            claims.putAll(customClaims);
+                .expiration(validity);
+
+        // Rôles, permissions et custom claims selon le format configuré
+        claimsCodec.write(claimsBuilder, roles, permissions, customClaims);
+        Claims claims = claimsBuilder.build();
+
+        JwtBuilder builder = Jwts.builder().claims(claims);
+        if (keyRing.isAsymmetric()) {
+            JwtSigningKeyRing.SigningKey signingKey = keyRing.activeKey();
+            builder.header().keyId(signingKey.kid()).and()
+                    .signWith(signingKey.privateKey(), keyRing.signatureAlgorithm());
+        } else {
+            builder.signWith(keyRing.hmacKey(), Jwts.SIG.HS256);
         }
+        String token = builder.compact();
 
-        return Jwts.builder()
-                .claims(claims)
-                .signWith(secretKey, Jwts.SIG.HS256)
-                .compact();
+        return new IssuedToken(token, validity.getTime());
     }
 
     @Override
     public JwtTokenInfo validateToken(String token) {
         try {
-            Jws<Claims> parsedToken = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            Jws<Claims> parsedToken = jwtParser.parseSignedClaims(token);
 
             Claims claims = parsedToken.getPayload();
 
             String userId = claims.getSubject();
             String login = claims.get("login", String.class);
 
-            @SuppressWarnings("unchecked")
-            Set<String> roles = new HashSet<>(claims.get("roles", List.class));
-
-            @SuppressWarnings("unchecked")
-            Set<String> permissions = new HashSet<>(claims.get("permissions", List.class));
+            TokenClaimsCodec.Authorities authorities = claimsCodec.read(claims);
 
             long expiresAt = claims.getExpiration().getTime();
 
-            return new JwtTokenInfo(userId, login, roles, permissions, expiresAt);
+            Number epochClaim = claims.get(TOKEN_EPOCH_CLAIM, Number.class);
+            long tokenEpoch = epochClaim != null ? epochClaim.longValue() : 0;
+            String sessionId = claims.get(SESSION_ID_CLAIM, String.class);
+
+            return new JwtTokenInfo(userId, login, authorities.roles(), authorities.permissions(), expiresAt, tokenEpoch, sessionId);
 
         } catch (ExpiredJwtException e) {
             log.warn("JWT token expired: {}", e.getMessage());
             throw new InvalidTokenException("JWT token expired");
-        } catch (UnsupportedJwtException | MalformedJwtException | SignatureException | IllegalArgumentException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
             throw new InvalidTokenException("Invalid JWT token");
         }
     }
 
-    @Override
-    public String refreshToken(String token) {
-        try {
-            JwtTokenInfo tokenInfo = validateToken(token);
-
-            // Créer un nouveau token avec les mêmes informations mais une nouvelle date d'expiration
-            return generateToken(
-                    tokenInfo.userId(),
-                    tokenInfo.login(),
-                    tokenInfo.roles(),
-                    tokenInfo.permissions(),
-                    null
-            );
-
-        } catch (InvalidTokenException e) {
-            log.warn("Cannot refresh invalid token: {}", e.getMessage());
-            throw e;
-        }
-    }
-
     private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
@@ -122,11 +117,7 @@ public class JwtTokenProviderImpl implements JwtTokenProvider {
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidTokenException("Invalid JWT token");
         }
@@ -0,0 +1,128 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.out.security;
+
+import fr.lpreaux.usermanager.infrastructure.security.AuthorityCatalog;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encodage des rôles et permissions dans les claims des tokens.
+ * <p>
+ * Format {@code standard} : tableaux {@code roles} / {@code permissions} en clair.
+ * Format {@code compact} : version du catalogue ({@code cv}), identifiants de rôles ({@code rl},
+ * ex. {@code "0,2"}) et bitset Base64URL des permissions ({@code pm}), décodés vers des ensembles
+ * partagés par {@link AuthorityCatalog}. Les claims {@code client_info} et {@code auth_time}
+ * (ce dernier égal à {@code iat} pour un token de connexion) sont alors omises.
+ * <p>
+ * La lecture accepte les deux formats quel que soit le format d'émission configuré.
+ */
+@Component
+@Slf4j
+public class TokenClaimsCodec {
+
+    static final String CATALOG_VERSION_CLAIM = "cv";
+    static final String ROLE_IDS_CLAIM = "rl";
+    static final String PERMISSION_BITS_CLAIM = "pm";
+
+    private static final Set<String> OMITTED_COMPACT_CLAIMS = Set.of("client_info", "auth_time");
+
+    /**
+     * Rôles et permissions lus dans un token.
+     */
+    public record Authorities(Set<String> roles, Set<String> permissions) {}
+
+    private final boolean compact;
+    private final AuthorityCatalog catalog;
+
+    public TokenClaimsCodec(
+            @Value("${security.jwt.claims.format:standard}") String format,
+            AuthorityCatalog catalog) {
+        this.compact = "compact".equalsIgnoreCase(format);
+        this.catalog = catalog;
+    }
+
+    /**
+     * Ajoute les rôles, permissions et claims supplémentaires au token en cours de construction.
+     */
+    public void write(ClaimsBuilder claims, Set<String> roles, Set<String> permissions,
+                      Map<String, Object> customClaims) {
+        if (!compact || !writeCompact(claims, roles, permissions)) {
+            claims.add("roles", roles).add("permissions", permissions);
+            if (customClaims != null) {
+                claims.add(customClaims);
+            }
+            return;
+        }
+
+        if (customClaims != null) {
+            customClaims.forEach((name, value) -> {
+                if (!OMITTED_COMPACT_CLAIMS.contains(name)) {
+                    claims.add(name, value);
+                }
+            });
+        }
+    }
+
+    /**
+     * Lit les rôles et permissions d'un token dont la signature a été vérifiée.
+     *
+     * @throws io.jsonwebtoken.JwtException Si les claims compactes sont incomplètes ou
+     *         référencent une version de catalogue inconnue
+     */
+    public Authorities read(Claims claims) {
+        String version = claims.get(CATALOG_VERSION_CLAIM, String.class);
+        if (version == null) {
+            @SuppressWarnings("unchecked")
+            Set<String> roles = new HashSet<>(claims.get("roles", List.class));
+            @SuppressWarnings("unchecked")
+            Set<String> permissions = new HashSet<>(claims.get("permissions", List.class));
+            return new Authorities(roles, permissions);
+        }
+
+        String roleIds = claims.get(ROLE_IDS_CLAIM, String.class);
+        String permissionBits = claims.get(PERMISSION_BITS_CLAIM, String.class);
+        if (roleIds == null || permissionBits == null) {
+            throw new MalformedJwtException("Incomplete compact authority claims");
+        }
+
+        AuthorityCatalog.Snapshot snapshot = catalog.forVersion(version);
+        if (snapshot == null) {
+            // Le client obtient un nouveau token via son refresh token
+            throw new UnsupportedJwtException("Unknown authority catalog version: " + version);
+        }
+        return new Authorities(snapshot.decodeRoles(roleIds), snapshot.decodePermissions(permissionBits));
+    }
+
+    private boolean writeCompact(ClaimsBuilder claims, Set<String> roles, Set<String> permissions) {
+        AuthorityCatalog.Snapshot snapshot = catalog.current();
+        String roleIds = snapshot.encodeRoles(roles);
+        String permissionBits = snapshot.encodePermissions(permissions);
+
+        if (roleIds == null || permissionBits == null) {
+            // Rôle ou permission créé depuis le dernier chargement du catalogue
+            catalog.refresh();
+            snapshot = catalog.current();
+            roleIds = snapshot.encodeRoles(roles);
+            permissionBits = snapshot.encodePermissions(permissions);
+            if (roleIds == null || permissionBits == null) {
+                log.warn("Roles or permissions missing from authority catalog {}, using standard claims",
+                        snapshot.version());
+                return false;
+            }
+        }
+
+        claims.add(CATALOG_VERSION_CLAIM, snapshot.version())
+                .add(ROLE_IDS_CLAIM, roleIds)
+                .add(PERMISSION_BITS_CLAIM, permissionBits);
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package fr.lpreaux.usermanager.infrastructure.config;
+
+import fr.lpreaux.usermanager.infrastructure.monitorig.QueryCountingDataSource;
+import fr.lpreaux.usermanager.infrastructure.monitorig.RepositoryMetricsPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Instrumentation de la couche de persistance : durée des appels aux ports de persistance
+ * ({@link RepositoryMetricsPostProcessor}) et nombre d'instructions SQL par requête ({@link QueryCountingDataSource}).
+ * Les métriques du pool Hikari ({@code hikaricp.connections.*}) sont exportées par Spring Boot.
+ */
+@Configuration
+public class DatabaseMetricsConfig {
+
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryMetricsPostProcessor(meterRegistry);
+    }
+
+    /**
+     * Enveloppe la seule source de données {@code dataSource} : les pools auxquels elle délègue
+     * (primaire et réplicas avec {@link ReadReplicaConfig}) ne sont pas comptés une seconde fois.
+     */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && beanName.equals("dataSource")) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
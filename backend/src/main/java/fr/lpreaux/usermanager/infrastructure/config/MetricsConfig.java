@@ -61,8 +61,7 @@ public class MetricsConfig {
                         .meterFilter(MeterFilter.deny(id ->
                                 id.getName().startsWith("jvm.threads") ||
                                         id.getName().startsWith("jvm.classes") ||
-                                        id.getName().startsWith("system.disk") ||
-                                        id.getName().contains("hikari")));
+                                        id.getName().startsWith("system.disk")));
             };
         }
     }
@@ -0,0 +1,109 @@
+package fr.lpreaux.usermanager.infrastructure.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import fr.lpreaux.usermanager.infrastructure.persistence.routing.ReadReplicaDataSource;
+import fr.lpreaux.usermanager.infrastructure.persistence.routing.ReadYourWritesTracker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routage des transactions {@code readOnly} vers des réplicas MariaDB, actif avec
+ * {@code database.replicas.enabled=true}.
+ * <p>
+ * Remplace la source de données de Spring Boot par un {@link LazyConnectionDataSourceProxy} : les transactions
+ * en écriture, Flyway et les accès hors transaction utilisent le pool primaire ({@code spring.datasource.*}),
+ * les transactions {@code readOnly} passent par {@link ReadReplicaDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "database.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Enregistré auprès du gestionnaire de transactions par Spring Boot, comme tout
+     * {@link org.springframework.transaction.TransactionExecutionListener}.
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${database.replicas.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Bean
+    public ReadReplicaDataSource readReplicaDataSource(
+            HikariDataSource primaryDataSource,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry,
+            @Value("${database.replicas.urls}") List<String> urls,
+            @Value("${database.replicas.username}") String username,
+            @Value("${database.replicas.password}") String password,
+            @Value("${database.replicas.maximum-pool-size:20}") int maximumPoolSize,
+            @Value("${database.replicas.connection-timeout:1000}") long connectionTimeoutMs,
+            @Value("${spring.datasource.hikari.leak-detection-threshold:0}") long leakDetectionThresholdMs,
+            @Value("${database.replicas.max-lag:2s}") Duration maxLag,
+            @Value("${database.replicas.heartbeat-interval-ms:500}") long heartbeatIntervalMs) {
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("database.replicas.urls must list at least one replica");
+        }
+        // Le retard mesuré inclut jusqu'à un intervalle de battement : en dessous, aucun réplica ne serait retenu
+        if (maxLag.toMillis() <= heartbeatIntervalMs) {
+            throw new IllegalStateException("database.replicas.max-lag must exceed the heartbeat interval");
+        }
+
+        List<ReadReplicaDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + (i + 1));
+            config.setJdbcUrl(urls.get(i).trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(maximumPoolSize);
+            // Court : un réplica injoignable est écarté au profit du suivant plutôt que d'immobiliser la requête
+            config.setConnectionTimeout(connectionTimeoutMs);
+            config.setLeakDetectionThreshold(leakDetectionThresholdMs);
+            config.setReadOnly(true);
+            // Mêmes options du pilote que le primaire (cache des instructions préparées)
+            config.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+            config.setMetricRegistry(meterRegistry);
+            replicas.add(new ReadReplicaDataSource.Replica(config.getPoolName(), new HikariDataSource(config)));
+        }
+
+        ReadReplicaDataSource dataSource = new ReadReplicaDataSource(
+                primaryDataSource, replicas, readYourWritesTracker, maxLag);
+        for (ReadReplicaDataSource.Replica replica : dataSource.replicas()) {
+            Gauge.builder("db.replica.lag", replica, r -> r.lagMillis() < 0 ? Double.NaN : r.lagMillis() / 1000.0)
+                    .description("Replication lag measured by heartbeat, NaN when unknown or unreachable")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReadReplicaDataSource readReplicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readReplicaDataSource);
+        return dataSource;
+    }
+}
@@ -1,17 +1,43 @@
 package fr.lpreaux.usermanager.infrastructure.config;
 
+import fr.lpreaux.usermanager.infrastructure.monitorig.RedisPoolMetrics;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.resource.ClientResources;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.clients.jedis.JedisPoolConfig;
 
+import java.time.Duration;
+
+/**
+ * Configuration du client Redis.
+ * Le client est choisi via {@code spring.data.redis.client-type} :
+ * <ul>
+ *     <li>{@code jedis} (défaut) : pool de connexions borné, instrumenté par {@link RedisPoolMetrics} ;</li>
+ *     <li>{@code lettuce} : connexion native partagée et multiplexée pour les commandes non bloquantes
+ *     ({@code hasKey}, {@code get}, ...), latences exportées par l'instrumentation Micrometer de Spring Boot.</li>
+ * </ul>
+ */
 @Configuration
 public class RedisConfig {
 
+    /**
+     * Préfixe JMX du pool Jedis, utilisé pour exposer ses métriques.
+     */
+    public static final String JEDIS_POOL_JMX_NAME = "redis-pool";
+
     @Value("${spring.data.redis.host:localhost}")
     private String redisHost;
 
@@ -21,13 +47,72 @@ public class RedisConfig {
     @Value("${spring.data.redis.password:}")
     private String redisPassword;
 
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration readTimeout;
+
+    @Value("${spring.data.redis.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${spring.data.redis.jedis.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.jedis.pool.max-idle:16}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.jedis.pool.min-idle:2}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.jedis.pool.max-wait:2s}")
+    private Duration poolMaxWait;
+
+    @Value("${spring.data.redis.jedis.pool.time-between-eviction-runs:30s}")
+    private Duration timeBetweenEvictionRuns;
+
     @Bean
+    @ConditionalOnProperty(name = "spring.data.redis.client-type", havingValue = "jedis", matchIfMissing = true)
     public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(redisHost, redisPort);
-        if (!redisPassword.isEmpty()) {
-            config.setPassword(redisPassword);
-        }
-        return new JedisConnectionFactory(config);
+        // Pool borné avec attente limitée : avec les threads virtuels, le nombre de requêtes
+        // concurrentes n'est plus limité par Tomcat, c'est le pool qui fait office de back-pressure.
+        JedisPoolConfig poolConfig = new JedisPoolConfig();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(poolMaxWait);
+        poolConfig.setTimeBetweenEvictionRuns(timeBetweenEvictionRuns);
+        poolConfig.setJmxEnabled(true);
+        poolConfig.setJmxNamePrefix(JEDIS_POOL_JMX_NAME);
+
+        JedisClientConfiguration clientConfig = JedisClientConfiguration.builder()
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .usePooling()
+                .poolConfig(poolConfig)
+                .build();
+
+        return new JedisConnectionFactory(standaloneConfiguration(), clientConfig);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.data.redis.client-type", havingValue = "lettuce")
+    public RedisConnectionFactory lettuceConnectionFactory(ClientResources clientResources) {
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .commandTimeout(readTimeout)
+                .clientResources(clientResources)
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                        .build())
+                .build();
+
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(standaloneConfiguration(), clientConfig);
+        // Une seule connexion multiplexée pour toutes les commandes non bloquantes
+        factory.setShareNativeConnection(true);
+        return factory;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.data.redis.client-type", havingValue = "jedis", matchIfMissing = true)
+    public RedisPoolMetrics redisPoolMetrics() {
+        return new RedisPoolMetrics(JEDIS_POOL_JMX_NAME);
     }
 
     @Bean
@@ -41,4 +126,23 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * Conteneur pub/sub partagé. Les abonnements sont ajoutés par les adaptateurs une fois
+     * l'application démarrée, pour ne pas bloquer le démarrage si Redis est indisponible.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    private RedisStandaloneConfiguration standaloneConfiguration() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(redisHost, redisPort);
+        if (!redisPassword.isEmpty()) {
+            config.setPassword(redisPassword);
+        }
+        return config;
+    }
+}
@@ -0,0 +1,14 @@
+package fr.lpreaux.usermanager.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Active l'exécution des tâches {@code @Scheduled}.
+ * Lorsque {@code spring.threads.virtual.enabled} est actif, Spring Boot fournit un
+ * planificateur basé sur des threads virtuels ; sinon le pool de threads classique est utilisé.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
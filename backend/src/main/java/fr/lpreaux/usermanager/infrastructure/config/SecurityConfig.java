@@ -45,6 +45,7 @@ public class SecurityConfig {
                                 "/swagger-ui/**",                   // Documentation Swagger
                                 "/api-docs/**",                  // OpenAPI
                                 "/actuator/health",                 // Health check
+                                "/.well-known/jwks.json",           // Clés publiques de signature
                                 "/error"                            // Pages d'erreur
                         ).permitAll()
                         // Toutes les autres routes nécessitent une authentification
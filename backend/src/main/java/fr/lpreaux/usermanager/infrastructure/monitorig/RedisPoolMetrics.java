@@ -0,0 +1,78 @@
+package fr.lpreaux.usermanager.infrastructure.monitorig;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exporte l'état du pool de connexions Jedis (commons-pool2) vers Micrometer.
+ * Les valeurs sont lues via le MBean enregistré par le pool : celui-ci n'est créé qu'au démarrage
+ * de la factory, les jauges renvoient donc {@code NaN} tant qu'il n'existe pas.
+ */
+@Slf4j
+public class RedisPoolMetrics implements MeterBinder {
+
+    private static final String JMX_NAME_BASE = "org.apache.commons.pool2:type=GenericObjectPool,name=";
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    private final ObjectName poolName;
+    private final String jmxName;
+
+    public RedisPoolMetrics(String jmxName) {
+        this.jmxName = jmxName;
+        try {
+            this.poolName = new ObjectName(JMX_NAME_BASE + jmxName);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("Invalid pool JMX name: " + jmxName, e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.redis.pool.active", this, m -> m.read("NumActive"))
+                .description("Number of Redis connections currently borrowed from the pool")
+                .tag("pool", jmxName)
+                .register(registry);
+
+        Gauge.builder("app.redis.pool.idle", this, m -> m.read("NumIdle"))
+                .description("Number of idle Redis connections in the pool")
+                .tag("pool", jmxName)
+                .register(registry);
+
+        Gauge.builder("app.redis.pool.waiters", this, m -> m.read("NumWaiters"))
+                .description("Number of threads waiting for a Redis connection")
+                .tag("pool", jmxName)
+                .register(registry);
+
+        TimeGauge.builder("app.redis.pool.wait.mean", this, TimeUnit.MILLISECONDS, m -> m.read("MeanBorrowWaitTimeMillis"))
+                .description("Mean time spent waiting for a Redis connection")
+                .tag("pool", jmxName)
+                .register(registry);
+
+        TimeGauge.builder("app.redis.pool.wait.max", this, TimeUnit.MILLISECONDS, m -> m.read("MaxBorrowWaitTimeMillis"))
+                .description("Maximum time spent waiting for a Redis connection")
+                .tag("pool", jmxName)
+                .register(registry);
+    }
+
+    private double read(String attribute) {
+        try {
+            if (!mBeanServer.isRegistered(poolName)) {
+                return Double.NaN;
+            }
+            Object value = mBeanServer.getAttribute(poolName, attribute);
+            return value instanceof Number number ? number.doubleValue() : Double.NaN;
+        } catch (Exception e) {
+            log.debug("Unable to read Redis pool attribute {}: {}", attribute, e.getMessage());
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package fr.lpreaux.usermanager.infrastructure.monitorig;
+
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.application.port.out.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chronomètre chaque appel aux ports {@link UserRepository} et {@link RoleRepository} :
+ * histogramme {@code app.db.repository} étiqueté par port, méthode et issue ({@code success} / {@code error}).
+ * <p>
+ * Les adaptateurs sont enveloppés dans un proxy JDK limité à l'interface du port, seul type dont
+ * dépendent les services applicatifs.
+ */
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    static final String METRIC_NAME = "app.db.repository";
+
+    private static final List<Class<?>> PORTS = List.of(UserRepository.class, RoleRepository.class);
+
+    // Registre résolu au premier appel : un BeanPostProcessor ne doit pas forcer sa création au démarrage
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        for (Class<?> port : PORTS) {
+            if (port.isInstance(bean)) {
+                ProxyFactory proxyFactory = new ProxyFactory();
+                proxyFactory.setTarget(bean);
+                proxyFactory.addInterface(port);
+                proxyFactory.addAdvice(new TimingInterceptor(port.getSimpleName()));
+                return proxyFactory.getProxy(port.getClassLoader());
+            }
+        }
+        return bean;
+    }
+
+    private final class TimingInterceptor implements MethodInterceptor {
+
+        private final String repository;
+        private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+        private final Map<Method, Timer> errorTimers = new ConcurrentHashMap<>();
+
+        private TimingInterceptor(String repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+            if (method.getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+
+            long start = System.nanoTime();
+            boolean success = false;
+            try {
+                Object result = invocation.proceed();
+                success = true;
+                return result;
+            } finally {
+                boolean succeeded = success;
+                Map<Method, Timer> timers = succeeded ? successTimers : errorTimers;
+                timers.computeIfAbsent(method, m -> timer(m, succeeded))
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private Timer timer(Method method, boolean success) {
+            return Timer.builder(METRIC_NAME)
+                    .description("Duration of persistence port calls")
+                    .tag("repository", repository)
+                    .tag("method", method.getName())
+                    .tag("outcome", success ? "success" : "error")
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(5))
+                    .register(meterRegistry.getObject());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package fr.lpreaux.usermanager.infrastructure.monitorig;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Nombre d'instructions SQL par requête HTTP ({@code app.db.request.queries}, étiqueté par méthode et
+ * modèle d'URI), compté par {@link QueryCountingDataSource} sur le thread de la requête.
+ * Au-delà de {@code monitoring.database.query-count-warn-threshold}, la requête est journalisée :
+ * signe habituel d'un chargement N+1.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class RequestQueryCountFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "app.db.request.queries";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public RequestQueryCountFilter(
+            MeterRegistry meterRegistry,
+            @Value("${monitoring.database.query-count-warn-threshold:50}") int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountingDataSource.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queries = QueryCountingDataSource.stop();
+            // Modèle d'URI plutôt que chemin brut : cardinalité bornée, comme http.server.requests
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("SQL statements executed per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                    .register(meterRegistry)
+                    .record(queries);
+
+            if (queries > warnThreshold) {
+                log.warn("{} {} executed {} SQL statements", request.getMethod(), uri, queries);
+            }
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
+
+import fr.lpreaux.usermanager.application.port.out.TokenBlacklistRepository;
+import fr.lpreaux.usermanager.infrastructure.monitorig.SecurityMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Implémentation embarquée de la liste noire pour les déploiements mono-instance, sans Redis.
+ * <p>
+ * Les tokens sont stockés hors tas dans une table de hachage à adressage ouvert (sondage linéaire)
+ * projetée en mémoire depuis un fichier : la liste noire survit aux redémarrages et les recherches
+ * sont en O(1) sans allocation d'objets conservés par le GC.
+ * <p>
+ * Format du fichier :
+ * <pre>
+ * en-tête (64 octets) : magic (8) | version (4) | capacité (4) | réservé
+ * slot (40 octets)    : SHA-256 du token (32) | expiration en ms epoch (8), 0 = slot libre
+ * </pre>
+ * Les entrées expirées sont ignorées à la lecture et supprimées par un balayage périodique
+ * (suppression par décalage arrière, sans marqueur de tombe). Le balayage parcourt la table par tranches
+ * de {@code security.jwt.blacklist.mapped.sweep-chunk-slots} slots et relâche le verrou d'écriture
+ * entre deux tranches : les recherches concurrentes n'attendent jamais plus d'une tranche.
+ */
+@Component
+@ConditionalOnProperty(name = "security.jwt.blacklist.store", havingValue = "mapped")
+@Slf4j
+public class MappedTokenBlacklistAdapter implements TokenBlacklistRepository {
+
+    private static final long MAGIC = 0x544F4B424C4B3031L; // "TOKBLK01"
+    private static final int VERSION = 1;
+    private static final long HEADER_SIZE = 64;
+    private static final long SLOT_SIZE = 40;
+    private static final long EXPIRY_OFFSET = 32;
+    private static final int DIGEST_LENGTH = 32;
+    private static final int DIGEST_LONGS = 4;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED;
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED;
+
+    private static final String USER_PREFIX = "blacklisted_user:";
+
+    private final SecurityMetrics securityMetrics;
+    private final Path path;
+    private final int capacity;
+    private final int mask;
+
+    private final int sweepChunkSlots;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Digest et tampon de sortie réutilisés par thread : aucune allocation par recherche hormis l'encodage du token
+    private final ThreadLocal<Hasher> hashers = ThreadLocal.withInitial(Hasher::new);
+
+    private Arena arena;
+    private MemorySegment segment;
+    private int size;
+
+    public MappedTokenBlacklistAdapter(
+            SecurityMetrics securityMetrics,
+            @Value("${security.jwt.blacklist.mapped.path:./data/token-blacklist.dat}") String path,
+            @Value("${security.jwt.blacklist.mapped.capacity:1048576}") int capacity,
+            @Value("${security.jwt.blacklist.mapped.sweep-chunk-slots:4096}") int sweepChunkSlots) {
+        this.securityMetrics = securityMetrics;
+        this.path = Path.of(path);
+        this.capacity = Integer.highestOneBit(Math.max(capacity - 1, 1) << 1);
+        this.mask = this.capacity - 1;
+        this.sweepChunkSlots = Math.max(sweepChunkSlots, 1);
+        // Échoue au démarrage plutôt qu'à la première recherche
+        hashers.get();
+    }
+
+    @PostConstruct
+    public void open() {
+        long fileSize = HEADER_SIZE + capacity * SLOT_SIZE;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            boolean reuse = Files.exists(path) && Files.size(path) == fileSize;
+
+            arena = Arena.ofShared();
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                if (!reuse) {
+                    channel.truncate(0);
+                }
+                segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize, arena);
+            }
+
+            if (reuse && segment.get(LONG, 0) == MAGIC && segment.get(INT, 8) == VERSION
+                    && segment.get(INT, 12) == capacity) {
+                size = countOccupiedSlots();
+                log.info("Token blacklist reopened from {} ({} entries)", path, size);
+            } else {
+                segment.fill((byte) 0);
+                segment.set(LONG, 0, MAGIC);
+                segment.set(INT, 8, VERSION);
+                segment.set(INT, 12, capacity);
+                size = 0;
+                log.info("Token blacklist initialized at {} (capacity: {})", path, capacity);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to map token blacklist file " + path, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (segment != null) {
+                segment.force();
+                segment = null;
+            }
+            if (arena != null) {
+                arena.close();
+                arena = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void addToBlacklist(String token, long expirationTimeMs) {
+        if (expirationTimeMs <= System.currentTimeMillis()) {
+            log.warn("Attempted to blacklist an already expired token");
+            return;
+        }
+        put(digest(token), expirationTimeMs);
+        securityMetrics.incrementBlacklistedTokens();
+        log.info("Token added to blacklist, expires at: {}", Instant.ofEpochMilli(expirationTimeMs));
+    }
+
+    @Override
+    public boolean isBlacklisted(String token) {
+        if (contains(digest(token))) {
+            log.debug("Token found in blacklist");
+            securityMetrics.incrementRejectedTokens();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    @Scheduled(fixedRateString = "${security.jwt.blacklist.mapped.sweep-interval-ms:60000}")
+    public void removeExpiredTokens() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        for (int from = 0; from < capacity; from += sweepChunkSlots) {
+            lock.writeLock().lock();
+            try {
+                if (segment == null) {
+                    return;
+                }
+                removed += sweepExpired(from, Math.min(from + sweepChunkSlots, capacity), now);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        if (removed > 0) {
+            // Synchronisation disque sans bloquer les recherches ; le verrou protège seulement de close()
+            lock.readLock().lock();
+            try {
+                if (segment != null) {
+                    segment.force();
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            log.debug("Removed {} expired tokens from blacklist", removed);
+        }
+    }
+
+    @Override
+    public long getBlacklistSize() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void blacklistAllUserTokens(String userId, String reason) {
+        log.info("Blacklisting all tokens for user: {}, reason: {}", userId, reason);
+
+        // Comme pour l'adaptateur Redis, seule la révocation est tracée (7 jours)
+        put(digest(USER_PREFIX + userId), System.currentTimeMillis() + TimeUnit.DAYS.toMillis(7));
+
+        securityMetrics.incrementUserBlacklisted();
+        log.info("All tokens blacklisted for user: {}", userId);
+    }
+
+    /**
+     * Vérifier si tous les tokens d'un utilisateur sont blacklistés.
+     *
+     * @param userId L'ID de l'utilisateur
+     * @return true si une révocation globale est enregistrée pour l'utilisateur
+     */
+    public boolean isUserFullyBlacklisted(String userId) {
+        return contains(digest(USER_PREFIX + userId));
+    }
+
+    private boolean contains(byte[] digest) {
+        long now = System.currentTimeMillis();
+        lock.readLock().lock();
+        try {
+            int index = find(digest);
+            return index >= 0 && expiryAt(index) > now;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(byte[] digest, long expiresAt) {
+        lock.writeLock().lock();
+        try {
+            int index = find(digest);
+            if (index >= 0) {
+                segment.set(LONG, slotOffset(index) + EXPIRY_OFFSET, Math.max(expiresAt, expiryAt(index)));
+                return;
+            }
+
+            if (size + 1 > capacity * MAX_LOAD_FACTOR) {
+                if (sweepExpired(0, capacity, System.currentTimeMillis()) > 0) {
+                    segment.force();
+                }
+                if (size + 1 > capacity * MAX_LOAD_FACTOR) {
+                    throw new IllegalStateException("Token blacklist store is full (capacity: " + capacity + ")");
+                }
+            }
+
+            int slot = home(digest);
+            while (expiryAt(slot) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            long offset = slotOffset(slot);
+            MemorySegment.copy(digest, 0, segment, ValueLayout.JAVA_BYTE, offset, digest.length);
+            segment.set(LONG, offset + EXPIRY_OFFSET, expiresAt);
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Supprime les entrées expirées des slots {@code [from, to)}. Doit être appelée sous le verrou d'écriture.
+     * Une entrée décalée entre deux tranches vers une tranche déjà parcourue attend le balayage suivant ;
+     * elle reste ignorée à la lecture d'ici là.
+     *
+     * @return Le nombre d'entrées supprimées
+     */
+    private int sweepExpired(int from, int to, long now) {
+        int removed = 0;
+        int index = from;
+        while (index < to) {
+            long expiry = expiryAt(index);
+            if (expiry != 0 && expiry <= now) {
+                // Ne pas avancer : une entrée a pu être décalée dans ce slot
+                deleteAt(index);
+                removed++;
+            } else {
+                index++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Recherche le slot contenant le digest, ou -1 si absent.
+     */
+    private int find(byte[] digest) {
+        int slot = home(digest);
+        for (int probes = 0; probes < capacity; probes++) {
+            if (expiryAt(slot) == 0) {
+                return -1;
+            }
+            if (digestEquals(slot, digest)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Suppression par décalage arrière : les entrées suivantes de la chaîne de sondage sont
+     * remontées pour qu'aucune recherche ne s'arrête sur un trou.
+     */
+    private void deleteAt(int index) {
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (expiryAt(next) != 0) {
+            int home = homeOfSlot(next);
+            boolean stays = hole <= next
+                    ? hole < home && home <= next
+                    : hole < home || home <= next;
+            if (!stays) {
+                MemorySegment.copy(segment, slotOffset(next), segment, slotOffset(hole), SLOT_SIZE);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        segment.asSlice(slotOffset(hole), SLOT_SIZE).fill((byte) 0);
+        size--;
+    }
+
+    private boolean digestEquals(int slot, byte[] digest) {
+        long offset = slotOffset(slot);
+        for (int i = 0; i < DIGEST_LONGS; i++) {
+            if (segment.get(LONG, offset + i * 8L) != longAt(digest, i * 8)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int countOccupiedSlots() {
+        int count = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (expiryAt(i) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long expiryAt(int slot) {
+        return segment.get(LONG, slotOffset(slot) + EXPIRY_OFFSET);
+    }
+
+    private int home(byte[] digest) {
+        return (int) longAt(digest, 0) & mask;
+    }
+
+    private int homeOfSlot(int slot) {
+        return (int) segment.get(LONG, slotOffset(slot)) & mask;
+    }
+
+    private static long slotOffset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private static long longAt(byte[] bytes, int offset) {
+        // Même ordre d'octets que JAVA_LONG_UNALIGNED pour comparer directement avec le segment
+        return MemorySegment.ofArray(bytes).get(LONG, offset);
+    }
+
+    /**
+     * SHA-256 de la valeur, dans le tampon du thread courant : valable jusqu'au prochain appel sur ce thread.
+     */
+    private byte[] digest(String value) {
+        Hasher hasher = hashers.get();
+        try {
+            hasher.md.update(value.getBytes(StandardCharsets.UTF_8));
+            hasher.md.digest(hasher.output, 0, DIGEST_LENGTH);
+            return hasher.output;
+        } catch (DigestException e) {
+            hasher.md.reset();
+            throw new IllegalStateException("SHA-256 digest failed", e);
+        }
+    }
+
+    private static final class Hasher {
+        private final MessageDigest md;
+        private final byte[] output = new byte[DIGEST_LENGTH];
+
+        private Hasher() {
+            try {
+                md = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
+
+import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
+import fr.lpreaux.usermanager.application.port.out.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implémentation Redis des refresh tokens.
+ * <p>
+ * Un refresh token a la forme {@code <userId>.<familyId>.<secret>} ; seul le SHA-256 du token est stocké.
+ * L'utilisateur et la famille portés par le token désignent toutes les clés d'une rotation sans lecture
+ * préalable : la rotation est un unique script.
+ * Structures utilisées :
+ * <pre>
+ * refresh_token:{&lt;userId&gt;}:&lt;hash&gt;   hash { family }                      TTL = validité
+ * refresh_family:{&lt;userId&gt;}:&lt;id&gt;    hash { tep, current, expires_at }    TTL = validité
+ * refresh_user:{&lt;userId&gt;}           set  { id de famille }               TTL = celui de sa famille la plus durable
+ * </pre>
+ * L'étiquette {@code {userId}} place toutes les clés d'un utilisateur, y compris son époque de révocation
+ * ({@link RedisTokenEpochAdapter}), sur le même slot Redis Cluster : les scripts déclarent toutes leurs clés dans KEYS. La validité est renouvelée à chaque rotation,
+ * dans la limite de {@code expires_at}, durée maximale de la session fixée à son ouverture.
+ * Les tokens consommés restent connus jusqu'à leur expiration pour détecter leur réutilisation.
+ */
+@Component
+@Slf4j
+public class RedisRefreshTokenAdapter implements RefreshTokenRepository {
+
+    private static final String TOKEN_PREFIX = "refresh_token:";
+    private static final String FAMILY_PREFIX = "refresh_family:";
+    private static final String USER_PREFIX = "refresh_user:";
+    private static final int TOKEN_BYTES = 32;
+
+    /**
+     * Ouverture d'une famille. KEYS : famille, token, index utilisateur.
+     * ARGV : hash du token, id de famille, époque, validité (ms), fin de session (ms depuis l'epoch).
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'tep', ARGV[3], 'current', ARGV[1], 'expires_at', ARGV[5])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('HSET', KEYS[2], 'family', ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            redis.call('SADD', KEYS[3], ARGV[2])
+            if redis.call('PTTL', KEYS[3]) < tonumber(ARGV[4]) then
+                redis.call('PEXPIRE', KEYS[3], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * Rotation atomique : vérifie que le token présenté est le courant de sa famille, que la session n'a été
+     * ni révoquée par une déconnexion globale (époque de l'utilisateur postérieure à celle de la famille)
+     * ni n'a atteint sa durée maximale, le remplace par le nouveau et prolonge l'index utilisateur
+     * au moins jusqu'à l'expiration de la famille.
+     * KEYS : token présenté, famille, nouveau token, index utilisateur, époque de l'utilisateur.
+     * ARGV : hash présenté, nouveau hash, validité (ms), maintenant (ms), id de famille.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'family') ~= ARGV[5] then return {'NOT_FOUND'} end
+            local family = redis.call('HMGET', KEYS[2], 'current', 'tep', 'expires_at')
+            if not family[1] then return {'NOT_FOUND'} end
+            if family[1] ~= ARGV[1] then
+                redis.call('DEL', KEYS[2])
+                redis.call('SREM', KEYS[4], ARGV[5])
+                return {'REUSED'}
+            end
+            if tonumber(family[2]) < tonumber(redis.call('GET', KEYS[5]) or '0') then
+                redis.call('DEL', KEYS[2])
+                redis.call('SREM', KEYS[4], ARGV[5])
+                return {'REVOKED'}
+            end
+            local remaining = tonumber(family[3]) - tonumber(ARGV[4])
+            if remaining <= 0 then
+                redis.call('DEL', KEYS[2])
+                redis.call('SREM', KEYS[4], ARGV[5])
+                return {'EXPIRED'}
+            end
+            local ttl = math.min(tonumber(ARGV[3]), remaining)
+            redis.call('HSET', KEYS[2], 'current', ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ttl)
+            redis.call('HSET', KEYS[3], 'family', ARGV[5])
+            redis.call('PEXPIRE', KEYS[3], ttl)
+            redis.call('SADD', KEYS[4], ARGV[5])
+            if redis.call('PTTL', KEYS[4]) < ttl then
+                redis.call('PEXPIRE', KEYS[4], ttl)
+            end
+            return {'ROTATED', family[2], tostring(ttl)}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long refreshTokenValidityMs;
+    private final long maxSessionMs;
+    private final Clock clock;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final MessageDigest digestPrototype;
+
+    @Autowired
+    public RedisRefreshTokenAdapter(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${security.jwt.token.refresh-expire-length-ms:604800000}") long refreshTokenValidityMs,
+            @Value("${security.jwt.token.refresh-max-session-ms:2592000000}") long maxSessionMs) {
+        this(redisTemplate, refreshTokenValidityMs, maxSessionMs, Clock.systemUTC());
+    }
+
+    RedisRefreshTokenAdapter(RedisTemplate<String, String> redisTemplate, long refreshTokenValidityMs,
+                             long maxSessionMs, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.refreshTokenValidityMs = refreshTokenValidityMs;
+        this.maxSessionMs = maxSessionMs;
+        this.clock = clock;
+        try {
+            this.digestPrototype = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Override
+    public RefreshTokenGrant issue(String userId, long tokenEpoch) {
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = newToken(userId, familyId);
+        String tokenHash = hash(refreshToken);
+        long now = clock.millis();
+        long ttl = Math.min(refreshTokenValidityMs, maxSessionMs);
+
+        redisTemplate.execute(
+                ISSUE_SCRIPT,
+                List.of(familyKey(userId, familyId), tokenKey(userId, tokenHash), userKey(userId)),
+                tokenHash,
+                familyId,
+                String.valueOf(tokenEpoch),
+                String.valueOf(ttl),
+                String.valueOf(now + maxSessionMs)
+        );
+
+        return new RefreshTokenGrant(refreshToken, familyId, userId, tokenEpoch, now + ttl);
+    }
+
+    @Override
+    public RefreshTokenGrant rotate(String refreshToken) {
+        // <userId>.<familyId>.<secret> : le script vérifie que le token appartient bien à cette famille
+        int userEnd = refreshToken.indexOf('.');
+        int familyEnd = userEnd > 0 ? refreshToken.indexOf('.', userEnd + 1) : -1;
+        if (familyEnd <= userEnd + 1) {
+            throw new InvalidTokenException("Unknown or expired refresh token");
+        }
+        String userId = refreshToken.substring(0, userEnd);
+        String familyId = refreshToken.substring(userEnd + 1, familyEnd);
+        String oldHash = hash(refreshToken);
+
+        String newToken = newToken(userId, familyId);
+        String newHash = hash(newToken);
+        long now = clock.millis();
+
+        @SuppressWarnings("unchecked")
+        List<String> result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(tokenKey(userId, oldHash), familyKey(userId, familyId), tokenKey(userId, newHash),
+                        userKey(userId), RedisTokenEpochAdapter.epochKey(userId)),
+                oldHash,
+                newHash,
+                String.valueOf(refreshTokenValidityMs),
+                String.valueOf(now),
+                familyId
+        );
+
+        if (result == null || result.isEmpty() || "NOT_FOUND".equals(result.get(0))) {
+            throw new InvalidTokenException("Unknown or expired refresh token");
+        }
+        if ("REUSED".equals(result.get(0))) {
+            log.warn("Refresh token reuse detected, family {} of user {} revoked", familyId, userId);
+            throw new InvalidTokenException("Refresh token reuse detected");
+        }
+        if ("REVOKED".equals(result.get(0))) {
+            log.info("Refresh token family {} of user {} revoked by a logout from all devices", familyId, userId);
+            throw new InvalidTokenException("Session has been revoked");
+        }
+        if ("EXPIRED".equals(result.get(0))) {
+            log.info("Refresh token family {} of user {} reached its maximum lifetime", familyId, userId);
+            throw new InvalidTokenException("Session has expired");
+        }
+
+        return new RefreshTokenGrant(
+                newToken,
+                familyId,
+                userId,
+                Long.parseLong(result.get(1)),
+                now + Long.parseLong(result.get(2))
+        );
+    }
+
+    @Override
+    public void revokeFamily(String userId, String familyId) {
+        redisTemplate.delete(familyKey(userId, familyId));
+        redisTemplate.opsForSet().remove(userKey(userId), familyId);
+    }
+
+    @Override
+    public void revokeAllForUser(String userId) {
+        String userKey = userKey(userId);
+        Set<String> families = redisTemplate.opsForSet().members(userKey);
+        if (families != null && !families.isEmpty()) {
+            redisTemplate.delete(families.stream().map(id -> familyKey(userId, id)).toList());
+            // Seulement les familles supprimées : une connexion concurrente reste indexée
+            redisTemplate.opsForSet().remove(userKey, families.toArray());
+        }
+        log.info("All refresh token families revoked for user: {}", userId);
+    }
+
+    private String newToken(String userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return userId + "." + familyId + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest md = (MessageDigest) digestPrototype.clone();
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 digest cannot be cloned", e);
+        }
+    }
+
+    private static String tokenKey(String userId, String tokenHash) {
+        return TOKEN_PREFIX + "{" + userId + "}:" + tokenHash;
+    }
+
+    private static String familyKey(String userId, String familyId) {
+        return FAMILY_PREFIX + "{" + userId + "}:" + familyId;
+    }
+
+    private static String userKey(String userId) {
+        return USER_PREFIX + "{" + userId + "}";
+    }
+}
@@ -2,15 +2,21 @@ package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
 
 import fr.lpreaux.usermanager.application.port.out.TokenBlacklistRepository;
 import fr.lpreaux.usermanager.infrastructure.monitorig.SecurityMetrics;
+import fr.lpreaux.usermanager.infrastructure.persistence.cache.RedisKeyPresenceCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -18,15 +24,17 @@ import java.util.concurrent.TimeUnit;
  * Utilise Redis comme stockage pour les tokens révoqués avec expiration automatique.
  */
 @Component
+@ConditionalOnProperty(name = "security.jwt.blacklist.store", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class RedisTokenBlacklistAdapter implements TokenBlacklistRepository {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final SecurityMetrics securityMetrics;
+    private final RedisKeyPresenceCache keyPresenceCache;
 
     // Préfixes pour les clés Redis
-    private static final String TOKEN_PREFIX = "blacklisted_token:";
+    public static final String TOKEN_PREFIX = "blacklisted_token:";
     private static final String USER_PREFIX = "blacklisted_user:";
     private static final String USER_TOKEN_PREFIX = "user_tokens:";
 
@@ -42,6 +50,7 @@ public class RedisTokenBlacklistAdapter implements TokenBlacklistRepository {
             String value = Instant.now().toString();
 
             redisTemplate.opsForValue().set(key, value, ttlMs, TimeUnit.MILLISECONDS);
+            keyPresenceCache.invalidate(key);
             securityMetrics.incrementBlacklistedTokens();
             log.info("Token added to blacklist, expires at: {}", Instant.ofEpochMilli(expirationTimeMs));
         } else {
@@ -52,9 +61,8 @@ public class RedisTokenBlacklistAdapter implements TokenBlacklistRepository {
     @Override
     public boolean isBlacklisted(String token) {
         String key = TOKEN_PREFIX + token;
-        Boolean exists = redisTemplate.hasKey(key);
 
-        if (exists) {
+        if (keyPresenceCache.exists(key)) {
             log.debug("Token found in blacklist");
             securityMetrics.incrementRejectedTokens();
             return true;
@@ -63,38 +71,62 @@ public class RedisTokenBlacklistAdapter implements TokenBlacklistRepository {
         return false;
     }
 
+    /**
+     * Un seul {@code MGET} pour tout le lot : une valeur non nulle signale un token blacklisté.
+     */
     @Override
-    @Scheduled(fixedRate = 3600000) // Nettoyage toutes les heures
-    public void removeExpiredTokens() {
-        // Redis gère automatiquement l'expiration des clés
-        // Cette méthode est principalement pour la conformité avec l'interface
-        // et pourrait servir à des actions de maintenance supplémentaires
-
-        log.debug("Starting scheduled maintenance check for token blacklist");
+    public Set<String> findBlacklisted(Collection<String> tokens) {
+        List<String> orderedTokens = List.copyOf(tokens);
+        if (orderedTokens.isEmpty()) {
+            return Set.of();
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                orderedTokens.stream().map(token -> TOKEN_PREFIX + token).toList());
+        if (values == null) {
+            return Set.of();
+        }
 
-        // Comptage des entrées dans la liste noire pour monitoring
-        long size = getBlacklistSize();
-        log.info("Current blacklist size: {} tokens", size);
+        Set<String> blacklisted = new HashSet<>();
+        for (int i = 0; i < orderedTokens.size(); i++) {
+            if (values.get(i) != null) {
+                blacklisted.add(orderedTokens.get(i));
+                securityMetrics.incrementRejectedTokens();
+            }
+        }
+        return blacklisted;
+    }
 
-        // On pourrait ajouter ici d'autres opérations de maintenance
-        // comme la vérification de l'intégrité ou la réplication des données
+    /**
+     * Sans effet : Redis supprime lui-même les entrées à leur expiration (TTL). Volontairement non planifiée,
+     * un parcours {@code SCAN} de toute la liste noire n'ayant d'autre utilité que d'en journaliser la taille ;
+     * celle-ci reste disponible à la demande par {@link #getBlacklistSize()}.
+     */
+    @Override
+    public void removeExpiredTokens() {
+        log.debug("Token blacklist entries expire through Redis TTLs, nothing to remove");
     }
 
     @Override
     public long getBlacklistSize() {
-        ScanOptions options = ScanOptions.scanOptions().match(TOKEN_PREFIX + "*").build();
-        long count = 0;
-
-        try (Cursor<byte[]> cursor = redisTemplate.getConnectionFactory().getConnection().scan(options)) {
-            while (cursor.hasNext()) {
-                cursor.next();
-                count++;
-            }
+        ScanOptions options = ScanOptions.scanOptions().match(TOKEN_PREFIX + "*").count(1000).build();
+
+        try {
+            // Passer par le template garantit que la connexion est rendue au pool après le SCAN
+            Long count = redisTemplate.execute((RedisCallback<Long>) connection -> {
+                long total = 0;
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    while (cursor.hasNext()) {
+                        cursor.next();
+                        total++;
+                    }
+                }
+                return total;
+            });
+            return count != null ? count : 0;
         } catch (Exception e) {
             log.error("Error counting blacklisted tokens", e);
+            return 0;
         }
-
-        return count;
     }
 
     @Override
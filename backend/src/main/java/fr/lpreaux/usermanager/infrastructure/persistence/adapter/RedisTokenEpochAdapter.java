@@ -0,0 +1,223 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
+
+import fr.lpreaux.usermanager.application.port.out.TokenEpochRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implémentation Redis des époques de tokens.
+ * <p>
+ * L'époque d'un utilisateur est stockée dans Redis avec une durée de vie égale à celle des tokens :
+ * au-delà, tous les tokens émis avant la dernière révocation ont expiré et l'entrée devient inutile.
+ * Chaque instance garde une copie locale des seules époques récentes, tenue à jour par pub/sub
+ * et par une resynchronisation périodique, de sorte que la validation ne fait aucun appel réseau.
+ * <p>
+ * Une nouvelle époque vaut {@code max(époque + 1, maintenant en ms)} : si l'entrée a expiré entre
+ * deux révocations, la suivante reste supérieure à toutes les époques déjà émises.
+ * <p>
+ * La clé {@code token_epoch:{<userId>}} porte l'étiquette de hachage des refresh tokens de l'utilisateur :
+ * le script de rotation la lit sur le même slot Redis Cluster.
+ */
+@Component
+@Slf4j
+public class RedisTokenEpochAdapter implements TokenEpochRepository, MessageListener {
+
+    private static final String EPOCH_PREFIX = "token_epoch:";
+    private static final String CHANNEL = "token_epoch_updates";
+
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local updated = math.max(current + 1, tonumber(ARGV[1]))
+            redis.call('SET', KEYS[1], updated, 'PX', ARGV[2])
+            redis.call('PUBLISH', ARGV[3], ARGV[4] .. '=' .. updated)
+            return updated
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long epochTtlMs;
+
+    /**
+     * Époques récentes par utilisateur : O(utilisateurs révoqués pendant la durée de vie d'un token).
+     */
+    private final Map<String, LocalEpoch> recentEpochs = new ConcurrentHashMap<>();
+
+    private volatile boolean subscribed;
+
+    public RedisTokenEpochAdapter(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${security.jwt.token.expire-length-ms:3600000}") long tokenValidityMs) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.epochTtlMs = tokenValidityMs;
+    }
+
+    @Override
+    public long getEpochForNewToken(String userId) {
+        long local = localEpoch(userId);
+        try {
+            // Lecture dans Redis : une instance ayant manqué une notification ne doit pas émettre
+            // un token déjà révoqué pour les autres instances
+            String value = redisTemplate.opsForValue().get(epochKey(userId));
+            return value != null ? Math.max(local, Long.parseLong(value)) : local;
+        } catch (RuntimeException e) {
+            log.warn("Unable to read token epoch from Redis, using local value: {}", e.getMessage());
+            return local;
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String userId, long tokenEpoch) {
+        return tokenEpoch < localEpoch(userId);
+    }
+
+    @Override
+    public long incrementEpoch(String userId) {
+        Long epoch = redisTemplate.execute(
+                INCREMENT_SCRIPT,
+                List.of(epochKey(userId)),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(epochTtlMs),
+                CHANNEL,
+                userId
+        );
+        long newEpoch = epoch != null ? epoch : System.currentTimeMillis();
+
+        // Prise en compte immédiate sur cette instance, sans attendre la notification
+        updateLocal(userId, newEpoch, System.currentTimeMillis() + epochTtlMs);
+        log.info("Token epoch for user {} incremented to {}", userId, newEpoch);
+        return newEpoch;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf('=');
+        if (separator <= 0) {
+            log.warn("Ignoring malformed token epoch notification: {}", body);
+            return;
+        }
+        try {
+            long epoch = Long.parseLong(body.substring(separator + 1));
+            updateLocal(body.substring(0, separator), epoch, System.currentTimeMillis() + epochTtlMs);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed token epoch notification: {}", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        resynchronize();
+    }
+
+    /**
+     * Recharge les époques depuis Redis et purge les entrées locales expirées.
+     * Rattrape les notifications perdues pendant une déconnexion du pub/sub.
+     */
+    @Scheduled(fixedRateString = "${security.jwt.revocation.epoch-resync-interval-ms:300000}",
+            initialDelayString = "${security.jwt.revocation.epoch-resync-interval-ms:300000}")
+    public void resynchronize() {
+        long now = System.currentTimeMillis();
+        recentEpochs.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+
+        try {
+            if (!subscribed) {
+                listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+                subscribed = true;
+            }
+
+            Map<String, LocalEpoch> loaded = loadEpochs(now);
+            loaded.forEach((userId, epoch) -> updateLocal(userId, epoch.epoch(), epoch.expiresAt()));
+            log.debug("Token epochs resynchronized ({} recent revocations)", recentEpochs.size());
+        } catch (RuntimeException e) {
+            log.warn("Unable to resynchronize token epochs from Redis: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, LocalEpoch> loadEpochs(long now) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(EPOCH_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+
+        Map<String, LocalEpoch> epochs = new HashMap<>();
+        if (keys.isEmpty()) {
+            return epochs;
+        }
+
+        // Valeur et durée de vie restante de chaque clé en un seul aller-retour (pipeline)
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().get(rawKey);
+                connection.keyCommands().pTtl(rawKey);
+            }
+            return null;
+        });
+        for (int i = 0; i < keys.size(); i++) {
+            // GET désérialisé par le sérialiseur de valeurs du template, PTTL en Long (-2 : clé expirée entre-temps)
+            if (results.get(2 * i) instanceof String value && results.get(2 * i + 1) instanceof Long ttl && ttl > 0) {
+                String userId = userIdOf(keys.get(i));
+                epochs.put(userId, new LocalEpoch(Long.parseLong(value), now + ttl));
+            }
+        }
+        return epochs;
+    }
+
+    /**
+     * Clé de l'époque d'un utilisateur, partagée avec {@link RedisRefreshTokenAdapter}.
+     */
+    static String epochKey(String userId) {
+        return EPOCH_PREFIX + "{" + userId + "}";
+    }
+
+    private static String userIdOf(String key) {
+        String tagged = key.substring(EPOCH_PREFIX.length());
+        // Clés antérieures à l'étiquette {userId} : lues jusqu'à leur expiration
+        return tagged.startsWith("{") && tagged.endsWith("}") ? tagged.substring(1, tagged.length() - 1) : tagged;
+    }
+
+    private long localEpoch(String userId) {
+        LocalEpoch epoch = recentEpochs.get(userId);
+        if (epoch == null) {
+            return 0;
+        }
+        if (epoch.expiresAt() <= System.currentTimeMillis()) {
+            // Tous les tokens antérieurs à cette révocation ont expiré
+            recentEpochs.remove(userId, epoch);
+            return 0;
+        }
+        return epoch.epoch();
+    }
+
+    private void updateLocal(String userId, long epoch, long expiresAt) {
+        recentEpochs.merge(userId, new LocalEpoch(epoch, expiresAt),
+                (current, candidate) -> candidate.epoch() >= current.epoch() ? candidate : current);
+    }
+
+    private record LocalEpoch(long epoch, long expiresAt) {
+    }
+}
@@ -0,0 +1,184 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
+
+import fr.lpreaux.usermanager.application.port.out.UserReadModel;
+import fr.lpreaux.usermanager.domain.model.valueobject.RoleId;
+import fr.lpreaux.usermanager.domain.model.valueobject.UserId;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Maintien de {@code user_view} en une instruction ensembliste : INSERT ... SELECT depuis les tables
+ * normalisées, ON DUPLICATE KEY UPDATE.
+ * <p>
+ * La vue d'un utilisateur est recalculée dans la transaction de l'écriture, validée ou annulée avec elle.
+ * Celles des détenteurs d'un rôle modifié (tous les utilisateurs pour {@code USER}) le sont après la
+ * validation de la transaction de l'administrateur, par lots de {@code database.user-view.refresh-batch-size}
+ * utilisateurs parcourus par clé ({@code user_id}), chacun dans sa propre transaction : aucun recalcul
+ * complet ne verrouille les vues ni les tables sources, au prix d'un court délai de propagation.
+ */
+@Component
+@Slf4j
+public class UserReadModelAdapter implements UserReadModel {
+
+    // Aucun rôle n'a l'UUID nul : valeur de :excludedRoleId quand aucun rôle n'est écarté
+    private static final byte[] NO_ROLE = new byte[16];
+    // Plus petite clé possible : point de départ du parcours des détenteurs
+    private static final byte[] FIRST_USER_ID = new byte[16];
+
+    private static final String REFRESH = """
+            INSERT INTO user_view (user_id, login, last_name, first_name, birth_date,
+                                   emails, phone_numbers, roles, permissions)
+            SELECT u.user_id, u.login, u.last_name, u.first_name, u.birth_date,
+                   COALESCE((SELECT JSON_ARRAYAGG(e.email ORDER BY e.id)
+                             FROM user_emails e WHERE e.user_id = u.user_id), JSON_ARRAY()),
+                   COALESCE((SELECT JSON_ARRAYAGG(p.phone_number ORDER BY p.id)
+                             FROM user_phone_numbers p WHERE p.user_id = u.user_id), JSON_ARRAY()),
+                   COALESCE((SELECT JSON_ARRAYAGG(r.name ORDER BY r.name)
+                             FROM user_roles ur JOIN roles r ON r.role_id = ur.role_id
+                             WHERE ur.user_id = u.user_id AND ur.role_id <> :excludedRoleId), JSON_ARRAY()),
+                   COALESCE((SELECT JSON_ARRAYAGG(DISTINCT rp.permission ORDER BY rp.permission)
+                             FROM user_roles ur JOIN role_permissions rp ON rp.role_id = ur.role_id
+                             WHERE ur.user_id = u.user_id AND ur.role_id <> :excludedRoleId), JSON_ARRAY())
+            FROM users u
+            WHERE %s
+            ON DUPLICATE KEY UPDATE login = VALUES(login), last_name = VALUES(last_name),
+                first_name = VALUES(first_name), birth_date = VALUES(birth_date), emails = VALUES(emails),
+                phone_numbers = VALUES(phone_numbers), roles = VALUES(roles), permissions = VALUES(permissions)
+            """;
+
+    private static final String BY_USER = REFRESH.formatted("u.user_id = :userId");
+    private static final String BY_USERS = REFRESH.formatted("u.user_id IN (:userIds)");
+
+    // Index de la clé étrangère user_roles.role_id, qui porte aussi user_id : parcours ordonné sans tri
+    private static final String HOLDERS_AFTER = """
+            SELECT user_id FROM user_roles
+            WHERE role_id = :roleId AND user_id > :afterUserId
+            ORDER BY user_id
+            LIMIT :limit
+            """;
+    private static final String ALL_HOLDERS = "SELECT user_id FROM user_roles WHERE role_id = :roleId";
+
+    private final EntityManager entityManager;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionOperations batchTransactions;
+    private final int batchSize;
+
+    @Autowired
+    public UserReadModelAdapter(
+            EntityManager entityManager,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${database.user-view.refresh-batch-size:500}") int batchSize) {
+        this(entityManager, jdbcTemplate, requiresNew(transactionManager), batchSize);
+    }
+
+    UserReadModelAdapter(EntityManager entityManager, NamedParameterJdbcTemplate jdbcTemplate,
+                         TransactionOperations batchTransactions, int batchSize) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransactions = batchTransactions;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void refresh(UserId userId) {
+        // Les modifications JPA en attente (save par merge) doivent être visibles du SELECT
+        entityManager.flush();
+        jdbcTemplate.update(BY_USER, new MapSqlParameterSource("userId", UuidBytes.toBytes(userId.getValue()))
+                .addValue("excludedRoleId", NO_ROLE));
+    }
+
+    @Override
+    public void refreshUsersWithRole(RoleId roleId) {
+        byte[] role = UuidBytes.toBytes(roleId.getValue());
+        afterCommit(roleId, () -> {
+            byte[] afterUserId = FIRST_USER_ID;
+            List<byte[]> batch;
+            do {
+                byte[] after = afterUserId;
+                batch = batchTransactions.execute(status -> {
+                    List<byte[]> holders = jdbcTemplate.queryForList(HOLDERS_AFTER,
+                            new MapSqlParameterSource("roleId", role)
+                                    .addValue("afterUserId", after)
+                                    .addValue("limit", batchSize),
+                            byte[].class);
+                    refreshBatch(holders, NO_ROLE);
+                    return holders;
+                });
+                if (batch == null || batch.isEmpty()) {
+                    return;
+                }
+                afterUserId = batch.getLast();
+            } while (batch.size() == batchSize);
+        });
+    }
+
+    @Override
+    public void refreshUsersWithoutRole(RoleId roleId) {
+        byte[] role = UuidBytes.toBytes(roleId.getValue());
+        // Détenteurs relevés avant la suppression du rôle : user_roles est ensuite purgé en cascade
+        entityManager.flush();
+        List<byte[]> holders = jdbcTemplate.queryForList(ALL_HOLDERS, new MapSqlParameterSource("roleId", role),
+                byte[].class);
+        afterCommit(roleId, () -> {
+            for (int from = 0; from < holders.size(); from += batchSize) {
+                List<byte[]> batch = holders.subList(from, Math.min(from + batchSize, holders.size()));
+                batchTransactions.executeWithoutResult(status -> refreshBatch(batch, role));
+            }
+        });
+    }
+
+    private void refreshBatch(List<byte[]> userIds, byte[] excludedRoleId) {
+        if (!userIds.isEmpty()) {
+            jdbcTemplate.update(BY_USERS, new MapSqlParameterSource("userIds", userIds)
+                    .addValue("excludedRoleId", excludedRoleId));
+        }
+    }
+
+    /**
+     * Recalcule les vues des détenteurs d'un rôle une fois la transaction en cours validée, ou immédiatement
+     * hors transaction. Un échec est journalisé sans faire échouer l'écriture, déjà validée.
+     */
+    private void afterCommit(RoleId roleId, Runnable refresh) {
+        Runnable guarded = () -> {
+            try {
+                refresh.run();
+            } catch (RuntimeException e) {
+                log.error("Views of the holders of role {} could not be refreshed", roleId.getValue(), e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+
+    /**
+     * Transactions des lots : toujours nouvelles, y compris depuis {@code afterCommit} où les ressources
+     * de la transaction validée sont encore liées au thread.
+     */
+    private static TransactionOperations requiresNew(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
@@ -1,5 +1,6 @@
 package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
 
+import fr.lpreaux.usermanager.application.exception.UserAlreadyExistsException;
 import fr.lpreaux.usermanager.application.port.out.UserRepository;
 import fr.lpreaux.usermanager.domain.model.Permission;
 import fr.lpreaux.usermanager.domain.model.Role;
@@ -9,22 +10,44 @@ import fr.lpreaux.usermanager.infrastructure.persistence.entity.RoleEntity;
 import fr.lpreaux.usermanager.infrastructure.persistence.entity.UserEmailEntity;
 import fr.lpreaux.usermanager.infrastructure.persistence.entity.UserEntity;
 import fr.lpreaux.usermanager.infrastructure.persistence.entity.UserPhoneNumberEntity;
+import fr.lpreaux.usermanager.infrastructure.persistence.entity.UserViewEntity;
 import fr.lpreaux.usermanager.infrastructure.persistence.repository.RoleJpaRepository;
 import fr.lpreaux.usermanager.infrastructure.persistence.repository.UserJpaRepository;
+import fr.lpreaux.usermanager.infrastructure.persistence.repository.UserViewJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class UserRepositoryAdapter implements UserRepository {
 
+    // Taille maximale des listes IN : plan d'exécution stable et requête de taille bornée
+    private static final int MAX_IDS_PER_QUERY = 1000;
+    // Aucun utilisateur n'a l'UUID nul : plus petite clé possible, point de départ du parcours
+    private static final UUID FIRST_USER_ID = new UUID(0, 0);
+
     private final UserJpaRepository userJpaRepository;
     private final RoleJpaRepository roleJpaRepository;
+    private final UserViewJpaRepository userViewJpaRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
     public User save(User user) {
@@ -33,6 +56,40 @@ public class UserRepositoryAdapter implements UserRepository {
         return mapToDomain(savedEntity);
     }
 
+    /**
+     * Insertion en SQL natif, sans lecture préalable (pas de merge JPA) : une requête par table,
+     * les emails, numéros et rôles en une seule requête multi-lignes chacun. En cas de violation
+     * d'unicité, une requête ensembliste identifie le login et les emails déjà utilisés.
+     * <p>
+     * La ligne de user_view est écrite depuis l'agrégat, dans le même ordre que
+     * {@link UserReadModelAdapter} (emails et numéros dans l'ordre d'insertion, rôles par nom) ;
+     * seules les permissions, que l'agrégat ne porte pas, sont lues par identifiant de rôle.
+     */
+    @Override
+    public User insert(User user) {
+        byte[] userId = UuidBytes.toBytes(user.getId().getValue());
+        List<byte[]> roleIds = user.getRoles().stream().map(role -> UuidBytes.toBytes(role.getId().getValue())).toList();
+        try {
+            jdbcTemplate.update("INSERT INTO users (user_id, login, password, last_name, first_name, birth_date) "
+                            + "VALUES (:userId, :login, :password, :lastName, :firstName, :birthDate)",
+                    new MapSqlParameterSource("userId", userId)
+                            .addValue("login", user.getLogin().getValue())
+                            .addValue("password", user.getPassword().getValue())
+                            .addValue("lastName", user.getLastName().getValue())
+                            .addValue("firstName", user.getFirstName().getValue())
+                            .addValue("birthDate", user.getBirthDate().getValue()));
+            insertChildren("user_emails", "email", userId,
+                    user.getEmails().stream().map(Email::getValue).toList());
+            insertChildren("user_phone_numbers", "phone_number", userId,
+                    user.getPhoneNumbers().stream().map(PhoneNumber::getValue).toList());
+            insertChildren("user_roles", "role_id", userId, roleIds);
+            insertView(user, userId, roleIds);
+        } catch (DuplicateKeyException e) {
+            throw new UserAlreadyExistsException(describeConflicts(user));
+        }
+        return user;
+    }
+
     @Override
     public Optional<User> findById(UserId userId) {
         return userJpaRepository.findById(userId.getValue())
@@ -45,12 +102,85 @@ public class UserRepositoryAdapter implements UserRepository {
                 .map(this::mapToDomain);
     }
 
+    /**
+     * Identifiant lu dans l'index des emails, puis agrégat chargé par clé primaire.
+     */
     @Override
     public Optional<User> findByEmail(Email email) {
-        return userJpaRepository.findByEmail(email.getValue())
+        return userJpaRepository.findUserIdByEmail(email.getValue())
+                .flatMap(userJpaRepository::findById)
                 .map(this::mapToDomain);
     }
 
+    /**
+     * Une ligne de user_view lue par clé primaire : ni jointure, ni collection, ni rôle à charger.
+     */
+    @Override
+    public Optional<UserView> findViewById(UserId userId) {
+        return userViewJpaRepository.findById(userId.getValue())
+                .map(UserRepositoryAdapter::mapToView);
+    }
+
+    @Override
+    public Optional<UserView> findViewByLogin(Login login) {
+        return userViewJpaRepository.findByLogin(login.getValue())
+                .map(UserRepositoryAdapter::mapToView);
+    }
+
+    /**
+     * Identifiant lu dans l'index des emails, puis ligne de user_view par clé primaire.
+     */
+    @Override
+    public Optional<UserView> findViewByEmail(Email email) {
+        return userJpaRepository.findUserIdByEmail(email.getValue())
+                .flatMap(userViewJpaRepository::findById)
+                .map(UserRepositoryAdapter::mapToView);
+    }
+
+    @Override
+    public List<UserView> findAllViews() {
+        return userViewJpaRepository.findAll().stream()
+                .map(UserRepositoryAdapter::mapToView)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Accès « const » par l'index unique du login : une seule ligne lue, ni collections ni rôles.
+     */
+    @Override
+    public Optional<Credentials> findCredentialsByLogin(Login login) {
+        return jdbcTemplate.query("SELECT user_id, login, password FROM users WHERE login = :login",
+                        new MapSqlParameterSource("login", login.getValue()),
+                        (resultSet, rowNum) -> new Credentials(
+                                UserId.of(UuidBytes.toUuid(resultSet.getBytes("user_id"))),
+                                Login.of(resultSet.getString("login")),
+                                Password.ofHashed(resultSet.getString("password"))))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Rôles et permissions en une requête, par la clé primaire de user_roles.
+     */
+    @Override
+    public Authorities findAuthorities(UserId userId) {
+        Set<String> roles = new HashSet<>();
+        Set<String> permissions = new HashSet<>();
+        jdbcTemplate.query("SELECT r.name, rp.permission FROM user_roles ur "
+                        + "JOIN roles r ON r.role_id = ur.role_id "
+                        + "LEFT JOIN role_permissions rp ON rp.role_id = ur.role_id "
+                        + "WHERE ur.user_id = :userId",
+                new MapSqlParameterSource("userId", UuidBytes.toBytes(userId.getValue())),
+                (RowCallbackHandler) resultSet -> {
+                    roles.add(resultSet.getString("name"));
+                    String permission = resultSet.getString("permission");
+                    if (permission != null) {
+                        permissions.add(permission);
+                    }
+                });
+        return new Authorities(roles, permissions);
+    }
+
     @Override
     public List<User> findAll() {
         return userJpaRepository.findAll().stream()
@@ -85,6 +215,178 @@ public class UserRepositoryAdapter implements UserRepository {
         return userJpaRepository.existsByIdAndRolesId(userId.getValue(), roleId.getValue());
     }
 
+    /**
+     * Sélectionne les identifiants en SQL natif (index de recherche), puis lit leurs lignes de user_view
+     * par clé primaire en conservant l'ordre de tri.
+     */
+    @Override
+    public List<UserView> search(SearchQuery query) {
+        UserSearchSql.Statement statement = UserSearchSql.build(query);
+        List<UUID> ids = jdbcTemplate.query(statement.sql(), statement.parameters(),
+                (resultSet, rowNum) -> UuidBytes.toUuid(resultSet.getBytes(1)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, UserView> views = userViewJpaRepository.findAllById(ids).stream()
+                .map(UserRepositoryAdapter::mapToView)
+                .collect(Collectors.toMap(UserView::id, Function.identity()));
+        // Un utilisateur supprimé entre les deux requêtes est simplement omis
+        return ids.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Lignes de user_view lues par clé primaire, une requête IN par tranche d'identifiants.
+     */
+    @Override
+    public List<UserView> findViewsByIds(Collection<UserId> userIds) {
+        List<UUID> ids = userIds.stream().map(UserId::getValue).distinct().toList();
+        List<UserView> views = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+            userViewJpaRepository.findAllById(ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size())))
+                    .forEach(entity -> views.add(mapToView(entity)));
+        }
+        return views;
+    }
+
+    @Override
+    public List<UserView> findViewsAfter(UserId afterUserId, int limit) {
+        UUID after = afterUserId != null ? afterUserId.getValue() : FIRST_USER_ID;
+        return userViewJpaRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit)).stream()
+                .map(UserRepositoryAdapter::mapToView)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Parcours par clé primaire en SQL natif : deux requêtes par lot (utilisateurs puis emails),
+     * sans contexte de persistance ni rôles.
+     */
+    @Override
+    public void scanSearchableUsers(int batchSize, Consumer<List<SearchableUser>> consumer) {
+        byte[] after = null;
+        while (true) {
+            MapSqlParameterSource parameters = new MapSqlParameterSource("limit", batchSize);
+            String sql = "SELECT user_id, login, last_name, first_name FROM users";
+            if (after != null) {
+                sql += " WHERE user_id > :after";
+                parameters.addValue("after", after);
+            }
+            List<SearchableUser> users = jdbcTemplate.query(sql + " ORDER BY user_id LIMIT :limit", parameters,
+                    (resultSet, rowNum) -> new SearchableUser(
+                            UuidBytes.toUuid(resultSet.getBytes("user_id")),
+                            resultSet.getString("login"),
+                            resultSet.getString("last_name"),
+                            resultSet.getString("first_name"),
+                            new ArrayList<>()));
+            if (users.isEmpty()) {
+                return;
+            }
+
+            Map<UUID, List<String>> emails = users.stream()
+                    .collect(Collectors.toMap(SearchableUser::id, SearchableUser::emails));
+            List<byte[]> ids = users.stream().map(user -> UuidBytes.toBytes(user.id())).toList();
+            jdbcTemplate.query("SELECT user_id, email FROM user_emails WHERE user_id IN (:ids) ORDER BY id",
+                    new MapSqlParameterSource("ids", ids),
+                    (RowCallbackHandler) resultSet -> emails.get(UuidBytes.toUuid(resultSet.getBytes("user_id")))
+                            .add(resultSet.getString("email")));
+
+            consumer.accept(users);
+            if (users.size() < batchSize) {
+                return;
+            }
+            after = ids.getLast();
+        }
+    }
+
+    private static UserView mapToView(UserViewEntity entity) {
+        return new UserView(entity.getId(), entity.getLogin(), entity.getLastName(), entity.getFirstName(),
+                entity.getBirthDate(), entity.getEmails(), entity.getPhoneNumbers(),
+                entity.getRoles(), entity.getPermissions());
+    }
+
+    private void insertChildren(String table, String column, byte[] userId, List<?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource("userId", userId);
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                .append(" (user_id, ").append(column).append(") VALUES ");
+        for (int i = 0; i < values.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(:userId, :value").append(i).append(')');
+            parameters.addValue("value" + i, values.get(i));
+        }
+        jdbcTemplate.update(sql.toString(), parameters);
+    }
+
+    private void insertView(User user, byte[] userId, List<byte[]> roleIds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("userId", userId)
+                .addValue("login", user.getLogin().getValue())
+                .addValue("lastName", user.getLastName().getValue())
+                .addValue("firstName", user.getFirstName().getValue())
+                .addValue("birthDate", user.getBirthDate().getValue());
+        String emails = jsonArray(parameters, "email", user.getEmails().stream().map(Email::getValue).toList());
+        String phoneNumbers = jsonArray(parameters, "phoneNumber",
+                user.getPhoneNumbers().stream().map(PhoneNumber::getValue).toList());
+        String roles = jsonArray(parameters, "role", user.getRoles().stream().map(Role::getName).sorted().toList());
+        String permissions = "JSON_ARRAY()";
+        if (!roleIds.isEmpty()) {
+            permissions = "COALESCE((SELECT JSON_ARRAYAGG(DISTINCT rp.permission ORDER BY rp.permission) "
+                    + "FROM role_permissions rp WHERE rp.role_id IN (:roleIds)), JSON_ARRAY())";
+            parameters.addValue("roleIds", roleIds);
+        }
+        jdbcTemplate.update("INSERT INTO user_view (user_id, login, last_name, first_name, birth_date, "
+                        + "emails, phone_numbers, roles, permissions) "
+                        + "VALUES (:userId, :login, :lastName, :firstName, :birthDate, "
+                        + emails + ", " + phoneNumbers + ", " + roles + ", " + permissions + ")",
+                parameters);
+    }
+
+    /**
+     * Expression {@code JSON_ARRAY(:prefix0, :prefix1, ...)} dont les valeurs sont ajoutées aux paramètres.
+     */
+    private static String jsonArray(MapSqlParameterSource parameters, String prefix, List<String> values) {
+        StringBuilder sql = new StringBuilder("JSON_ARRAY(");
+        for (int i = 0; i < values.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(':').append(prefix).append(i);
+            parameters.addValue(prefix + i, values.get(i));
+        }
+        return sql.append(')').toString();
+    }
+
+    /**
+     * Valeurs en conflit, lues en une requête ; la transaction est annulée par l'exception qui suit.
+     */
+    private String describeConflicts(User user) {
+        List<String> emails = user.getEmails().stream().map(Email::getValue).toList();
+        String sql = "SELECT 'login' AS field, login AS value FROM users WHERE login = :login";
+        MapSqlParameterSource parameters = new MapSqlParameterSource("login", user.getLogin().getValue());
+        if (!emails.isEmpty()) {
+            sql += " UNION ALL SELECT 'email', email FROM user_emails WHERE email IN (:emails)";
+            parameters.addValue("emails", emails);
+        }
+
+        List<String> usedEmails = new ArrayList<>();
+        boolean loginUsed = false;
+        for (Map<String, Object> row : jdbcTemplate.queryForList(sql, parameters)) {
+            if ("login".equals(row.get("field"))) {
+                loginUsed = true;
+            } else {
+                usedEmails.add((String) row.get("value"));
+            }
+        }
+        if (loginUsed) {
+            return "Login already exists: " + user.getLogin().getValue();
+        }
+        if (!usedEmails.isEmpty()) {
+            return "Email already exists: " + String.join(", ", usedEmails);
+        }
+        // Conflit avec une transaction annulée depuis, ou email répété dans la même demande
+        return "Login or email already exists";
+    }
+
     private UserEntity mapToEntity(User user) {
         UserEntity userEntity = UserEntity.builder()
                 .id(user.getId().getValue())
@@ -0,0 +1,155 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
+
+import fr.lpreaux.usermanager.application.port.out.UserRepository.SearchQuery;
+import fr.lpreaux.usermanager.application.port.out.UserRepository.SearchSort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Requête SQL de recherche d'utilisateurs ({@link SearchQuery}), écrite pour que chaque filtre
+ * s'appuie sur un index de {@code V3__add_user_search_indexes.sql} :
+ * <ul>
+ *     <li>préfixe : {@code LIKE 'terme%'} sur un index B-tree ;</li>
+ *     <li>« contient » : {@code MATCH ... AGAINST} en mode booléen sur un index FULLTEXT
+ *     (mots commençant par le terme, un {@code LIKE '%terme%'} imposerait un parcours complet) ;</li>
+ *     <li>âge : bornes sur {@code birth_date} ;</li>
+ *     <li>pagination par clé : {@code (colonnes de tri, user_id)} comparés à la position précédente.</li>
+ * </ul>
+ * Ne sélectionne que les identifiants ; les agrégats sont chargés ensuite par clé primaire.
+ */
+final class UserSearchSql {
+
+    private static final int MIN_FULLTEXT_WORD_LENGTH = 3;
+
+    private UserSearchSql() {
+    }
+
+    record Statement(String sql, MapSqlParameterSource parameters) {
+    }
+
+    static Statement build(SearchQuery query) {
+        StringBuilder sql = new StringBuilder("SELECT u.user_id FROM users u WHERE 1 = 1");
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+
+        if (query.login() != null) {
+            if (query.contains()) {
+                sql.append(" AND MATCH (u.login) AGAINST (:login IN BOOLEAN MODE)");
+                parameters.addValue("login", fulltextTerms(query.login()));
+            } else {
+                sql.append(" AND u.login LIKE :login");
+                parameters.addValue("login", likePrefix(query.login()));
+            }
+        }
+        if (query.name() != null) {
+            if (query.contains()) {
+                sql.append(" AND MATCH (u.last_name, u.first_name) AGAINST (:name IN BOOLEAN MODE)");
+                parameters.addValue("name", fulltextTerms(query.name()));
+            } else {
+                // Deux plages combinées par index_merge
+                sql.append(" AND (u.last_name LIKE :name OR u.first_name LIKE :name)");
+                parameters.addValue("name", likePrefix(query.name()));
+            }
+        }
+        if (query.email() != null) {
+            sql.append(" AND u.user_id IN (SELECT e.user_id FROM user_emails e WHERE ");
+            if (query.contains()) {
+                sql.append("MATCH (e.email) AGAINST (:email IN BOOLEAN MODE))");
+                parameters.addValue("email", fulltextTerms(query.email()));
+            } else {
+                sql.append("e.email LIKE :email)");
+                parameters.addValue("email", likePrefix(query.email()));
+            }
+        }
+        if (query.bornAfter() != null) {
+            sql.append(" AND u.birth_date > :bornAfter");
+            parameters.addValue("bornAfter", query.bornAfter());
+        }
+        if (query.bornOnOrBefore() != null) {
+            sql.append(" AND u.birth_date <= :bornOnOrBefore");
+            parameters.addValue("bornOnOrBefore", query.bornOnOrBefore());
+        }
+        if (query.role() != null) {
+            sql.append(" AND u.user_id IN (SELECT ur.user_id FROM user_roles ur"
+                    + " JOIN roles r ON r.role_id = ur.role_id WHERE r.name = :role)");
+            parameters.addValue("role", query.role());
+        }
+
+        List<String> columns = sortColumns(query.sort());
+        if (query.afterId() != null) {
+            appendKeyset(sql, parameters, query, columns);
+        }
+
+        String direction = query.descending() ? " DESC" : "";
+        sql.append(" ORDER BY ")
+                .append(columns.stream().map(column -> column + direction).collect(Collectors.joining(", ")))
+                .append(", u.user_id").append(direction)
+                .append(" LIMIT :limit");
+        parameters.addValue("limit", query.limit());
+
+        return new Statement(sql.toString(), parameters);
+    }
+
+    private static List<String> sortColumns(SearchSort sort) {
+        return switch (sort) {
+            case LOGIN -> List.of("u.login");
+            case LAST_NAME -> List.of("u.last_name", "u.first_name");
+            case BIRTH_DATE -> List.of("u.birth_date");
+        };
+    }
+
+    /**
+     * {@code (c1 > v1) OR (c1 = v1 AND c2 > v2) OR ... OR (c1 = v1 AND ... AND user_id > id)} :
+     * forme développée que l'optimiseur MariaDB sait transformer en plage sur l'index de tri.
+     */
+    private static void appendKeyset(StringBuilder sql, MapSqlParameterSource parameters,
+                                     SearchQuery query, List<String> columns) {
+        if (query.afterValues() == null || query.afterValues().size() != columns.size()) {
+            throw new IllegalArgumentException("Keyset values do not match sort " + query.sort());
+        }
+        String operator = query.descending() ? " < " : " > ";
+        int keySize = columns.size() + 1;
+
+        sql.append(" AND (");
+        for (int i = 0; i < keySize; i++) {
+            if (i > 0) {
+                sql.append(" OR ");
+            }
+            sql.append('(');
+            for (int j = 0; j < i; j++) {
+                sql.append(column(columns, j)).append(" = :after").append(j).append(" AND ");
+            }
+            sql.append(column(columns, i)).append(operator).append(":after").append(i).append(')');
+        }
+        sql.append(')');
+
+        for (int i = 0; i < columns.size(); i++) {
+            String value = query.afterValues().get(i);
+            parameters.addValue("after" + i,
+                    query.sort() == SearchSort.BIRTH_DATE ? LocalDate.parse(value) : value);
+        }
+        parameters.addValue("after" + columns.size(), UuidBytes.toBytes(query.afterId()));
+    }
+
+    private static String column(List<String> columns, int index) {
+        return index < columns.size() ? columns.get(index) : "u.user_id";
+    }
+
+    private static String likePrefix(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    /**
+     * Chaque mot indexable devient obligatoire et préfixe : {@code +mot*}. Les séparateurs
+     * (espaces, points, arobases...) et les opérateurs booléens sont écartés.
+     */
+    private static String fulltextTerms(String term) {
+        return Arrays.stream(term.split("[^\\p{L}\\p{N}_]+"))
+                .filter(word -> word.length() >= MIN_FULLTEXT_WORD_LENGTH)
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+    }
+}
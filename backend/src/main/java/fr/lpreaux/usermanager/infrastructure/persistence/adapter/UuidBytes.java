@@ -0,0 +1,26 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Conversion des UUID vers et depuis les colonnes {@code BINARY(16)} lues ou écrites en SQL natif,
+ * dans l'ordre d'octets de Hibernate (bits de poids fort en premier).
+ */
+final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
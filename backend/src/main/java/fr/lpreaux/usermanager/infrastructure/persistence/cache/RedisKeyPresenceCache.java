@@ -0,0 +1,345 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.cache;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cache local de présence de clés Redis, invalidé par le serveur (CLIENT TRACKING, RESP3).
+ * <p>
+ * Les lectures {@code hasKey} sur les clés de liste noire et de blocage sont très fréquentes alors que
+ * ces clés changent rarement : la réponse (présente ou absente) est conservée localement et Redis pousse
+ * un message {@code invalidate} dès qu'une clé suivie est modifiée, supprimée ou expire.
+ * <p>
+ * Deux modes sont disponibles :
+ * <ul>
+ *     <li>{@code bcast} : le serveur notifie toute modification des clés commençant par les préfixes configurés ;</li>
+ *     <li>{@code default} : le serveur ne notifie que les clés lues par cette connexion.</li>
+ * </ul>
+ * Désactivé, ou si la connexion de suivi est perdue, chaque appel est transmis à Redis via le {@link RedisTemplate}.
+ */
+@Component
+@Slf4j
+public class RedisKeyPresenceCache {
+
+    // Entrées examinées pour choisir celle à évincer lorsque le cache est plein
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final String mode;
+    private final List<String> prefixes;
+    private final int maxEntries;
+    private final long maxAgeNanos;
+    private final RedisURI redisUri;
+
+    private final ConcurrentHashMap<String, Object> entries = new ConcurrentHashMap<>();
+
+    private RedisClient client;
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile boolean tracking;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter invalidationCounter;
+
+    public RedisKeyPresenceCache(
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${redis.client-cache.enabled:false}") boolean enabled,
+            @Value("${redis.client-cache.mode:bcast}") String mode,
+            @Value("${redis.client-cache.prefixes:blacklisted_token:,block:ip:,block:username:}") List<String> prefixes,
+            @Value("${redis.client-cache.max-entries:100000}") int maxEntries,
+            @Value("${redis.client-cache.max-age:60s}") Duration maxAge,
+            @Value("${spring.data.redis.host:localhost}") String redisHost,
+            @Value("${spring.data.redis.port:6379}") int redisPort,
+            @Value("${spring.data.redis.password:}") String redisPassword,
+            @Value("${spring.data.redis.timeout:2s}") Duration timeout) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.mode = mode;
+        this.prefixes = prefixes;
+        this.maxEntries = maxEntries;
+        this.maxAgeNanos = maxAge.toNanos();
+
+        RedisURI.Builder uri = RedisURI.builder().withHost(redisHost).withPort(redisPort).withTimeout(timeout);
+        if (!redisPassword.isEmpty()) {
+            uri.withPassword(redisPassword.toCharArray());
+        }
+        this.redisUri = uri.build();
+    }
+
+    @PostConstruct
+    public void start() {
+        hitCounter = Counter.builder("app.redis.client_cache.hits")
+                .description("Key presence lookups served from the local cache")
+                .register(meterRegistry);
+        missCounter = Counter.builder("app.redis.client_cache.misses")
+                .description("Key presence lookups sent to Redis")
+                .register(meterRegistry);
+        invalidationCounter = Counter.builder("app.redis.client_cache.invalidations")
+                .description("Invalidation messages received from Redis")
+                .register(meterRegistry);
+        Gauge.builder("app.redis.client_cache.size", entries, ConcurrentHashMap::size)
+                .description("Number of keys held in the local cache")
+                .register(meterRegistry);
+        Gauge.builder("app.redis.client_cache.hit.ratio", this, RedisKeyPresenceCache::hitRatio)
+                .description("Ratio of lookups served from the local cache")
+                .register(meterRegistry);
+
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            client = RedisClient.create(redisUri);
+            client.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+            connection = client.connect();
+            connection.addListener(this::onPushMessage);
+            connection.sync().clientTracking(trackingArgs());
+            tracking = true;
+            client.addListener(new TrackingReconnectListener());
+            log.info("Redis client-side caching enabled (mode: {}, prefixes: {})", mode, prefixes);
+        } catch (Exception e) {
+            log.warn("Unable to enable Redis client-side caching, falling back to direct lookups: {}", e.getMessage());
+            stop();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        tracking = false;
+        entries.clear();
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+        if (client != null) {
+            client.shutdown();
+            client = null;
+        }
+    }
+
+    /**
+     * Indique si une clé existe, en s'appuyant sur le cache local lorsque le suivi est actif.
+     *
+     * @param key La clé Redis
+     * @return true si la clé existe
+     */
+    public boolean exists(String key) {
+        StatefulRedisConnection<String, String> current = connection;
+        if (!tracking || current == null) {
+            missCounter.increment();
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        }
+
+        Object cached = entries.get(key);
+        if (cached instanceof Entry entry && entry.isFresh(maxAgeNanos)) {
+            hitCounter.increment();
+            entry.touch();
+            return entry.present();
+        }
+        missCounter.increment();
+
+        // Réserver l'emplacement avant la lecture : une invalidation reçue pendant l'aller-retour
+        // supprime la réservation et la réponse, potentiellement périmée, n'est pas mise en cache.
+        Object reservation = new Object();
+        if (cached == null && entries.size() >= maxEntries) {
+            evictOne();
+        }
+        boolean reserved = cached == null
+                ? entries.putIfAbsent(key, reservation) == null
+                : entries.replace(key, cached, reservation);
+
+        try {
+            // En mode default, la lecture doit passer par la connexion de suivi pour que le serveur mémorise la clé
+            boolean present = current.sync().exists(key) > 0;
+            if (reserved) {
+                entries.replace(key, reservation, new Entry(present, System.nanoTime()));
+            }
+            return present;
+        } catch (RuntimeException e) {
+            if (reserved) {
+                entries.remove(key, reservation);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Invalide immédiatement une clé localement après une écriture faite par cette instance,
+     * sans attendre la notification du serveur.
+     *
+     * @param key La clé Redis modifiée
+     */
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Évince une seule entrée, la moins récemment lue d'un échantillon pris à un endroit aléatoire de la table
+     * (LRU approché, comme Redis) : vider tout le cache ferait chuter le taux de succès et renverrait d'un coup
+     * toutes les lectures vers Redis.
+     */
+    private void evictOne() {
+        // Découpage aléatoire du parcours : l'échantillon ne commence pas toujours au début de la table
+        Spliterator<Map.Entry<String, Object>> spliterator = entries.entrySet().spliterator();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (spliterator.estimateSize() > 4L * EVICTION_SAMPLE_SIZE) {
+            Spliterator<Map.Entry<String, Object>> prefix = spliterator.trySplit();
+            if (prefix == null) {
+                break;
+            }
+            if (random.nextBoolean()) {
+                spliterator = prefix;
+            }
+        }
+
+        List<Map.Entry<String, Object>> sample = new ArrayList<>(EVICTION_SAMPLE_SIZE);
+        while (sample.size() < EVICTION_SAMPLE_SIZE && spliterator.tryAdvance(sample::add)) {
+            // l'échantillon est rempli par tryAdvance
+        }
+
+        Map.Entry<String, Object> victim = null;
+        Entry oldest = null;
+        for (Map.Entry<String, Object> candidate : sample) {
+            // Les réservations (lectures en cours) ne sont pas candidates
+            if (candidate.getValue() instanceof Entry entry
+                    && (oldest == null || entry.lastReadNanos - oldest.lastReadNanos < 0)) {
+                oldest = entry;
+                victim = candidate;
+            }
+        }
+        if (victim != null) {
+            entries.remove(victim.getKey(), oldest);
+            return;
+        }
+        // Portion tirée vide ou réservée : première entrée de la table
+        for (Map.Entry<String, Object> candidate : entries.entrySet()) {
+            if (candidate.getValue() instanceof Entry && entries.remove(candidate.getKey(), candidate.getValue())) {
+                return;
+            }
+        }
+    }
+
+    public double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    private TrackingArgs trackingArgs() {
+        TrackingArgs args = TrackingArgs.Builder.enabled();
+        if ("bcast".equalsIgnoreCase(mode)) {
+            args.bcast().prefixes(prefixes.toArray(String[]::new));
+        }
+        return args;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onPushMessage(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        invalidationCounter.increment();
+
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof List<?> list) {
+            ((List<String>) list).forEach(entries::remove);
+        } else {
+            // Un message sans clé signifie FLUSHALL/FLUSHDB ou une perte de suivi côté serveur
+            entries.clear();
+        }
+    }
+
+    /**
+     * Le suivi est attaché à la connexion : il est perdu à chaque reconnexion.
+     * Le cache est vidé à la déconnexion et le suivi réactivé une fois la connexion rétablie.
+     */
+    private class TrackingReconnectListener implements RedisConnectionStateListener {
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+            tracking = false;
+            entries.clear();
+        }
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress address) {
+            StatefulRedisConnection<String, String> current = connection;
+            if (current == null || handler != current) {
+                return;
+            }
+            current.async().clientTracking(trackingArgs()).whenComplete((result, error) -> {
+                if (error != null) {
+                    log.warn("Unable to re-enable Redis client tracking: {}", error.getMessage());
+                } else {
+                    entries.clear();
+                    tracking = true;
+                }
+            });
+        }
+
+        @Override
+        public void onRedisExceptionCaught(RedisChannelHandler<?, ?> handler, Throwable cause) {
+            // Les erreurs de commande sont remontées aux appelants
+        }
+    }
+
+    private static final class Entry {
+
+        private final boolean present;
+        private final long loadedAtNanos;
+        private volatile long lastReadNanos;
+
+        Entry(boolean present, long loadedAtNanos) {
+            this.present = present;
+            this.loadedAtNanos = loadedAtNanos;
+            this.lastReadNanos = loadedAtNanos;
+        }
+
+        boolean present() {
+            return present;
+        }
+
+        boolean isFresh(long maxAgeNanos) {
+            return System.nanoTime() - loadedAtNanos < maxAgeNanos;
+        }
+
+        void touch() {
+            lastReadNanos = System.nanoTime();
+        }
+    }
+}
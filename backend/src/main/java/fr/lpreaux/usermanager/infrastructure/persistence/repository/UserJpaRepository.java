@@ -15,15 +15,16 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
 
     Optional<UserEntity> findByLogin(String login);
 
-    @Query("SELECT u FROM UserEntity u JOIN u.emails e WHERE e.email = :email")
-    Optional<UserEntity> findByEmail(@Param("email") String email);
+    // Sonde de l'index unique de user_emails, sans jointure vers users
+    @Query("SELECT e.user.id FROM UserEmailEntity e WHERE e.email = :email")
+    Optional<UUID> findUserIdByEmail(@Param("email") String email);
 
     boolean existsByLogin(String login);
 
-    @Query("SELECT COUNT(u) > 0 FROM UserEntity u JOIN u.emails e WHERE e.email = :email")
+    @Query("SELECT COUNT(e) > 0 FROM UserEmailEntity e WHERE e.email = :email")
     boolean existsByEmail(@Param("email") String email);
 
     List<UserEntity> findByRolesId(UUID roleId);
 
     boolean existsByIdAndRolesId(UUID userId, UUID roleId);
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.repository;
+
+import fr.lpreaux.usermanager.infrastructure.persistence.entity.UserViewEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UserViewJpaRepository extends JpaRepository<UserViewEntity, UUID> {
+
+    Optional<UserViewEntity> findByLogin(String login);
+
+    // Parcours par clé primaire : une page par requête, sans tri ni décalage
+    List<UserViewEntity> findByIdGreaterThanOrderByIdAsc(UUID afterId, Limit limit);
+}
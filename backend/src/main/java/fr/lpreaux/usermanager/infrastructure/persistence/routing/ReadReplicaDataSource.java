@@ -0,0 +1,178 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connexions des transactions {@code readOnly} : réplicas MariaDB servis à tour de rôle.
+ * <p>
+ * Utilisée comme {@code readOnlyDataSource} d'un
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, qui n'ouvre la connexion
+ * qu'à la première requête, une fois le drapeau lecture seule de la transaction connu.
+ * <p>
+ * Un réplica n'est retenu que si son retard, mesuré par la table {@code replication_heartbeat}, reste sous
+ * {@code maxLag}. La connexion vient du primaire si aucun réplica n'est à jour, si tous sont injoignables
+ * ou si l'utilisateur courant vient d'écrire ({@link ReadYourWritesTracker}).
+ */
+@Slf4j
+public class ReadReplicaDataSource extends AbstractDataSource implements Closeable {
+
+    private static final String BEAT_SQL = "UPDATE replication_heartbeat SET beat_at = NOW(3) WHERE id = 1";
+    private static final String LAG_SQL =
+            "SELECT TIMESTAMPDIFF(MICROSECOND, beat_at, NOW(3)) FROM replication_heartbeat WHERE id = 1";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long maxLagMillis;
+    private final JdbcTemplate primaryJdbc;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaDataSource(DataSource primary, List<Replica> replicas,
+                                 ReadYourWritesTracker readYourWritesTracker, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLagMillis = maxLag.toMillis();
+        this.primaryJdbc = new JdbcTemplate(primary);
+        this.primaryJdbc.setQueryTimeout(1);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!readYourWritesTracker.isCurrentUserPinned()) {
+            int start = next.getAndIncrement();
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+                if (replica.isWithin(maxLagMillis)) {
+                    try {
+                        return replica.dataSource().getConnection();
+                    } catch (SQLException e) {
+                        // Exclu jusqu'à la prochaine mesure réussie
+                        replica.markDown(e);
+                    }
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+    }
+
+    /**
+     * Écrit le battement sur le primaire puis mesure le retard de chaque réplica.
+     * Le retard mesuré inclut jusqu'à un intervalle de battement.
+     */
+    @Scheduled(fixedRateString = "${database.replicas.heartbeat-interval-ms:500}")
+    public void checkReplicationLag() {
+        try {
+            primaryJdbc.update(BEAT_SQL);
+        } catch (DataAccessException e) {
+            log.warn("Unable to write replication heartbeat on primary: {}", e.getMessage());
+        }
+        for (Replica replica : replicas) {
+            replica.probe(maxLagMillis);
+        }
+        readYourWritesTracker.purge();
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * Réplica et dernier retard mesuré ; inconnu (donc exclu) jusqu'à la première mesure.
+     */
+    public static final class Replica {
+
+        private static final long UNKNOWN = Long.MAX_VALUE;
+
+        private final String name;
+        private final DataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+
+        private volatile long lagMillis = UNKNOWN;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.jdbcTemplate.setQueryTimeout(1);
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        /**
+         * Dernier retard mesuré en millisecondes, {@code -1} si inconnu ou injoignable.
+         */
+        public long lagMillis() {
+            long lag = lagMillis;
+            return lag == UNKNOWN ? -1 : lag;
+        }
+
+        boolean isWithin(long maxLagMillis) {
+            return lagMillis <= maxLagMillis;
+        }
+
+        void probe(long maxLagMillis) {
+            long lag;
+            try {
+                Long micros = jdbcTemplate.queryForObject(LAG_SQL, Long.class);
+                lag = micros == null ? UNKNOWN : Math.max(0, micros / 1000);
+            } catch (DataAccessException e) {
+                markDown(e);
+                return;
+            }
+            boolean wasWithin = isWithin(maxLagMillis);
+            recordLag(lag);
+            if (wasWithin && !isWithin(maxLagMillis)) {
+                log.warn("Replica {} excluded from reads: lag {} ms exceeds {} ms", name, lag, maxLagMillis);
+            } else if (!wasWithin && isWithin(maxLagMillis)) {
+                log.info("Replica {} serving reads (lag {} ms)", name, lag);
+            }
+        }
+
+        void recordLag(long lagMillis) {
+            this.lagMillis = lagMillis;
+        }
+
+        void markDown(Exception cause) {
+            if (lagMillis != UNKNOWN) {
+                log.warn("Replica {} excluded from reads: {}", name, cause.getMessage());
+            }
+            lagMillis = UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.routing;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Garde sur le primaire les lectures d'un utilisateur qui vient d'écrire, le temps que la réplication
+ * lui rende ses propres modifications.
+ * <p>
+ * Chaque transaction en écriture validée enregistre l'utilisateur authentifié (principal de la requête) ;
+ * ses transactions {@code readOnly} sont ensuite servies par le primaire pendant {@code window}.
+ * Le suivi est local à l'instance : derrière un répartiteur sans affinité, une lecture sur une autre
+ * instance reste soumise au seul garde de retard.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private final long windowNanos;
+
+    // Dernière écriture par utilisateur (System.nanoTime), purgée à chaque mesure du retard
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) {
+            return;
+        }
+        String user = currentUser();
+        if (user != null) {
+            lastWrites.put(user, System.nanoTime());
+        }
+    }
+
+    /**
+     * Indique si l'utilisateur courant a validé une écriture depuis moins de {@code window}.
+     */
+    public boolean isCurrentUserPinned() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(user);
+        return writtenAt != null && System.nanoTime() - writtenAt < windowNanos;
+    }
+
+    void purge() {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
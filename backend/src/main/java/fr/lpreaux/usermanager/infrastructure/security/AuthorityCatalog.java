@@ -0,0 +1,344 @@
+package fr.lpreaux.usermanager.infrastructure.security;
+
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.domain.model.Permission;
+import fr.lpreaux.usermanager.domain.model.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Catalogue versionné des rôles et permissions.
+ * <p>
+ * Chaque rôle et chaque permission reçoit un indice au sein d'une version du catalogue (ordre
+ * alphabétique), ce qui permet de les encoder sous forme d'identifiants courts dans les tokens.
+ * La version est dérivée du contenu (SHA-256 tronqué) : toutes les instances lisant la même base
+ * calculent la même version sans coordination. Les versions récentes restent décodables pour les
+ * tokens émis avant une modification des rôles.
+ * <p>
+ * Le catalogue sert aussi de table d'autorités précalculées : une seule instance de
+ * {@link GrantedAuthority} par rôle ou permission connu, partagée par toutes les requêtes.
+ */
+@Component
+@Slf4j
+public class AuthorityCatalog {
+
+    public static final String ROLE_PREFIX = "ROLE_";
+
+    private static final int RETAINED_VERSIONS = 8;
+    private static final long DEFAULT_MISS_RELOAD_INTERVAL_MS = 5_000;
+
+    private final RoleRepository roleRepository;
+    private final long missReloadIntervalNanos;
+
+    // Prochain rechargement autorisé sur version inconnue (System.nanoTime)
+    private final AtomicLong nextMissReload = new AtomicLong(System.nanoTime());
+
+    private volatile Snapshot current;
+    private final Map<String, Snapshot> versions = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+            return size() > RETAINED_VERSIONS;
+        }
+    };
+
+    public AuthorityCatalog(RoleRepository roleRepository) {
+        this(roleRepository, DEFAULT_MISS_RELOAD_INTERVAL_MS);
+    }
+
+    @Autowired
+    public AuthorityCatalog(
+            RoleRepository roleRepository,
+            @Value("${security.jwt.claims.catalog-miss-reload-interval-ms:5000}") long missReloadIntervalMs) {
+        this.roleRepository = roleRepository;
+        this.missReloadIntervalNanos = TimeUnit.MILLISECONDS.toNanos(missReloadIntervalMs);
+    }
+
+    /**
+     * Version courante du catalogue, chargée à la première utilisation.
+     */
+    public Snapshot current() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot : reload();
+    }
+
+    /**
+     * Version du catalogue correspondant à un token, rechargée depuis la base si elle est inconnue.
+     * <p>
+     * Une version inconnue ne déclenche qu'un rechargement par intervalle, quelle que soit la version
+     * demandée : des clients présentant en boucle des tokens d'une version abandonnée ne transforment
+     * pas chaque requête en lecture de tous les rôles.
+     *
+     * @param version La version portée par le token
+     * @return Le catalogue, ou null si la version n'existe plus ou n'est pas encore connue
+     */
+    public Snapshot forVersion(String version) {
+        Snapshot snapshot = current();
+        if (snapshot.version().equals(version)) {
+            return snapshot;
+        }
+        synchronized (versions) {
+            snapshot = versions.get(version);
+        }
+        if (snapshot != null) {
+            return snapshot;
+        }
+        if (!tryAcquireMissReload()) {
+            return null;
+        }
+        Snapshot loaded = reload();
+        return loaded.version().equals(version) ? loaded : null;
+    }
+
+    /**
+     * Recharge le catalogue depuis les rôles persistés.
+     */
+    @Scheduled(fixedRateString = "${security.jwt.claims.catalog-refresh-interval-ms:60000}",
+            initialDelayString = "${security.jwt.claims.catalog-refresh-interval-ms:60000}")
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * Autorités d'un utilisateur, issues de la table précalculée.
+     * <p>
+     * Les utilisateurs partageant peu de combinaisons de rôles, la collection est canonicalisée :
+     * une même combinaison (quel que soit l'ordre ou l'implémentation des ensembles) renvoie la même
+     * liste immuable, sans allocation une fois en cache. Les noms absents du catalogue (rôle créé
+     * depuis le dernier rechargement) restent acceptés.
+     */
+    public Collection<GrantedAuthority> authoritiesFor(Set<String> roles, Set<String> permissions) {
+        return current().authoritiesFor(roles, permissions);
+    }
+
+    private boolean tryAcquireMissReload() {
+        long now = System.nanoTime();
+        long next = nextMissReload.get();
+        return now - next >= 0 && nextMissReload.compareAndSet(next, now + missReloadIntervalNanos);
+    }
+
+    private Snapshot reload() {
+        Snapshot loaded = Snapshot.of(roleRepository.findAll());
+        synchronized (versions) {
+            Snapshot previous = versions.putIfAbsent(loaded.version(), loaded);
+            if (previous != null) {
+                // Même contenu : conserver les instances (et les caches de décodage) déjà partagées
+                loaded = previous;
+            } else {
+                log.info("Authority catalog version {} loaded ({} roles, {} permissions)",
+                        loaded.version(), loaded.roles().size(), loaded.permissions().size());
+            }
+            current = loaded;
+        }
+        return loaded;
+    }
+
+    /**
+     * Version figée du catalogue. Les noms sont internés et les ensembles décodés sont mis en cache :
+     * deux tokens portant les mêmes droits partagent les mêmes instances.
+     */
+    public record Snapshot(
+            String version,
+            List<String> roles,
+            List<String> permissions,
+            Map<String, Integer> roleIndex,
+            Map<String, Integer> permissionIndex,
+            Map<String, GrantedAuthority> roleAuthorities,
+            Map<String, GrantedAuthority> permissionAuthorities,
+            Map<String, Set<String>> decodedRoles,
+            Map<String, Set<String>> decodedPermissions,
+            Map<AuthorityKey, List<GrantedAuthority>> authoritySets
+    ) {
+
+        private static final int MAX_DECODED_ENTRIES = 1024;
+        private static final int MAX_AUTHORITY_SETS = 256;
+
+        static Snapshot of(List<Role> persistedRoles) {
+            TreeSet<String> roleNames = new TreeSet<>();
+            TreeSet<String> permissionNames = new TreeSet<>();
+            for (Role role : persistedRoles) {
+                roleNames.add(role.getName());
+                for (Permission permission : role.getPermissions()) {
+                    permissionNames.add(permission.getName());
+                }
+            }
+
+            List<String> roles = roleNames.stream().map(String::intern).toList();
+            List<String> permissions = permissionNames.stream().map(String::intern).toList();
+
+            Map<String, Integer> roleIndex = new HashMap<>();
+            Map<String, GrantedAuthority> roleAuthorities = new HashMap<>();
+            for (int i = 0; i < roles.size(); i++) {
+                roleIndex.put(roles.get(i), i);
+                roleAuthorities.put(roles.get(i), new SimpleGrantedAuthority(ROLE_PREFIX + roles.get(i)));
+            }
+            Map<String, Integer> permissionIndex = new HashMap<>();
+            Map<String, GrantedAuthority> permissionAuthorities = new HashMap<>();
+            for (int i = 0; i < permissions.size(); i++) {
+                permissionIndex.put(permissions.get(i), i);
+                permissionAuthorities.put(permissions.get(i), new SimpleGrantedAuthority(permissions.get(i)));
+            }
+
+            return new Snapshot(version(roles, permissions), roles, permissions,
+                    Map.copyOf(roleIndex), Map.copyOf(permissionIndex),
+                    Map.copyOf(roleAuthorities), Map.copyOf(permissionAuthorities),
+                    new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        List<GrantedAuthority> authoritiesFor(Set<String> roles, Set<String> permissions) {
+            // La clé ne s'échappe pas en cas de succès : allocation éliminée par le JIT
+            List<GrantedAuthority> cached = authoritySets.get(new AuthorityKey(roles, permissions));
+            if (cached != null) {
+                return cached;
+            }
+
+            List<GrantedAuthority> authorities = new ArrayList<>(roles.size() + permissions.size());
+            for (String role : roles) {
+                GrantedAuthority authority = roleAuthorities.get(role);
+                authorities.add(authority != null ? authority : new SimpleGrantedAuthority(ROLE_PREFIX + role));
+            }
+            for (String permission : permissions) {
+                GrantedAuthority authority = permissionAuthorities.get(permission);
+                authorities.add(authority != null ? authority : new SimpleGrantedAuthority(permission));
+            }
+            List<GrantedAuthority> shared = List.copyOf(authorities);
+
+            // Borné : au-delà, les combinaisons rares sont construites sans être conservées.
+            // Copie des ensembles : l'appelant peut les modifier après coup.
+            if (authoritySets.size() < MAX_AUTHORITY_SETS) {
+                List<GrantedAuthority> previous = authoritySets.putIfAbsent(
+                        new AuthorityKey(Set.copyOf(roles), Set.copyOf(permissions)), shared);
+                return previous != null ? previous : shared;
+            }
+            return shared;
+        }
+
+        /**
+         * Rôles encodés en identifiants courts séparés par des virgules, ou null si un rôle est inconnu.
+         */
+        public String encodeRoles(Set<String> names) {
+            int[] ids = new int[names.size()];
+            int count = 0;
+            for (String name : names) {
+                Integer index = roleIndex.get(name);
+                if (index == null) {
+                    return null;
+                }
+                ids[count++] = index;
+            }
+            Arrays.sort(ids);
+
+            StringBuilder encoded = new StringBuilder(ids.length * 2);
+            for (int id : ids) {
+                if (!encoded.isEmpty()) {
+                    encoded.append(',');
+                }
+                encoded.append(id);
+            }
+            return encoded.toString();
+        }
+
+        /**
+         * Permissions encodées en bitset Base64URL, ou null si une permission est inconnue.
+         */
+        public String encodePermissions(Set<String> names) {
+            BitSet bits = new BitSet(permissions.size());
+            for (String name : names) {
+                Integer index = permissionIndex.get(name);
+                if (index == null) {
+                    return null;
+                }
+                bits.set(index);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bits.toByteArray());
+        }
+
+        public Set<String> decodeRoles(String encoded) {
+            return decode(decodedRoles, encoded, this::parseRoles);
+        }
+
+        public Set<String> decodePermissions(String encoded) {
+            return decode(decodedPermissions, encoded, this::parsePermissions);
+        }
+
+        private Set<String> parseRoles(String encoded) {
+            Set<String> names = new LinkedHashSet<>();
+            if (!encoded.isEmpty()) {
+                for (String id : encoded.split(",")) {
+                    int index = Integer.parseInt(id);
+                    if (index < 0 || index >= roles.size()) {
+                        throw new IllegalArgumentException("Role index out of catalog range");
+                    }
+                    names.add(roles.get(index));
+                }
+            }
+            return Set.copyOf(names);
+        }
+
+        private Set<String> parsePermissions(String encoded) {
+            BitSet bits = BitSet.valueOf(Base64.getUrlDecoder().decode(encoded));
+            if (bits.length() > permissions.size()) {
+                throw new IllegalArgumentException("Permission index out of catalog range");
+            }
+            Set<String> names = new LinkedHashSet<>();
+            for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                names.add(permissions.get(i));
+            }
+            return Set.copyOf(names);
+        }
+
+        private static Set<String> decode(Map<String, Set<String>> cache, String encoded,
+                                          Function<String, Set<String>> parser) {
+            Set<String> decoded = cache.get(encoded);
+            if (decoded != null) {
+                return decoded;
+            }
+            decoded = parser.apply(encoded);
+            // Borné : au-delà, les combinaisons rares sont décodées sans être conservées
+            if (cache.size() < MAX_DECODED_ENTRIES) {
+                cache.putIfAbsent(encoded, decoded);
+            }
+            return decoded;
+        }
+
+        /**
+         * Clé de combinaison : l'égalité des {@link Set} ne dépend ni de l'ordre ni de l'implémentation.
+         */
+        public record AuthorityKey(Set<String> roles, Set<String> permissions) {}
+
+        private static String version(List<String> roles, List<String> permissions) {
+            String canonical = String.join(",", roles) + "|" + String.join(",", permissions);
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest, 0, 6);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package fr.lpreaux.usermanager.infrastructure.security;
 
 import fr.lpreaux.usermanager.application.port.out.SecurityAuditLogger;
+import fr.lpreaux.usermanager.infrastructure.persistence.cache.RedisKeyPresenceCache;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +25,7 @@ public class BruteForceProtectionService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final SecurityAuditLogger securityAuditLogger;
+    private final RedisKeyPresenceCache keyPresenceCache;
 
     // Préfixes pour les clés Redis
     private static final String AUTH_ATTEMPT_IP_PREFIX = "auth_attempt:ip:";
@@ -171,7 +173,7 @@ public class BruteForceProtectionService {
      * @return true si l'IP est bloquée
      */
     public boolean isIpBlocked(String ipAddress) {
-        return redisTemplate.hasKey(BLOCK_IP_PREFIX + ipAddress);
+        return keyPresenceCache.exists(BLOCK_IP_PREFIX + ipAddress);
     }
 
     /**
@@ -184,7 +186,7 @@ public class BruteForceProtectionService {
         if (username == null || username.isEmpty()) {
             return false;
         }
-        return redisTemplate.hasKey(BLOCK_USERNAME_PREFIX + username);
+        return keyPresenceCache.exists(BLOCK_USERNAME_PREFIX + username);
     }
 
     /**
@@ -199,6 +201,7 @@ public class BruteForceProtectionService {
                 String.valueOf(System.currentTimeMillis()),
                 duration
         );
+        keyPresenceCache.invalidate(BLOCK_IP_PREFIX + ipAddress);
 
         log.warn("IP address {} has been blocked for {} minutes", ipAddress, duration.toMinutes());
     }
@@ -219,6 +222,7 @@ public class BruteForceProtectionService {
                 String.valueOf(System.currentTimeMillis()),
                 duration
         );
+        keyPresenceCache.invalidate(BLOCK_USERNAME_PREFIX + username);
 
         log.warn("Username {} has been blocked for {} minutes", username, duration.toMinutes());
     }
@@ -0,0 +1,20 @@
+-- V3__add_user_search_indexes.sql
+-- Index de la recherche multi-critères (UserRepository.search, voir UserSearchSql).
+-- InnoDB ajoute la clé primaire (user_id) à chaque index secondaire : un index sur les colonnes de tri
+-- sert donc aussi la pagination par clé (colonnes de tri, user_id).
+-- Déjà couverts par V1/V2 : préfixe et tri sur login (UNIQUE login), préfixe sur email (UNIQUE email),
+-- filtre par rôle (UNIQUE roles.name, index de la clé étrangère user_roles.role_id).
+
+-- Préfixe sur le nom et tri (last_name, first_name, user_id)
+CREATE INDEX idx_users_last_name_first_name ON users (last_name, first_name);
+
+-- Préfixe sur le prénom, combiné au précédent par index_merge pour « nom ou prénom »
+CREATE INDEX idx_users_first_name ON users (first_name);
+
+-- Tranches d'âge, converties en bornes sur la date de naissance, et tri (birth_date, user_id)
+CREATE INDEX idx_users_birth_date ON users (birth_date);
+
+-- Recherche « contient » : mots commençant par le terme, MATCH ... AGAINST en mode booléen
+CREATE FULLTEXT INDEX ftx_users_login ON users (login);
+CREATE FULLTEXT INDEX ftx_users_names ON users (last_name, first_name);
+CREATE FULLTEXT INDEX ftx_user_emails_email ON user_emails (email);
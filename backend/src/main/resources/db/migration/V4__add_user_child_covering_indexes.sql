@@ -0,0 +1,10 @@
+-- V4__add_user_child_covering_indexes.sql
+-- Connexion et recherche par email : login = ? et email = ? sont résolus en accès « const » par les index
+-- UNIQUE de V1 (une descente d'index puis une lecture de ligne). MariaDB n'ayant pas de colonnes INCLUDE,
+-- un index (login, password) ne serait jamais retenu face à l'index unique : rien à ajouter de ce côté.
+--
+-- Chargement de l'agrégat complet (emails et numéros d'un utilisateur) : l'index de la clé étrangère
+-- ne contient que (user_id, id) et impose une lecture par ligne ; ces index couvrent les requêtes.
+-- InnoDB ajoute la clé primaire (id) à chaque index secondaire.
+CREATE INDEX idx_user_emails_user_id_email ON user_emails (user_id, email);
+CREATE INDEX idx_user_phone_numbers_user_id_phone ON user_phone_numbers (user_id, phone_number);
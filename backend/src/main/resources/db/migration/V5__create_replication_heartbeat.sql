@@ -0,0 +1,11 @@
+-- V5__create_replication_heartbeat.sql
+-- Mesure du retard des réplicas en lecture : chaque instance met à jour beat_at sur le primaire à intervalle
+-- régulier ; le retard d'un réplica est l'écart entre son horloge et la dernière valeur répliquée.
+-- Indépendant de Seconds_Behind_Master, nul entre deux événements du journal binaire et absent sous Galera.
+CREATE TABLE replication_heartbeat (
+    id TINYINT NOT NULL,
+    beat_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, NOW(3));
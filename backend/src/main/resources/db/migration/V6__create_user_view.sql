@@ -0,0 +1,35 @@
+-- V6__create_user_view.sql
+-- Modèle de lecture dénormalisé : une ligne par utilisateur, emails, numéros, noms de rôles et permissions
+-- effectives en tableaux JSON. Recalculé par UserReadModelAdapter dans la transaction de chaque écriture
+-- (UserService, UserRoleService, RoleManagementService) ; supprimé en cascade avec l'utilisateur.
+-- JSON est un alias de LONGTEXT avec contrôle JSON_VALID sous MariaDB.
+CREATE TABLE user_view (
+    user_id BINARY(16) NOT NULL,
+    login VARCHAR(50) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    first_name VARCHAR(100) NOT NULL,
+    birth_date DATE NOT NULL,
+    emails JSON NOT NULL,
+    phone_numbers JSON NOT NULL,
+    roles JSON NOT NULL,
+    permissions JSON NOT NULL,
+    PRIMARY KEY (user_id),
+    -- Non unique : deux lignes peuvent échanger leur login au sein d'une transaction
+    INDEX idx_user_view_login (login),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+-- Même calcul que UserReadModelAdapter, pour les utilisateurs existants
+INSERT INTO user_view (user_id, login, last_name, first_name, birth_date, emails, phone_numbers, roles, permissions)
+SELECT u.user_id, u.login, u.last_name, u.first_name, u.birth_date,
+       COALESCE((SELECT JSON_ARRAYAGG(e.email ORDER BY e.id)
+                 FROM user_emails e WHERE e.user_id = u.user_id), JSON_ARRAY()),
+       COALESCE((SELECT JSON_ARRAYAGG(p.phone_number ORDER BY p.id)
+                 FROM user_phone_numbers p WHERE p.user_id = u.user_id), JSON_ARRAY()),
+       COALESCE((SELECT JSON_ARRAYAGG(r.name ORDER BY r.name)
+                 FROM user_roles ur JOIN roles r ON r.role_id = ur.role_id
+                 WHERE ur.user_id = u.user_id), JSON_ARRAY()),
+       COALESCE((SELECT JSON_ARRAYAGG(DISTINCT rp.permission ORDER BY rp.permission)
+                 FROM user_roles ur JOIN role_permissions rp ON rp.role_id = ur.role_id
+                 WHERE ur.user_id = u.user_id), JSON_ARRAY())
+FROM users u;
@@ -0,0 +1,87 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+/**
+ * Serveur Reactor Netty de l'adaptateur réactif.
+ * <p>
+ * Spring Boot ne démarre qu'un seul serveur web (Tomcat, puisque MVC est présent) : celui-ci est
+ * donc démarré et arrêté avec le contexte. Les métriques Reactor Netty ({@code reactor.netty.http.server.*})
+ * sont publiées dans le registre Micrometer global, étiquetées par le modèle d'URI de la route.
+ */
+@Component
+@Profile("reactive")
+@Slf4j
+public class ReactiveHttpServer implements SmartLifecycle {
+
+    private static final String USERS_PATH = "/api/v1/users/";
+
+    private final RouterFunction<ServerResponse> routes;
+    private final HandlerStrategies handlerStrategies;
+    private final int port;
+    private final Duration shutdownTimeout;
+
+    private volatile DisposableServer server;
+
+    public ReactiveHttpServer(
+            RouterFunction<ServerResponse> reactiveReadRoutes,
+            HandlerStrategies reactiveHandlerStrategies,
+            @Value("${reactive.server.port:8081}") int port,
+            @Value("${reactive.server.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.routes = reactiveReadRoutes;
+        this.handlerStrategies = reactiveHandlerStrategies;
+        this.port = port;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public void start() {
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes, handlerStrategies);
+        server = HttpServer.create()
+                .port(port)
+                .metrics(true, ReactiveHttpServer::uriTemplate)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive adapter listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow(shutdownTimeout);
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Remplace l'identifiant utilisateur par son modèle pour borner la cardinalité des métriques.
+     */
+    private static String uriTemplate(String uri) {
+        if (!uri.startsWith(USERS_PATH)) {
+            return uri;
+        }
+        return uri.endsWith("/roles/permissions")
+                ? USERS_PATH + "{userId}/roles/permissions"
+                : USERS_PATH + "{userId}";
+    }
+}
@@ -0,0 +1,137 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.reactive;
+
+import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.AuthenticationResultDTO;
+import fr.lpreaux.usermanager.infrastructure.persistence.reactive.R2dbcUserReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Handlers des lectures exposées par l'adaptateur réactif.
+ * <p>
+ * Mêmes règles d'accès que les contrôleurs MVC ({@code USER_READ} ou l'utilisateur lui-même) et
+ * mêmes corps JSON, sans les liens HATEOAS. Les erreurs sont renvoyées en {@link ProblemDetail}.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveReadHandler {
+
+    private static final String USER_READ = "USER_READ";
+
+    private final ReactiveTokenAuthenticator authenticator;
+    private final R2dbcUserReader userReader;
+
+    /**
+     * GET /api/v1/auth/validate
+     */
+    public Mono<ServerResponse> validateToken(ServerRequest request) {
+        return authenticator.authenticate(request)
+                .flatMap(auth -> {
+                    Map<String, Object> body = new LinkedHashMap<>();
+                    body.put("valid", true);
+                    body.put("userId", auth.userId());
+                    body.put("login", auth.login());
+                    body.put("roles", auth.roles());
+                    body.put("permissions", auth.permissions());
+                    body.put("expiresAt", auth.expiresAt());
+                    return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+                })
+                .onErrorResume(InvalidTokenException.class, e -> unauthorized(request, e));
+    }
+
+    /**
+     * GET /api/v1/users/{userId}
+     */
+    public Mono<ServerResponse> getUser(ServerRequest request) {
+        String userId = request.pathVariable("userId");
+        return authorize(request, userId)
+                .flatMap(uuid -> userReader.findUserById(uuid)
+                        .flatMap(user -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(user))
+                        .switchIfEmpty(Mono.defer(() -> userNotFound(request, userId))))
+                .onErrorResume(InvalidTokenException.class, e -> unauthorized(request, e))
+                .onErrorResume(AccessDeniedSignal.class, e -> problem(request, HttpStatus.FORBIDDEN,
+                        "Access Denied", "You do not have permission to access this resource"))
+                .onErrorResume(IllegalArgumentException.class, e -> problem(request, HttpStatus.BAD_REQUEST,
+                        "Invalid User ID", "Invalid user ID format: " + userId));
+    }
+
+    /**
+     * GET /api/v1/users/{userId}/roles/permissions
+     */
+    public Mono<ServerResponse> getUserPermissions(ServerRequest request) {
+        String userId = request.pathVariable("userId");
+        return authorize(request, userId)
+                .flatMap(uuid -> userReader.existsById(uuid)
+                        .flatMap(exists -> exists
+                                ? userReader.findPermissions(uuid).collect(TreeSet<String>::new, TreeSet::add)
+                                        .flatMap(permissions -> ServerResponse.ok()
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .bodyValue(permissions))
+                                : userNotFound(request, userId)))
+                .onErrorResume(InvalidTokenException.class, e -> unauthorized(request, e))
+                .onErrorResume(AccessDeniedSignal.class, e -> problem(request, HttpStatus.FORBIDDEN,
+                        "Access Denied", "You do not have permission to access this resource"))
+                .onErrorResume(IllegalArgumentException.class, e -> problem(request, HttpStatus.BAD_REQUEST,
+                        "Invalid User ID", "Invalid user ID format: " + userId));
+    }
+
+    /**
+     * Équivalent de {@code hasAuthority('USER_READ') or #userId == principal}.
+     */
+    private Mono<UUID> authorize(ServerRequest request, String userId) {
+        return authenticator.authenticate(request)
+                .flatMap(auth -> canRead(auth, userId)
+                        ? Mono.fromCallable(() -> UUID.fromString(userId))
+                        : Mono.error(new AccessDeniedSignal()));
+    }
+
+    private static boolean canRead(AuthenticationResultDTO auth, String userId) {
+        return auth.permissions().contains(USER_READ) || userId.equals(auth.userId());
+    }
+
+    private Mono<ServerResponse> unauthorized(ServerRequest request, InvalidTokenException e) {
+        log.debug("Reactive request rejected: {}", e.getMessage());
+        return problem(request, HttpStatus.UNAUTHORIZED, "Unauthorized", "Full authentication is required");
+    }
+
+    private Mono<ServerResponse> userNotFound(ServerRequest request, String userId) {
+        return problem(request, HttpStatus.NOT_FOUND, "User Not Found", "User not found with ID: " + userId);
+    }
+
+    private Mono<ServerResponse> problem(ServerRequest request, HttpStatus status, String title, String detail) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(status);
+        problemDetail.setTitle(title);
+        problemDetail.setDetail(detail);
+        problemDetail.setInstance(URI.create(request.path()));
+        problemDetail.setProperty("timestamp", Instant.now());
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .bodyValue(problemDetail);
+    }
+
+    /**
+     * Refus d'accès interne au pipeline, sans pile d'appels.
+     */
+    private static final class AccessDeniedSignal extends RuntimeException {
+        AccessDeniedSignal() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.reactive;
+
+import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.AuthenticationResultDTO;
+import fr.lpreaux.usermanager.application.port.out.TokenBlacklistRepository;
+import fr.lpreaux.usermanager.infrastructure.monitorig.SecurityMetrics;
+import fr.lpreaux.usermanager.infrastructure.persistence.adapter.RedisTokenBlacklistAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Authentification Bearer pour l'adaptateur réactif, équivalente à {@code JwtAuthenticationFilter}.
+ * <p>
+ * Seule la liste noire nécessite un appel réseau : elle est interrogée via Redis réactif lorsque
+ * le stockage est Redis, sinon l'implémentation configurée est appelée sur {@code boundedElastic}.
+ * La validation du token et le contrôle d'époque ({@code validateTokenClaims}) sont purement en mémoire.
+ */
+@Component
+@Profile("reactive")
+@Slf4j
+public class ReactiveTokenAuthenticator {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthenticationUseCase authenticationUseCase;
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final SecurityMetrics securityMetrics;
+    private final boolean redisBlacklist;
+
+    public ReactiveTokenAuthenticator(
+            AuthenticationUseCase authenticationUseCase,
+            TokenBlacklistRepository tokenBlacklistRepository,
+            ReactiveStringRedisTemplate reactiveRedisTemplate,
+            SecurityMetrics securityMetrics,
+            @Value("${security.jwt.blacklist.store:redis}") String blacklistStore) {
+        this.authenticationUseCase = authenticationUseCase;
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.securityMetrics = securityMetrics;
+        this.redisBlacklist = "redis".equalsIgnoreCase(blacklistStore);
+    }
+
+    /**
+     * Authentifie la requête à partir de son en-tête {@code Authorization}.
+     *
+     * @param request La requête entrante
+     * @return Les informations du token, ou une erreur {@link InvalidTokenException}
+     */
+    public Mono<AuthenticationResultDTO> authenticate(ServerRequest request) {
+        String authHeader = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return Mono.error(new InvalidTokenException("Missing bearer token"));
+        }
+        String token = authHeader.substring(BEARER_PREFIX.length());
+
+        return isBlacklisted(token).flatMap(blacklisted -> {
+            if (blacklisted) {
+                log.info("Request with blacklisted token rejected");
+                return Mono.error(new InvalidTokenException("Token has been revoked"));
+            }
+            return Mono.fromCallable(() -> authenticationUseCase.validateTokenClaims(token));
+        });
+    }
+
+    private Mono<Boolean> isBlacklisted(String token) {
+        if (!redisBlacklist) {
+            return Mono.fromCallable(() -> tokenBlacklistRepository.isBlacklisted(token))
+                    .subscribeOn(Schedulers.boundedElastic());
+        }
+        return reactiveRedisTemplate.hasKey(RedisTokenBlacklistAdapter.TOKEN_PREFIX + token)
+                .doOnNext(blacklisted -> {
+                    if (blacklisted) {
+                        securityMetrics.incrementRejectedTokens();
+                    }
+                });
+    }
+}
@@ -0,0 +1,150 @@
+package fr.lpreaux.usermanager.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.reactive.ReactiveReadHandler;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.time.Duration;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+/**
+ * Adaptateur entrant réactif (WebFlux sur Reactor Netty), actif avec le profil Spring {@code reactive}.
+ * <p>
+ * Il tourne à côté de l'adaptateur MVC, sur son propre port ({@code reactive.server.port}), et ne
+ * sert que les lectures fréquentes : validation de token, détail d'un utilisateur et ses permissions.
+ * Les classes sont compilées par le profil Maven {@code reactive} (sources {@code src/reactive/java}).
+ * <p>
+ * Ressources dédiées : pool R2DBC vers MariaDB (mêmes identifiants que la datasource JDBC) et
+ * connexion Lettuce partagée pour Redis, indépendante du client choisi pour les ports bloquants.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveAdapterConfig {
+
+    @Value("${reactive.r2dbc.url:}")
+    private String r2dbcUrl;
+
+    @Value("${spring.datasource.url:}")
+    private String jdbcUrl;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    @Value("${reactive.r2dbc.pool.initial-size:4}")
+    private int poolInitialSize;
+
+    @Value("${reactive.r2dbc.pool.max-size:20}")
+    private int poolMaxSize;
+
+    @Value("${reactive.r2dbc.pool.max-acquire-time:5s}")
+    private Duration poolMaxAcquireTime;
+
+    @Value("${spring.data.redis.host:localhost}")
+    private String redisHost;
+
+    @Value("${spring.data.redis.port:6379}")
+    private int redisPort;
+
+    @Value("${spring.data.redis.password:}")
+    private String redisPassword;
+
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration redisTimeout;
+
+    /**
+     * Pool R2DBC. L'URL par défaut est dérivée de {@code spring.datasource.url}
+     * ({@code jdbc:mariadb://...} devient {@code r2dbc:mariadb://...}).
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionFactory() {
+        String url = r2dbcUrl.isBlank() ? jdbcUrl.replaceFirst("^jdbc:", "r2dbc:") : r2dbcUrl;
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isBlank()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isBlank()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("reactive-mariadb")
+                .initialSize(poolInitialSize)
+                .maxSize(poolMaxSize)
+                .maxAcquireTime(poolMaxAcquireTime)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ConnectionPool reactiveConnectionFactory) {
+        return DatabaseClient.create(reactiveConnectionFactory);
+    }
+
+    /**
+     * Connexion Lettuce réservée à l'adaptateur réactif. Exclue de l'autowiring pour ne pas
+     * concurrencer la {@code RedisConnectionFactory} de {@link RedisConfig}.
+     */
+    @Bean(autowireCandidate = false)
+    public LettuceConnectionFactory reactiveRedisConnectionFactory() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(redisHost, redisPort);
+        if (!redisPassword.isBlank()) {
+            configuration.setPassword(redisPassword);
+        }
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(redisTimeout)
+                .build();
+        return new LettuceConnectionFactory(configuration, clientConfiguration);
+    }
+
+    @Bean
+    public ReactiveStringRedisTemplate reactiveStringRedisTemplate() {
+        return new ReactiveStringRedisTemplate(reactiveRedisConnectionFactory());
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveReadRoutes(ReactiveReadHandler handler) {
+        return RouterFunctions.route()
+                .path("/api/v1", builder -> builder
+                        .GET("/auth/validate", handler::validateToken)
+                        .GET("/users/{userId}/roles/permissions", handler::getUserPermissions)
+                        .route(GET("/users/{userId}"), handler::getUser))
+                .build();
+    }
+
+    /**
+     * Codecs JSON basés sur l'{@link ObjectMapper} de l'application, pour des corps identiques à MVC.
+     */
+    @Bean
+    public HandlerStrategies reactiveHandlerStrategies(ObjectMapper objectMapper) {
+        return HandlerStrategies.builder()
+                .codecs((ServerCodecConfigurer configurer) -> {
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.reactive;
+
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserDetailsDTO;
+import fr.lpreaux.usermanager.domain.model.valueobject.BirthDate;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lectures non bloquantes des utilisateurs via R2DBC, pour l'adaptateur réactif.
+ * Même encodage des identifiants que JPA : UUID en BINARY(16) big-endian.
+ */
+@Component
+@Profile("reactive")
+public class R2dbcUserReader {
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcUserReader(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Détails d'un utilisateur : trois requêtes lancées en parallèle sur le pool R2DBC.
+     *
+     * @param userId L'identifiant de l'utilisateur
+     * @return Les détails, ou vide si l'utilisateur n'existe pas
+     */
+    public Mono<UserDetailsDTO> findUserById(UUID userId) {
+        byte[] id = toBytes(userId);
+
+        Mono<UserRow> user = databaseClient.sql("""
+                        SELECT login, last_name, first_name, birth_date
+                        FROM users WHERE user_id = :id""")
+                .bind("id", id)
+                .map((row, metadata) -> new UserRow(
+                        row.get("login", String.class),
+                        row.get("last_name", String.class),
+                        row.get("first_name", String.class),
+                        row.get("birth_date", LocalDate.class)))
+                .one();
+
+        Mono<List<String>> emails = databaseClient.sql("SELECT email FROM user_emails WHERE user_id = :id ORDER BY id")
+                .bind("id", id)
+                .map((row, metadata) -> row.get("email", String.class))
+                .all()
+                .collectList();
+
+        Mono<List<String>> phoneNumbers = databaseClient.sql(
+                        "SELECT phone_number FROM user_phone_numbers WHERE user_id = :id ORDER BY id")
+                .bind("id", id)
+                .map((row, metadata) -> row.get("phone_number", String.class))
+                .all()
+                .collectList();
+
+        return Mono.zip(user, emails, phoneNumbers)
+                .map(tuple -> {
+                    UserRow row = tuple.getT1();
+                    BirthDate birthDate = BirthDate.of(row.birthDate());
+                    return new UserDetailsDTO(
+                            userId.toString(),
+                            row.login(),
+                            row.lastName(),
+                            row.firstName(),
+                            row.birthDate().toString(),
+                            birthDate.getAge(),
+                            birthDate.isAdult(),
+                            tuple.getT2(),
+                            tuple.getT3()
+                    );
+                });
+    }
+
+    /**
+     * Vérifie l'existence d'un utilisateur.
+     */
+    public Mono<Boolean> existsById(UUID userId) {
+        return databaseClient.sql("SELECT 1 FROM users WHERE user_id = :id")
+                .bind("id", toBytes(userId))
+                .map((row, metadata) -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * Permissions d'un utilisateur via ses rôles, dédoublonnées par la base.
+     */
+    public Flux<String> findPermissions(UUID userId) {
+        return databaseClient.sql("""
+                        SELECT DISTINCT rp.permission
+                        FROM user_roles ur
+                        JOIN role_permissions rp ON rp.role_id = ur.role_id
+                        WHERE ur.user_id = :id""")
+                .bind("id", toBytes(userId))
+                .map((row, metadata) -> row.get("permission", String.class))
+                .all();
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private record UserRow(String login, String lastName, String firstName, LocalDate birthDate) {}
+}
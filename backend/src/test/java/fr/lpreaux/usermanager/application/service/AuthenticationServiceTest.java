@@ -0,0 +1,247 @@
+package fr.lpreaux.usermanager.application.service;
+
+import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.TokenValidationResultDTO;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.AuthenticateCommand;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.AuthenticationResultDTO;
+import fr.lpreaux.usermanager.application.port.out.JwtTokenProvider;
+import fr.lpreaux.usermanager.application.port.out.JwtTokenProvider.JwtTokenInfo;
+import fr.lpreaux.usermanager.application.port.out.RefreshTokenRepository;
+import fr.lpreaux.usermanager.application.port.out.SecurityAuditLogger;
+import fr.lpreaux.usermanager.application.port.out.TokenBlacklistRepository;
+import fr.lpreaux.usermanager.application.port.out.TokenEpochRepository;
+import fr.lpreaux.usermanager.application.port.out.UserRepository;
+import fr.lpreaux.usermanager.domain.model.valueobject.Login;
+import fr.lpreaux.usermanager.domain.model.valueobject.Password;
+import fr.lpreaux.usermanager.domain.model.valueobject.UserId;
+import fr.lpreaux.usermanager.infrastructure.monitorig.SecurityMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires de l'authentification et de la validation groupée des tokens.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthenticationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private SecurityAuditLogger securityAuditLogger;
+    @Mock
+    private SecurityMetrics securityMetrics;
+    @Mock
+    private TokenBlacklistRepository tokenBlacklistRepository;
+    @Mock
+    private TokenEpochRepository tokenEpochRepository;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private AuthenticationService authenticationService;
+
+    @Test
+    @DisplayName("Should authenticate from credentials and authorities without loading the user")
+    void shouldAuthenticateFromCredentials() {
+        // Given
+        UserId userId = UserId.of(UUID.randomUUID());
+        when(userRepository.findCredentialsByLogin(Login.of("john.doe"))).thenReturn(Optional.of(
+                new UserRepository.Credentials(userId, Login.of("john.doe"), Password.hash("SecurePass123!"))));
+        when(userRepository.findAuthorities(userId)).thenReturn(
+                new UserRepository.Authorities(Set.of("USER"), Set.of("USER_READ")));
+        when(refreshTokenRepository.issue(eq(userId.getValue().toString()), anyLong()))
+                .thenReturn(new RefreshTokenRepository.RefreshTokenGrant("refresh", "family", userId.getValue().toString(),
+                        0, 4_102_444_800_000L));
+        when(jwtTokenProvider.generateToken(eq(userId.getValue().toString()), eq("john.doe"), any(), any(), anyMap()))
+                .thenReturn(new JwtTokenProvider.IssuedToken("access", 4_102_444_800_000L));
+
+        // When
+        AuthenticationResultDTO result = authenticationService.authenticate(
+                new AuthenticateCommand("john.doe", "SecurePass123!"));
+
+        // Then
+        assertThat(result.userId()).isEqualTo(userId.getValue().toString());
+        assertThat(result.roles()).containsExactly("USER");
+        assertThat(result.permissions()).containsExactly("USER_READ");
+        verify(userRepository).findCredentialsByLogin(Login.of("john.doe"));
+        verify(userRepository).findAuthorities(userId);
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should sign refreshed tokens with the user's current roles")
+    void shouldRefreshWithCurrentRoles() {
+        // Given
+        String userId = UUID.randomUUID().toString();
+        when(refreshTokenRepository.rotate("refresh")).thenReturn(
+                new RefreshTokenRepository.RefreshTokenGrant("next", "family", userId, 5, 4_102_444_800_000L));
+        when(userRepository.findViewById(UserId.of(userId))).thenReturn(Optional.of(view(userId, List.of("ADMIN"))));
+        when(jwtTokenProvider.generateToken(eq(userId), eq("john.doe"), eq(Set.of("ADMIN")), eq(Set.of("USER_READ")), anyMap()))
+                .thenReturn(new JwtTokenProvider.IssuedToken("access", 4_102_444_800_000L));
+
+        // When
+        AuthenticationResultDTO result = authenticationService.refreshToken("refresh");
+
+        // Then
+        assertThat(result.token()).isEqualTo("access");
+        assertThat(result.refreshToken()).isEqualTo("next");
+        assertThat(result.roles()).containsExactly("ADMIN");
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), anyString());
+        // Révocation par époque vérifiée par la rotation elle-même
+        verifyNoInteractions(tokenEpochRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject refreshes of deleted users")
+    void shouldRejectRefreshOfDeletedUser() {
+        // Given
+        String userId = UUID.randomUUID().toString();
+        when(refreshTokenRepository.rotate("refresh")).thenReturn(
+                new RefreshTokenRepository.RefreshTokenGrant("next", "family", userId, 5, 4_102_444_800_000L));
+        when(userRepository.findViewById(UserId.of(userId))).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> authenticationService.refreshToken("refresh"))
+                .isInstanceOf(InvalidTokenException.class);
+        verify(refreshTokenRepository).revokeFamily(userId, "family");
+        verify(jwtTokenProvider, never()).generateToken(anyString(), anyString(), any(), any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Should propagate rejected rotations")
+    void shouldPropagateRejectedRotation() {
+        // Given
+        when(refreshTokenRepository.rotate("reused")).thenThrow(new InvalidTokenException("Refresh token reuse detected"));
+
+        // When / Then
+        assertThatThrownBy(() -> authenticationService.refreshToken("reused"))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Refresh token reuse detected");
+        verify(jwtTokenProvider, never()).generateToken(anyString(), anyString(), any(), any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Should return one result per token in input order")
+    void shouldValidateBatchInOrder() {
+        // Given - assez de tokens pour déclencher la vérification parallèle
+        List<String> tokens = IntStream.range(0, 32).mapToObj(i -> "token-" + i).toList();
+        when(tokenBlacklistRepository.findBlacklisted(tokens)).thenReturn(Set.of("token-3"));
+        lenient().when(jwtTokenProvider.validateToken(anyString())).thenAnswer(invocation -> {
+            String token = invocation.getArgument(0);
+            if (token.equals("token-7")) {
+                throw new InvalidTokenException("Invalid or expired token");
+            }
+            return new JwtTokenInfo("user-" + token.substring(6), "login", Set.of("USER"), Set.of("USER_READ"),
+                    4_102_444_800_000L, 0, null);
+        });
+
+        // When
+        List<TokenValidationResultDTO> results = authenticationService.validateTokens(tokens);
+
+        // Then
+        assertThat(results).hasSize(32);
+        for (int i = 0; i < 32; i++) {
+            if (i == 3 || i == 7) {
+                assertThat(results.get(i).valid()).isFalse();
+            } else {
+                assertThat(results.get(i).valid()).isTrue();
+                assertThat(results.get(i).userId()).isEqualTo("user-" + i);
+            }
+        }
+        verify(jwtTokenProvider, never()).validateToken("token-3");
+    }
+
+    @Test
+    @DisplayName("Should reject tokens revoked by epoch")
+    void shouldApplyEpochRevocation() {
+        // Given
+        List<String> tokens = List.of("revoked", "current");
+        when(tokenBlacklistRepository.findBlacklisted(tokens)).thenReturn(Set.of());
+        when(jwtTokenProvider.validateToken("revoked")).thenReturn(
+                new JwtTokenInfo("user-1", "john", Set.of(), Set.of(), 4_102_444_800_000L, 1, null));
+        when(jwtTokenProvider.validateToken("current")).thenReturn(
+                new JwtTokenInfo("user-1", "john", Set.of(), Set.of(), 4_102_444_800_000L, 2, null));
+        when(tokenEpochRepository.isRevoked("user-1", 1)).thenReturn(true);
+        when(tokenEpochRepository.isRevoked("user-1", 2)).thenReturn(false);
+
+        // When
+        List<TokenValidationResultDTO> results = authenticationService.validateTokens(tokens);
+
+        // Then
+        assertThat(results).extracting(TokenValidationResultDTO::valid).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("Should report null tokens as invalid without sending them to the blacklist")
+    void shouldReportNullTokensAsInvalid() {
+        // Given
+        List<String> tokens = Arrays.asList(null, "current");
+        when(tokenBlacklistRepository.findBlacklisted(List.of("current"))).thenReturn(Set.of());
+        when(jwtTokenProvider.validateToken("current")).thenReturn(
+                new JwtTokenInfo("user-1", "john", Set.of(), Set.of(), 4_102_444_800_000L, 0, null));
+
+        // When
+        List<TokenValidationResultDTO> results = authenticationService.validateTokens(tokens);
+
+        // Then
+        assertThat(results).extracting(TokenValidationResultDTO::valid).containsExactly(false, true);
+        verify(tokenBlacklistRepository).findBlacklisted(List.of("current"));
+    }
+
+    @Test
+    @DisplayName("Should not query the blacklist for a batch of null tokens")
+    void shouldSkipBlacklistForNullTokens() {
+        // When
+        List<TokenValidationResultDTO> results = authenticationService.validateTokens(Arrays.asList(null, null));
+
+        // Then
+        assertThat(results).extracting(TokenValidationResultDTO::valid).containsExactly(false, false);
+        verifyNoInteractions(tokenBlacklistRepository);
+    }
+
+    @Test
+    @DisplayName("Should refuse batches larger than the maximum size")
+    void shouldRejectOversizedBatch() {
+        // Given
+        List<String> tokens = Collections.nCopies(AuthenticationUseCase.MAX_BATCH_SIZE + 1, "token");
+
+        // When / Then
+        assertThatThrownBy(() -> authenticationService.validateTokens(tokens))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(tokenBlacklistRepository, never()).findBlacklisted(tokens);
+    }
+
+    private static UserRepository.UserView view(String userId, List<String> roles) {
+        return new UserRepository.UserView(UUID.fromString(userId), "john.doe", "Doe", "John", null,
+                List.of("john@example.com"), List.of(), roles, List.of("USER_READ"));
+    }
+}
@@ -0,0 +1,131 @@
+package fr.lpreaux.usermanager.application.service;
+
+import fr.lpreaux.usermanager.application.exception.RoleNotFoundException;
+import fr.lpreaux.usermanager.application.port.in.RoleManagementUseCase.AddPermissionCommand;
+import fr.lpreaux.usermanager.application.port.in.RoleManagementUseCase.RemovePermissionCommand;
+import fr.lpreaux.usermanager.application.port.in.RoleManagementUseCase.UpdateRoleCommand;
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.application.port.out.UserReadModel;
+import fr.lpreaux.usermanager.domain.model.Permission;
+import fr.lpreaux.usermanager.domain.model.Role;
+import fr.lpreaux.usermanager.domain.model.valueobject.RoleId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour RoleManagementService : chaque modification d'un rôle rafraîchit les vues de ses détenteurs.
+ */
+@ExtendWith(MockitoExtension.class)
+class RoleManagementServiceTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private UserReadModel userReadModel;
+
+    @Mock
+    private DefaultRoleProvider defaultRoleProvider;
+
+    @InjectMocks
+    private RoleManagementService roleManagementService;
+
+    private Role role;
+
+    @BeforeEach
+    void setUp() {
+        role = Role.create("EDITOR", "Éditeur").addPermission(Permission.of("READ_USER"));
+    }
+
+    @Test
+    @DisplayName("Should refresh holders' views and evict the default role after an update")
+    void shouldRefreshViewsAfterUpdate() {
+        // Given
+        when(roleRepository.findById(role.getId())).thenReturn(Optional.of(role));
+
+        // When
+        roleManagementService.updateRole(new UpdateRoleCommand(roleId(), "REVIEWER", "Relecteur"));
+
+        // Then
+        InOrder inOrder = inOrder(roleRepository, userReadModel);
+        inOrder.verify(roleRepository).save(argThat(saved -> "REVIEWER".equals(saved.getName())));
+        inOrder.verify(userReadModel).refreshUsersWithRole(role.getId());
+        verify(defaultRoleProvider).evict();
+    }
+
+    @Test
+    @DisplayName("Should refresh holders' views after adding a permission")
+    void shouldRefreshViewsAfterAddingPermission() {
+        // Given
+        when(roleRepository.findById(role.getId())).thenReturn(Optional.of(role));
+
+        // When
+        roleManagementService.addPermission(new AddPermissionCommand(roleId(), "UPDATE_USER"));
+
+        // Then
+        InOrder inOrder = inOrder(roleRepository, userReadModel);
+        inOrder.verify(roleRepository).save(argThat(saved -> saved.hasPermission(Permission.of("UPDATE_USER"))));
+        inOrder.verify(userReadModel).refreshUsersWithRole(role.getId());
+    }
+
+    @Test
+    @DisplayName("Should refresh holders' views after removing a permission")
+    void shouldRefreshViewsAfterRemovingPermission() {
+        // Given
+        when(roleRepository.findById(role.getId())).thenReturn(Optional.of(role));
+
+        // When
+        roleManagementService.removePermission(new RemovePermissionCommand(roleId(), "READ_USER"));
+
+        // Then
+        InOrder inOrder = inOrder(roleRepository, userReadModel);
+        inOrder.verify(roleRepository).save(argThat(saved -> saved.getPermissions().isEmpty()));
+        inOrder.verify(userReadModel).refreshUsersWithRole(role.getId());
+    }
+
+    @Test
+    @DisplayName("Should refresh holders' views before deleting the role")
+    void shouldRefreshViewsBeforeDeletingRole() {
+        // Given
+        when(roleRepository.findById(role.getId())).thenReturn(Optional.of(role));
+
+        // When
+        roleManagementService.deleteRole(roleId());
+
+        // Then - les détenteurs ne sont plus retrouvables une fois user_roles purgé
+        InOrder inOrder = inOrder(userReadModel, roleRepository);
+        inOrder.verify(userReadModel).refreshUsersWithoutRole(role.getId());
+        inOrder.verify(roleRepository).delete(role.getId());
+        verify(defaultRoleProvider).evict();
+    }
+
+    @Test
+    @DisplayName("Should not touch the views when the role does not exist")
+    void shouldNotRefreshViewsWhenRoleNotFound() {
+        // Given
+        when(roleRepository.findById(any(RoleId.class))).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> roleManagementService.deleteRole(roleId()))
+                .isInstanceOf(RoleNotFoundException.class);
+        verify(roleRepository, never()).delete(any(RoleId.class));
+        verifyNoInteractions(userReadModel, defaultRoleProvider);
+    }
+
+    private String roleId() {
+        return role.getId().getValue().toString();
+    }
+}
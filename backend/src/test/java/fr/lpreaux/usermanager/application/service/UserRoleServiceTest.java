@@ -0,0 +1,114 @@
+package fr.lpreaux.usermanager.application.service;
+
+import fr.lpreaux.usermanager.application.exception.RoleNotFoundException;
+import fr.lpreaux.usermanager.application.port.in.RoleManagementUseCase;
+import fr.lpreaux.usermanager.application.port.in.UserRoleUseCase.AssignRoleCommand;
+import fr.lpreaux.usermanager.application.port.in.UserRoleUseCase.RemoveRoleCommand;
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.application.port.out.UserReadModel;
+import fr.lpreaux.usermanager.application.port.out.UserRepository;
+import fr.lpreaux.usermanager.domain.model.Role;
+import fr.lpreaux.usermanager.domain.model.User;
+import fr.lpreaux.usermanager.domain.model.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour UserRoleService : chaque changement de rôle rafraîchit la vue de l'utilisateur.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserRoleServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private RoleManagementUseCase roleManagementUseCase;
+
+    @Mock
+    private UserReadModel userReadModel;
+
+    @InjectMocks
+    private UserRoleService userRoleService;
+
+    private User user;
+    private Role adminRole;
+
+    @BeforeEach
+    void setUp() {
+        user = User.create(Login.of("john.doe"), Password.of("SecurePass123!"), Name.of("Doe"), FirstName.of("John"),
+                BirthDate.of(1990, 5, 15), List.of(Email.of("john.doe@example.com")), List.of());
+        adminRole = Role.create("ADMIN", "Administrateur");
+    }
+
+    @Test
+    @DisplayName("Should refresh the user view after assigning a role")
+    void shouldRefreshViewAfterAssigningRole() {
+        // Given
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(roleRepository.findById(adminRole.getId())).thenReturn(Optional.of(adminRole));
+
+        // When
+        userRoleService.assignRole(new AssignRoleCommand(userId(), roleId()));
+
+        // Then - la vue est recalculée après l'écriture qu'elle reflète
+        InOrder inOrder = inOrder(userRepository, userReadModel);
+        inOrder.verify(userRepository).save(argThat(saved -> saved.getRoles().contains(adminRole)));
+        inOrder.verify(userReadModel).refresh(user.getId());
+    }
+
+    @Test
+    @DisplayName("Should refresh the user view after removing a role")
+    void shouldRefreshViewAfterRemovingRole() {
+        // Given
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user.addRole(adminRole)));
+        when(roleRepository.findById(adminRole.getId())).thenReturn(Optional.of(adminRole));
+
+        // When
+        userRoleService.removeRole(new RemoveRoleCommand(userId(), roleId()));
+
+        // Then
+        InOrder inOrder = inOrder(userRepository, userReadModel);
+        inOrder.verify(userRepository).save(argThat(saved -> saved.getRoles().isEmpty()));
+        inOrder.verify(userReadModel).refresh(user.getId());
+    }
+
+    @Test
+    @DisplayName("Should not refresh the user view when the role does not exist")
+    void shouldNotRefreshViewWhenRoleNotFound() {
+        // Given
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(roleRepository.findById(any(RoleId.class))).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> userRoleService.assignRole(new AssignRoleCommand(userId(), roleId())))
+                .isInstanceOf(RoleNotFoundException.class);
+        verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(userReadModel);
+    }
+
+    private String userId() {
+        return user.getId().getValue().toString();
+    }
+
+    private String roleId() {
+        return adminRole.getId().getValue().toString();
+    }
+}
@@ -3,8 +3,17 @@ package fr.lpreaux.usermanager.application.service;
 import fr.lpreaux.usermanager.application.exception.*;
 import fr.lpreaux.usermanager.application.port.in.RegisterUserUseCase.RegisterUserCommand;
 import fr.lpreaux.usermanager.application.port.in.UpdateUserUseCase.*;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.MatchMode;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.SortField;
 import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserDetailsDTO;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserSearchCriteria;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserSearchPageDTO;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserSuggestionDTO;
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.application.port.out.UserReadModel;
 import fr.lpreaux.usermanager.application.port.out.UserRepository;
+import fr.lpreaux.usermanager.application.port.out.UserSearchIndex;
+import fr.lpreaux.usermanager.domain.model.Role;
 import fr.lpreaux.usermanager.domain.model.User;
 import fr.lpreaux.usermanager.domain.model.valueobject.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,7 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -21,6 +30,7 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,15 +48,27 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
+
+    @Mock
+    private UserReadModel userReadModel;
+
     private UserService userService;
 
     private RegisterUserCommand validCommand;
     private User testUser;
+    private UserRepository.UserView testView;
+    private Role userRole;
     private UUID userId;
 
     @BeforeEach
     void setUp() {
+        userService = new UserService(userRepository, new DefaultRoleProvider(roleRepository), userSearchIndex,
+                userReadModel);
         userId = UUID.randomUUID();
 
         validCommand = new RegisterUserCommand(
@@ -69,15 +91,24 @@ class UserServiceTest {
                 .emails(List.of(Email.of("john.doe@example.com")))
                 .phoneNumbers(List.of(PhoneNumber.of("+33612345678")))
                 .build();
+
+        testView = new UserRepository.UserView(userId, "john.doe", "Doe", "John", LocalDate.of(1990, 5, 15),
+                List.of("john.doe@example.com"), List.of("+33612345678"), List.of("USER"), List.of());
+
+        userRole = Role.builder()
+                .id(RoleId.generate())
+                .name("USER")
+                .description("Utilisateur standard")
+                .permissions(Set.of())
+                .build();
     }
 
     @Test
     @DisplayName("Should register user successfully")
     void shouldRegisterUserSuccessfully() {
         // Given
-        when(userRepository.existsByLogin(any(Login.class))).thenReturn(false);
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        when(userRepository.insert(any(User.class))).thenReturn(testUser);
 
         // When
         UserId result = userService.registerUser(validCommand);
@@ -86,16 +117,92 @@ class UserServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(testUser.getId());
 
-        verify(userRepository).existsByLogin(Login.of("john.doe"));
-        verify(userRepository).existsByEmail(Email.of("john.doe@example.com"));
-        verify(userRepository).save(any(User.class));
+        // Uniqueness is enforced by the insert itself
+        verify(userRepository, never()).existsByLogin(any(Login.class));
+        verify(userRepository, never()).existsByEmail(any(Email.class));
+        verify(userRepository).insert(argThat(user -> user.getRoles().contains(userRole)));
+        verify(userSearchIndex).index(testUser);
+        // The projection is written by the insert itself
+        verify(userReadModel, never()).refresh(any(UserId.class));
+    }
+
+    @Test
+    @DisplayName("Should return registered user details without reading it back")
+    void shouldReturnRegisteredUserDetailsWithoutReadingItBack() {
+        // Given
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        when(userRepository.insert(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        UserDetailsDTO result = userService.registerUserAndGetDetails(validCommand);
+
+        // Then
+        assertThat(result.login()).isEqualTo("john.doe");
+        assertThat(result.emails()).containsExactly("john.doe@example.com");
+        assertThat(result.phoneNumbers()).containsExactly("+33612345678");
+        verify(userRepository, never()).findById(any(UserId.class));
+    }
+
+    @Test
+    @DisplayName("Should load default role only once")
+    void shouldLoadDefaultRoleOnlyOnce() {
+        // Given
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        when(userRepository.insert(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        userService.registerUser(validCommand);
+        userService.registerUser(validCommand);
+
+        // Then
+        verify(roleRepository, times(1)).findByName("USER");
+        verify(userRepository, times(2)).insert(argThat(user -> user.getRoles().contains(userRole)));
+    }
+
+    @Test
+    @DisplayName("Should reload default role after a failed registration")
+    void shouldReloadDefaultRoleAfterFailedRegistration() {
+        // Given - the cached role was deleted and recreated elsewhere
+        Role recreatedRole = userRole.toBuilder().id(RoleId.generate()).build();
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole), Optional.of(recreatedRole));
+        when(userRepository.insert(any(User.class)))
+                .thenThrow(new IllegalStateException("Foreign key violation"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        assertThatThrownBy(() -> userService.registerUser(validCommand))
+                .isInstanceOf(IllegalStateException.class);
+
+        // When
+        userService.registerUser(validCommand);
+
+        // Then
+        verify(roleRepository, times(2)).findByName("USER");
+        verify(userRepository).insert(argThat(user -> user.getRoles().contains(recreatedRole)));
+    }
+
+    @Test
+    @DisplayName("Should reload default role once evicted")
+    void shouldReloadDefaultRoleOnceEvicted() {
+        // Given
+        DefaultRoleProvider provider = new DefaultRoleProvider(roleRepository);
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        provider.defaultRole();
+
+        // When
+        provider.evict();
+        Role role = provider.defaultRole();
+
+        // Then
+        assertThat(role.getId()).isEqualTo(userRole.getId());
+        verify(roleRepository, times(2)).findByName("USER");
     }
 
     @Test
     @DisplayName("Should throw exception when login already exists")
     void shouldThrowExceptionWhenLoginAlreadyExists() {
         // Given
-        when(userRepository.existsByLogin(any(Login.class))).thenReturn(true);
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        when(userRepository.insert(any(User.class)))
+                .thenThrow(new UserAlreadyExistsException("Login already exists: john.doe"));
 
         // When/Then
         assertThatThrownBy(() -> userService.registerUser(validCommand))
@@ -103,14 +210,16 @@ class UserServiceTest {
                 .hasMessage("Login already exists: john.doe");
 
         verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(userSearchIndex);
     }
 
     @Test
     @DisplayName("Should throw exception when email already exists")
     void shouldThrowExceptionWhenEmailAlreadyExists() {
         // Given
-        when(userRepository.existsByLogin(any(Login.class))).thenReturn(false);
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(true);
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        when(userRepository.insert(any(User.class)))
+                .thenThrow(new UserAlreadyExistsException("Email already exists: john.doe@example.com"));
 
         // When/Then
         assertThatThrownBy(() -> userService.registerUser(validCommand))
@@ -118,23 +227,31 @@ class UserServiceTest {
                 .hasMessage("Email already exists: john.doe@example.com");
 
         verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(userSearchIndex);
     }
 
     @Test
     @DisplayName("Should find user by ID")
     void shouldFindUserById() {
         // Given
-        String userId = UUID.randomUUID().toString();
-        when(userRepository.findById(any(UserId.class))).thenReturn(Optional.of(testUser));
+        String userId = this.userId.toString();
+        when(userRepository.findViewById(any(UserId.class))).thenReturn(Optional.of(testView));
 
         // When
         Optional<UserDetailsDTO> result = userService.findUserById(userId);
 
         // Then
         assertThat(result).isPresent();
+        assertThat(result.get().id()).isEqualTo(userId);
         assertThat(result.get().login()).isEqualTo("john.doe");
         assertThat(result.get().lastName()).isEqualTo("Doe");
+        assertThat(result.get().birthDate()).isEqualTo("1990-05-15");
+        assertThat(result.get().age()).isEqualTo(BirthDate.of(1990, 5, 15).getAge());
+        assertThat(result.get().isAdult()).isTrue();
         assertThat(result.get().emails()).containsExactly("john.doe@example.com");
+        assertThat(result.get().phoneNumbers()).containsExactly("+33612345678");
+        // Lecture par projection : l'agrégat n'est pas chargé
+        verify(userRepository, never()).findById(any(UserId.class));
     }
 
     @Test
@@ -142,7 +259,7 @@ class UserServiceTest {
     void shouldFindUserByLogin() {
         // Given
         String login = "john.doe";
-        when(userRepository.findByLogin(any(Login.class))).thenReturn(Optional.of(testUser));
+        when(userRepository.findViewByLogin(any(Login.class))).thenReturn(Optional.of(testView));
 
         // When
         Optional<UserDetailsDTO> result = userService.findUserByLogin(login);
@@ -150,7 +267,7 @@ class UserServiceTest {
         // Then
         assertThat(result).isPresent();
         assertThat(result.get().login()).isEqualTo("john.doe");
-        verify(userRepository).findByLogin(Login.of(login));
+        verify(userRepository).findViewByLogin(Login.of(login));
     }
 
     @Test
@@ -158,7 +275,7 @@ class UserServiceTest {
     void shouldFindUserByEmail() {
         // Given
         String email = "john.doe@example.com";
-        when(userRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(testUser));
+        when(userRepository.findViewByEmail(any(Email.class))).thenReturn(Optional.of(testView));
 
         // When
         Optional<UserDetailsDTO> result = userService.findUserByEmail(email);
@@ -166,25 +283,18 @@ class UserServiceTest {
         // Then
         assertThat(result).isPresent();
         assertThat(result.get().login()).isEqualTo("john.doe");
-        verify(userRepository).findByEmail(Email.of(email));
+        verify(userRepository).findViewByEmail(Email.of(email));
     }
 
     @Test
     @DisplayName("Should get all users")
     void shouldGetAllUsers() {
         // Given
-        User secondUser = User.builder()
-                .id(UserId.generate())
-                .login(Login.of("jane.smith"))
-                .password(Password.hash("AnotherPassword123!"))
-                .lastName(Name.of("Smith"))
-                .firstName(FirstName.of("Jane"))
-                .birthDate(BirthDate.of(1992, 8, 20))
-                .emails(List.of(Email.of("jane.smith@example.com")))
-                .phoneNumbers(List.of(PhoneNumber.of("+33687654321")))
-                .build();
+        UserRepository.UserView secondUser = new UserRepository.UserView(UUID.randomUUID(), "jane.smith", "Smith",
+                "Jane", LocalDate.of(1992, 8, 20), List.of("jane.smith@example.com"), List.of("+33687654321"),
+                List.of("USER"), List.of());
 
-        when(userRepository.findAll()).thenReturn(Arrays.asList(testUser, secondUser));
+        when(userRepository.findAllViews()).thenReturn(Arrays.asList(testView, secondUser));
 
         // When
         List<UserDetailsDTO> results = userService.getAllUsers();
@@ -193,7 +303,51 @@ class UserServiceTest {
         assertThat(results).hasSize(2);
         assertThat(results.get(0).login()).isEqualTo("john.doe");
         assertThat(results.get(1).login()).isEqualTo("jane.smith");
-        verify(userRepository).findAll();
+        verify(userRepository).findAllViews();
+    }
+
+    @Test
+    @DisplayName("Should find several users in one read, in request order, skipping unknown ids")
+    void shouldFindUsersByIdsInRequestOrder() {
+        // Given - le dépôt renvoie les projections trouvées dans un ordre quelconque
+        UserRepository.UserView secondUser = new UserRepository.UserView(UUID.randomUUID(), "jane.smith", "Smith",
+                "Jane", LocalDate.of(1992, 8, 20), List.of("jane.smith@example.com"), List.of(),
+                List.of("USER"), List.of());
+        String unknownId = UUID.randomUUID().toString();
+        List<String> ids = List.of(secondUser.id().toString(), unknownId, userId.toString());
+        when(userRepository.findViewsByIds(ids.stream().map(UserId::of).toList()))
+                .thenReturn(List.of(testView, secondUser));
+
+        // When
+        List<UserDetailsDTO> results = userService.findUsersByIds(ids);
+
+        // Then
+        assertThat(results).extracting(UserDetailsDTO::login).containsExactly("jane.smith", "john.doe");
+        verify(userRepository, never()).findViewById(any(UserId.class));
+    }
+
+    @Test
+    @DisplayName("Should list users after the given id with keyset pagination")
+    void shouldListUsersAfterGivenId() {
+        // Given
+        when(userRepository.findViewsAfter(UserId.of(userId), 10)).thenReturn(List.of(testView));
+
+        // When
+        List<UserDetailsDTO> results = userService.listUsers(userId.toString(), 10);
+
+        // Then
+        assertThat(results).extracting(UserDetailsDTO::login).containsExactly("john.doe");
+        verify(userRepository, never()).findAllViews();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0", "101"})
+    @DisplayName("Should reject list page sizes out of range")
+    void shouldRejectListLimitOutOfRange(int limit) {
+        // When/Then
+        assertThatThrownBy(() -> userService.listUsers(null, limit))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -201,7 +355,7 @@ class UserServiceTest {
     void shouldReturnEmptyWhenUserNotFound() {
         // Given
         String userId = UUID.randomUUID().toString();
-        when(userRepository.findById(any(UserId.class))).thenReturn(Optional.empty());
+        when(userRepository.findViewById(any(UserId.class))).thenReturn(Optional.empty());
 
         // When
         Optional<UserDetailsDTO> result = userService.findUserById(userId);
@@ -231,6 +385,7 @@ class UserServiceTest {
                 user.getLastName().getValue().equals("Smith") &&
                         user.getFirstName().getValue().equals("Jane")
         ));
+        verify(userReadModel).refresh(UserId.of(userId));
     }
 
     @Test
@@ -270,6 +425,8 @@ class UserServiceTest {
         // Then
         verify(userRepository).findById(UserId.of(userId));
         verify(userRepository).save(any(User.class));
+        // The password is not part of the read model
+        verify(userReadModel, never()).refresh(any(UserId.class));
     }
 
     @ParameterizedTest
@@ -345,15 +502,14 @@ class UserServiceTest {
                 List.of("+33612345678")
         );
 
-        when(userRepository.existsByLogin(any(Login.class))).thenReturn(false);
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        when(userRepository.insert(any(User.class))).thenReturn(testUser);
 
         // When
         userService.registerUser(command);
 
         // Then
-        verify(userRepository).existsByEmail(Email.of("john.doe@example.com"));
+        verify(userRepository).insert(argThat(user -> user.getEmails().equals(List.of(Email.of("john.doe@example.com")))));
     }
 
     @Test
@@ -486,6 +642,7 @@ class UserServiceTest {
         // Then
         verify(userRepository).findById(UserId.of(userId));
         verify(userRepository).delete(testUser.getId());
+        verify(userSearchIndex).remove(testUser.getId());
     }
 
     @Test
@@ -517,9 +674,8 @@ class UserServiceTest {
                 List.of("+33687654321")
         );
 
-        when(userRepository.existsByLogin(any(Login.class))).thenReturn(false);
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        when(userRepository.insert(any(User.class))).thenAnswer(invocation -> {
             User savedUser = invocation.getArgument(0);
             // Verify that the user has both emails
             assertThat(savedUser.getEmails()).hasSize(2);
@@ -532,7 +688,7 @@ class UserServiceTest {
         userService.registerUser(command);
 
         // Then
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).insert(any(User.class));
     }
 
     @Test
@@ -549,9 +705,8 @@ class UserServiceTest {
                 Arrays.asList("+33687654321", "+33612345678")
         );
 
-        when(userRepository.existsByLogin(any(Login.class))).thenReturn(false);
-        when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        when(userRepository.insert(any(User.class))).thenAnswer(invocation -> {
             User savedUser = invocation.getArgument(0);
             // Verify that the user has both phone numbers
             assertThat(savedUser.getPhoneNumbers()).hasSize(2);
@@ -564,6 +719,112 @@ class UserServiceTest {
         userService.registerUser(command);
 
         // Then
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).insert(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should return next cursor and resume search after last user")
+    void shouldReturnNextCursorAndResumeSearchAfterLastUser() {
+        // Given
+        UserRepository.UserView secondUser = new UserRepository.UserView(UUID.randomUUID(), "john.smith", "Smith",
+                "John", LocalDate.of(1990, 5, 15), List.of("john.smith@example.com"), List.of(),
+                List.of("USER"), List.of());
+        when(userRepository.search(any(UserRepository.SearchQuery.class)))
+                .thenReturn(List.of(testView, secondUser))
+                .thenReturn(List.of(secondUser));
+
+        // When
+        UserSearchPageDTO firstPage = userService.searchUsers(searchCriteria("john", MatchMode.PREFIX, null, 1));
+        UserSearchPageDTO secondPage = userService.searchUsers(
+                searchCriteria("john", MatchMode.PREFIX, firstPage.nextCursor(), 1));
+
+        // Then
+        assertThat(firstPage.users()).extracting(UserDetailsDTO::login).containsExactly("john.doe");
+        assertThat(firstPage.nextCursor()).isNotNull();
+        assertThat(secondPage.users()).extracting(UserDetailsDTO::login).containsExactly("john.smith");
+        assertThat(secondPage.nextCursor()).isNull();
+
+        ArgumentCaptor<UserRepository.SearchQuery> queryCaptor = ArgumentCaptor.forClass(UserRepository.SearchQuery.class);
+        verify(userRepository, times(2)).search(queryCaptor.capture());
+        UserRepository.SearchQuery resumed = queryCaptor.getAllValues().get(1);
+        assertThat(resumed.limit()).isEqualTo(2);
+        assertThat(resumed.afterValues()).containsExactly("john.doe");
+        assertThat(resumed.afterId()).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("Should convert age range to birth date bounds")
+    void shouldConvertAgeRangeToBirthDateBounds() {
+        // Given
+        when(userRepository.search(any(UserRepository.SearchQuery.class))).thenReturn(List.of());
+        UserSearchCriteria criteria = new UserSearchCriteria(
+                null, null, null, MatchMode.PREFIX, 18, 30, null, SortField.BIRTH_DATE, false, null, 20);
+
+        // When
+        userService.searchUsers(criteria);
+
+        // Then
+        ArgumentCaptor<UserRepository.SearchQuery> queryCaptor = ArgumentCaptor.forClass(UserRepository.SearchQuery.class);
+        verify(userRepository).search(queryCaptor.capture());
+        LocalDate today = LocalDate.now();
+        assertThat(queryCaptor.getValue().bornOnOrBefore()).isEqualTo(today.minusYears(18));
+        assertThat(queryCaptor.getValue().bornAfter()).isEqualTo(today.minusYears(31));
+        assertThat(queryCaptor.getValue().sort()).isEqualTo(UserRepository.SearchSort.BIRTH_DATE);
+    }
+
+    @Test
+    @DisplayName("Should reject cursor issued for another sort")
+    void shouldRejectCursorIssuedForAnotherSort() {
+        // Given
+        when(userRepository.search(any(UserRepository.SearchQuery.class))).thenReturn(List.of(testView, testView));
+        String cursor = userService.searchUsers(searchCriteria("john", MatchMode.PREFIX, null, 1)).nextCursor();
+        UserSearchCriteria otherSort = new UserSearchCriteria(
+                "john", null, null, MatchMode.PREFIX, null, null, null, SortField.LAST_NAME, false, cursor, 1);
+
+        // When/Then
+        assertThatThrownBy(() -> userService.searchUsers(otherSort))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cursor");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"jo,CONTAINS", "a.b c,CONTAINS"})
+    @DisplayName("Should reject contains terms without indexable word")
+    void shouldRejectContainsTermsWithoutIndexableWord(String term, MatchMode matchMode) {
+        // When/Then
+        assertThatThrownBy(() -> userService.searchUsers(searchCriteria(term, matchMode, null, 20)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(userRepository, never()).search(any());
+    }
+
+    @Test
+    @DisplayName("Should map typeahead suggestions from search index")
+    void shouldMapTypeaheadSuggestionsFromSearchIndex() {
+        // Given
+        when(userSearchIndex.suggest("jo", 5)).thenReturn(List.of(
+                new UserSearchIndex.Suggestion(userId.toString(), "john.doe", "Doe", "John", "john.doe@example.com")));
+
+        // When
+        List<UserSuggestionDTO> suggestions = userService.suggestUsers("jo", 5);
+
+        // Then
+        assertThat(suggestions).containsExactly(
+                new UserSuggestionDTO(userId.toString(), "john.doe", "Doe", "John", "john.doe@example.com"));
+        verifyNoInteractions(userRepository);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0", "21"})
+    @DisplayName("Should reject suggestion limit out of range")
+    void shouldRejectSuggestionLimitOutOfRange(int limit) {
+        // When/Then
+        assertThatThrownBy(() -> userService.suggestUsers("jo", limit))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(userSearchIndex);
+    }
+
+    private static UserSearchCriteria searchCriteria(String login, MatchMode matchMode, String cursor, int limit) {
+        return new UserSearchCriteria(
+                login, null, null, matchMode, null, null, null, SortField.LOGIN, false, cursor, limit);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package fr.lpreaux.usermanager.benchmark;
+
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.domain.model.Permission;
+import fr.lpreaux.usermanager.domain.model.Role;
+import fr.lpreaux.usermanager.infrastructure.security.AuthorityCatalog;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Construction des autorités Spring Security d'une requête authentifiée.
+ * <p>
+ * {@code streamed} reproduit l'ancien code de {@code JwtAuthenticationFilter} ; {@code canonical}
+ * passe par le cache de {@link AuthorityCatalog}. Comparer {@code gc.alloc.rate.norm} (octets par
+ * opération) : proche de zéro pour {@code canonical} une fois la combinaison en cache.
+ * <pre>
+ * mvn -Pbenchmark verify -Djmh.include=AuthorityMappingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AuthorityMappingBenchmark {
+
+    private AuthorityCatalog catalog;
+
+    // Ensembles tels que produits par la validation d'un token au format standard
+    private Set<String> roles;
+    private Set<String> permissions;
+
+    @Setup
+    public void setUp() {
+        Role admin = Role.create("ADMIN", "Administrator");
+        for (String permission : List.of("USER_CREATE", "USER_READ", "USER_UPDATE", "USER_DELETE",
+                "ROLE_CREATE", "ROLE_READ", "ROLE_UPDATE", "ROLE_DELETE")) {
+            admin = admin.addPermission(Permission.of(permission));
+        }
+        RoleRepository roleRepository = Mockito.mock(RoleRepository.class);
+        Mockito.when(roleRepository.findAll()).thenReturn(List.of(admin));
+        catalog = new AuthorityCatalog(roleRepository);
+
+        roles = new HashSet<>(Set.of("ADMIN"));
+        permissions = new HashSet<>(admin.getPermissions().stream().map(Permission::getName).toList());
+    }
+
+    @Benchmark
+    public Collection<SimpleGrantedAuthority> streamed() {
+        return Stream.concat(
+                roles.stream().map(role -> new SimpleGrantedAuthority("ROLE_" + role)),
+                permissions.stream().map(SimpleGrantedAuthority::new)
+        ).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> canonical() {
+        return catalog.authoritiesFor(roles, permissions);
+    }
+}
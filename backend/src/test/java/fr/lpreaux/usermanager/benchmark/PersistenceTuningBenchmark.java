@@ -0,0 +1,251 @@
+package fr.lpreaux.usermanager.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import fr.lpreaux.usermanager.application.port.out.UserRepository;
+import fr.lpreaux.usermanager.domain.model.valueobject.Login;
+import fr.lpreaux.usermanager.domain.model.valueobject.RoleId;
+import fr.lpreaux.usermanager.infrastructure.persistence.adapter.UserReadModelAdapter;
+import fr.lpreaux.usermanager.infrastructure.persistence.adapter.UserRepositoryAdapter;
+import fr.lpreaux.usermanager.infrastructure.persistence.entity.UserEntity;
+import fr.lpreaux.usermanager.infrastructure.persistence.repository.RoleJpaRepository;
+import fr.lpreaux.usermanager.infrastructure.persistence.repository.UserJpaRepository;
+import fr.lpreaux.usermanager.infrastructure.persistence.repository.UserViewJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Effet des réglages de persistance de {@code application.yml} et {@code application-prod.yml} sur MariaDB :
+ * {@code default} reprend les valeurs par défaut d'Hibernate et du pilote, {@code tuned} active les instructions
+ * préparées côté serveur et leur cache, le chargement par lots des associations, les lots JDBC triés et le
+ * remplissage des listes IN.
+ * <p>
+ * Les opérations passent par {@link UserRepositoryAdapter} et les dépôts Spring Data, comme dans l'application :
+ * connexion par login (requête JPQL, collections paresseuses, rôles), page de recherche de {@value #PAGE_SIZE}
+ * projections et renommage de {@value #PAGE_SIZE} utilisateurs en une transaction.
+ * <p>
+ * Nécessite un MariaDB local (MARIADB_HOST / MARIADB_PORT / MARIADB_USER / MARIADB_PASSWORD) ; une base
+ * temporaire est créée, migrée par Flyway et alimentée avec {@value #USER_COUNT} utilisateurs.
+ * <pre>
+ * mvn -Pbenchmark verify -Djmh.include=PersistenceTuningBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PersistenceTuningBenchmark {
+
+    private static final int USER_COUNT = 20_000;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"default", "tuned"})
+    public String settings;
+
+    private final String database = "persistence_tuning_bench_" + UUID.randomUUID().toString().substring(0, 8);
+
+    private String url;
+    private String user;
+    private String password;
+    private HikariDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private UserJpaRepository userJpaRepository;
+    private UserRepositoryAdapter adapter;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private List<UUID> userIds;
+    private UUID userRoleId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String host = System.getenv().getOrDefault("MARIADB_HOST", "localhost");
+        String port = System.getenv().getOrDefault("MARIADB_PORT", "3306");
+        user = System.getenv().getOrDefault("MARIADB_USER", "root");
+        password = System.getenv().getOrDefault("MARIADB_PASSWORD", "");
+        url = "jdbc:mariadb://" + host + ":" + port + "/";
+        boolean tuned = "tuned".equals(settings);
+
+        new JdbcTemplate(new SingleConnectionDataSource(url, user, password, true))
+                .execute("CREATE DATABASE " + database + " CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci");
+        dataSource = dataSource(tuned);
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        userIds = seed(jdbcTemplate);
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setPackagesToScan(UserEntity.class.getPackageName());
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(hibernateProperties(tuned));
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        JpaRepositoryFactory repositories = new JpaRepositoryFactory(entityManager);
+        userJpaRepository = repositories.getRepository(UserJpaRepository.class);
+        adapter = new UserRepositoryAdapter(userJpaRepository, repositories.getRepository(RoleJpaRepository.class),
+                repositories.getRepository(UserViewJpaRepository.class), namedJdbcTemplate);
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Modèle de lecture (user_view) alimenté après l'insertion directe : tous les utilisateurs ont le rôle USER
+        // Hors transaction : recalcul immédiat, par lots transactionnels
+        new UserReadModelAdapter(entityManager, namedJdbcTemplate, transactionManager, 500)
+                .refreshUsersWithRole(RoleId.of(userRoleId));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactoryBean.destroy();
+        dataSource.close();
+        new JdbcTemplate(new SingleConnectionDataSource(url, user, password, true))
+                .execute("DROP DATABASE IF EXISTS " + database);
+    }
+
+    @Benchmark
+    public Object findByLogin() {
+        return readOnly.execute(status -> adapter.findByLogin(Login.of(randomLogin())).orElseThrow());
+    }
+
+    @Benchmark
+    public Object searchPage() {
+        // Préfixe « userN » : une page de 50 utilisateurs parmi environ un neuvième des utilisateurs
+        String prefix = "user" + (1 + ThreadLocalRandom.current().nextInt(9));
+        UserRepository.SearchQuery query = new UserRepository.SearchQuery(prefix, null, null, false, null, null,
+                null, UserRepository.SearchSort.LOGIN, false, null, null, PAGE_SIZE);
+        return readOnly.execute(status -> adapter.search(query));
+    }
+
+    @Benchmark
+    public void renameUsers() {
+        int from = ThreadLocalRandom.current().nextInt(USER_COUNT - PAGE_SIZE);
+        List<UUID> ids = userIds.subList(from, from + PAGE_SIZE);
+        readWrite.executeWithoutResult(status -> {
+            for (UserEntity entity : userJpaRepository.findAllById(ids)) {
+                entity.setLastName(entity.getLastName().endsWith("x")
+                        ? entity.getLastName().substring(0, entity.getLastName().length() - 1)
+                        : entity.getLastName() + "x");
+            }
+        });
+    }
+
+    private HikariDataSource dataSource(boolean tuned) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url + database);
+        config.setUsername(user);
+        config.setPassword(password);
+        config.setMaximumPoolSize(2);
+        // Pilote MariaDB 3 : instructions préparées côté client par défaut, cache actif seulement côté serveur
+        config.addDataSourceProperty("useServerPrepStmts", String.valueOf(tuned));
+        config.addDataSourceProperty("cachePrepStmts", String.valueOf(tuned));
+        return new HikariDataSource(config);
+    }
+
+    private static Map<String, Object> hibernateProperties(boolean tuned) {
+        Map<String, Object> properties = new HashMap<>();
+        // Réglages communs de l'application (JpaConfig, conventions de nommage de Spring Boot)
+        properties.put("hibernate.type.preferred_uuid_jdbc_type", "BINARY");
+        properties.put("hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName());
+        if (tuned) {
+            properties.put("hibernate.default_batch_fetch_size", "32");
+            properties.put("hibernate.jdbc.batch_size", "50");
+            properties.put("hibernate.order_inserts", "true");
+            properties.put("hibernate.order_updates", "true");
+            properties.put("hibernate.query.plan_cache_max_size", "2048");
+            properties.put("hibernate.query.in_clause_parameter_padding", "true");
+        }
+        return properties;
+    }
+
+    private static String randomLogin() {
+        return "user" + ThreadLocalRandom.current().nextInt(USER_COUNT);
+    }
+
+    private List<UUID> seed(JdbcTemplate jdbcTemplate) {
+        userRoleId = UUID.randomUUID();
+        byte[] userRole = toBytes(userRoleId);
+        byte[] moderatorRole = toBytes(UUID.randomUUID());
+        jdbcTemplate.update("INSERT INTO roles (role_id, name, description) VALUES (?, 'USER', 'Utilisateur'), "
+                + "(?, 'MODERATOR', 'Modérateur')", userRole, moderatorRole);
+        jdbcTemplate.update("INSERT INTO role_permissions (role_id, permission) VALUES "
+                + "(?, 'USER_READ'), (?, 'USER_UPDATE_SELF'), (?, 'USER_READ'), (?, 'USER_UPDATE')",
+                userRole, userRole, moderatorRole, moderatorRole);
+
+        List<UUID> ids = new ArrayList<>();
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> emails = new ArrayList<>();
+        List<Object[]> phones = new ArrayList<>();
+        List<Object[]> roles = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            UUID uuid = UUID.randomUUID();
+            byte[] id = toBytes(uuid);
+            String login = "user" + i;
+            ids.add(uuid);
+            users.add(new Object[]{id, login, "{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3NyB0NKZ6cFqGGZ2Qzsxy5a",
+                    "Name" + (i % 300), "First" + (i % 200), LocalDate.of(1950, 1, 1).plusDays(i % 20_000)});
+            emails.add(new Object[]{login + "@example.com", id});
+            emails.add(new Object[]{login + "@work.example.com", id});
+            phones.add(new Object[]{"+3361234" + String.format("%04d", i % 10_000), id});
+            roles.add(new Object[]{id, userRole});
+            if (i % 10 == 0) {
+                roles.add(new Object[]{id, moderatorRole});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (user_id, login, password, last_name, first_name, birth_date)"
+                + " VALUES (?, ?, ?, ?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO user_emails (email, user_id) VALUES (?, ?)", emails);
+        jdbcTemplate.batchUpdate("INSERT INTO user_phone_numbers (phone_number, user_id) VALUES (?, ?)", phones);
+        jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", roles);
+        jdbcTemplate.execute("ANALYZE TABLE users, user_emails, user_phone_numbers, user_roles, roles, role_permissions");
+        return ids;
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
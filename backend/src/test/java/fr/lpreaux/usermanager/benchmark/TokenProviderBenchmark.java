@@ -0,0 +1,141 @@
+package fr.lpreaux.usermanager.benchmark;
+
+import com.nimbusds.jose.JWEObject;
+import com.nimbusds.jose.crypto.DirectDecrypter;
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.domain.model.Permission;
+import fr.lpreaux.usermanager.domain.model.Role;
+import fr.lpreaux.usermanager.infrastructure.adapter.out.security.JweTokenProviderImpl;
+import fr.lpreaux.usermanager.infrastructure.adapter.out.security.JwtSigningKeyRing;
+import fr.lpreaux.usermanager.infrastructure.adapter.out.security.JwtTokenProviderImpl;
+import fr.lpreaux.usermanager.infrastructure.adapter.out.security.TokenClaimsCodec;
+import fr.lpreaux.usermanager.infrastructure.monitorig.SecurityMetrics;
+import fr.lpreaux.usermanager.infrastructure.security.AuthorityCatalog;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit de validation des tokens sur un cœur, avant/après réutilisation du parser et des chiffreurs.
+ * <p>
+ * Les méthodes {@code *Rebuilt} reproduisent l'ancien chemin (parser jjwt et chiffreurs nimbus
+ * reconstruits, en-tête JWE reparsé à chaque appel) ; les méthodes {@code *Prebuilt} passent par
+ * les providers. L'allocation par validation est donnée par {@code gc.alloc.rate.norm}.
+ * <pre>
+ * mvn -Pbenchmark verify -Djmh.include=TokenProviderBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-with-at-least-32-characters";
+    private static final String ENCRYPTION_KEY = "benchmark-encryption-key-of-32-b";
+
+    private JwtTokenProviderImpl jwtProvider;
+    private JwtTokenProviderImpl compactJwtProvider;
+    private JweTokenProviderImpl jweProvider;
+    private SecretKey hmacKey;
+    private byte[] encryptionKey;
+
+    private String jwt;
+    private String compactJwt;
+    private String jwe;
+
+    @Setup
+    public void setUp() {
+        JwtSigningKeyRing keyRing = new JwtSigningKeyRing("HS256", SECRET, "", Duration.ofMinutes(10));
+        keyRing.init();
+        RoleRepository roleRepository = Mockito.mock(RoleRepository.class);
+        Mockito.when(roleRepository.findAll()).thenReturn(List.of(
+                role("ADMIN", "USER_CREATE", "USER_READ", "USER_UPDATE", "USER_DELETE",
+                        "ROLE_CREATE", "ROLE_READ", "ROLE_UPDATE", "ROLE_DELETE"),
+                role("USER", "USER_READ", "USER_UPDATE_SELF")));
+        AuthorityCatalog catalog = new AuthorityCatalog(roleRepository);
+        TokenClaimsCodec standardCodec = new TokenClaimsCodec("standard", catalog);
+        jwtProvider = new JwtTokenProviderImpl(keyRing, standardCodec, 3_600_000);
+        compactJwtProvider = new JwtTokenProviderImpl(keyRing, new TokenClaimsCodec("compact", catalog), 3_600_000);
+
+        SecurityMetrics securityMetrics = new SecurityMetrics(new SimpleMeterRegistry());
+        securityMetrics.initCounters();
+        jweProvider = new JweTokenProviderImpl(SECRET, ENCRYPTION_KEY, 3_600_000, securityMetrics, standardCodec);
+
+        hmacKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        encryptionKey = ENCRYPTION_KEY.getBytes(StandardCharsets.UTF_8);
+
+        Set<String> roles = Set.of("USER", "ADMIN");
+        Set<String> permissions = Set.of("USER_CREATE", "USER_READ", "USER_UPDATE", "USER_DELETE",
+                "ROLE_CREATE", "ROLE_READ", "ROLE_UPDATE", "ROLE_DELETE", "USER_UPDATE_SELF");
+        Map<String, Object> loginClaims = Map.of("client_info", "Web client", "auth_time", System.currentTimeMillis());
+        jwt = jwtProvider.generateToken("user-1", "john.doe", roles, permissions, loginClaims).token();
+        compactJwt = compactJwtProvider.generateToken("user-1", "john.doe", roles, permissions, loginClaims).token();
+        jwe = jweProvider.generateToken("user-1", "john.doe", roles, permissions, Map.of()).token();
+    }
+
+    @Benchmark
+    public Claims jwtValidateRebuilt() {
+        return Jwts.parser().verifyWith(hmacKey).build().parseSignedClaims(jwt).getPayload();
+    }
+
+    @Benchmark
+    public Object jwtValidatePrebuilt() {
+        return jwtProvider.validateToken(jwt);
+    }
+
+    /**
+     * Claims compactes (bitset de permissions) : comparer avec {@link #jwtValidatePrebuilt()},
+     * la taille des deux tokens est affichée au démarrage.
+     */
+    @Benchmark
+    public Object jwtValidateCompact() {
+        return compactJwtProvider.validateToken(compactJwt);
+    }
+
+    @Benchmark
+    public Claims jweValidateRebuilt() throws Exception {
+        JWEObject jweObject = JWEObject.parse(jwe);
+        jweObject.decrypt(new DirectDecrypter(encryptionKey));
+        return Jwts.parser().verifyWith(hmacKey).build()
+                .parseSignedClaims(jweObject.getPayload().toString())
+                .getPayload();
+    }
+
+    @Benchmark
+    public Object jweValidatePrebuilt() {
+        return jweProvider.validateToken(jwe);
+    }
+
+    private static Role role(String name, String... permissions) {
+        Role role = Role.create(name, name);
+        for (String permission : permissions) {
+            role = role.addPermission(Permission.of(permission));
+        }
+        return role;
+    }
+}
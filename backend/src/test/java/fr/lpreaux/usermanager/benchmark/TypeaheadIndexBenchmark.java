@@ -0,0 +1,104 @@
+package fr.lpreaux.usermanager.benchmark;
+
+import fr.lpreaux.usermanager.infrastructure.adapter.out.search.TypeaheadIndex;
+import fr.lpreaux.usermanager.infrastructure.adapter.out.search.TypeaheadIndex.Document;
+import fr.lpreaux.usermanager.infrastructure.adapter.out.search.TypeaheadIndex.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latence d'une suggestion sur {@code userCount} utilisateurs (objectif : moins de 5 ms au p99 pour un
+ * million) selon la longueur du préfixe saisi, avec un delta de 10 000 écritures non compactées.
+ * La reconstruction complète est mesurée à part ({@code rebuild}, un appel par itération).
+ * <pre>
+ * mvn -Pbenchmark verify -Djmh.include=TypeaheadIndexBenchmark -Djmh.jvmArgs=-Xmx4g
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TypeaheadIndexBenchmark {
+
+    private static final String[] LAST_NAMES = {
+            "Martin", "Bernard", "Dubois", "Thomas", "Robert", "Richard", "Petit", "Durand", "Leroy", "Moreau",
+            "Simon", "Laurent", "Lefèvre", "Michel", "Garcia", "David", "Bertrand", "Roux", "Vincent", "Fournier"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Jean", "Marie", "Pierre", "Jeanne", "Michel", "Françoise", "André", "Monique", "Philippe", "Hélène",
+            "Louis", "Camille", "Nicolas", "Léa", "Julien", "Chloé", "Thomas", "Emma", "Hugo", "Inès"
+    };
+
+    @Param({"1000000"})
+    private int userCount;
+
+    @Param({"j", "jea", "martin.th", "user12345"})
+    private String prefix;
+
+    private TypeaheadIndex index;
+    private List<Document> documents;
+
+    @Setup
+    public void setUp() {
+        documents = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            documents.add(document(i));
+        }
+        index = new TypeaheadIndex();
+        TypeaheadIndex.Rebuild rebuild = index.startRebuild(ForkJoinPool.commonPool());
+        for (int from = 0; from < userCount; from += 5_000) {
+            rebuild.add(documents.subList(from, Math.min(from + 5_000, userCount)));
+        }
+        rebuild.publish();
+        for (int i = 0; i < 10_000; i++) {
+            index.put(document(userCount + i));
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Match> suggest() {
+        return index.search(prefix, 10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int rebuild() {
+        TypeaheadIndex rebuilt = new TypeaheadIndex();
+        TypeaheadIndex.Rebuild rebuild = rebuilt.startRebuild(ForkJoinPool.commonPool());
+        for (int from = 0; from < userCount; from += 5_000) {
+            rebuild.add(documents.subList(from, Math.min(from + 5_000, userCount)));
+        }
+        rebuild.publish();
+        return rebuilt.size();
+    }
+
+    private static Document document(int index) {
+        String lastName = LAST_NAMES[index % LAST_NAMES.length];
+        String firstName = FIRST_NAMES[(index / LAST_NAMES.length) % FIRST_NAMES.length];
+        String login = index % 3 == 0
+                ? "user" + index
+                : (lastName + "." + firstName).toLowerCase() + index;
+        return new Document(UUID.nameUUIDFromBytes(("user-" + index).getBytes()), login, lastName, firstName,
+                List.of(login + "@example.com"));
+    }
+}
@@ -0,0 +1,135 @@
+package fr.lpreaux.usermanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserDetailsDTO;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.UserController;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.response.UserResponse;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.hateoas.UserLinks;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.mapper.UserWebMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.HalConfiguration;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Coût de la réponse de {@code GET /api/v1/users} (construction des ressources et encodage HAL) selon
+ * la façon de produire les liens : {@code linkTo(methodOn(...))} par élément, modèles précalculés
+ * de {@link UserLinks}, ou aucun lien ({@code Prefer: return=minimal}).
+ * <pre>
+ * mvn -Pbenchmark verify -Djmh.include=UserCollectionLinksBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserCollectionLinksBenchmark {
+
+    @Param({"10000"})
+    private int userCount;
+
+    private final UserWebMapper userWebMapper = new UserWebMapper();
+    private final UserLinks userLinks = new UserLinks();
+
+    private ObjectMapper halMapper;
+    private List<UserDetailsDTO> users;
+
+    @Setup
+    public void setUp() {
+        halMapper = new ObjectMapper();
+        halMapper.registerModule(new Jackson2HalModule());
+        halMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new EvoInflectorLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY,
+                new HalConfiguration(), null));
+
+        // Les deux variantes lisent la requête courante pour l'origine des URL absolues
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.setServerName("api.example.com");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        users = IntStream.range(0, userCount).mapToObj(UserCollectionLinksBenchmark::user).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public byte[] linkBuilder() throws IOException {
+        List<EntityModel<UserResponse>> resources = users.stream()
+                .map(userWebMapper::toUserResponse)
+                .map(response -> EntityModel.of(response,
+                        linkTo(methodOn(UserController.class).getUserById(response.id())).withSelfRel()))
+                .toList();
+        CollectionModel<EntityModel<UserResponse>> collection = CollectionModel.of(resources);
+        collection.add(linkTo(methodOn(UserController.class).getAllUsers()).withSelfRel());
+        return halMapper.writeValueAsBytes(collection);
+    }
+
+    @Benchmark
+    public byte[] precomputedTemplates() throws IOException {
+        String baseUri = userLinks.baseUri();
+        List<EntityModel<UserResponse>> resources = users.stream()
+                .map(userWebMapper::toUserResponse)
+                .map(response -> EntityModel.of(response, userLinks.userById(baseUri, response.id())))
+                .toList();
+        CollectionModel<EntityModel<UserResponse>> collection = CollectionModel.of(resources);
+        collection.add(userLinks.allUsers(baseUri));
+        return halMapper.writeValueAsBytes(collection);
+    }
+
+    @Benchmark
+    public byte[] withoutLinks() throws IOException {
+        List<EntityModel<UserResponse>> resources = users.stream()
+                .map(userWebMapper::toUserResponse)
+                .map(EntityModel::of)
+                .toList();
+        return halMapper.writeValueAsBytes(CollectionModel.of(resources));
+    }
+
+    private static UserDetailsDTO user(int index) {
+        return new UserDetailsDTO(
+                UUID.nameUUIDFromBytes(("user-" + index).getBytes()).toString(),
+                "user" + index,
+                "Doe",
+                "John",
+                "1990-05-15",
+                35,
+                true,
+                List.of("user" + index + "@example.com"),
+                List.of("+33612345678")
+        );
+    }
+}
@@ -0,0 +1,119 @@
+package fr.lpreaux.usermanager.benchmark;
+
+import fr.lpreaux.usermanager.domain.model.valueobject.TimeOrderedUuid;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit d'insertion dans {@code users} selon la clé primaire : UUID v4 aléatoire (ancien {@code UserId.generate()})
+ * contre UUID v7 ordonné dans le temps ({@link TimeOrderedUuid}), sur une table déjà remplie de
+ * {@code existingRows} lignes portant des clés de la même version.
+ * <p>
+ * Nécessite un MariaDB local (MARIADB_HOST / MARIADB_PORT / MARIADB_USER / MARIADB_PASSWORD, 10.10+ pour
+ * {@code RANDOM_BYTES}). Le remplissage passe par le moteur SEQUENCE et prend plusieurs minutes à 10M lignes ;
+ * l'écart se creuse dès que l'index cluster dépasse {@code innodb_buffer_pool_size}.
+ * Comparer aussi {@code Innodb_buffer_pool_pages_dirty} et la taille du fichier {@code users.ibd}.
+ * <pre>
+ * mvn -Pbenchmark verify -Djmh.include=UserIdInsertBenchmark
+ * mvn -Pbenchmark verify -Djmh.include=UserIdInsertBenchmark -Djmh.param.existingRows=1000000
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class UserIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"v4", "v7"})
+    public String idVersion;
+
+    @Param({"10000000"})
+    public long existingRows;
+
+    private final String database = "user_id_bench_" + UUID.randomUUID().toString().substring(0, 8);
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String host = System.getenv().getOrDefault("MARIADB_HOST", "localhost");
+        String port = System.getenv().getOrDefault("MARIADB_PORT", "3306");
+        String user = System.getenv().getOrDefault("MARIADB_USER", "root");
+        String password = System.getenv().getOrDefault("MARIADB_PASSWORD", "");
+        String url = "jdbc:mariadb://" + host + ":" + port + "/";
+
+        new JdbcTemplate(new SingleConnectionDataSource(url, user, password, true))
+                .execute("CREATE DATABASE " + database + " CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci");
+        dataSource = new SingleConnectionDataSource(url + database + "?rewriteBatchedStatements=true",
+                user, password, true);
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // v7 : horodatage croissant sur les 6 premiers octets, comme les clés émises au fil du temps
+        String key = idVersion.equals("v7")
+                ? "CONCAT(UNHEX(LPAD(HEX(" + (System.currentTimeMillis() - existingRows) + " + seq), 12, '0')), RANDOM_BYTES(10))"
+                : "RANDOM_BYTES(16)";
+        for (long from = 1; from <= existingRows; from += 1_000_000) {
+            long to = Math.min(existingRows, from + 999_999);
+            jdbcTemplate.execute("INSERT INTO users (user_id, login, password, last_name, first_name, birth_date) "
+                    + "SELECT " + key + ", CONCAT('seed', seq), 'hash', 'Doe', 'John', '1990-05-15' "
+                    + "FROM seq_" + from + "_to_" + to);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE users");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + database);
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            UUID id = idVersion.equals("v7") ? TimeOrderedUuid.generate() : UUID.randomUUID();
+            rows.add(new Object[]{toBytes(id), "bench" + sequence++, "hash", "Doe", "John", LocalDate.of(1990, 5, 15)});
+        }
+        return jdbcTemplate.batchUpdate("INSERT INTO users (user_id, login, password, last_name, first_name, birth_date)"
+                + " VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
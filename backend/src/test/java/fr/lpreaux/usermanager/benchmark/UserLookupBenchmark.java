@@ -0,0 +1,165 @@
+package fr.lpreaux.usermanager.benchmark;
+
+import fr.lpreaux.usermanager.application.port.out.UserRepository;
+import fr.lpreaux.usermanager.domain.model.valueobject.Login;
+import fr.lpreaux.usermanager.infrastructure.persistence.adapter.UserRepositoryAdapter;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût des recherches de la connexion sur MariaDB : agrégat complet (requêtes émises par Hibernate pour
+ * {@code findByLogin} : utilisateur, emails, numéros, rôles, permissions) contre identifiants seuls
+ * puis rôles et permissions en une requête ; existence d'un email par jointure contre sonde de l'index.
+ * <p>
+ * Nécessite un MariaDB local (MARIADB_HOST / MARIADB_PORT / MARIADB_USER / MARIADB_PASSWORD) ; une base
+ * temporaire est créée, migrée par Flyway et alimentée avec {@value #USER_COUNT} utilisateurs.
+ * <pre>
+ * mvn -Pbenchmark verify -Djmh.include=UserLookupBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserLookupBenchmark {
+
+    private static final int USER_COUNT = 100_000;
+
+    private final String database = "user_lookup_bench_" + UUID.randomUUID().toString().substring(0, 8);
+
+    private SingleConnectionDataSource dataSource;
+    private NamedParameterJdbcTemplate jdbc;
+    private UserRepositoryAdapter adapter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String host = System.getenv().getOrDefault("MARIADB_HOST", "localhost");
+        String port = System.getenv().getOrDefault("MARIADB_PORT", "3306");
+        String user = System.getenv().getOrDefault("MARIADB_USER", "root");
+        String password = System.getenv().getOrDefault("MARIADB_PASSWORD", "");
+        String url = "jdbc:mariadb://" + host + ":" + port + "/";
+
+        new JdbcTemplate(new SingleConnectionDataSource(url, user, password, true))
+                .execute("CREATE DATABASE " + database + " CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci");
+        dataSource = new SingleConnectionDataSource(url + database, user, password, true);
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbc = new NamedParameterJdbcTemplate(dataSource);
+        seed(jdbc.getJdbcTemplate());
+        // Seules les méthodes SQL natives de l'adaptateur sont appelées
+        adapter = new UserRepositoryAdapter(null, null, null, jdbc);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbc.getJdbcTemplate().execute("DROP DATABASE IF EXISTS " + database);
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public Object loginWithAggregate() {
+        MapSqlParameterSource login = new MapSqlParameterSource("login", randomLogin());
+        Map<String, Object> row = jdbc.queryForMap(
+                "SELECT user_id, login, password, last_name, first_name, birth_date FROM users WHERE login = :login",
+                login);
+        MapSqlParameterSource userId = new MapSqlParameterSource("userId", row.get("user_id"));
+        List<Object> result = new ArrayList<>();
+        result.add(row);
+        result.add(jdbc.queryForList("SELECT id, email, user_id FROM user_emails WHERE user_id = :userId", userId));
+        result.add(jdbc.queryForList("SELECT id, phone_number, user_id FROM user_phone_numbers WHERE user_id = :userId",
+                userId));
+        List<Map<String, Object>> roles = jdbc.queryForList("SELECT r.role_id, r.name, r.description FROM user_roles ur "
+                + "JOIN roles r ON r.role_id = ur.role_id WHERE ur.user_id = :userId", userId);
+        result.add(roles);
+        for (Map<String, Object> role : roles) {
+            result.add(jdbc.queryForList("SELECT permission FROM role_permissions WHERE role_id = :roleId",
+                    new MapSqlParameterSource("roleId", role.get("role_id"))));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object loginWithCredentials() {
+        UserRepository.Credentials credentials = adapter.findCredentialsByLogin(Login.of(randomLogin())).orElseThrow();
+        return adapter.findAuthorities(credentials.userId());
+    }
+
+    @Benchmark
+    public Boolean emailExistsWithJoin() {
+        return jdbc.queryForObject("SELECT COUNT(u.user_id) > 0 FROM users u "
+                        + "JOIN user_emails e ON e.user_id = u.user_id WHERE e.email = :email",
+                new MapSqlParameterSource("email", randomLogin() + "@example.com"), Boolean.class);
+    }
+
+    @Benchmark
+    public Boolean emailExistsWithProbe() {
+        return jdbc.queryForObject("SELECT COUNT(e.id) > 0 FROM user_emails e WHERE e.email = :email",
+                new MapSqlParameterSource("email", randomLogin() + "@example.com"), Boolean.class);
+    }
+
+    private static String randomLogin() {
+        return "user" + ThreadLocalRandom.current().nextInt(USER_COUNT);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        byte[] userRole = toBytes(UUID.randomUUID());
+        jdbcTemplate.update("INSERT INTO roles (role_id, name, description) VALUES (?, 'USER', 'Utilisateur')", userRole);
+        jdbcTemplate.update("INSERT INTO role_permissions (role_id, permission) VALUES (?, 'USER_READ'), (?, 'USER_UPDATE_SELF')",
+                userRole, userRole);
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> emails = new ArrayList<>();
+        List<Object[]> phones = new ArrayList<>();
+        List<Object[]> roles = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            byte[] id = toBytes(UUID.randomUUID());
+            String login = "user" + i;
+            users.add(new Object[]{id, login, "{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3NyB0NKZ6cFqGGZ2Qzsxy5a",
+                    "Name" + (i % 300), "First" + (i % 200), LocalDate.of(1950, 1, 1).plusDays(i % 20_000)});
+            emails.add(new Object[]{login + "@example.com", id});
+            emails.add(new Object[]{login + "@work.example.com", id});
+            phones.add(new Object[]{"+3361234" + String.format("%04d", i % 10_000), id});
+            roles.add(new Object[]{id, userRole});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (user_id, login, password, last_name, first_name, birth_date)"
+                + " VALUES (?, ?, ?, ?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO user_emails (email, user_id) VALUES (?, ?)", emails);
+        jdbcTemplate.batchUpdate("INSERT INTO user_phone_numbers (phone_number, user_id) VALUES (?, ?)", phones);
+        jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", roles);
+        jdbcTemplate.execute("ANALYZE TABLE users, user_emails, user_phone_numbers, user_roles, roles, role_permissions");
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
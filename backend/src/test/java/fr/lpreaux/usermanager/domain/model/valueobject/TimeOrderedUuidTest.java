@@ -0,0 +1,80 @@
+package fr.lpreaux.usermanager.domain.model.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedUuidTest {
+
+    @Test
+    @DisplayName("Should generate version 7 UUIDs with the RFC 9562 variant")
+    void shouldGenerateVersion7() {
+        // When
+        UUID uuid = TimeOrderedUuid.generate();
+
+        // Then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should store the timestamp in the 48 most significant bits")
+    void shouldEncodeTimestamp() {
+        // Given
+        long epochMillis = 1_760_000_000_000L;
+
+        // When
+        UUID uuid = new TimeOrderedUuid().next(epochMillis);
+
+        // Then
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(epochMillis);
+    }
+
+    @Test
+    @DisplayName("Should keep ids increasing within a millisecond and when the clock goes back")
+    void shouldBeMonotonic() {
+        // Given
+        TimeOrderedUuid generator = new TimeOrderedUuid();
+        long epochMillis = 1_760_000_000_000L;
+
+        // When - 5000 ids dans la même milliseconde (débordement du compteur), puis recul de l'horloge
+        List<UUID> uuids = IntStream.range(0, 5_000)
+                .mapToObj(i -> generator.next(epochMillis))
+                .collect(Collectors.toList());
+        uuids.add(generator.next(epochMillis - 1_000));
+
+        // Then - ordre des octets tels que stockés en BINARY(16)
+        for (int i = 1; i < uuids.size(); i++) {
+            assertThat(Arrays.compareUnsigned(bytes(uuids.get(i - 1)), bytes(uuids.get(i)))).isNegative();
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort after ids generated earlier")
+    void shouldSortByCreationTime() {
+        // Given
+        TimeOrderedUuid generator = new TimeOrderedUuid();
+
+        // When
+        UUID earlier = generator.next(1_760_000_000_000L);
+        UUID later = generator.next(1_760_000_000_001L);
+
+        // Then
+        assertThat(Arrays.compareUnsigned(bytes(earlier), bytes(later))).isNegative();
+    }
+
+    private static byte[] bytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
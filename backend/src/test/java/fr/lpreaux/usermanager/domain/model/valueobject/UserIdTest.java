@@ -48,6 +48,7 @@ class UserIdTest {
         // Then
         assertThat(userId).isNotNull();
         assertThat(userId.getValue()).isNotNull();
+        assertThat(userId.getValue().version()).isEqualTo(7);
     }
 
     @Test
@@ -0,0 +1,77 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web;
+
+import fr.lpreaux.usermanager.infrastructure.adapter.out.security.JwtSigningKeyRing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests des requêtes conditionnelles sur le JWKS.
+ */
+class JwksControllerTest {
+
+    private static final String ETAG = "\"abc123\"";
+
+    private JwksController controller;
+
+    @BeforeEach
+    void setUp() {
+        JwtSigningKeyRing keyRing = mock(JwtSigningKeyRing.class);
+        when(keyRing.jwks()).thenReturn(new JwtSigningKeyRing.Jwks(
+                "{\"keys\":[]}".getBytes(StandardCharsets.UTF_8), ETAG));
+        controller = new JwksController(keyRing, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should return the JWKS with its ETag without If-None-Match")
+    void shouldReturnJwksWithoutCondition() {
+        // When
+        ResponseEntity<byte[]> response = controller.jwks(null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(response.getBody()).isNotEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "\"abc123\"",
+            "W/\"abc123\"",
+            "\"other\", \"abc123\"",
+            "\"other\",W/\"abc123\"",
+            "*"
+    })
+    @DisplayName("Should return 304 for matching, weak, listed or wildcard validators")
+    void shouldReturnNotModified(String ifNoneMatch) {
+        // When
+        ResponseEntity<byte[]> response = controller.jwks(ifNoneMatch);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"other\"", "W/\"other\", \"abc\"", "abc123", ""})
+    @DisplayName("Should return the JWKS when no validator matches")
+    void shouldReturnJwksWhenNoValidatorMatches(String ifNoneMatch) {
+        // When
+        ResponseEntity<byte[]> response = controller.jwks(ifNoneMatch);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+}
@@ -7,8 +7,8 @@ import fr.lpreaux.usermanager.application.exception.LastEmailException;
 import fr.lpreaux.usermanager.application.exception.UserNotFoundException;
 import fr.lpreaux.usermanager.application.port.in.*;
 import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserDetailsDTO;
-import fr.lpreaux.usermanager.domain.model.valueobject.UserId;
 import fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.request.*;
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.hateoas.UserLinks;
 import fr.lpreaux.usermanager.infrastructure.adapter.in.web.mapper.UserWebMapper;
 import fr.lpreaux.usermanager.infrastructure.adapter.out.analytics.AnalyticsService;
 import fr.lpreaux.usermanager.infrastructure.config.TestSecurityConfig;
@@ -31,6 +31,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -41,7 +43,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Dans l'architecture hexagonale, on teste les adaptateurs web avec MockMvc.
  */
 @WebMvcTest(UserController.class)
-@Import({UserWebMapper.class, TestSecurityConfig.class})
+@Import({UserWebMapper.class, UserLinks.class, TestSecurityConfig.class})
 class UserControllerTest {
 
     @Autowired
@@ -92,8 +94,7 @@ class UserControllerTest {
                 List.of("+33612345678")
         );
 
-        when(registerUserUseCase.registerUser(any())).thenReturn(UserId.of(userId));
-        when(userQueryUseCase.findUserById(userId.toString())).thenReturn(Optional.of(userDetails));
+        when(registerUserUseCase.registerUserAndGetDetails(any())).thenReturn(userDetails);
 
         // When/Then
         mockMvc.perform(post("/api/v1/users")
@@ -106,6 +107,8 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.firstName").value("John"))
                 .andExpect(jsonPath("$.emails[0]").value("john.doe@example.com"))
                 .andExpect(jsonPath("$._links.self.href").exists());
+
+        verify(userQueryUseCase, never()).findUserById(any());
     }
 
     @Test
@@ -348,6 +351,52 @@ class UserControllerTest {
 
             verify(userQueryUseCase).getAllUsers();
         }
+
+        @Test
+        @DisplayName("Should expand precomputed link templates")
+        void shouldExpandPrecomputedLinkTemplates() throws Exception {
+            // Given
+            String userId = UUID.randomUUID().toString();
+            when(userQueryUseCase.getAllUsers()).thenReturn(List.of(createUserDetailsDTO(userId, "user1")));
+
+            // When/Then
+            mockMvc.perform(get("/api/v1/users"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$._embedded.userResponseList[0]._links.self.href")
+                            .value("http://localhost/api/v1/users/" + userId))
+                    .andExpect(jsonPath("$._links.self.href").value("http://localhost/api/v1/users"));
+        }
+
+        @Test
+        @DisplayName("Should omit links when client prefers minimal representation")
+        void shouldOmitLinksWhenClientPrefersMinimalRepresentation() throws Exception {
+            // Given
+            when(userQueryUseCase.getAllUsers()).thenReturn(List.of(
+                    createUserDetailsDTO(UUID.randomUUID().toString(), "user1")));
+
+            // When/Then
+            mockMvc.perform(get("/api/v1/users").header(UserLinks.PREFER_HEADER, UserLinks.RETURN_MINIMAL))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$._embedded.userResponseList[0].login").value("user1"))
+                    .andExpect(jsonPath("$._embedded.userResponseList[0]._links").doesNotExist())
+                    .andExpect(jsonPath("$._links").doesNotExist())
+                    .andExpect(header().string(UserLinks.PREFERENCE_APPLIED_HEADER, UserLinks.RETURN_MINIMAL))
+                    .andExpect(header().stringValues("Vary", hasItem(UserLinks.PREFER_HEADER)));
+        }
+
+        @Test
+        @DisplayName("Should vary on Prefer without applying a preference by default")
+        void shouldVaryOnPreferByDefault() throws Exception {
+            // Given
+            when(userQueryUseCase.getAllUsers()).thenReturn(List.of(
+                    createUserDetailsDTO(UUID.randomUUID().toString(), "user1")));
+
+            // When/Then
+            mockMvc.perform(get("/api/v1/users"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(UserLinks.PREFERENCE_APPLIED_HEADER))
+                    .andExpect(header().stringValues("Vary", hasItem(UserLinks.PREFER_HEADER)));
+        }
     }
 
     @Nested
@@ -634,6 +683,61 @@ class UserControllerTest {
 
             verify(userQueryUseCase).findUserByLogin(login);
         }
+
+        @Test
+        @DisplayName("Should search users and link to next page")
+        void shouldSearchUsersAndLinkToNextPage() throws Exception {
+            // Given
+            UserDetailsDTO userDetails = createUserDetailsDTO(UUID.randomUUID().toString(), "john.doe");
+            when(userQueryUseCase.searchUsers(any())).thenReturn(
+                    new UserQueryUseCase.UserSearchPageDTO(List.of(userDetails), "bmV4dA"));
+
+            // When/Then
+            mockMvc.perform(get("/api/v1/users/search")
+                            .param("name", "Do")
+                            .param("sort", "lastName")
+                            .param("direction", "desc")
+                            .param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$._embedded.userResponseList[0].login").value("john.doe"))
+                    .andExpect(jsonPath("$._links.next.href").value(containsString("cursor=bmV4dA")));
+
+            verify(userQueryUseCase).searchUsers(argThat(criteria -> "Do".equals(criteria.name())
+                    && criteria.sortBy() == UserQueryUseCase.SortField.LAST_NAME
+                    && criteria.descending()
+                    && criteria.matchMode() == UserQueryUseCase.MatchMode.PREFIX
+                    && criteria.limit() == 1));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for unsupported search sort")
+        void shouldReturn400ForUnsupportedSearchSort() throws Exception {
+            // When/Then
+            mockMvc.perform(get("/api/v1/users/search")
+                            .param("sort", "password"))
+                    .andExpect(status().isBadRequest());
+
+            verify(userQueryUseCase, never()).searchUsers(any());
+        }
+
+        @Test
+        @DisplayName("Should return typeahead suggestions without links")
+        void shouldReturnTypeaheadSuggestionsWithoutLinks() throws Exception {
+            // Given
+            String userId = UUID.randomUUID().toString();
+            when(userQueryUseCase.suggestUsers("jea", 10)).thenReturn(List.of(
+                    new UserQueryUseCase.UserSuggestionDTO(userId, "jean.dupont", "Dupont", "Jean", "jean.dupont@example.com")));
+
+            // When/Then
+            mockMvc.perform(get("/api/v1/users/suggest")
+                            .param("q", "jea"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(userId))
+                    .andExpect(jsonPath("$[0].email").value("jean.dupont@example.com"))
+                    .andExpect(jsonPath("$[0]._links").doesNotExist());
+
+            verify(userQueryUseCase).suggestUsers("jea", 10);
+        }
     }
 
     @Nested
@@ -751,8 +855,7 @@ class UserControllerTest {
             RegisterUserRequest request = createValidRegisterRequest();
             String userId = UUID.randomUUID().toString();
 
-            when(registerUserUseCase.registerUser(any())).thenReturn(UserId.of(UUID.fromString(userId)));
-            when(userQueryUseCase.findUserById(userId)).thenReturn(Optional.of(createUserDetailsDTO(userId, request.login())));
+            when(registerUserUseCase.registerUserAndGetDetails(any())).thenReturn(createUserDetailsDTO(userId, request.login()));
 
             // When/Then
             mockMvc.perform(post("/api/v1/users")
@@ -0,0 +1,58 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.dto.request;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidateTokensRequestTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should reject null or blank tokens in a batch")
+    void shouldRejectNullOrBlankTokens() {
+        // Given - {"tokens":[null, ""]}
+        ValidateTokensRequest request = new ValidateTokensRequest(Arrays.asList(null, "", "token"));
+
+        // When
+        Set<ConstraintViolation<ValidateTokensRequest>> violations = validator.validate(request);
+
+        // Then
+        assertThat(violations).hasSize(2)
+                .allSatisfy(violation -> assertThat(violation.getPropertyPath().toString()).startsWith("tokens["));
+    }
+
+    @Test
+    @DisplayName("Should accept a batch of non-blank tokens")
+    void shouldAcceptTokens() {
+        // When
+        Set<ConstraintViolation<ValidateTokensRequest>> violations =
+                validator.validate(new ValidateTokensRequest(List.of("first", "second")));
+
+        // Then
+        assertThat(violations).isEmpty();
+    }
+}
@@ -0,0 +1,65 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.hateoas;
+
+import fr.lpreaux.usermanager.infrastructure.adapter.in.web.UserController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LinkTemplateTest {
+
+    private static final String BASE_URI = "http://localhost:8080";
+
+    @Test
+    @DisplayName("Should expand path variable from controller mapping")
+    void shouldExpandPathVariable() {
+        // Given
+        LinkTemplate template = LinkTemplate.of(UserController.class, "getUserById", String.class);
+
+        // When
+        String href = template.expand(BASE_URI, "42");
+
+        // Then
+        assertThat(template.variableCount()).isEqualTo(1);
+        assertThat(href).isEqualTo("http://localhost:8080/api/v1/users/42");
+    }
+
+    @Test
+    @DisplayName("Should append request parameters as encoded query string")
+    void shouldAppendRequestParameters() {
+        // Given
+        LinkTemplate template = LinkTemplate.of(UserController.class, "getUserByEmail", String.class);
+
+        // When
+        String href = template.expand(BASE_URI, "john doe&co@example.com");
+
+        // Then
+        assertThat(href).isEqualTo("http://localhost:8080/api/v1/users/search/by-email?email=john%20doe%26co@example.com");
+    }
+
+    @Test
+    @DisplayName("Should encode path segment values")
+    void shouldEncodePathSegmentValues() {
+        // Given
+        LinkTemplate template = LinkTemplate.of(UserController.class, "getUserById", String.class);
+
+        // When
+        String href = template.expand(BASE_URI, "a/b c");
+
+        // Then
+        assertThat(href).isEqualTo("http://localhost:8080/api/v1/users/a%2Fb%20c");
+    }
+
+    @Test
+    @DisplayName("Should reject wrong number of values")
+    void shouldRejectWrongNumberOfValues() {
+        // Given
+        LinkTemplate template = LinkTemplate.of(UserController.class, "getAllUsers");
+
+        // When/Then
+        assertThat(template.expand(BASE_URI)).isEqualTo("http://localhost:8080/api/v1/users");
+        assertThatThrownBy(() -> template.expand(BASE_URI, "extra"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
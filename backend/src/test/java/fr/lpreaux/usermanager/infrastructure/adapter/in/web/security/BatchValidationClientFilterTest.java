@@ -0,0 +1,98 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.security;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BatchValidationClientFilterTest {
+
+    private static final String CLIENT_AUTHORIZATION = "Basic "
+            + Base64.getEncoder().encodeToString("gateway:s3cret".getBytes(StandardCharsets.UTF_8));
+
+    private final FilterChain filterChain = mock(FilterChain.class);
+
+    @Test
+    @DisplayName("Should pass batch validations from the configured service client")
+    void shouldPassAuthenticatedClient() throws Exception {
+        // Given
+        MockHttpServletRequest request = batchRequest(CLIENT_AUTHORIZATION);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        new BatchValidationClientFilter("gateway", "s3cret").doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain).doFilter(request, response);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should reject batch validations without valid client credentials")
+    void shouldRejectUnauthenticatedClient() throws Exception {
+        // Given
+        BatchValidationClientFilter filter = new BatchValidationClientFilter("gateway", "s3cret");
+        String wrongSecret = "Basic " + Base64.getEncoder().encodeToString("gateway:wrong".getBytes(StandardCharsets.UTF_8));
+
+        for (String authorization : new String[]{null, wrongSecret, "Bearer user-access-token"}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // When
+            filter.doFilter(batchRequest(authorization), response, filterChain);
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(401);
+            assertThat(response.getHeader("WWW-Authenticate")).startsWith("Basic");
+            assertThat(response.getContentAsString()).contains("invalid_client");
+        }
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should close batch validation when no client credentials are configured")
+    void shouldCloseWithoutConfiguredCredentials() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        new BatchValidationClientFilter("", "").doFilter(batchRequest("Basic Og=="), response, filterChain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(401);
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should leave other authentication routes untouched")
+    void shouldIgnoreOtherPaths() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setServletPath("/api/v1/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        new BatchValidationClientFilter("gateway", "s3cret").doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain).doFilter(request, response);
+    }
+
+    private static MockHttpServletRequest batchRequest(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", BatchValidationClientFilter.BATCH_VALIDATION_PATH);
+        request.setServletPath(BatchValidationClientFilter.BATCH_VALIDATION_PATH);
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,73 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Éviction et purge du cache des réponses d'introspection.
+ */
+class IntrospectionResponseCacheTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long TOKEN_EXPIRES_AT = NOW + 600_000;
+
+    @Test
+    @DisplayName("Should evict a single entry when full instead of clearing the cache")
+    void shouldEvictSingleEntryWhenFull() {
+        // Given
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(100, 30_000);
+        for (int i = 0; i < 100; i++) {
+            cache.put("key-" + i, body(i), TOKEN_EXPIRES_AT, NOW);
+        }
+
+        // When
+        cache.put("new-key", body(100), TOKEN_EXPIRES_AT, NOW);
+
+        // Then
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.get("new-key", NOW)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should prefer evicting the entry that expires first")
+    void shouldEvictEntryExpiringFirst() {
+        // Given - le token de la première entrée expire bientôt
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(3, 30_000);
+        cache.put("short", body(0), NOW + 1_000, NOW);
+        cache.put("long-1", body(1), TOKEN_EXPIRES_AT, NOW);
+        cache.put("long-2", body(2), TOKEN_EXPIRES_AT, NOW);
+
+        // When
+        cache.put("new-key", body(3), TOKEN_EXPIRES_AT, NOW);
+
+        // Then
+        assertThat(cache.get("short", NOW)).isNull();
+        assertThat(cache.get("long-1", NOW)).isNotNull();
+        assertThat(cache.get("long-2", NOW)).isNotNull();
+        assertThat(cache.get("new-key", NOW)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should purge expired entries on sweep")
+    void shouldRemoveExpiredEntries() {
+        // Given
+        IntrospectionResponseCache cache = new IntrospectionResponseCache(100, 30_000);
+        cache.put("expiring", body(0), NOW + 1_000, NOW);
+        cache.put("fresh", body(1), TOKEN_EXPIRES_AT, NOW);
+
+        // When
+        cache.removeExpired(NOW + 2_000);
+
+        // Then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("fresh", NOW + 2_000)).isNotNull();
+    }
+
+    private static byte[] body(int i) {
+        return ("{\"active\":true,\"sub\":\"user-" + i + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+}
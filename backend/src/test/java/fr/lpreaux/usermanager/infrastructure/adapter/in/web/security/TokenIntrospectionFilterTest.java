@@ -0,0 +1,155 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.in.web.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase;
+import fr.lpreaux.usermanager.application.port.in.AuthenticationUseCase.AuthenticationResultDTO;
+import fr.lpreaux.usermanager.application.port.out.TokenBlacklistRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenIntrospectionFilterTest {
+
+    private static final String CLIENT_AUTHORIZATION = "Basic "
+            + Base64.getEncoder().encodeToString("gateway:s3cret".getBytes(StandardCharsets.UTF_8));
+
+    @Mock
+    private AuthenticationUseCase authenticationUseCase;
+
+    @Mock
+    private TokenBlacklistRepository tokenBlacklistRepository;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private TokenIntrospectionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new TokenIntrospectionFilter(authenticationUseCase, tokenBlacklistRepository, new ObjectMapper(),
+                new SimpleMeterRegistry(), "gateway", "s3cret", 100, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated introspections of a valid token from the cache")
+    void shouldCacheActiveResponses() throws Exception {
+        // Given
+        when(authenticationUseCase.validateTokenClaims("valid-token")).thenReturn(new AuthenticationResultDTO(
+                "user-1", "john.doe", "valid-token", null, Set.of("USER"), Set.of("USER_READ"),
+                System.currentTimeMillis() + 600_000));
+
+        // When
+        MockHttpServletResponse first = introspect("valid-token", CLIENT_AUTHORIZATION, null);
+        MockHttpServletResponse second = introspect("valid-token", CLIENT_AUTHORIZATION, null);
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getContentAsString())
+                .contains("\"active\":true", "\"sub\":\"user-1\"", "\"username\":\"john.doe\"");
+        assertThat(first.getHeader("Cache-Control")).startsWith("private, max-age=");
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        assertThat(second.getHeader("ETag")).isEqualTo(first.getHeader("ETag"));
+        verify(authenticationUseCase, times(1)).validateTokenClaims("valid-token");
+        verify(tokenBlacklistRepository, times(2)).isBlacklisted("valid-token");
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should always answer 200 with the body to a POST, even when If-None-Match matches")
+    void shouldIgnoreIfNoneMatchOnPost() throws Exception {
+        // Given
+        when(authenticationUseCase.validateTokenClaims("valid-token")).thenReturn(new AuthenticationResultDTO(
+                "user-1", "john.doe", "valid-token", null, Set.of(), Set.of(), System.currentTimeMillis() + 600_000));
+        String etag = introspect("valid-token", CLIENT_AUTHORIZATION, null).getHeader("ETag");
+
+        // When
+        MockHttpServletResponse response = introspect("valid-token", CLIENT_AUTHORIZATION, etag);
+
+        // Then - 304 n'est permis que pour GET et HEAD
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isEqualTo(etag);
+        assertThat(response.getContentAsString()).contains("\"active\":true");
+    }
+
+    @Test
+    @DisplayName("Should report blacklisted tokens as inactive even when a response is cached")
+    void shouldCheckBlacklistOnEveryCall() throws Exception {
+        // Given
+        when(authenticationUseCase.validateTokenClaims("valid-token")).thenReturn(new AuthenticationResultDTO(
+                "user-1", "john.doe", "valid-token", null, Set.of(), Set.of(), System.currentTimeMillis() + 600_000));
+        introspect("valid-token", CLIENT_AUTHORIZATION, null);
+        when(tokenBlacklistRepository.isBlacklisted("valid-token")).thenReturn(true);
+
+        // When
+        MockHttpServletResponse response = introspect("valid-token", CLIENT_AUTHORIZATION, null);
+
+        // Then
+        assertThat(response.getContentAsString()).isEqualTo("{\"active\":false}");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-store");
+    }
+
+    @Test
+    @DisplayName("Should not cache inactive responses")
+    void shouldNotCacheInvalidTokens() throws Exception {
+        // Given
+        when(authenticationUseCase.validateTokenClaims("forged-token"))
+                .thenThrow(new InvalidTokenException("Invalid or expired token"));
+
+        // When
+        introspect("forged-token", CLIENT_AUTHORIZATION, null);
+        MockHttpServletResponse response = introspect("forged-token", CLIENT_AUTHORIZATION, null);
+
+        // Then
+        assertThat(response.getContentAsString()).isEqualTo("{\"active\":false}");
+        verify(authenticationUseCase, times(2)).validateTokenClaims("forged-token");
+    }
+
+    @Test
+    @DisplayName("Should reject callers without valid client credentials")
+    void shouldRejectUnknownClients() throws Exception {
+        // When
+        MockHttpServletResponse response = introspect("valid-token",
+                "Basic " + Base64.getEncoder().encodeToString("gateway:wrong".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getHeader("WWW-Authenticate")).startsWith("Basic");
+        verifyNoInteractions(authenticationUseCase, tokenBlacklistRepository);
+    }
+
+    private MockHttpServletResponse introspect(String token, String authorization, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", TokenIntrospectionFilter.INTROSPECTION_PATH);
+        request.setServletPath(TokenIntrospectionFilter.INTROSPECTION_PATH);
+        request.setContentType("application/x-www-form-urlencoded");
+        request.addParameter("token", token);
+        request.addHeader("Authorization", authorization);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, filterChain);
+        return response;
+    }
+}
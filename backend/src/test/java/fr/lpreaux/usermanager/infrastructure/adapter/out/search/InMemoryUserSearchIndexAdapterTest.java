@@ -0,0 +1,158 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.out.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.lpreaux.usermanager.application.port.out.UserRepository;
+import fr.lpreaux.usermanager.application.port.out.UserSearchIndex;
+import fr.lpreaux.usermanager.domain.model.User;
+import fr.lpreaux.usermanager.domain.model.valueobject.BirthDate;
+import fr.lpreaux.usermanager.domain.model.valueobject.Email;
+import fr.lpreaux.usermanager.domain.model.valueobject.FirstName;
+import fr.lpreaux.usermanager.domain.model.valueobject.Login;
+import fr.lpreaux.usermanager.domain.model.valueobject.Name;
+import fr.lpreaux.usermanager.domain.model.valueobject.Password;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Diffusion des modifications de l'index d'autocomplétion entre instances.
+ */
+@ExtendWith(MockitoExtension.class)
+class InMemoryUserSearchIndexAdapterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private InMemoryUserSearchIndexAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = createAdapter(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.stop();
+    }
+
+    @Test
+    @DisplayName("Should broadcast indexed users to the other instances")
+    void shouldBroadcastIndexedUsers() throws Exception {
+        // Given
+        User user = user("john.doe");
+
+        // When
+        adapter.index(user);
+
+        // Then - appliqué localement et diffusé avec l'identifiant de l'instance
+        assertThat(adapter.suggest("john", 10)).extracting(UserSearchIndex.Suggestion::login).containsExactly("john.doe");
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(InMemoryUserSearchIndexAdapter.CHANNEL), message.capture());
+        InMemoryUserSearchIndexAdapter.IndexChange change =
+                objectMapper.readValue(message.getValue(), InMemoryUserSearchIndexAdapter.IndexChange.class);
+        assertThat(change.id()).isEqualTo(user.getId().getValue());
+        assertThat(change.document().login()).isEqualTo("john.doe");
+    }
+
+    @Test
+    @DisplayName("Should apply changes broadcast by another instance")
+    void shouldApplyRemoteChanges() {
+        // Given
+        InMemoryUserSearchIndexAdapter other = createAdapter(true);
+        User user = user("jane.doe");
+        other.index(user);
+        ArgumentCaptor<String> put = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(InMemoryUserSearchIndexAdapter.CHANNEL), put.capture());
+
+        // When
+        adapter.onMessage(message(put.getValue()), null);
+
+        // Then
+        assertThat(adapter.suggest("jane", 10)).extracting(UserSearchIndex.Suggestion::login).containsExactly("jane.doe");
+
+        // When - suppression sur l'autre instance
+        other.remove(user.getId());
+        ArgumentCaptor<String> removal = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(2))
+                .convertAndSend(eq(InMemoryUserSearchIndexAdapter.CHANNEL), removal.capture());
+        adapter.onMessage(message(removal.getValue()), null);
+
+        // Then
+        assertThat(adapter.suggest("jane", 10)).isEmpty();
+        other.stop();
+    }
+
+    @Test
+    @DisplayName("Should ignore its own messages and malformed ones")
+    void shouldIgnoreOwnAndMalformedMessages() {
+        // Given
+        User user = user("john.doe");
+        adapter.index(user);
+        adapter.remove(user.getId());
+        ArgumentCaptor<String> messages = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(2))
+                .convertAndSend(eq(InMemoryUserSearchIndexAdapter.CHANNEL), messages.capture());
+
+        // When - la mise à jour, reçue après la suppression, ne doit pas ressusciter l'utilisateur
+        adapter.onMessage(message(messages.getAllValues().getFirst()), null);
+        adapter.onMessage(message("not json"), null);
+
+        // Then
+        assertThat(adapter.suggest("john", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not broadcast when running as a single instance")
+    void shouldNotBroadcastWhenDisabled() {
+        // Given
+        InMemoryUserSearchIndexAdapter single = createAdapter(false);
+
+        // When
+        single.index(user("john.doe"));
+
+        // Then
+        assertThat(single.suggest("john", 10)).hasSize(1);
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        single.stop();
+    }
+
+    private InMemoryUserSearchIndexAdapter createAdapter(boolean broadcast) {
+        return new InMemoryUserSearchIndexAdapter(userRepository, new SimpleMeterRegistry(), redisTemplate,
+                listenerContainer, objectMapper, true, broadcast, 100, 50_000);
+    }
+
+    private static User user(String login) {
+        return User.create(Login.of(login), Password.of("SecurePass123!"), Name.of("Doe"), FirstName.of("John"),
+                BirthDate.of(1990, 5, 15), List.of(Email.of(login + "@example.com")), List.of());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(InMemoryUserSearchIndexAdapter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,144 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.out.search;
+
+import fr.lpreaux.usermanager.infrastructure.adapter.out.search.TypeaheadIndex.Document;
+import fr.lpreaux.usermanager.infrastructure.adapter.out.search.TypeaheadIndex.Field;
+import fr.lpreaux.usermanager.infrastructure.adapter.out.search.TypeaheadIndex.Match;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeaheadIndexTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private TypeaheadIndex index;
+    private Document jean;
+    private Document jeanne;
+    private Document martin;
+
+    @BeforeEach
+    void setUp() {
+        index = new TypeaheadIndex();
+        jean = document("jean.dupont", "Dupont", "Jean", "jean.dupont@example.com");
+        jeanne = document("jdurand", "Durand", "Jeanne", "contact@durand.fr");
+        martin = document("martin", "Jeanson", "Éloïse", "eloise@example.com");
+    }
+
+    @Test
+    @DisplayName("Should rank exact matches first, then by field priority")
+    void shouldRankExactMatchesFirstThenByFieldPriority() {
+        // Given
+        rebuild(jeanne, martin, jean);
+
+        // When
+        List<Match> matches = index.search("jean", 10);
+
+        // Then
+        assertThat(matches).extracting(Match::id).containsExactly(jean.id(), martin.id(), jeanne.id());
+        assertThat(matches).extracting(Match::field).containsExactly(Field.LOGIN, Field.LAST_NAME, Field.FIRST_NAME);
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents")
+    void shouldIgnoreCaseAndAccents() {
+        // Given
+        rebuild(martin);
+
+        // When/Then
+        assertThat(index.search("ELOI", 5)).extracting(Match::id).containsExactly(martin.id());
+        assertThat(index.search("éloï", 5)).extracting(Match::id).containsExactly(martin.id());
+    }
+
+    @Test
+    @DisplayName("Should match emails only from their beginning")
+    void shouldMatchEmailsOnlyFromTheirBeginning() {
+        // Given
+        rebuild(jeanne);
+
+        // When/Then
+        assertThat(index.search("contact@d", 5)).extracting(Match::email).containsExactly("contact@durand.fr");
+        assertThat(index.search("durand.fr", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply writes on top of the base segment")
+    void shouldApplyWritesOnTopOfTheBaseSegment() {
+        // Given
+        rebuild(jean, jeanne);
+        Document renamed = new Document(jean.id(), "jean.dupont", "Lefebvre", "Jean", jean.emails());
+
+        // When
+        index.put(renamed);
+        index.remove(jeanne.id());
+        index.put(martin);
+
+        // Then
+        assertThat(index.search("dupont", 5)).extracting(Match::id).containsExactly(jean.id());
+        assertThat(index.search("lefeb", 5)).extracting(Match::lastName).containsExactly("Lefebvre");
+        assertThat(index.search("durand", 5)).isEmpty();
+        assertThat(index.search("eloise", 5)).extracting(Match::id).containsExactly(martin.id());
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should replay writes received during a rebuild")
+    void shouldReplayWritesReceivedDuringRebuild() {
+        // Given
+        rebuild(jean);
+        TypeaheadIndex.Rebuild rebuild = index.startRebuild(DIRECT);
+        rebuild.add(List.of(jean, jeanne));
+
+        // When
+        index.put(martin);
+        index.remove(jeanne.id());
+        rebuild.publish();
+
+        // Then
+        assertThat(index.search("j", 10)).extracting(Match::id).containsExactlyInAnyOrder(jean.id(), martin.id());
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep results identical after compaction")
+    void shouldKeepResultsIdenticalAfterCompaction() {
+        // Given
+        rebuild(jean, jeanne);
+        index.put(martin);
+        index.remove(jean.id());
+        List<Match> before = index.search("je", 10);
+
+        // When
+        index.compact(DIRECT);
+
+        // Then
+        assertThat(index.pendingChanges()).isZero();
+        assertThat(index.search("je", 10)).isEqualTo(before);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for blank prefix")
+    void shouldReturnNothingForBlankPrefix() {
+        // Given
+        rebuild(jean);
+
+        // When/Then
+        assertThat(index.search("  ", 5)).isEmpty();
+    }
+
+    private void rebuild(Document... documents) {
+        TypeaheadIndex.Rebuild rebuild = index.startRebuild(DIRECT);
+        rebuild.add(List.of(documents));
+        rebuild.publish();
+    }
+
+    private static Document document(String login, String lastName, String firstName, String email) {
+        return new Document(UUID.randomUUID(), login, lastName, firstName, List.of(email));
+    }
+}
@@ -0,0 +1,96 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.out.security;
+
+import com.nimbusds.jose.EncryptionMethod;
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWEHeader;
+import com.nimbusds.jose.JWEObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.DirectEncrypter;
+import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.infrastructure.monitorig.SecurityMetrics;
+import fr.lpreaux.usermanager.infrastructure.security.AuthorityCatalog;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class JweTokenProviderImplTest {
+
+    private static final String SECRET = "test-secret-key-with-at-least-32-characters";
+    private static final String ENCRYPTION_KEY = "test-encryption-key-of-32-bytes!";
+
+    @Mock
+    private SecurityMetrics securityMetrics;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private JweTokenProviderImpl provider;
+
+    @BeforeEach
+    void setUp() {
+        TokenClaimsCodec claimsCodec = new TokenClaimsCodec("standard", new AuthorityCatalog(roleRepository));
+        provider = new JweTokenProviderImpl(SECRET, ENCRYPTION_KEY, 900_000, securityMetrics, claimsCodec);
+    }
+
+    @Test
+    @DisplayName("Should validate tokens it generated")
+    void shouldRoundTrip() {
+        // Given
+        String token = provider.generateToken("user-1", "john", Set.of("USER"), Set.of("USER_READ"), Map.of()).token();
+
+        // When
+        var info = provider.validateToken(token);
+
+        // Then
+        assertThat(info.userId()).isEqualTo("user-1");
+        assertThat(info.roles()).containsExactly("USER");
+        assertThat(info.permissions()).containsExactly("USER_READ");
+    }
+
+    @Test
+    @DisplayName("Should still accept tokens whose JWE header is serialized differently")
+    void shouldAcceptOtherHeaderSerialization() throws Exception {
+        // Given - même algorithme, en-tête sans content type
+        String jwt = Jwts.builder()
+                .subject("user-2")
+                .claim("login", "jane")
+                .claim("roles", List.of())
+                .claim("permissions", List.of())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+        JWEObject jwe = new JWEObject(new JWEHeader(JWEAlgorithm.DIR, EncryptionMethod.A256GCM), new Payload(jwt));
+        jwe.encrypt(new DirectEncrypter(ENCRYPTION_KEY.getBytes(StandardCharsets.UTF_8)));
+
+        // When / Then
+        assertThat(provider.validateToken(jwe.serialize()).login()).isEqualTo("jane");
+    }
+
+    @Test
+    @DisplayName("Should reject tampered tokens")
+    void shouldRejectTamperedToken() {
+        // Given
+        String token = provider.generateToken("user-1", "john", Set.of(), Set.of(), Map.of()).token();
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // When / Then
+        assertThatThrownBy(() -> provider.validateToken(tampered)).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> provider.validateToken(token + ".extra")).isInstanceOf(InvalidTokenException.class);
+    }
+}
@@ -0,0 +1,136 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.out.security;
+
+import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
+import fr.lpreaux.usermanager.application.port.out.JwtTokenProvider;
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.infrastructure.security.AuthorityCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class JwtTokenProviderImplTest {
+
+    private static final String SECRET = "test-secret-key-with-at-least-32-characters";
+    private static final long VALIDITY_MS = 900_000;
+
+    @TempDir
+    Path keyDir;
+
+    private final TokenClaimsCodec claimsCodec =
+            new TokenClaimsCodec("standard", new AuthorityCatalog(mock(RoleRepository.class)));
+
+    @Test
+    @DisplayName("Should sign with HS256 by default and publish an empty JWKS")
+    void shouldSignWithHmacByDefault() {
+        // Given
+        JwtSigningKeyRing keyRing = keyRing("HS256", "");
+        JwtTokenProviderImpl provider = new JwtTokenProviderImpl(keyRing, claimsCodec, VALIDITY_MS);
+
+        // When
+        JwtTokenProvider.IssuedToken issued = provider.generateToken("user-1", "john",
+                Set.of("USER"), Set.of("USER_READ"), Map.of());
+
+        // Then
+        assertThat(provider.validateToken(issued.token()).userId()).isEqualTo("user-1");
+        assertThat(new String(keyRing.jwks().body(), StandardCharsets.UTF_8)).contains("\"keys\":[]");
+    }
+
+    @Test
+    @DisplayName("Should sign with ES256 and expose the key id in the JWKS")
+    void shouldSignWithEcKey() {
+        // Given
+        JwtSigningKeyRing keyRing = keyRing("ES256", "");
+        JwtTokenProviderImpl provider = new JwtTokenProviderImpl(keyRing, claimsCodec, VALIDITY_MS);
+
+        // When
+        String token = provider.generateToken("user-1", "john", Set.of("USER"), Set.of(), Map.of()).token();
+
+        // Then
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+                StandardCharsets.UTF_8);
+        assertThat(header).contains("\"alg\":\"ES256\"").contains(keyRing.activeKey().kid());
+        assertThat(new String(keyRing.jwks().body(), StandardCharsets.UTF_8))
+                .contains(keyRing.activeKey().kid())
+                .contains("\"crv\":\"P-256\"");
+        assertThat(provider.validateToken(token).login()).isEqualTo("john");
+    }
+
+    @Test
+    @DisplayName("Should load EdDSA keys from the key directory and keep verifying older keys")
+    void shouldRotateEdDsaKeys() throws Exception {
+        // Given - une première clé publiée depuis longtemps
+        writeKeyPair("2024-01", Duration.ofDays(1));
+        JwtSigningKeyRing keyRing = keyRing("EdDSA", keyDir.toString(), Duration.ofMillis(200));
+        JwtTokenProviderImpl provider = new JwtTokenProviderImpl(keyRing, claimsCodec, VALIDITY_MS);
+        String oldToken = provider.generateToken("user-1", "john", Set.of(), Set.of(), Map.of()).token();
+        String oldEtag = keyRing.jwks().etag();
+
+        // When - une nouvelle clé est publiée, puis activée
+        writeKeyPair("2024-02", Duration.ZERO);
+        keyRing.reload();
+        String publishedKid = keyRing.activeKey().kid();
+        Thread.sleep(300);
+        keyRing.reload();
+
+        // Then
+        assertThat(publishedKid).isEqualTo("2024-01");
+        assertThat(keyRing.activeKey().kid()).isEqualTo("2024-02");
+        assertThat(keyRing.jwks().etag()).isNotEqualTo(oldEtag);
+        assertThat(new String(keyRing.jwks().body(), StandardCharsets.UTF_8))
+                .contains("2024-01").contains("2024-02").contains("\"crv\":\"Ed25519\"");
+        assertThat(provider.validateToken(oldToken).userId()).isEqualTo("user-1");
+    }
+
+    @Test
+    @DisplayName("Should reject tokens signed by an unknown key")
+    void shouldRejectUnknownKey() {
+        // Given
+        String foreignToken = new JwtTokenProviderImpl(keyRing("ES256", ""), claimsCodec, VALIDITY_MS)
+                .generateToken("user-1", "john", Set.of(), Set.of(), Map.of()).token();
+        JwtTokenProviderImpl provider = new JwtTokenProviderImpl(keyRing("ES256", ""), claimsCodec, VALIDITY_MS);
+
+        // When / Then
+        assertThatThrownBy(() -> provider.validateToken(foreignToken))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    private JwtSigningKeyRing keyRing(String algorithm, String dir) {
+        return keyRing(algorithm, dir, Duration.ofMinutes(10));
+    }
+
+    private JwtSigningKeyRing keyRing(String algorithm, String dir, Duration publishDelay) {
+        JwtSigningKeyRing keyRing = new JwtSigningKeyRing(algorithm, SECRET, dir, publishDelay);
+        keyRing.init();
+        return keyRing;
+    }
+
+    private void writeKeyPair(String kid, Duration age) throws Exception {
+        KeyPair pair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        Path publicFile = keyDir.resolve(kid + ".pub");
+        Files.writeString(keyDir.resolve(kid + ".key"), pem("PRIVATE KEY", pair.getPrivate().getEncoded()));
+        Files.writeString(publicFile, pem("PUBLIC KEY", pair.getPublic().getEncoded()));
+        Files.setLastModifiedTime(publicFile, FileTime.from(Instant.now().minus(age)));
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+}
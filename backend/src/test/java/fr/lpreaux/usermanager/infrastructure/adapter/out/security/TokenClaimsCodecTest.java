@@ -0,0 +1,113 @@
+package fr.lpreaux.usermanager.infrastructure.adapter.out.security;
+
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.domain.model.Permission;
+import fr.lpreaux.usermanager.domain.model.Role;
+import fr.lpreaux.usermanager.infrastructure.security.AuthorityCatalog;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenClaimsCodecTest {
+
+    private static final Set<String> ADMIN_PERMISSIONS = Set.of("USER_CREATE", "USER_READ", "USER_UPDATE",
+            "USER_DELETE", "ROLE_CREATE", "ROLE_READ", "ROLE_UPDATE", "ROLE_DELETE");
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private TokenClaimsCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        when(roleRepository.findAll()).thenReturn(List.of(
+                role("ADMIN", ADMIN_PERMISSIONS),
+                role("USER", Set.of("USER_READ", "USER_UPDATE_SELF"))
+        ));
+        codec = new TokenClaimsCodec("compact", new AuthorityCatalog(roleRepository));
+    }
+
+    @Test
+    @DisplayName("Should encode roles and permissions as catalog ids and decode them back")
+    void shouldRoundTripCompactClaims() {
+        // When
+        Claims claims = write(Set.of("ADMIN", "USER"), ADMIN_PERMISSIONS,
+                Map.of("client_info", "Web client", "auth_time", 1L, "tep", 42L));
+        TokenClaimsCodec.Authorities authorities = codec.read(claims);
+
+        // Then
+        assertThat(claims).doesNotContainKeys("roles", "permissions", "client_info", "auth_time");
+        assertThat(claims.get(TokenClaimsCodec.ROLE_IDS_CLAIM, String.class)).isEqualTo("0,1");
+        assertThat(claims.get(TokenClaimsCodec.PERMISSION_BITS_CLAIM, String.class)).hasSizeLessThanOrEqualTo(3);
+        assertThat(claims.get("tep", Long.class)).isEqualTo(42L);
+        assertThat(authorities.roles()).containsExactlyInAnyOrder("ADMIN", "USER");
+        assertThat(authorities.permissions()).isEqualTo(ADMIN_PERMISSIONS);
+    }
+
+    @Test
+    @DisplayName("Should share decoded sets between tokens carrying the same authorities")
+    void shouldShareDecodedSets() {
+        // Given
+        Claims first = write(Set.of("USER"), Set.of("USER_READ"), null);
+        Claims second = write(Set.of("USER"), Set.of("USER_READ"), null);
+
+        // When / Then
+        assertThat(codec.read(first).permissions()).isSameAs(codec.read(second).permissions());
+        assertThat(codec.read(first).roles()).isSameAs(codec.read(second).roles());
+    }
+
+    @Test
+    @DisplayName("Should fall back to standard claims for permissions missing from the catalog")
+    void shouldFallBackToStandardClaims() {
+        // When
+        Claims claims = write(Set.of("USER"), Set.of("BRAND_NEW_PERMISSION"), Map.of("client_info", "Web client"));
+
+        // Then
+        assertThat(claims).containsKeys("roles", "permissions", "client_info");
+        assertThat(codec.read(claims).permissions()).containsExactly("BRAND_NEW_PERMISSION");
+    }
+
+    @Test
+    @DisplayName("Should reject compact claims referencing an unknown catalog version")
+    void shouldRejectUnknownCatalogVersion() {
+        // Given
+        Claims claims = Jwts.claims()
+                .add(TokenClaimsCodec.CATALOG_VERSION_CLAIM, "000000000000")
+                .add(TokenClaimsCodec.ROLE_IDS_CLAIM, "0")
+                .add(TokenClaimsCodec.PERMISSION_BITS_CLAIM, "AQ")
+                .build();
+
+        // When / Then
+        assertThatThrownBy(() -> codec.read(claims)).isInstanceOf(JwtException.class);
+    }
+
+    private Claims write(Set<String> roles, Set<String> permissions, Map<String, Object> customClaims) {
+        ClaimsBuilder builder = Jwts.claims().subject("user-1");
+        codec.write(builder, roles, permissions, customClaims);
+        return builder.build();
+    }
+
+    private static Role role(String name, Set<String> permissions) {
+        Role role = Role.create(name, name);
+        for (String permission : permissions) {
+            role = role.addPermission(Permission.of(permission));
+        }
+        return role;
+    }
+}
@@ -0,0 +1,101 @@
+package fr.lpreaux.usermanager.infrastructure.config;
+
+import fr.lpreaux.usermanager.infrastructure.monitorig.RedisPoolMetrics;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Configuration du client Redis : choix du client selon {@code spring.data.redis.client-type}, taille du pool
+ * et jauges. Aucune connexion n'est ouverte : le pool Jedis est créé au démarrage de la factory, sans
+ * connexion initiale.
+ */
+class RedisConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(RedisConfig.class)
+            .withBean(ClientResources.class, DefaultClientResources::create, bean -> bean.setDestroyMethodName("shutdown"));
+
+    @Test
+    @DisplayName("Should bound the Jedis pool with the configured size and wait")
+    void shouldBoundJedisPool() {
+        contextRunner.withPropertyValues(
+                "spring.data.redis.jedis.pool.max-active=8",
+                "spring.data.redis.jedis.pool.max-idle=4",
+                "spring.data.redis.jedis.pool.max-wait=250ms").run(context -> {
+            GenericObjectPoolConfig<?> poolConfig = context.getBean(JedisConnectionFactory.class).getPoolConfig();
+
+            assertThat(poolConfig.getMaxTotal()).isEqualTo(8);
+            assertThat(poolConfig.getMaxIdle()).isEqualTo(4);
+            assertThat(poolConfig.getMaxWaitDuration()).isEqualTo(Duration.ofMillis(250));
+            assertThat(poolConfig.getBlockWhenExhausted()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Should use a pooled Jedis factory by default")
+    void shouldUsePooledJedisFactoryByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(RedisConnectionFactory.class);
+            assertThat(context.getBean(RedisConnectionFactory.class)).isInstanceOf(JedisConnectionFactory.class);
+            assertThat(context.getBean(JedisConnectionFactory.class).getUsePool()).isTrue();
+            assertThat(context).hasSingleBean(RedisPoolMetrics.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should use a shared Lettuce connection when client-type is lettuce")
+    void shouldUseSharedLettuceConnection() {
+        contextRunner.withPropertyValues("spring.data.redis.client-type=lettuce").run(context -> {
+            assertThat(context).hasSingleBean(RedisConnectionFactory.class);
+            assertThat(context.getBean(RedisConnectionFactory.class)).isInstanceOf(LettuceConnectionFactory.class);
+            assertThat(context.getBean(LettuceConnectionFactory.class).getShareNativeConnection()).isTrue();
+            assertThat(context).doesNotHaveBean(RedisPoolMetrics.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should register pool gauges reading the Jedis pool MBean")
+    void shouldRegisterPoolGauges() {
+        contextRunner.withPropertyValues("spring.data.redis.client-type=jedis").run(context -> {
+            // Given
+            MeterRegistry registry = new SimpleMeterRegistry();
+
+            // When
+            context.getBean(RedisPoolMetrics.class).bindTo(registry);
+
+            // Then - pool créé par la factory, aucune connexion empruntée
+            assertThat(registry.get("app.redis.pool.active").tag("pool", RedisConfig.JEDIS_POOL_JMX_NAME)
+                    .gauge().value()).isZero();
+            assertThat(registry.get("app.redis.pool.waiters").gauge().value()).isZero();
+            assertThat(registry.find("app.redis.pool.idle").gauge()).isNotNull();
+            assertThat(registry.find("app.redis.pool.wait.mean").timeGauge()).isNotNull();
+            assertThat(registry.find("app.redis.pool.wait.max").timeGauge()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Should report NaN while the pool does not exist")
+    void shouldReportNanWithoutPool() {
+        // Given
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        // When
+        new RedisPoolMetrics("missing-pool").bindTo(registry);
+
+        // Then
+        assertThat(registry.get("app.redis.pool.active").gauge().value()).isNaN();
+    }
+}
@@ -0,0 +1,111 @@
+package fr.lpreaux.usermanager.infrastructure.monitorig;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires du comptage des instructions SQL et de sa publication par requête.
+ */
+class QueryCountingDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    private final Statement statement = mock(Statement.class);
+
+    private final QueryCountingDataSource dataSource = new QueryCountingDataSource(target);
+
+    @AfterEach
+    void tearDown() {
+        QueryCountingDataSource.stop();
+    }
+
+    @Test
+    @DisplayName("Should count each statement execution on the current thread")
+    void shouldCountExecutions() throws SQLException {
+        // Given
+        givenConnection();
+        QueryCountingDataSource.start();
+
+        // When
+        try (Connection counted = dataSource.getConnection()) {
+            PreparedStatement query = counted.prepareStatement("SELECT 1");
+            query.executeQuery();
+            query.executeQuery();
+            Statement batch = counted.createStatement();
+            batch.addBatch("DELETE FROM a");
+            batch.addBatch("DELETE FROM b");
+            batch.executeBatch();
+        }
+
+        // Then - un lot compte pour une instruction
+        assertThat(QueryCountingDataSource.stop()).isEqualTo(3);
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should not count outside a counting period")
+    void shouldIgnoreExecutionsWithoutPeriod() throws SQLException {
+        // Given
+        givenConnection();
+
+        // When
+        dataSource.getConnection().prepareStatement("SELECT 1").executeQuery();
+
+        // Then
+        assertThat(QueryCountingDataSource.stop()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should publish the statement count of each request by URI template")
+    void shouldPublishCountPerRequest() throws Exception {
+        // Given
+        givenConnection();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RequestQueryCountFilter filter = new RequestQueryCountFilter(meterRegistry, 50);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/42");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users/{userId}");
+            try (Connection counted = dataSource.getConnection()) {
+                counted.prepareStatement("SELECT 1").executeQuery();
+                counted.prepareStatement("SELECT 2").executeQuery();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Then
+        DistributionSummary summary = meterRegistry.get(RequestQueryCountFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/users/{userId}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+    }
+
+    private void givenConnection() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(connection.createStatement()).thenReturn(statement);
+    }
+}
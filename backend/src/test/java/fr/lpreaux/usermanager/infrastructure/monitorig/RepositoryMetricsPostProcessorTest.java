@@ -0,0 +1,83 @@
+package fr.lpreaux.usermanager.infrastructure.monitorig;
+
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.domain.model.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RepositoryMetricsPostProcessorTest {
+
+    private MeterRegistry meterRegistry;
+    private RepositoryMetricsPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        postProcessor = new RepositoryMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    @DisplayName("Should time repository calls by port and method")
+    void shouldTimeRepositoryCalls() {
+        // Given
+        RoleRepository target = mock(RoleRepository.class);
+        when(target.findByName("ADMIN")).thenReturn(Optional.empty());
+        when(target.findAll()).thenReturn(List.of());
+        RoleRepository repository = (RoleRepository) postProcessor.postProcessAfterInitialization(target, "roleRepository");
+
+        // When
+        repository.findByName("ADMIN");
+        repository.findByName("ADMIN");
+        repository.findAll();
+
+        // Then
+        verify(target).findAll();
+        assertThat(timer("findByName", "success").count()).isEqualTo(2);
+        assertThat(timer("findAll", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should record failed calls with the error outcome and rethrow")
+    void shouldRecordErrors() {
+        // Given
+        RoleRepository target = mock(RoleRepository.class);
+        when(target.save(null)).thenThrow(new IllegalArgumentException("role required"));
+        RoleRepository repository = (RoleRepository) postProcessor.postProcessAfterInitialization(target, "roleRepository");
+
+        // When / Then
+        assertThatThrownBy(() -> repository.save((Role) null)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(timer("save", "error").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should leave other beans untouched")
+    void shouldIgnoreOtherBeans() {
+        Object bean = new Object();
+
+        assertThat(postProcessor.postProcessAfterInitialization(bean, "other")).isSameAs(bean);
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meterRegistry.get(RepositoryMetricsPostProcessor.METRIC_NAME)
+                .tag("repository", "RoleRepository")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+    }
+}
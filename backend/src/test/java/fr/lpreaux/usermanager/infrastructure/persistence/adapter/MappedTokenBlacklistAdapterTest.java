@@ -0,0 +1,125 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
+
+import fr.lpreaux.usermanager.infrastructure.monitorig.SecurityMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class MappedTokenBlacklistAdapterTest {
+
+    @Mock
+    private SecurityMetrics securityMetrics;
+
+    @TempDir
+    Path tempDir;
+
+    // Balayage en plusieurs tranches, y compris autour du retour en début de table
+    private static final int SWEEP_CHUNK_SLOTS = 8;
+
+    private Path file;
+    private MappedTokenBlacklistAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("blacklist.dat");
+        adapter = open(64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.close();
+    }
+
+    @Test
+    @DisplayName("Should report blacklisted tokens until they expire")
+    void shouldReportBlacklistedTokens() {
+        // Given
+        long inOneHour = System.currentTimeMillis() + 3_600_000;
+
+        // When
+        adapter.addToBlacklist("token-a", inOneHour);
+
+        // Then
+        assertThat(adapter.isBlacklisted("token-a")).isTrue();
+        assertThat(adapter.isBlacklisted("token-b")).isFalse();
+        assertThat(adapter.getBlacklistSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore tokens that are already expired")
+    void shouldIgnoreExpiredTokens() {
+        // When
+        adapter.addToBlacklist("expired", System.currentTimeMillis() - 1);
+
+        // Then
+        assertThat(adapter.isBlacklisted("expired")).isFalse();
+        assertThat(adapter.getBlacklistSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep entries across a restart through the mapped file")
+    void shouldSurviveRestart() {
+        // Given
+        adapter.addToBlacklist("persistent", System.currentTimeMillis() + 3_600_000);
+        adapter.close();
+
+        // When
+        adapter = open(64);
+
+        // Then
+        assertThat(adapter.isBlacklisted("persistent")).isTrue();
+        assertThat(adapter.getBlacklistSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should sweep expired entries chunk by chunk without breaking probe chains")
+    void shouldSweepExpiredEntries() throws InterruptedException {
+        // Given - assez d'entrées pour provoquer des collisions dans 64 slots
+        long shortExpiry = System.currentTimeMillis() + 50;
+        long longExpiry = System.currentTimeMillis() + 3_600_000;
+        IntStream.range(0, 20).forEach(i -> adapter.addToBlacklist("short-" + i, shortExpiry));
+        IntStream.range(0, 20).forEach(i -> adapter.addToBlacklist("long-" + i, longExpiry));
+        Thread.sleep(100);
+
+        // When
+        adapter.removeExpiredTokens();
+
+        // Then
+        assertThat(adapter.getBlacklistSize()).isEqualTo(20);
+        IntStream.range(0, 20).forEach(i -> {
+            assertThat(adapter.isBlacklisted("long-" + i)).isTrue();
+            assertThat(adapter.isBlacklisted("short-" + i)).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Should refuse new entries when the store is full")
+    void shouldRefuseEntriesWhenFull() {
+        // Given - facteur de charge maximal de 0.75 sur 64 slots
+        long inOneHour = System.currentTimeMillis() + 3_600_000;
+        IntStream.range(0, 48).forEach(i -> adapter.addToBlacklist("token-" + i, inOneHour));
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.addToBlacklist("one-too-many", inOneHour))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private MappedTokenBlacklistAdapter open(int capacity) {
+        MappedTokenBlacklistAdapter created = new MappedTokenBlacklistAdapter(securityMetrics, file.toString(), capacity,
+                SWEEP_CHUNK_SLOTS);
+        created.open();
+        return created;
+    }
+}
@@ -0,0 +1,263 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
+
+import fr.lpreaux.usermanager.application.exception.InvalidTokenException;
+import fr.lpreaux.usermanager.application.port.out.RefreshTokenRepository.RefreshTokenGrant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests d'intégration des refresh tokens : rotation, détection de réutilisation, révocation et durée
+ * maximale de session. Nécessitent un Redis local (REDIS_HOST / REDIS_PORT), ignorés sinon.
+ */
+class RedisRefreshTokenAdapterIntegrationTest {
+
+    private static final String HOST = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+    private static final int PORT = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+    private static final long VALIDITY_MS = 60_000;
+    private static final long MAX_SESSION_MS = 600_000;
+
+    private JedisConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration(HOST, PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        boolean available;
+        try {
+            available = "PONG".equals(redisTemplate.execute(connection -> connection.ping(), true));
+        } catch (Exception e) {
+            available = false;
+        }
+        assumeTrue(available, "Redis non disponible sur " + HOST + ":" + PORT);
+
+        userId = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null && userId != null) {
+            try {
+                Set<String> keys = redisTemplate.keys("refresh_*{" + userId + "}*");
+                if (keys != null && !keys.isEmpty()) {
+                    redisTemplate.delete(keys);
+                }
+                redisTemplate.delete(epochKey());
+            } catch (Exception ignored) {
+                // Redis indisponible : rien à nettoyer
+            }
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("Should rotate a refresh token within its family")
+    void shouldRotateWithinFamily() {
+        // Given
+        RedisRefreshTokenAdapter adapter = createAdapter(Clock.systemUTC());
+        RefreshTokenGrant issued = adapter.issue(userId, 42L);
+
+        // When
+        RefreshTokenGrant rotated = adapter.rotate(issued.refreshToken());
+
+        // Then
+        assertThat(rotated.refreshToken()).isNotEqualTo(issued.refreshToken())
+                .startsWith(userId + "." + issued.familyId() + ".");
+        assertThat(rotated.familyId()).isEqualTo(issued.familyId());
+        assertThat(rotated.userId()).isEqualTo(userId);
+        assertThat(rotated.tokenEpoch()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Should revoke the whole family when a consumed token is reused")
+    void shouldRevokeFamilyOnReuse() {
+        // Given
+        RedisRefreshTokenAdapter adapter = createAdapter(Clock.systemUTC());
+        RefreshTokenGrant issued = adapter.issue(userId, 0L);
+        RefreshTokenGrant rotated = adapter.rotate(issued.refreshToken());
+
+        // When - le token consommé est rejoué (vol probable)
+        assertThatThrownBy(() -> adapter.rotate(issued.refreshToken()))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Refresh token reuse detected");
+
+        // Then - le token légitime le plus récent est révoqué avec sa famille
+        assertThatThrownBy(() -> adapter.rotate(rotated.refreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThat(redisTemplate.opsForSet().members(userKey())).doesNotContain(issued.familyId());
+    }
+
+    @Test
+    @DisplayName("Should revoke families opened before a logout from all devices")
+    void shouldRevokeFamilyOpenedBeforeEpoch() {
+        // Given - époque incrémentée par une déconnexion globale après l'ouverture de la session
+        RedisRefreshTokenAdapter adapter = createAdapter(Clock.systemUTC());
+        RefreshTokenGrant issued = adapter.issue(userId, 5L);
+        redisTemplate.opsForValue().set(epochKey(), "6", Duration.ofMinutes(1));
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.rotate(issued.refreshToken()))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Session has been revoked");
+        assertThat(redisTemplate.hasKey("refresh_family:{" + userId + "}:" + issued.familyId())).isFalse();
+        assertThat(redisTemplate.opsForSet().members(userKey())).doesNotContain(issued.familyId());
+    }
+
+    @Test
+    @DisplayName("Should keep rotating families opened at the current epoch")
+    void shouldRotateFamilyOpenedAtCurrentEpoch() {
+        // Given
+        redisTemplate.opsForValue().set(epochKey(), "6", Duration.ofMinutes(1));
+        RedisRefreshTokenAdapter adapter = createAdapter(Clock.systemUTC());
+        RefreshTokenGrant issued = adapter.issue(userId, 6L);
+
+        // When / Then
+        assertThat(adapter.rotate(issued.refreshToken()).tokenEpoch()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("Should revoke every family of a user")
+    void shouldRevokeAllFamiliesOfUser() {
+        // Given - deux sessions ouvertes
+        RedisRefreshTokenAdapter adapter = createAdapter(Clock.systemUTC());
+        RefreshTokenGrant first = adapter.issue(userId, 0L);
+        RefreshTokenGrant second = adapter.issue(userId, 0L);
+
+        // When
+        adapter.revokeAllForUser(userId);
+
+        // Then
+        assertThatThrownBy(() -> adapter.rotate(first.refreshToken())).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> adapter.rotate(second.refreshToken())).isInstanceOf(InvalidTokenException.class);
+        assertThat(redisTemplate.opsForSet().members(userKey())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should revoke a single family on logout")
+    void shouldRevokeSingleFamily() {
+        // Given
+        RedisRefreshTokenAdapter adapter = createAdapter(Clock.systemUTC());
+        RefreshTokenGrant loggedOut = adapter.issue(userId, 0L);
+        RefreshTokenGrant other = adapter.issue(userId, 0L);
+
+        // When
+        adapter.revokeFamily(userId, loggedOut.familyId());
+
+        // Then
+        assertThatThrownBy(() -> adapter.rotate(loggedOut.refreshToken())).isInstanceOf(InvalidTokenException.class);
+        assertThat(adapter.rotate(other.refreshToken()).familyId()).isEqualTo(other.familyId());
+    }
+
+    @Test
+    @DisplayName("Should reject rotations once the maximum session duration is reached")
+    void shouldRejectExpiredFamily() {
+        // Given - session ouverte il y a plus longtemps que la durée maximale
+        long openedAt = System.currentTimeMillis();
+        RefreshTokenGrant issued = createAdapter(fixedClock(openedAt)).issue(userId, 0L);
+        RedisRefreshTokenAdapter later = createAdapter(fixedClock(openedAt + MAX_SESSION_MS + 1));
+
+        // When / Then
+        assertThatThrownBy(() -> later.rotate(issued.refreshToken()))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Session has expired");
+        assertThat(redisTemplate.hasKey("refresh_family:{" + userId + "}:" + issued.familyId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should shorten the last rotations to the end of the session")
+    void shouldBoundRotationValidityBySessionEnd() {
+        // Given - il reste 10 secondes de session, moins que la validité d'un refresh token
+        long openedAt = System.currentTimeMillis();
+        RefreshTokenGrant issued = createAdapter(fixedClock(openedAt)).issue(userId, 0L);
+        long now = openedAt + MAX_SESSION_MS - 10_000;
+
+        // When
+        RefreshTokenGrant rotated = createAdapter(fixedClock(now)).rotate(issued.refreshToken());
+
+        // Then
+        assertThat(rotated.expiresAt()).isEqualTo(now + 10_000);
+        Long familyTtl = redisTemplate.getExpire("refresh_family:{" + userId + "}:" + issued.familyId(),
+                TimeUnit.MILLISECONDS);
+        assertThat(familyTtl).isPositive().isLessThanOrEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("Should keep the user index alive as long as its most durable family")
+    void shouldExtendUserIndexTtl() {
+        // Given - index raccourci artificiellement
+        RedisRefreshTokenAdapter adapter = createAdapter(Clock.systemUTC());
+        RefreshTokenGrant issued = adapter.issue(userId, 0L);
+        redisTemplate.expire(userKey(), 1, TimeUnit.SECONDS);
+
+        // When
+        adapter.rotate(issued.refreshToken());
+
+        // Then - prolongé jusqu'à l'expiration de la famille renouvelée
+        Long userTtl = redisTemplate.getExpire(userKey(), TimeUnit.MILLISECONDS);
+        assertThat(userTtl).isGreaterThan(1_000);
+        assertThat(redisTemplate.opsForSet().members(userKey())).contains(issued.familyId());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed and unknown refresh tokens")
+    void shouldRejectUnknownTokens() {
+        // Given
+        RedisRefreshTokenAdapter adapter = createAdapter(Clock.systemUTC());
+        RefreshTokenGrant issued = adapter.issue(userId, 0L);
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.rotate("no-separator")).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> adapter.rotate(userId + ".unknown")).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> adapter.rotate(userId + "..secret")).isInstanceOf(InvalidTokenException.class);
+        // Secret forgé pour une famille existante : inconnu, sans révoquer la famille comme une réutilisation
+        assertThatThrownBy(() -> adapter.rotate(userId + "." + issued.familyId() + ".forged"))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Unknown or expired refresh token");
+        assertThat(adapter.rotate(issued.refreshToken()).familyId()).isEqualTo(issued.familyId());
+    }
+
+    private RedisRefreshTokenAdapter createAdapter(Clock clock) {
+        return new RedisRefreshTokenAdapter(redisTemplate, VALIDITY_MS, MAX_SESSION_MS, clock);
+    }
+
+    private String userKey() {
+        return "refresh_user:{" + userId + "}";
+    }
+
+    private String epochKey() {
+        return "token_epoch:{" + userId + "}";
+    }
+
+    private static Clock fixedClock(long millis) {
+        return Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
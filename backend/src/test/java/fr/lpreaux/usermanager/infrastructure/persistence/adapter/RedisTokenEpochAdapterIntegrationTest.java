@@ -0,0 +1,169 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests d'intégration des époques de tokens : script d'incrémentation, notifications pub/sub et resynchronisation.
+ * Nécessitent un Redis local (REDIS_HOST / REDIS_PORT), ignorés sinon.
+ */
+class RedisTokenEpochAdapterIntegrationTest {
+
+    private static final String HOST = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+    private static final int PORT = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+    private static final long TOKEN_VALIDITY_MS = 60_000;
+
+    private JedisConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration(HOST, PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        boolean available;
+        try {
+            available = "PONG".equals(redisTemplate.execute(connection -> connection.ping(), true));
+        } catch (Exception e) {
+            available = false;
+        }
+        assumeTrue(available, "Redis non disponible sur " + HOST + ":" + PORT);
+
+        userId = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        if (redisTemplate != null && userId != null) {
+            try {
+                redisTemplate.delete("token_epoch:{" + userId + "}");
+            } catch (Exception ignored) {
+                // Redis indisponible : rien à nettoyer
+            }
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("Should increment epochs monotonically, at least to the current time")
+    void shouldIncrementMonotonically() {
+        // Given
+        RedisTokenEpochAdapter adapter = createAdapter();
+        long before = System.currentTimeMillis();
+
+        // When
+        long first = adapter.incrementEpoch(userId);
+        long second = adapter.incrementEpoch(userId);
+
+        // Then - max(époque + 1, maintenant) : deux révocations dans la même milliseconde restent ordonnées
+        assertThat(first).isGreaterThanOrEqualTo(before);
+        assertThat(second).isGreaterThan(first);
+        Long ttl = redisTemplate.getExpire("token_epoch:{" + userId + "}");
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(TOKEN_VALIDITY_MS / 1000);
+    }
+
+    @Test
+    @DisplayName("Should increment from a stored epoch ahead of the clock")
+    void shouldIncrementFromEpochAheadOfClock() {
+        // Given - époque postérieure à l'horloge locale (horloges décalées entre instances)
+        long ahead = System.currentTimeMillis() + 3_600_000;
+        redisTemplate.opsForValue().set("token_epoch:{" + userId + "}", String.valueOf(ahead), Duration.ofMinutes(1));
+        RedisTokenEpochAdapter adapter = createAdapter();
+
+        // When / Then
+        assertThat(adapter.incrementEpoch(userId)).isEqualTo(ahead + 1);
+    }
+
+    @Test
+    @DisplayName("Should revoke tokens on other instances through pub/sub")
+    void shouldPropagateRevocationThroughPubSub() {
+        // Given
+        RedisTokenEpochAdapter writer = createAdapter();
+        RedisTokenEpochAdapter reader = createAdapter();
+        long issuedEpoch = reader.getEpochForNewToken(userId);
+
+        // When - révocations répétées tant que l'abonnement du lecteur n'est pas établi
+        boolean revoked = eventually(() -> {
+            writer.incrementEpoch(userId);
+            return reader.isRevoked(userId, issuedEpoch);
+        });
+
+        // Then - le lecteur n'a jamais relu Redis : seule la notification a pu l'informer
+        assertThat(revoked).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should load epochs missed while unsubscribed on resynchronization")
+    void shouldLoadMissedEpochsOnResynchronization() {
+        // Given - révocation enregistrée sans notification
+        redisTemplate.opsForValue().set("token_epoch:{" + userId + "}", "5000", Duration.ofMinutes(1));
+        RedisTokenEpochAdapter adapter = new RedisTokenEpochAdapter(redisTemplate, listenerContainer(), TOKEN_VALIDITY_MS);
+        assertThat(adapter.isRevoked(userId, 4_999L)).isFalse();
+
+        // When
+        adapter.resynchronize();
+
+        // Then
+        assertThat(adapter.isRevoked(userId, 4_999L)).isTrue();
+        assertThat(adapter.isRevoked(userId, 5_000L)).isFalse();
+    }
+
+    private RedisTokenEpochAdapter createAdapter() {
+        RedisTokenEpochAdapter adapter = new RedisTokenEpochAdapter(redisTemplate, listenerContainer(), TOKEN_VALIDITY_MS);
+        adapter.resynchronize();
+        return adapter;
+    }
+
+    private RedisMessageListenerContainer listenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+        return container;
+    }
+
+    private static boolean eventually(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,132 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisTokenEpochAdapterTest {
+
+    private static final long TOKEN_VALIDITY_MS = 900_000;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisTokenEpochAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new RedisTokenEpochAdapter(redisTemplate, listenerContainer, TOKEN_VALIDITY_MS);
+    }
+
+    @Test
+    @DisplayName("Should not revoke tokens of users without a recent epoch")
+    void shouldNotRevokeWithoutEpoch() {
+        assertThat(adapter.isRevoked("user-1", 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should revoke older tokens locally as soon as the epoch is incremented")
+    @SuppressWarnings("unchecked")
+    void shouldRevokeOlderTokensAfterIncrement() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).thenReturn(1_000L);
+
+        // When
+        long epoch = adapter.incrementEpoch("user-1");
+
+        // Then
+        assertThat(epoch).isEqualTo(1_000L);
+        assertThat(adapter.isRevoked("user-1", 999L)).isTrue();
+        assertThat(adapter.isRevoked("user-1", 1_000L)).isFalse();
+        assertThat(adapter.isRevoked("user-2", 0L)).isFalse();
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("token_epoch:{user-1}")),
+                any(), eq(String.valueOf(TOKEN_VALIDITY_MS)), eq("token_epoch_updates"), eq("user-1"));
+    }
+
+    @Test
+    @DisplayName("Should apply epochs published by other instances")
+    void shouldApplyPublishedEpochs() {
+        // When
+        adapter.onMessage(message("user-1=1500"), null);
+
+        // Then
+        assertThat(adapter.isRevoked("user-1", 1_499L)).isTrue();
+        assertThat(adapter.isRevoked("user-1", 1_500L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should never lower an epoch on out-of-order notifications")
+    void shouldKeepHighestEpoch() {
+        // When
+        adapter.onMessage(message("user-1=2000"), null);
+        adapter.onMessage(message("user-1=1500"), null);
+
+        // Then
+        assertThat(adapter.isRevoked("user-1", 1_999L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should ignore malformed notifications")
+    void shouldIgnoreMalformedNotifications() {
+        // When
+        adapter.onMessage(message("user-1"), null);
+        adapter.onMessage(message("user-1=abc"), null);
+
+        // Then
+        assertThat(adapter.isRevoked("user-1", 0L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should embed the highest of the Redis and local epochs in new tokens")
+    void shouldEmbedHighestEpoch() {
+        // Given
+        adapter.onMessage(message("user-1=1500"), null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("token_epoch:{user-1}")).thenReturn("2000");
+
+        // When / Then
+        assertThat(adapter.getEpochForNewToken("user-1")).isEqualTo(2_000L);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the local epoch when Redis is unavailable")
+    void shouldFallBackToLocalEpoch() {
+        // Given
+        adapter.onMessage(message("user-1=1500"), null);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("token_epoch:{user-1}")).thenThrow(new IllegalStateException("Redis down"));
+
+        // When / Then
+        assertThat(adapter.getEpochForNewToken("user-1")).isEqualTo(1_500L);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("token_epoch_updates".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
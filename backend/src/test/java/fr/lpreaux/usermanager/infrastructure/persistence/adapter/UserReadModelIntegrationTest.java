@@ -0,0 +1,223 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.lpreaux.usermanager.domain.model.valueobject.RoleId;
+import fr.lpreaux.usermanager.domain.model.valueobject.UserId;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static fr.lpreaux.usermanager.infrastructure.persistence.adapter.UuidBytes.toBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Vérifie le calcul de {@code user_view} par {@link UserReadModelAdapter} (tableaux JSON, rôles et permissions
+ * effectives) après les migrations Flyway.
+ * Nécessite un MariaDB local (MARIADB_HOST / MARIADB_PORT / MARIADB_USER / MARIADB_PASSWORD),
+ * avec le droit de créer une base temporaire ; ignoré sinon.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserReadModelIntegrationTest {
+
+    private static final String HOST = System.getenv().getOrDefault("MARIADB_HOST", "localhost");
+    private static final int PORT = Integer.parseInt(System.getenv().getOrDefault("MARIADB_PORT", "3306"));
+    private static final String USER = System.getenv().getOrDefault("MARIADB_USER", "root");
+    private static final String PASSWORD = System.getenv().getOrDefault("MARIADB_PASSWORD", "");
+
+    private final String database = "user_view_it_" + UUID.randomUUID().toString().substring(0, 8);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JdbcTemplate serverJdbc;
+    private JdbcTemplate jdbc;
+    private UserReadModelAdapter readModel;
+
+    private UUID userId;
+    private UUID userRoleId;
+    private UUID adminRoleId;
+
+    @BeforeAll
+    void setUp() {
+        serverJdbc = new JdbcTemplate(dataSource(""));
+        boolean available;
+        try {
+            serverJdbc.execute("CREATE DATABASE " + database + " CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci");
+            available = true;
+        } catch (Exception e) {
+            available = false;
+        }
+        assumeTrue(available, "MariaDB non disponible sur " + HOST + ":" + PORT);
+
+        DriverManagerDataSource dataSource = dataSource(database);
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        // Écritures en JDBC direct : aucune modification JPA à propager avant le recalcul
+        // Lots de deux utilisateurs pour exercer le parcours par clé ; chaque instruction est validée seule
+        readModel = new UserReadModelAdapter(mock(EntityManager.class), new NamedParameterJdbcTemplate(dataSource),
+                TransactionOperations.withoutTransaction(), 2);
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (jdbc != null) {
+            serverJdbc.execute("DROP DATABASE IF EXISTS " + database);
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("DELETE FROM users");
+        jdbc.update("DELETE FROM roles");
+
+        userId = UUID.randomUUID();
+        userRoleId = UUID.randomUUID();
+        adminRoleId = UUID.randomUUID();
+        jdbc.update("INSERT INTO roles (role_id, name, description) VALUES (?, 'USER', 'Utilisateur'), (?, 'ADMIN', 'Administrateur')",
+                toBytes(userRoleId), toBytes(adminRoleId));
+        jdbc.update("INSERT INTO role_permissions (role_id, permission) VALUES (?, 'USER_READ'), (?, 'USER_READ'), (?, 'USER_DELETE')",
+                toBytes(userRoleId), toBytes(adminRoleId), toBytes(adminRoleId));
+
+        jdbc.update("INSERT INTO users (user_id, login, password, last_name, first_name, birth_date) VALUES (?, ?, ?, ?, ?, ?)",
+                toBytes(userId), "john.doe", "hash", "Doe", "John", LocalDate.of(1990, 5, 15));
+        jdbc.update("INSERT INTO user_emails (email, user_id) VALUES (?, ?), (?, ?)",
+                "john.doe@example.com", toBytes(userId), "john@work.example.com", toBytes(userId));
+        jdbc.update("INSERT INTO user_phone_numbers (phone_number, user_id) VALUES (?, ?)", "+33612345678", toBytes(userId));
+        jdbc.update("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?), (?, ?)",
+                toBytes(userId), toBytes(userRoleId), toBytes(userId), toBytes(adminRoleId));
+    }
+
+    @Test
+    @DisplayName("Should build the view row with JSON arrays and effective permissions")
+    void shouldBuildViewRowWithJsonArraysAndEffectivePermissions() {
+        // When
+        readModel.refresh(UserId.of(userId));
+
+        // Then
+        Map<String, Object> row = viewRow();
+        assertThat(row.get("login")).isEqualTo("john.doe");
+        assertThat(row.get("last_name")).isEqualTo("Doe");
+        assertThat(json(row, "emails")).containsExactly("john.doe@example.com", "john@work.example.com");
+        assertThat(json(row, "phone_numbers")).containsExactly("+33612345678");
+        assertThat(json(row, "roles")).containsExactly("ADMIN", "USER");
+        assertThat(json(row, "permissions")).containsExactly("USER_DELETE", "USER_READ");
+    }
+
+    @Test
+    @DisplayName("Should overwrite an existing row on refresh")
+    void shouldOverwriteExistingRowOnRefresh() {
+        // Given
+        readModel.refresh(UserId.of(userId));
+        jdbc.update("UPDATE users SET login = 'jane.doe' WHERE user_id = ?", toBytes(userId));
+        jdbc.update("DELETE FROM user_phone_numbers WHERE user_id = ?", toBytes(userId));
+
+        // When
+        readModel.refresh(UserId.of(userId));
+
+        // Then
+        Map<String, Object> row = viewRow();
+        assertThat(row.get("login")).isEqualTo("jane.doe");
+        assertThat(json(row, "phone_numbers")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should refresh the permissions of every holder of a role")
+    void shouldRefreshPermissionsOfEveryHolderOfRole() {
+        // Given
+        readModel.refresh(UserId.of(userId));
+        jdbc.update("INSERT INTO role_permissions (role_id, permission) VALUES (?, 'ROLE_MANAGE')", toBytes(adminRoleId));
+
+        // When
+        readModel.refreshUsersWithRole(RoleId.of(adminRoleId));
+
+        // Then
+        assertThat(json(viewRow(), "permissions")).containsExactly("ROLE_MANAGE", "USER_DELETE", "USER_READ");
+    }
+
+    @Test
+    @DisplayName("Should refresh the holders of a role across several keyset batches")
+    void shouldRefreshHoldersAcrossSeveralBatches() {
+        // Given - cinq détenteurs du rôle ADMIN, soit trois lots de deux
+        List<UUID> holders = new ArrayList<>(List.of(userId));
+        for (int i = 0; i < 4; i++) {
+            UUID holder = UUID.randomUUID();
+            jdbc.update("INSERT INTO users (user_id, login, password, last_name, first_name, birth_date) VALUES (?, ?, ?, ?, ?, ?)",
+                    toBytes(holder), "holder." + i, "hash", "Holder", "Number" + i, LocalDate.of(1990, 5, 15));
+            jdbc.update("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", toBytes(holder), toBytes(adminRoleId));
+            holders.add(holder);
+        }
+        jdbc.update("INSERT INTO role_permissions (role_id, permission) VALUES (?, 'ROLE_MANAGE')", toBytes(adminRoleId));
+
+        // When
+        readModel.refreshUsersWithRole(RoleId.of(adminRoleId));
+
+        // Then
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM user_view", Integer.class)).isEqualTo(holders.size());
+        for (UUID holder : holders) {
+            Map<String, Object> row = jdbc.queryForMap("SELECT * FROM user_view WHERE user_id = ?", (Object) toBytes(holder));
+            assertThat(json(row, "permissions")).contains("ROLE_MANAGE");
+        }
+    }
+
+    @Test
+    @DisplayName("Should remove a role from the views of its holders before deletion")
+    void shouldRemoveRoleFromViewsOfItsHoldersBeforeDeletion() {
+        // Given
+        readModel.refresh(UserId.of(userId));
+
+        // When
+        readModel.refreshUsersWithoutRole(RoleId.of(adminRoleId));
+        jdbc.update("DELETE FROM roles WHERE role_id = ?", toBytes(adminRoleId));
+
+        // Then
+        Map<String, Object> row = viewRow();
+        assertThat(json(row, "roles")).containsExactly("USER");
+        assertThat(json(row, "permissions")).containsExactly("USER_READ");
+    }
+
+    @Test
+    @DisplayName("Should delete the view row along with the user")
+    void shouldDeleteViewRowAlongWithUser() {
+        // Given
+        readModel.refresh(UserId.of(userId));
+
+        // When
+        jdbc.update("DELETE FROM users WHERE user_id = ?", toBytes(userId));
+
+        // Then
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM user_view", Integer.class)).isZero();
+    }
+
+    private Map<String, Object> viewRow() {
+        return jdbc.queryForMap("SELECT * FROM user_view WHERE user_id = ?", (Object) toBytes(userId));
+    }
+
+    private List<String> json(Map<String, Object> row, String column) {
+        try {
+            return objectMapper.readValue((String) row.get(column), new TypeReference<>() {
+            });
+        } catch (Exception e) {
+            throw new AssertionError("JSON invalide dans " + column + " : " + row.get(column), e);
+        }
+    }
+
+    private DriverManagerDataSource dataSource(String schema) {
+        return new DriverManagerDataSource("jdbc:mariadb://" + HOST + ":" + PORT + "/" + schema, USER, PASSWORD);
+    }
+}
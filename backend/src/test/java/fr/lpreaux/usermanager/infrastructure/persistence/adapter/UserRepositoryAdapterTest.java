@@ -1,11 +1,16 @@
 package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
 
+import fr.lpreaux.usermanager.application.exception.UserAlreadyExistsException;
+import fr.lpreaux.usermanager.application.port.out.UserRepository;
+import fr.lpreaux.usermanager.domain.model.Role;
 import fr.lpreaux.usermanager.domain.model.User;
 import fr.lpreaux.usermanager.domain.model.valueobject.*;
 import fr.lpreaux.usermanager.infrastructure.persistence.entity.UserEmailEntity;
 import fr.lpreaux.usermanager.infrastructure.persistence.entity.UserEntity;
 import fr.lpreaux.usermanager.infrastructure.persistence.entity.UserPhoneNumberEntity;
+import fr.lpreaux.usermanager.infrastructure.persistence.entity.UserViewEntity;
 import fr.lpreaux.usermanager.infrastructure.persistence.repository.UserJpaRepository;
+import fr.lpreaux.usermanager.infrastructure.persistence.repository.UserViewJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,16 +19,26 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +47,12 @@ class UserRepositoryAdapterTest {
     @Mock
     private UserJpaRepository userJpaRepository;
 
+    @Mock
+    private UserViewJpaRepository userViewJpaRepository;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
     @InjectMocks
     private UserRepositoryAdapter adapter;
 
@@ -122,7 +143,8 @@ class UserRepositoryAdapterTest {
     void shouldFindUserByEmail() {
         // Given
         Email email = Email.of("john.doe@example.com");
-        when(userJpaRepository.findByEmail(email.getValue())).thenReturn(Optional.of(entityUser));
+        when(userJpaRepository.findUserIdByEmail(email.getValue())).thenReturn(Optional.of(userId));
+        when(userJpaRepository.findById(userId)).thenReturn(Optional.of(entityUser));
 
         // When
         Optional<User> result = adapter.findByEmail(email);
@@ -134,7 +156,7 @@ class UserRepositoryAdapterTest {
         assertThat(user.getEmails()).hasSize(1);
         assertThat(user.getEmails().get(0).getValue()).isEqualTo("john.doe@example.com");
 
-        verify(userJpaRepository).findByEmail("john.doe@example.com");
+        verify(userJpaRepository).findUserIdByEmail("john.doe@example.com");
     }
 
     @Test
@@ -142,14 +164,15 @@ class UserRepositoryAdapterTest {
     void shouldReturnEmptyWhenUserNotFoundByEmail() {
         // Given
         Email email = Email.of("nonexistent@example.com");
-        when(userJpaRepository.findByEmail(email.getValue())).thenReturn(Optional.empty());
+        when(userJpaRepository.findUserIdByEmail(email.getValue())).thenReturn(Optional.empty());
 
         // When
         Optional<User> result = adapter.findByEmail(email);
 
         // Then
         assertThat(result).isEmpty();
-        verify(userJpaRepository).findByEmail("nonexistent@example.com");
+        verify(userJpaRepository).findUserIdByEmail("nonexistent@example.com");
+        verify(userJpaRepository, never()).findById(any());
     }
 
     @Test
@@ -328,6 +351,160 @@ class UserRepositoryAdapterTest {
         assertThat(savedUser.getEmails().get(0).getValue()).isEqualTo("john.doe@example.com");
     }
 
+    @Test
+    @DisplayName("Should insert new user with one statement per table, view included")
+    void shouldInsertNewUserWithOneStatementPerTable() {
+        // Given
+        User newUser = User.create(Login.of("john.doe"), Password.of("SecurePass123!"), Name.of("Doe"),
+                FirstName.of("John"), BirthDate.of(1990, 5, 15),
+                List.of(email, Email.of("john.secondary@example.com")), List.of(phoneNumber),
+                Set.of(Role.builder().id(RoleId.generate()).name("USER").description("User").permissions(Set.of()).build()));
+
+        // When
+        User inserted = adapter.insert(newUser);
+
+        // Then
+        assertThat(inserted).isSameAs(newUser);
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> parametersCaptor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate, times(5)).update(sqlCaptor.capture(), parametersCaptor.capture());
+        assertThat(sqlCaptor.getAllValues()).satisfiesExactly(
+                sql -> assertThat(sql).startsWith("INSERT INTO users "),
+                sql -> assertThat(sql).startsWith("INSERT INTO user_emails ")
+                        .endsWith("VALUES (:userId, :value0), (:userId, :value1)"),
+                sql -> assertThat(sql).startsWith("INSERT INTO user_phone_numbers "),
+                sql -> assertThat(sql).startsWith("INSERT INTO user_roles "),
+                sql -> assertThat(sql).startsWith("INSERT INTO user_view ")
+                        .contains("JSON_ARRAY(:email0, :email1), JSON_ARRAY(:phoneNumber0), JSON_ARRAY(:role0)")
+                        .contains("WHERE rp.role_id IN (:roleIds)"));
+        MapSqlParameterSource viewParameters = parametersCaptor.getAllValues().getLast();
+        assertThat(viewParameters.getValue("email1")).isEqualTo("john.secondary@example.com");
+        assertThat(viewParameters.getValue("role0")).isEqualTo("USER");
+        // Aucune relecture des tables normalisées
+        verify(jdbcTemplate, never()).query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class));
+        verifyNoInteractions(userJpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should report conflicting emails when unique constraint is violated")
+    void shouldReportConflictingEmailsWhenUniqueConstraintIsViolated() {
+        // Given
+        User newUser = User.create(Login.of("john.doe"), Password.of("SecurePass123!"), Name.of("Doe"),
+                FirstName.of("John"), BirthDate.of(1990, 5, 15), List.of(email), List.of());
+        when(jdbcTemplate.update(anyString(), any(MapSqlParameterSource.class)))
+                .thenReturn(1)
+                .thenThrow(new DuplicateKeyException("Duplicate entry for key 'email'"));
+        when(jdbcTemplate.queryForList(anyString(), any(MapSqlParameterSource.class)))
+                .thenReturn(List.of(Map.of("field", "email", "value", "john.doe@example.com")));
+
+        // When/Then
+        assertThatThrownBy(() -> adapter.insert(newUser))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("Email already exists: john.doe@example.com");
+    }
+
+    @Test
+    @DisplayName("Should read user view from a single read model row")
+    void shouldReadUserViewFromReadModelRow() {
+        // Given
+        when(userViewJpaRepository.findById(userId)).thenReturn(Optional.of(viewEntity(userId, "john.doe")));
+
+        // When
+        Optional<UserRepository.UserView> result = adapter.findViewById(UserId.of(userId));
+
+        // Then
+        assertThat(result).contains(new UserRepository.UserView(userId, "john.doe", "Doe", "John",
+                LocalDate.of(1990, 5, 15), List.of("john.doe@example.com"), List.of("+33612345678"),
+                List.of("USER"), List.of("USER_READ", "USER_UPDATE_SELF")));
+        verifyNoInteractions(userJpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should resolve email through the email index then read the view by primary key")
+    void shouldFindUserViewByEmail() {
+        // Given
+        when(userJpaRepository.findUserIdByEmail(email.getValue())).thenReturn(Optional.of(userId));
+        when(userViewJpaRepository.findById(userId)).thenReturn(Optional.of(viewEntity(userId, "john.doe")));
+
+        // When
+        Optional<UserRepository.UserView> result = adapter.findViewByEmail(email);
+
+        // Then
+        assertThat(result).map(UserRepository.UserView::login).contains("john.doe");
+        verify(userJpaRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should keep search order and skip users deleted in between")
+    @SuppressWarnings("unchecked")
+    void shouldKeepSearchOrderAndSkipDeletedUsers() {
+        // Given
+        UUID secondId = UUID.randomUUID();
+        UUID deletedId = UUID.randomUUID();
+        List<UUID> ids = List.of(secondId, deletedId, userId);
+        when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(ids);
+        when(userViewJpaRepository.findAllById(ids)).thenReturn(List.of(
+                viewEntity(userId, "john.doe"), viewEntity(secondId, "john.smith")));
+        UserRepository.SearchQuery query = new UserRepository.SearchQuery("john", null, null, false, null, null,
+                null, UserRepository.SearchSort.LOGIN, true, null, null, 10);
+
+        // When
+        List<UserRepository.UserView> result = adapter.search(query);
+
+        // Then
+        assertThat(result).extracting(UserRepository.UserView::id).containsExactly(secondId, userId);
+        verifyNoInteractions(userJpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should read views by ids with one IN query per chunk of ids")
+    @SuppressWarnings("unchecked")
+    void shouldReadViewsByIdsInChunks() {
+        // Given - une tranche pleine de 1000 identifiants et une seconde d'un identifiant
+        List<UserId> ids = IntStream.range(0, 1001).mapToObj(i -> UserId.generate()).toList();
+        when(userViewJpaRepository.findAllById(any(Iterable.class)))
+                .thenReturn(List.of(viewEntity(userId, "john.doe")), List.of());
+
+        // When
+        List<UserRepository.UserView> result = adapter.findViewsByIds(ids);
+
+        // Then
+        ArgumentCaptor<Iterable<UUID>> chunks = ArgumentCaptor.forClass(Iterable.class);
+        verify(userViewJpaRepository, times(2)).findAllById(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(chunk -> ((List<UUID>) chunk).size()).containsExactly(1000, 1);
+        assertThat(result).extracting(UserRepository.UserView::login).containsExactly("john.doe");
+    }
+
+    @Test
+    @DisplayName("Should start the keyset listing before every user id")
+    void shouldStartKeysetListingBeforeEveryUserId() {
+        // Given
+        when(userViewJpaRepository.findByIdGreaterThanOrderByIdAsc(eq(new UUID(0, 0)), argThat(limit -> limit.max() == 50)))
+                .thenReturn(List.of(viewEntity(userId, "john.doe")));
+
+        // When
+        List<UserRepository.UserView> result = adapter.findViewsAfter(null, 50);
+
+        // Then
+        assertThat(result).extracting(UserRepository.UserView::id).containsExactly(userId);
+        verifyNoInteractions(userJpaRepository);
+    }
+
+    private static UserViewEntity viewEntity(UUID id, String login) {
+        return UserViewEntity.builder()
+                .id(id)
+                .login(login)
+                .lastName("Doe")
+                .firstName("John")
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .emails(List.of(login + "@example.com"))
+                .phoneNumbers(List.of("+33612345678"))
+                .roles(List.of("USER"))
+                .permissions(List.of("USER_READ", "USER_UPDATE_SELF"))
+                .build();
+    }
+
     // Helper method to create a second user entity for testing
     private UserEntity createSecondUserEntity() {
         UUID secondUserId = UUID.randomUUID();
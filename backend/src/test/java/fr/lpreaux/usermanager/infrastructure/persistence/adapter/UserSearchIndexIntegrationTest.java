@@ -0,0 +1,189 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.adapter;
+
+import fr.lpreaux.usermanager.application.port.out.UserRepository.SearchQuery;
+import fr.lpreaux.usermanager.application.port.out.UserRepository.SearchSort;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static fr.lpreaux.usermanager.infrastructure.persistence.adapter.UuidBytes.toBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Vérifie par EXPLAIN que chaque filtre de la recherche d'utilisateurs s'appuie sur un index
+ * (aucun parcours complet de table), et que les recherches par login et par email se résolvent
+ * en un accès d'index, après les migrations Flyway.
+ * Nécessite un MariaDB local (MARIADB_HOST / MARIADB_PORT / MARIADB_USER / MARIADB_PASSWORD),
+ * avec le droit de créer une base temporaire ; ignoré sinon.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserSearchIndexIntegrationTest {
+
+    private static final String HOST = System.getenv().getOrDefault("MARIADB_HOST", "localhost");
+    private static final int PORT = Integer.parseInt(System.getenv().getOrDefault("MARIADB_PORT", "3306"));
+    private static final String USER = System.getenv().getOrDefault("MARIADB_USER", "root");
+    private static final String PASSWORD = System.getenv().getOrDefault("MARIADB_PASSWORD", "");
+    private static final int USER_COUNT = 3_000;
+
+    private final String database = "user_search_it_" + UUID.randomUUID().toString().substring(0, 8);
+
+    private JdbcTemplate serverJdbc;
+    private NamedParameterJdbcTemplate jdbc;
+
+    @BeforeAll
+    void setUp() {
+        serverJdbc = new JdbcTemplate(dataSource(""));
+        boolean available;
+        try {
+            serverJdbc.execute("CREATE DATABASE " + database + " CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci");
+            available = true;
+        } catch (Exception e) {
+            available = false;
+        }
+        assumeTrue(available, "MariaDB non disponible sur " + HOST + ":" + PORT);
+
+        DriverManagerDataSource dataSource = dataSource(database);
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbc = new NamedParameterJdbcTemplate(dataSource);
+        seed(jdbc.getJdbcTemplate());
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (jdbc != null) {
+            serverJdbc.execute("DROP DATABASE IF EXISTS " + database);
+        }
+    }
+
+    static Stream<Arguments> searches() {
+        return Stream.of(
+                Arguments.of("login prefix", query("user12", null, null, false, null, null, null, SearchSort.LOGIN)),
+                Arguments.of("login contains", query("user12", null, null, true, null, null, null, SearchSort.LOGIN)),
+                Arguments.of("name prefix", query(null, "Name12", null, false, null, null, null, SearchSort.LAST_NAME)),
+                Arguments.of("name contains", query(null, "Name12", null, true, null, null, null, SearchSort.LAST_NAME)),
+                Arguments.of("email prefix", query(null, null, "user12", false, null, null, null, SearchSort.LOGIN)),
+                Arguments.of("email contains", query(null, null, "example3", true, null, null, null, SearchSort.LOGIN)),
+                Arguments.of("age range", query(null, null, null, false,
+                        LocalDate.of(1980, 1, 1), LocalDate.of(1982, 1, 1), null, SearchSort.BIRTH_DATE)),
+                Arguments.of("role", query(null, null, null, false, null, null, "ADMIN", SearchSort.LOGIN)),
+                Arguments.of("keyset on login", new SearchQuery(null, null, null, false, null, null, null,
+                        SearchSort.LOGIN, false, List.of("user2900"), UUID.randomUUID(), 21)),
+                Arguments.of("keyset on name", new SearchQuery(null, null, null, false, null, null, null,
+                        SearchSort.LAST_NAME, true, List.of("Name10", "First5"), UUID.randomUUID(), 21)),
+                Arguments.of("keyset on birth date", new SearchQuery(null, null, null, false, null, null, null,
+                        SearchSort.BIRTH_DATE, false, List.of("2005-01-01"), UUID.randomUUID(), 21))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("searches")
+    @DisplayName("Should use an index for each supported filter")
+    void shouldUseAnIndexForEachSupportedFilter(String description, SearchQuery query) {
+        // Given
+        UserSearchSql.Statement statement = UserSearchSql.build(query);
+
+        // When
+        List<Map<String, Object>> plan = jdbc.queryForList("EXPLAIN " + statement.sql(), statement.parameters());
+        List<byte[]> ids = jdbc.queryForList(statement.sql(), statement.parameters(), byte[].class);
+
+        // Then - les tables dérivées (<subqueryN>) sont des résultats matérialisés, pas des tables
+        assertThat(plan)
+                .filteredOn(row -> !String.valueOf(row.get("table")).startsWith("<"))
+                .isNotEmpty()
+                .allSatisfy(row -> {
+                    assertThat(row.get("type")).as("%s: access type of %s", description, row.get("table"))
+                            .isNotEqualTo("ALL");
+                    assertThat(row.get("key")).as("%s: key of %s", description, row.get("table"))
+                            .isNotNull();
+                });
+        assertThat(ids).as(description).isNotEmpty();
+    }
+
+    // Méthode d'instance (cycle de vie PER_CLASS) : appelée après l'alimentation de la base
+    Stream<Arguments> lookups() {
+        byte[] userId = jdbc.getJdbcTemplate()
+                .queryForObject("SELECT user_id FROM users WHERE login = 'user0042'", byte[].class);
+        return Stream.of(
+                Arguments.of("credentials by login", "SELECT user_id, login, password FROM users WHERE login = :value",
+                        "user0042", "const", null),
+                Arguments.of("user id by email", "SELECT user_id FROM user_emails WHERE email = :value",
+                        "user0042@example2.com", "const", null),
+                Arguments.of("emails of a user", "SELECT id, email FROM user_emails WHERE user_id = :value",
+                        userId, "ref", "Using index")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lookups")
+    @DisplayName("Should resolve login and email lookups with a single index access")
+    void shouldResolveLookupsWithASingleIndexAccess(String description, String sql, Object value,
+                                                    String accessType, String extra) {
+        // Given
+        Map<String, Object> parameters = Map.of("value", value);
+
+        // When
+        List<Map<String, Object>> plan = jdbc.queryForList("EXPLAIN " + sql, parameters);
+
+        // Then - « Using index » : la ligne de la table n'est pas lue
+        assertThat(plan).singleElement().satisfies(row -> {
+            assertThat(row.get("type")).as(description).isEqualTo(accessType);
+            if (extra != null) {
+                assertThat(String.valueOf(row.get("Extra"))).as(description).contains(extra);
+            }
+        });
+        assertThat(jdbc.queryForList(sql, parameters)).as(description).hasSize(1);
+    }
+
+    private static SearchQuery query(String login, String name, String email, boolean contains,
+                                     LocalDate bornAfter, LocalDate bornOnOrBefore, String role, SearchSort sort) {
+        return new SearchQuery(login, name, email, contains, bornAfter, bornOnOrBefore, role, sort,
+                false, null, null, 21);
+    }
+
+    /**
+     * Jeu de données assez gros et varié pour que l'optimiseur préfère les index aux parcours complets.
+     */
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        byte[] userRole = toBytes(UUID.randomUUID());
+        byte[] adminRole = toBytes(UUID.randomUUID());
+        jdbcTemplate.update("INSERT INTO roles (role_id, name, description) VALUES (?, 'USER', 'Utilisateur'), (?, 'ADMIN', 'Administrateur')",
+                userRole, adminRole);
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> emails = new ArrayList<>();
+        List<Object[]> roles = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            byte[] id = toBytes(UUID.randomUUID());
+            String login = String.format("user%04d", i);
+            users.add(new Object[]{id, login, "hash", "Name" + (i % 300), "First" + (i % 200),
+                    LocalDate.of(1950, 1, 1).plusDays(i * 7L)});
+            emails.add(new Object[]{login + "@example" + (i % 10) + ".com", id});
+            roles.add(new Object[]{id, i % 100 == 0 ? adminRole : userRole});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (user_id, login, password, last_name, first_name, birth_date)"
+                + " VALUES (?, ?, ?, ?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO user_emails (email, user_id) VALUES (?, ?)", emails);
+        jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", roles);
+        jdbcTemplate.execute("ANALYZE TABLE users, user_emails, user_roles, roles");
+    }
+
+    private DriverManagerDataSource dataSource(String schema) {
+        return new DriverManagerDataSource("jdbc:mariadb://" + HOST + ":" + PORT + "/" + schema, USER, PASSWORD);
+    }
+}
@@ -0,0 +1,171 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests d'intégration du cache client Redis.
+ * Nécessitent un Redis >= 6 local (REDIS_HOST / REDIS_PORT), ignorés sinon.
+ */
+class RedisKeyPresenceCacheIntegrationTest {
+
+    private static final String HOST = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+    private static final int PORT = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+
+    private JedisConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisKeyPresenceCache cache;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration(HOST, PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        boolean available;
+        try {
+            available = "PONG".equals(redisTemplate.execute(connection -> connection.ping(), true));
+        } catch (Exception e) {
+            available = false;
+        }
+        assumeTrue(available, "Redis non disponible sur " + HOST + ":" + PORT);
+
+        key = "block:ip:" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.stop();
+        }
+        if (redisTemplate != null && key != null) {
+            try {
+                redisTemplate.delete(key);
+            } catch (Exception ignored) {
+                // Redis indisponible : rien à nettoyer
+            }
+        }
+        connectionFactory.destroy();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"bcast", "default"})
+    @DisplayName("Should serve repeated lookups locally and see writes from other clients")
+    void shouldServeRepeatedLookupsLocallyAndInvalidateOnWrite(String mode) {
+        // Given
+        cache = createCache(mode);
+        assertThat(cache.isTracking()).isTrue();
+
+        // When - deux lectures d'une clé absente
+        assertThat(cache.exists(key)).isFalse();
+        assertThat(cache.exists(key)).isFalse();
+
+        // Then - la seconde est servie par le cache
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+
+        // When - une autre connexion écrit la clé, sans invalidation locale
+        redisTemplate.opsForValue().set(key, "1", Duration.ofMinutes(1));
+
+        // Then - Redis pousse l'invalidation et la lecture suivante voit la clé
+        assertThat(eventually(() -> cache.exists(key))).isTrue();
+
+        // When - suppression de la clé
+        redisTemplate.delete(key);
+
+        // Then
+        assertThat(eventually(() -> !cache.exists(key))).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"bcast", "default"})
+    @DisplayName("Should evict a single entry when full instead of clearing the cache")
+    void shouldEvictSingleEntryWhenFull(String mode) {
+        // Given - cache plein de trois clés absentes, la première relue
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cache = new RedisKeyPresenceCache(redisTemplate, meterRegistry, true, mode,
+                List.of("block:ip:"), 3, Duration.ofMinutes(1), HOST, PORT, "", Duration.ofSeconds(2));
+        cache.start();
+        cache.exists(key + ":1");
+        cache.exists(key + ":2");
+        cache.exists(key + ":3");
+        cache.exists(key + ":1");
+
+        // When - une quatrième clé
+        cache.exists(key + ":4");
+
+        // Then - seule la moins récemment lue (:2) est évincée
+        assertThat(meterRegistry.get("app.redis.client_cache.size").gauge().value()).isEqualTo(3);
+        double hits = meterRegistry.get("app.redis.client_cache.hits").counter().count();
+        cache.exists(key + ":1");
+        cache.exists(key + ":3");
+        cache.exists(key + ":4");
+        assertThat(meterRegistry.get("app.redis.client_cache.hits").counter().count()).isEqualTo(hits + 3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"bcast", "default"})
+    @DisplayName("Should fall back to direct lookups when disabled")
+    void shouldFallBackToDirectLookupsWhenDisabled(String mode) {
+        // Given
+        cache = new RedisKeyPresenceCache(redisTemplate, new SimpleMeterRegistry(), false, mode,
+                List.of("block:ip:"), 100, Duration.ofMinutes(1), HOST, PORT, "", Duration.ofSeconds(2));
+        cache.start();
+
+        // When
+        boolean before = cache.exists(key);
+        redisTemplate.opsForValue().set(key, "1", Duration.ofMinutes(1));
+        boolean after = cache.exists(key);
+
+        // Then
+        assertThat(cache.isTracking()).isFalse();
+        assertThat(before).isFalse();
+        assertThat(after).isTrue();
+        assertThat(cache.hitRatio()).isZero();
+    }
+
+    private RedisKeyPresenceCache createCache(String mode) {
+        RedisKeyPresenceCache created = new RedisKeyPresenceCache(redisTemplate, new SimpleMeterRegistry(), true, mode,
+                List.of("block:ip:"), 100, Duration.ofMinutes(1), HOST, PORT, "", Duration.ofSeconds(2));
+        created.start();
+        return created;
+    }
+
+    private static boolean eventually(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,172 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires du choix de la connexion en lecture seule.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource firstReplicaDataSource;
+    @Mock
+    private DataSource secondReplicaDataSource;
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstReplicaConnection = mock(Connection.class);
+    private final Connection secondReplicaConnection = mock(Connection.class);
+
+    private ReadReplicaDataSource.Replica firstReplica;
+    private ReadReplicaDataSource.Replica secondReplica;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private ReadReplicaDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        firstReplica = new ReadReplicaDataSource.Replica("replica-1", firstReplicaDataSource);
+        secondReplica = new ReadReplicaDataSource.Replica("replica-2", secondReplicaDataSource);
+        readYourWritesTracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        dataSource = new ReadReplicaDataSource(primary, List.of(firstReplica, secondReplica),
+                readYourWritesTracker, Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should spread reads over up-to-date replicas in turn")
+    void shouldRoundRobinOverReplicas() throws SQLException {
+        // Given
+        firstReplica.recordLag(100);
+        secondReplica.recordLag(300);
+        when(firstReplicaDataSource.getConnection()).thenReturn(firstReplicaConnection);
+        when(secondReplicaDataSource.getConnection()).thenReturn(secondReplicaConnection);
+
+        // When / Then
+        assertThat(dataSource.getConnection()).isSameAs(firstReplicaConnection);
+        assertThat(dataSource.getConnection()).isSameAs(secondReplicaConnection);
+        assertThat(dataSource.getConnection()).isSameAs(firstReplicaConnection);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should skip replicas lagging beyond the threshold")
+    void shouldSkipLaggingReplica() throws SQLException {
+        // Given
+        firstReplica.recordLag(10_000);
+        secondReplica.recordLag(100);
+        when(secondReplicaDataSource.getConnection()).thenReturn(secondReplicaConnection);
+
+        // When / Then
+        assertThat(dataSource.getConnection()).isSameAs(secondReplicaConnection);
+        assertThat(dataSource.getConnection()).isSameAs(secondReplicaConnection);
+        verify(firstReplicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should read from the primary until replica lag has been measured")
+    void shouldUsePrimaryWhenLagUnknown() throws SQLException {
+        // Given - aucune mesure encore effectuée
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(firstReplica.lagMillis()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should fall back when a replica refuses connections")
+    void shouldFallBackWhenReplicaUnreachable() throws SQLException {
+        // Given
+        firstReplica.recordLag(100);
+        secondReplica.recordLag(100);
+        when(firstReplicaDataSource.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+        when(secondReplicaDataSource.getConnection()).thenReturn(secondReplicaConnection);
+
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then - réplica exclu jusqu'à la prochaine mesure réussie
+        assertThat(connection).isSameAs(secondReplicaConnection);
+        assertThat(firstReplica.lagMillis()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should keep a user's reads on the primary right after their own write")
+    void shouldReadYourWrites() throws SQLException {
+        // Given
+        firstReplica.recordLag(100);
+        secondReplica.recordLag(100);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(firstReplicaDataSource.getConnection()).thenReturn(firstReplicaConnection);
+        authenticate("user-1");
+        readYourWritesTracker.afterCommit(writeTransaction(), null);
+
+        // When
+        Connection writerConnection = dataSource.getConnection();
+        authenticate("user-2");
+        Connection otherConnection = dataSource.getConnection();
+
+        // Then
+        assertThat(writerConnection).isSameAs(primaryConnection);
+        assertThat(otherConnection).isSameAs(firstReplicaConnection);
+    }
+
+    @Test
+    @DisplayName("Should ignore read-only and failed transactions for read-your-writes")
+    void shouldOnlyPinAfterCommittedWrites() {
+        // Given
+        authenticate("user-1");
+        TransactionExecution readOnly = mock(TransactionExecution.class);
+        when(readOnly.isReadOnly()).thenReturn(true);
+
+        // When
+        readYourWritesTracker.afterCommit(readOnly, null);
+        readYourWritesTracker.afterCommit(mock(TransactionExecution.class), new IllegalStateException("commit failed"));
+
+        // Then
+        assertThat(readYourWritesTracker.isCurrentUserPinned()).isFalse();
+    }
+
+    private static TransactionExecution writeTransaction() {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isReadOnly()).thenReturn(false);
+        when(transaction.isNewTransaction()).thenReturn(true);
+        return transaction;
+    }
+
+    private static void authenticate(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+}
@@ -0,0 +1,174 @@
+package fr.lpreaux.usermanager.infrastructure.persistence.routing;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Routage des transactions entre deux instances MariaDB locales indépendantes : le primaire
+ * (MARIADB_HOST / MARIADB_PORT) et un « réplica » (MARIADB_REPLICA_HOST / MARIADB_REPLICA_PORT, 3307 par défaut),
+ * mêmes identifiants (MARIADB_USER / MARIADB_PASSWORD). Aucune réplication n'est nécessaire : chaque instance
+ * porte un rôle distinct qui identifie la source d'une lecture, et le retard est simulé par le battement
+ * écrit directement sur le réplica. Ignoré si l'une des instances est indisponible.
+ * <pre>
+ * docker run -d -p 3306:3306 -e MARIADB_ROOT_PASSWORD=root mariadb:11
+ * docker run -d -p 3307:3306 -e MARIADB_ROOT_PASSWORD=root mariadb:11
+ * MARIADB_PASSWORD=root mvn verify -Dit.test=ReadReplicaRoutingIntegrationTest
+ * </pre>
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String USER = System.getenv().getOrDefault("MARIADB_USER", "root");
+    private static final String PASSWORD = System.getenv().getOrDefault("MARIADB_PASSWORD", "");
+    private static final String PRIMARY_URL = "jdbc:mariadb://"
+            + System.getenv().getOrDefault("MARIADB_HOST", "localhost") + ":"
+            + System.getenv().getOrDefault("MARIADB_PORT", "3306") + "/";
+    private static final String REPLICA_URL = "jdbc:mariadb://"
+            + System.getenv().getOrDefault("MARIADB_REPLICA_HOST", "localhost") + ":"
+            + System.getenv().getOrDefault("MARIADB_REPLICA_PORT", "3307") + "/";
+
+    private final String database = "read_replica_it_" + UUID.randomUUID().toString().substring(0, 8);
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ReadReplicaDataSource readReplicaDataSource;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private JdbcTemplate routedJdbc;
+
+    @BeforeAll
+    void setUp() {
+        assumeTrue(createDatabase(PRIMARY_URL), "MariaDB primaire non disponible sur " + PRIMARY_URL);
+        assumeTrue(createDatabase(REPLICA_URL), "MariaDB réplica non disponible sur " + REPLICA_URL);
+
+        DriverManagerDataSource primary = new DriverManagerDataSource(PRIMARY_URL + database, USER, PASSWORD);
+        DriverManagerDataSource replica = new DriverManagerDataSource(REPLICA_URL + database, USER, PASSWORD);
+        for (DriverManagerDataSource dataSource : List.of(primary, replica)) {
+            Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        }
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+        insertMarker(primaryJdbc, "primary");
+        insertMarker(replicaJdbc, "replica");
+
+        ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        readReplicaDataSource = new ReadReplicaDataSource(primary,
+                List.of(new ReadReplicaDataSource.Replica("replica-1", replica)),
+                readYourWritesTracker, Duration.ofSeconds(2));
+        LazyConnectionDataSourceProxy routed = new LazyConnectionDataSourceProxy(primary);
+        routed.setReadOnlyDataSource(readReplicaDataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routed);
+        transactionManager.addListener(readYourWritesTracker);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        routedJdbc = new JdbcTemplate(routed);
+    }
+
+    @AfterAll
+    void tearDown() {
+        for (String url : List.of(PRIMARY_URL, REPLICA_URL)) {
+            try {
+                new JdbcTemplate(new DriverManagerDataSource(url, USER, PASSWORD))
+                        .execute("DROP DATABASE IF EXISTS " + database);
+            } catch (Exception ignored) {
+                // Instance indisponible : rien à nettoyer
+            }
+        }
+    }
+
+    @BeforeEach
+    void replicaUpToDate() {
+        replicaJdbc.update("UPDATE replication_heartbeat SET beat_at = NOW(3) WHERE id = 1");
+        readReplicaDataSource.checkReplicationLag();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should serve read-only transactions from the replica and others from the primary")
+    void shouldRouteByTransactionReadOnlyFlag() {
+        assertThat(readOnly.execute(status -> source())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> source())).isEqualTo("primary");
+        assertThat(source()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should read from the primary while the replica lags")
+    void shouldGuardAgainstReplicationLag() {
+        // Given
+        replicaJdbc.update("UPDATE replication_heartbeat SET beat_at = NOW(3) - INTERVAL 10 SECOND WHERE id = 1");
+        readReplicaDataSource.checkReplicationLag();
+
+        // When / Then
+        assertThat(readReplicaDataSource.replicas().getFirst().lagMillis()).isGreaterThanOrEqualTo(10_000);
+        assertThat(readOnly.execute(status -> source())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should keep a user's reads on the primary after their own write")
+    void shouldReadYourWrites() {
+        // Given
+        authenticate("writer");
+        readWrite.executeWithoutResult(status ->
+                routedJdbc.update("UPDATE roles SET description = 'updated' WHERE name = 'instance-primary'"));
+
+        // When
+        String writerSource = readOnly.execute(status -> source());
+        authenticate("reader");
+        String readerSource = readOnly.execute(status -> source());
+
+        // Then
+        assertThat(writerSource).isEqualTo("primary");
+        assertThat(readerSource).isEqualTo("replica");
+    }
+
+    private String source() {
+        return routedJdbc.queryForObject(
+                "SELECT SUBSTRING(name, 10) FROM roles WHERE name LIKE 'instance-%'", String.class);
+    }
+
+    private boolean createDatabase(String url) {
+        try {
+            new JdbcTemplate(new DriverManagerDataSource(url, USER, PASSWORD))
+                    .execute("CREATE DATABASE " + database + " CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci");
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void insertMarker(JdbcTemplate jdbcTemplate, String instance) {
+        jdbcTemplate.update("INSERT INTO roles (role_id, name, description) VALUES (UNHEX(REPLACE(UUID(), '-', '')), ?, ?)",
+                "instance-" + instance, instance);
+    }
+
+    private static void authenticate(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+}
@@ -0,0 +1,120 @@
+package fr.lpreaux.usermanager.infrastructure.security;
+
+import fr.lpreaux.usermanager.application.port.out.RoleRepository;
+import fr.lpreaux.usermanager.domain.model.Permission;
+import fr.lpreaux.usermanager.domain.model.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorityCatalogTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private AuthorityCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        Role user = Role.create("USER", "Regular user")
+                .addPermission(Permission.of("USER_READ"))
+                .addPermission(Permission.of("USER_UPDATE_SELF"));
+        when(roleRepository.findAll()).thenReturn(List.of(user));
+        catalog = new AuthorityCatalog(roleRepository);
+    }
+
+    @Test
+    @DisplayName("Should return the same immutable collection for the same role combination")
+    void shouldCanonicalizeAuthorities() {
+        // Given - mêmes droits, ordre et implémentation différents
+        Set<String> sortedPermissions = new TreeSet<>(Set.of("USER_UPDATE_SELF", "USER_READ"));
+        Set<String> hashedPermissions = new HashSet<>(List.of("USER_READ", "USER_UPDATE_SELF"));
+
+        // When
+        Collection<GrantedAuthority> first = catalog.authoritiesFor(Set.of("USER"), sortedPermissions);
+        Collection<GrantedAuthority> second = catalog.authoritiesFor(new HashSet<>(Set.of("USER")), hashedPermissions);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first).extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_USER", "USER_READ", "USER_UPDATE_SELF");
+        assertThatThrownBy(() -> first.clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should not be affected by later changes to the caller's sets")
+    void shouldCopyCacheKeys() {
+        // Given
+        Set<String> permissions = new HashSet<>(Set.of("USER_READ"));
+        Collection<GrantedAuthority> cached = catalog.authoritiesFor(Set.of("USER"), permissions);
+
+        // When
+        permissions.add("USER_UPDATE_SELF");
+
+        // Then
+        assertThat(catalog.authoritiesFor(Set.of("USER"), Set.of("USER_READ"))).isSameAs(cached);
+        assertThat(catalog.authoritiesFor(Set.of("USER"), permissions)).isNotSameAs(cached).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should reload at most once per interval for unknown versions")
+    void shouldRateLimitReloadsOnUnknownVersions() {
+        // Given
+        catalog.current();
+
+        // When - versions inconnues différentes à chaque requête
+        for (int i = 0; i < 100; i++) {
+            assertThat(catalog.forVersion("unknown-" + i)).isNull();
+        }
+
+        // Then - chargement initial et un seul rechargement
+        verify(roleRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should resolve a new version once the interval has elapsed")
+    void shouldResolveNewVersionAfterInterval() {
+        // Given - intervalle nul : chaque version inconnue peut recharger
+        AuthorityCatalog eager = new AuthorityCatalog(roleRepository, 0);
+        String oldVersion = eager.current().version();
+        Role auditor = Role.create("AUDITOR", "Auditor").addPermission(Permission.of("AUDIT_READ"));
+        when(roleRepository.findAll()).thenReturn(List.of(auditor));
+        String newVersion = AuthorityCatalog.Snapshot.of(List.of(auditor)).version();
+
+        // When
+        AuthorityCatalog.Snapshot snapshot = eager.forVersion(newVersion);
+
+        // Then - l'ancienne version reste décodable
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.roles()).containsExactly("AUDITOR");
+        assertThat(eager.forVersion(oldVersion)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should keep names missing from the catalog")
+    void shouldKeepUnknownNames() {
+        // When
+        Collection<GrantedAuthority> authorities = catalog.authoritiesFor(Set.of("AUDITOR"), Set.of("AUDIT_READ"));
+
+        // Then
+        assertThat(authorities).extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_AUDITOR", "AUDIT_READ");
+    }
+}
@@ -3,29 +3,46 @@ package fr.lpreaux.usermanager.integration;
 import fr.lpreaux.usermanager.application.port.in.RegisterUserUseCase.RegisterUserCommand;
 import fr.lpreaux.usermanager.application.port.in.UpdateUserUseCase;
 import fr.lpreaux.usermanager.application.port.in.UserQueryUseCase.UserDetailsDTO;
+import fr.lpreaux.usermanager.application.port.out.UserReadModel;
+import fr.lpreaux.usermanager.application.port.out.UserRepository;
 import fr.lpreaux.usermanager.application.service.UserService;
 import fr.lpreaux.usermanager.domain.model.valueobject.UserId;
 import fr.lpreaux.usermanager.infrastructure.config.TestConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Tests d'intégration simples pour vérifier le flux complet d'enregistrement et récupération
  * d'un utilisateur. Chaque test est autonome.
+ * <p>
+ * Le modèle de lecture est maintenu en SQL propre à MariaDB et repose sur le schéma Flyway (suppression
+ * en cascade de {@code user_view}) : ces tests s'exécutent sur MariaDB, pas sur H2. Avec MARIADB_HOST
+ * (CI), sur une base temporaire de ce serveur (MARIADB_PORT / MARIADB_USER / MARIADB_PASSWORD) ; sinon
+ * dans un conteneur jetable (Testcontainers, Docker requis). Un MariaDB injoignable fait échouer les tests
+ * au lieu de les ignorer.
  */
 @SpringBootTest
 @ActiveProfiles("test")
@@ -34,12 +51,73 @@ import static org.assertj.core.api.Assertions.assertThat;
 @Transactional
 public class SimpleUserRegistrationIntegrationTest {
 
+    private static final String HOST = System.getenv("MARIADB_HOST");
+    private static final String PORT = System.getenv().getOrDefault("MARIADB_PORT", "3306");
+    private static final String USER = System.getenv().getOrDefault("MARIADB_USER", "root");
+    private static final String PASSWORD = System.getenv().getOrDefault("MARIADB_PASSWORD", "");
+    private static final String DATABASE = "registration_it_" + UUID.randomUUID().toString().substring(0, 8);
+
+    private static MariaDBContainer<?> container;
+    private static JdbcTemplate serverJdbc;
+    private static String jdbcUrl;
+    private static String username;
+    private static String password;
+
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserReadModel userReadModel;
+
     private RegisterUserCommand validCommand;
     private String userId;
 
+    @BeforeAll
+    static void startDatabase() {
+        if (HOST == null) {
+            container = new MariaDBContainer<>("mariadb:11");
+            container.start();
+            jdbcUrl = container.getJdbcUrl();
+            username = container.getUsername();
+            password = container.getPassword();
+            return;
+        }
+        // Serveur fourni : base temporaire, et échec explicite s'il est injoignable
+        serverJdbc = new JdbcTemplate(new DriverManagerDataSource(serverUrl(""), USER, PASSWORD));
+        serverJdbc.execute("CREATE DATABASE " + DATABASE + " CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci");
+        jdbcUrl = serverUrl(DATABASE);
+        username = USER;
+        password = PASSWORD;
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        if (container != null) {
+            container.stop();
+        }
+        if (serverJdbc != null) {
+            serverJdbc.execute("DROP DATABASE IF EXISTS " + DATABASE);
+        }
+    }
+
+    @DynamicPropertySource
+    static void mariaDbProperties(DynamicPropertyRegistry registry) {
+        // Schéma de production : migrations Flyway validées par Hibernate, comme hors tests
+        registry.add("spring.datasource.url", () -> jdbcUrl);
+        registry.add("spring.datasource.driver-class-name", () -> "org.mariadb.jdbc.Driver");
+        registry.add("spring.datasource.username", () -> username);
+        registry.add("spring.datasource.password", () -> password);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MariaDBDialect");
+    }
+
     @BeforeEach
     void setUp() {
         // Initialiser une commande valide pour l'enregistrement
@@ -111,4 +189,42 @@ public class SimpleUserRegistrationIntegrationTest {
         assertThat(retrievedUser.get().id()).isEqualTo(userId);
         assertThat(retrievedUser.get().emails()).contains("simple.test@example.com");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should insert the same view at registration as a recomputation from the stored user")
+    void shouldInsertViewMatchingRecomputation() {
+        // Given - ligne écrite par l'insertion, depuis l'agrégat
+        UserId registeredUserId = userService.registerUser(validCommand);
+        userId = registeredUserId.getValue().toString();
+        UserRepository.UserView inserted = userRepository.findViewById(registeredUserId).orElseThrow();
+        entityManager.clear();
+
+        // When - recalcul depuis les tables normalisées
+        userReadModel.refresh(registeredUserId);
+        entityManager.clear();
+
+        // Then
+        assertThat(userRepository.findViewById(registeredUserId)).contains(inserted);
+        assertThat(inserted.roles()).containsExactly("USER");
+    }
+
+    @Test
+    @DisplayName("Should delete the read model view along with the user")
+    void shouldDeleteViewWithUser() {
+        // Given
+        String registeredUserId = userService.registerUser(validCommand).getValue().toString();
+
+        // When - suppression écrite en base comme au commit de la transaction
+        userService.deleteUser(registeredUserId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then - la ligne de user_view disparaît avec l'utilisateur (clé étrangère ON DELETE CASCADE)
+        assertThat(userService.findUserById(registeredUserId)).isEmpty();
+        assertThat(userService.findUserByLogin("simple.test")).isEmpty();
+    }
+
+    private static String serverUrl(String database) {
+        return "jdbc:mariadb://" + HOST + ":" + PORT + "/" + database;
+    }
+}
@@ -6,11 +6,12 @@ export interface LoginRequest {
 }
 
 export interface RefreshTokenRequest {
-    token: string;
+    refreshToken: string;
 }
 
 export interface AuthResponse {
     token: string;
+    refreshToken: string;
     userId: string;
     login: string;
     roles: string[];
@@ -25,27 +25,49 @@ apiClient.interceptors.request.use(
     }
 );
 
+// Rafraîchissement en cours, partagé par toutes les requêtes rejetées en 401 pendant ce temps :
+// le refresh token est à usage unique, un second appel avec le même token révoquerait la session
+let refreshPromise: Promise<string> | null = null;
+
+const refreshAccessToken = (): Promise<string> => {
+    if (!refreshPromise) {
+        const refreshToken = localStorage.getItem('refreshToken');
+        if (!refreshToken) {
+            return Promise.reject(new Error('No refresh token'));
+        }
+        refreshPromise = axios.post('/api/v1/auth/refresh', { refreshToken })
+            .then((refreshResponse) => {
+                const newToken: string = refreshResponse.data.token;
+                // Conserver le refresh token qui vient d'être émis
+                localStorage.setItem('token', newToken);
+                localStorage.setItem('refreshToken', refreshResponse.data.refreshToken);
+                return newToken;
+            })
+            .finally(() => {
+                refreshPromise = null;
+            });
+    }
+    return refreshPromise;
+};
+
 // Intercepteur pour gérer les erreurs d'API
 apiClient.interceptors.response.use(
     (response) => response,
     async (error) => {
         // Si erreur 401 (non authentifié) et token refresh disponible, tentative de refresh
         const originalRequest = error.config;
-        if (error.response?.status === 401 && !originalRequest._retry) {
+        if (error.response?.status === 401 && originalRequest && !originalRequest._retry
+                && localStorage.getItem('refreshToken')) {
             originalRequest._retry = true;
             try {
-                const token = localStorage.getItem('token');
-                if (token) {
-                    const refreshResponse = await axios.post('/api/v1/auth/refresh', { token });
-                    const newToken = refreshResponse.data.token;
-
-                    localStorage.setItem('token', newToken);
-                    originalRequest.headers['Authorization'] = `Bearer ${newToken}`;
-                    return apiClient(originalRequest);
-                }
+                // Les requêtes concurrentes attendent le même rafraîchissement puis sont rejouées avec son résultat
+                const newToken = await refreshAccessToken();
+                originalRequest.headers['Authorization'] = `Bearer ${newToken}`;
+                return apiClient(originalRequest);
             } catch (refreshError) {
                 // En cas d'échec du refresh, déconnexion
                 localStorage.removeItem('token');
+                localStorage.removeItem('refreshToken');
                 localStorage.removeItem('user');
                 window.location.href = '/login';
             }
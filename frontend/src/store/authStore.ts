@@ -38,7 +38,7 @@ const getStoredToken = (): string | null => {
     return localStorage.getItem('token');
 };
 
-export const useAuthStore = create<AuthState>((set, get) => ({
+export const useAuthStore = create<AuthState>((set) => ({
     isAuthenticated: !!getStoredToken(),
     user: getStoredUser(),
     token: getStoredToken(),
@@ -46,10 +46,11 @@ export const useAuthStore = create<AuthState>((set, get) => ({
     login: async (username: string, password: string) => {
         try {
             const response = await authService.login({ login: username, password });
-            const { token, userId, login, roles, permissions } = response.data;
+            const { token, refreshToken, userId, login, roles, permissions } = response.data;
 
             // Sauvegarder les données d'authentification
             localStorage.setItem('token', token);
+            localStorage.setItem('refreshToken', refreshToken);
             const user = { id: userId, login, roles, permissions };
             localStorage.setItem('user', JSON.stringify(user));
 
@@ -69,6 +70,7 @@ export const useAuthStore = create<AuthState>((set, get) => ({
         } finally {
             // Même en cas d'erreur du serveur, on nettoie le localStorage
             localStorage.removeItem('token');
+            localStorage.removeItem('refreshToken');
             localStorage.removeItem('user');
             set({ isAuthenticated: false, user: null, token: null });
         }
@@ -78,6 +80,7 @@ export const useAuthStore = create<AuthState>((set, get) => ({
         try {
             await authService.logoutAll();
             localStorage.removeItem('token');
+            localStorage.removeItem('refreshToken');
             localStorage.removeItem('user');
             set({ isAuthenticated: false, user: null, token: null });
         } catch (error) {
@@ -94,19 +97,21 @@ export const useAuthStore = create<AuthState>((set, get) => ({
     },
 
     refreshToken: async () => {
-        const currentToken = get().token;
-        if (!currentToken) return false;
+        const currentRefreshToken = localStorage.getItem('refreshToken');
+        if (!currentRefreshToken) return false;
 
         try {
-            const response = await authService.refreshToken({ token: currentToken });
-            const { token } = response.data;
+            const response = await authService.refreshToken({ refreshToken: currentRefreshToken });
+            const { token, refreshToken } = response.data;
 
             localStorage.setItem('token', token);
+            localStorage.setItem('refreshToken', refreshToken);
             set({ token });
             return true;
         } catch (error) {
             console.error('Erreur lors du rafraîchissement du token:', error);
             localStorage.removeItem('token');
+            localStorage.removeItem('refreshToken');
             localStorage.removeItem('user');
             set({ isAuthenticated: false, user: null, token: null });
             return false;
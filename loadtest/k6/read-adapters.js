@@ -0,0 +1,53 @@
+// Test de charge k6 : comparaison des adaptateurs MVC (Tomcat) et réactif (Netty) sur les lectures fréquentes.
+//
+// Usage :
+//   k6 run -e AUTH_URL=http://localhost:8080 -e BASE_URL=http://localhost:8081 \
+//          -e LOGIN=admin -e PASSWORD=... -e VUS=10000 -e DURATION=2m loadtest/k6/read-adapters.js
+//
+// AUTH_URL sert uniquement au login (adaptateur MVC). Lancer une fois avec BASE_URL sur le port MVC (8080)
+// puis sur le port réactif (8081) et comparer http_reqs, http_req_duration (p95/p99) par endpoint.
+// Voir docs/performance/reactive-adapter.md pour la mesure de la mémoire par connexion.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const AUTH_URL = __ENV.AUTH_URL || 'http://localhost:8080';
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const VUS = parseInt(__ENV.VUS || '10000', 10);
+
+export const options = {
+    scenarios: {
+        concurrent_reads: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: __ENV.DURATION || '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const response = http.post(`${AUTH_URL}/api/v1/auth/login`, JSON.stringify({
+        login: __ENV.LOGIN,
+        password: __ENV.PASSWORD,
+    }), { headers: { 'Content-Type': 'application/json' } });
+
+    check(response, { 'login ok': (r) => r.status === 200 });
+    const body = response.json();
+    return { token: body.token, userId: body.userId };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/v1/users/${data.userId}`, null, { ...params, tags: { name: 'user' } }],
+        ['GET', `${BASE_URL}/api/v1/users/${data.userId}/roles/permissions`, null, { ...params, tags: { name: 'permissions' } }],
+    ]);
+    responses.forEach((response) => check(response, { 'status 200': (r) => r.status === 200 }));
+}
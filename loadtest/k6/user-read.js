@@ -0,0 +1,49 @@
+// Test de charge k6 : lecture d'un utilisateur authentifié sous forte concurrence.
+//
+// Usage :
+//   k6 run -e BASE_URL=http://localhost:8080 -e LOGIN=admin -e PASSWORD=... \
+//          -e VUS=10000 -e DURATION=2m loadtest/k6/user-read.js
+//
+// Lancer une fois avec VIRTUAL_THREADS_ENABLED=false puis avec VIRTUAL_THREADS_ENABLED=true
+// et comparer http_reqs (débit), http_req_duration (p95/p99) et http_req_failed.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '10000', 10);
+
+export const options = {
+    scenarios: {
+        concurrent_reads: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: __ENV.DURATION || '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const response = http.post(`${BASE_URL}/api/v1/auth/login`, JSON.stringify({
+        login: __ENV.LOGIN,
+        password: __ENV.PASSWORD,
+    }), { headers: { 'Content-Type': 'application/json' } });
+
+    check(response, { 'login ok': (r) => r.status === 200 });
+    const body = response.json();
+    return { token: body.token, userId: body.userId };
+}
+
+export default function (data) {
+    const response = http.get(`${BASE_URL}/api/v1/users/${data.userId}`, {
+        headers: { Authorization: `Bearer ${data.token}` },
+    });
+    check(response, { 'status 200': (r) => r.status === 200 });
+}